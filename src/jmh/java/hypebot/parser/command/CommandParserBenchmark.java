@@ -0,0 +1,63 @@
+package hypebot.parser.command;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import hypebot.command.Command;
+
+/**
+ * Represents JMH benchmarks for {@link CommandParser} parsing a line of user input
+ * into each type of {@link Command}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandParserBenchmark {
+    /** Line of user input, one per command type. */
+    @Param({
+        "start",
+        "help",
+        "bye",
+        "list",
+        "deleteall",
+        "find book report",
+        "happening /2099-12-31",
+        "todo read book",
+        "deadline return book /2099-12-31",
+        "deadline return book /tmrw",
+        "event concert /2099-12-31 1900 /2099-12-31 2200",
+        "mark 1",
+        "unmark 1",
+        "delete 1",
+        "dance"
+    })
+    private String input;
+
+    private CommandParser commandParser;
+
+    @Setup
+    public void setUp() {
+        commandParser = new CommandParser();
+    }
+
+    @Benchmark
+    public Command parse() throws Exception {
+        return commandParser.parse(input);
+    }
+}
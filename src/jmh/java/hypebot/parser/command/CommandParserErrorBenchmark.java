@@ -0,0 +1,67 @@
+package hypebot.parser.command;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import hypebot.exception.ExceptionStackTraces;
+
+/**
+ * Represents JMH benchmarks for {@link CommandParser} rejecting a line of user input,
+ * one per kind of user error.
+ * <p>Exceptions skip capturing stack traces by default; to compare against capturing them,
+ * run with {@code -jvmArgsAppend -Dhypebot.captureStackTraces=true}
+ * (see {@link ExceptionStackTraces}).</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandParserErrorBenchmark {
+    /** Line of user input, one per kind of user error. */
+    @Param({
+        "todo",
+        "deadline return book",
+        "deadline return book /2099-31-12",
+        "deadline return book /2000-01-01",
+        "event concert /2099-12-31 2200 /2099-12-31 1900",
+        "happening /someday",
+        "mark one"
+    })
+    private String input;
+
+    private CommandParser commandParser;
+
+    @Setup
+    public void setUp() {
+        commandParser = new CommandParser();
+    }
+
+    /**
+     * Parses {@code input}, returning the message of the exception thrown as a user would see it.
+     *
+     * @return Message of the exception thrown, or the {@link hypebot.command.Command} parsed.
+     */
+    @Benchmark
+    public Object parse() {
+        try {
+            return commandParser.parse(input);
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+}
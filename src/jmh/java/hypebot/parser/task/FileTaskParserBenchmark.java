@@ -0,0 +1,52 @@
+package hypebot.parser.task;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import hypebot.task.Task;
+
+/**
+ * Represents JMH benchmarks for {@link FileTaskParser} parsing a line of a save {@link File}
+ * into each type of {@link Task}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileTaskParserBenchmark {
+    /** Line of a save {@link File}, one per {@link Task} type. */
+    @Param({
+        "T , 0 , read book",
+        "D , 1 , return book , 2099-12-31",
+        "E , 0 , concert , 2099-12-31 1900 , 2099-12-31 2200"
+    })
+    private String line;
+
+    private FileTaskParser fileTaskParser;
+
+    @Setup
+    public void setUp() {
+        fileTaskParser = new FileTaskParser();
+    }
+
+    @Benchmark
+    public Task parse() throws Exception {
+        return fileTaskParser.parse(line);
+    }
+}
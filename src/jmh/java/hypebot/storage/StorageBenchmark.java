@@ -0,0 +1,115 @@
+package hypebot.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import hypebot.tasklist.Tasklist;
+import hypebot.tasklist.TasklistFixtures;
+
+/**
+ * Represents JMH benchmarks for saving a {@link Tasklist} with a {@link TasklistEncoder}
+ * and loading it back with a {@link TasklistDecoder}, against saving one changed {@link hypebot.task.Task}
+ * to {@link TasklistShards} and loading them back.
+ * <p>Sizes stop at 100k {@link hypebot.task.Task}s since decoding goes through the linear
+ * duplicate check of {@code Tasklist.add()} for every line.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see TasklistFixtures
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class StorageBenchmark {
+    /** Number of {@link hypebot.task.Task}s saved and loaded. */
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Tasklist tasks;
+
+    /** Save {@link File} {@code encode()} writes to. */
+    private File encodeFile;
+
+    /** Save {@link File} already holding {@code tasks}, read by {@code decode()}. */
+    private File decodeFile;
+
+    /** Directory of the {@link TasklistShards} {@code saveShards()} and {@code loadShards()} use. */
+    private File shardsDirectory;
+
+    /** {@link TasklistShards} {@code shardedTasks} were loaded from, saved to by {@code saveShards()}. */
+    private TasklistShards tasklistShards;
+
+    /** Copy of {@code tasks} loaded from {@code tasklistShards}, and watched by them. */
+    private Tasklist shardedTasks;
+
+    /** Sets up the {@link Tasklist} and save {@link File}s of every benchmark. */
+    @Setup
+    public void setUp() throws IOException {
+        tasks = TasklistFixtures.createTasklist(size);
+        encodeFile = Files.createTempFile("hypebot-encode", ".txt").toFile();
+        decodeFile = Files.createTempFile("hypebot-decode", ".txt").toFile();
+        new TasklistEncoder(decodeFile, tasks).encode();
+        shardsDirectory = Files.createTempDirectory("hypebot-shards").toFile();
+        tasklistShards = new TasklistShards(new File(shardsDirectory, "tasks.txt"));
+        tasklistShards.save(tasks);
+        shardedTasks = tasklistShards.load(progress -> {});
+    }
+
+    /** Deletes the save {@link File}s of every benchmark. */
+    @TearDown
+    public void tearDown() throws IOException {
+        encodeFile.delete();
+        decodeFile.delete();
+        for (File file : Files.walk(shardsDirectory.toPath()).sorted(Comparator.reverseOrder())
+                .map(Path::toFile).toList()) {
+            file.delete();
+        }
+    }
+
+    /** Saves {@code tasks}, overwriting the previous save each time. */
+    @Benchmark
+    public File encode() throws IOException {
+        new TasklistEncoder(encodeFile, tasks).encode();
+        return encodeFile;
+    }
+
+    @Benchmark
+    public Tasklist decode() throws IOException {
+        return new TasklistDecoder(decodeFile).decode();
+    }
+
+    /** Marks or unmarks the first of {@code shardedTasks}, then saves the one shard it is in. */
+    @Benchmark
+    public long saveShards() throws IOException {
+        if (shardedTasks.get(0).isComplete()) {
+            shardedTasks.unmark(0);
+        } else {
+            shardedTasks.mark(0);
+        }
+        return tasklistShards.save(shardedTasks);
+    }
+
+    @Benchmark
+    public Tasklist loadShards() throws IOException {
+        return new TasklistShards(new File(shardsDirectory, "tasks.txt")).load(progress -> {});
+    }
+}
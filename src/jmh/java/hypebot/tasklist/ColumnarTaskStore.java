@@ -0,0 +1,309 @@
+package hypebot.tasklist;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import hypebot.task.Deadline;
+import hypebot.task.Event;
+import hypebot.task.Recurrence;
+import hypebot.task.Task;
+import hypebot.task.ToDo;
+
+/**
+ * Represents a {@code ColumnarTaskStore}, a compact alternative to holding every {@link Task} of a
+ * {@link Tasklist} as its own objects, for lists of millions of {@link Task}s.
+ * <p>Keeps one column per field rather than one object graph per {@link Task}:</p>
+ * <ul>
+ *     <li>names as UTF-8 in one shared byte arena, each ending at an {@code int} offset;</li>
+ *     <li>whether each is complete in a {@link TaskBitset};</li>
+ *     <li>its {@link TaskKind} and {@link Recurrence} packed into one {@code byte};</li>
+ *     <li>the epoch day a {@link Deadline} is due, or the epoch minute an {@link Event} starts,
+ *         in a {@code long}, and the minutes an {@link Event} lasts in an {@code int}, to the
+ *         minute that times are entered to.</li>
+ * </ul>
+ * <p>{@link Task}s are only created on demand, as views that are copies of one row: changing
+ * a view does not change the {@code ColumnarTaskStore}, so marking and unmarking go through it.</p>
+ * <p>Not part of {@link Tasklist} itself: kept next to {@link TaskMemoryBenchmark}, the heap per
+ * {@link Task} of which it is measured against.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see Tasklist
+ * @see TaskMemoryBenchmark
+ */
+public class ColumnarTaskStore implements Iterable<Task> {
+    /** Number of rows room is made for at first. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Number of low bits of a type code holding the {@link TaskKind}. */
+    private static final int KIND_BITS = 2;
+
+    /** Mask of the bits of a type code holding the {@link TaskKind}. */
+    private static final int KIND_MASK = (1 << KIND_BITS) - 1;
+
+    /** Every {@link TaskKind}, by ordinal. */
+    private static final TaskKind[] KINDS = TaskKind.values();
+
+    /** Every {@link Recurrence}, by ordinal. */
+    private static final Recurrence[] RECURRENCES = Recurrence.values();
+
+    /** UTF-8 bytes of every name, one after another. */
+    private byte[] nameArena = new byte[INITIAL_CAPACITY * 8];
+
+    /** Number of bytes of {@code nameArena} in use. */
+    private int nameArenaLength = 0;
+
+    /** Offset in {@code nameArena} each name ends at, the next name starting there. */
+    private int[] nameEnds = new int[INITIAL_CAPACITY];
+
+    /** {@link TaskKind} ordinal of each row, with its {@link Recurrence} ordinal + 1 (0 for none) above it. */
+    private byte[] typeCodes = new byte[INITIAL_CAPACITY];
+
+    /** Epoch day each {@link Deadline} is due, or epoch minute each {@link Event} starts; 0 for a {@link ToDo}. */
+    private long[] starts = new long[INITIAL_CAPACITY];
+
+    /** Minutes each {@link Event} lasts; 0 for every other {@link Task}. */
+    private int[] spans = new int[INITIAL_CAPACITY];
+
+    /** Rows of complete {@link Task}s. */
+    private final TaskBitset completeTasks = new TaskBitset();
+
+    /** Number of rows. */
+    private int size = 0;
+
+    /**
+     * Creates a new, empty {@code ColumnarTaskStore}.
+     */
+    public ColumnarTaskStore() {
+        super();
+    }
+
+    /**
+     * Takes in {@link Task}s and creates a new {@code ColumnarTaskStore} holding them, in order.
+     *
+     * @param tasks {@link Task}s to hold.
+     */
+    public ColumnarTaskStore(Collection<Task> tasks) {
+        this();
+        for (Task task : tasks) {
+            add(task);
+        }
+    }
+
+    private static long toEpochMinute(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private static LocalDateTime fromEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+
+    private void ensureCapacity(int rowCount, int arenaLength) {
+        if (rowCount > nameEnds.length) {
+            int capacity = Math.max(rowCount, nameEnds.length * 2);
+            nameEnds = Arrays.copyOf(nameEnds, capacity);
+            typeCodes = Arrays.copyOf(typeCodes, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            spans = Arrays.copyOf(spans, capacity);
+        }
+        if (arenaLength > nameArena.length) {
+            nameArena = Arrays.copyOf(nameArena, Math.max(arenaLength, nameArena.length * 2));
+        }
+    }
+
+    /**
+     * Takes in a {@link Task} and adds a row holding it to the end of the {@code ColumnarTaskStore}.
+     *
+     * @param task {@link Task} to add.
+     */
+    public void add(Task task) {
+        byte[] name = task.getName().getBytes(StandardCharsets.UTF_8);
+        ensureCapacity(size + 1, nameArenaLength + name.length);
+        System.arraycopy(name, 0, nameArena, nameArenaLength, name.length);
+        nameArenaLength += name.length;
+        nameEnds[size] = nameArenaLength;
+        TaskKind kind = TaskKind.of(task);
+        Recurrence recurrence = null;
+        starts[size] = 0;
+        spans[size] = 0;
+        if (task instanceof Deadline deadline) {
+            starts[size] = deadline.getDueDate().toEpochDay();
+            recurrence = deadline.getRecurrence();
+        } else if (task instanceof Event event) {
+            starts[size] = toEpochMinute(event.getStartTime());
+            spans[size] = (int) (toEpochMinute(event.getEndTime()) - starts[size]);
+            recurrence = event.getRecurrence();
+        }
+        int recurrenceCode = recurrence == null ? 0 : recurrence.ordinal() + 1;
+        typeCodes[size] = (byte) (kind.ordinal() | recurrenceCode << KIND_BITS);
+        completeTasks.insert(size, task.isComplete());
+        size++;
+    }
+
+    /**
+     * Returns the number of {@link Task}s in the {@code ColumnarTaskStore}.
+     *
+     * @return Number of {@link Task}s.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void checkIndex(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    private int getNameStart(int index) {
+        return index == 0 ? 0 : nameEnds[index - 1];
+    }
+
+    /**
+     * Takes in an index (0-indexed) and returns the name of the {@link Task} there, without
+     * creating the {@link Task}.
+     *
+     * @param index Index of the {@link Task}.
+     * @return {@link String} name of the {@link Task}.
+     * @throws IndexOutOfBoundsException If index provided is < 0 or > {@code size()} - 1.
+     */
+    public String getName(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        int nameStart = getNameStart(index);
+        return new String(nameArena, nameStart, nameEnds[index] - nameStart, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Takes in an index (0-indexed) and returns the {@link TaskKind} of the {@link Task} there.
+     *
+     * @param index Index of the {@link Task}.
+     * @return {@link TaskKind} of the {@link Task}.
+     * @throws IndexOutOfBoundsException If index provided is < 0 or > {@code size()} - 1.
+     */
+    public TaskKind getKind(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        return KINDS[typeCodes[index] & KIND_MASK];
+    }
+
+    /**
+     * Takes in an index (0-indexed) and returns whether the {@link Task} there is complete.
+     *
+     * @param index Index of the {@link Task}.
+     * @return Whether the {@link Task} is complete.
+     * @throws IndexOutOfBoundsException If index provided is < 0 or > {@code size()} - 1.
+     */
+    public boolean isComplete(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        return completeTasks.get(index);
+    }
+
+    /**
+     * Takes in an index (0-indexed) and marks the {@link Task} there as complete.
+     *
+     * @param index Index of the {@link Task}.
+     * @throws IndexOutOfBoundsException If index provided is < 0 or > {@code size()} - 1.
+     */
+    public void mark(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        completeTasks.set(index, true);
+    }
+
+    /**
+     * Takes in an index (0-indexed) and marks the {@link Task} there as incomplete.
+     *
+     * @param index Index of the {@link Task}.
+     * @throws IndexOutOfBoundsException If index provided is < 0 or > {@code size()} - 1.
+     */
+    public void unmark(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        completeTasks.set(index, false);
+    }
+
+    /**
+     * Takes in an index (0-indexed) and creates a view of the {@link Task} there.
+     *
+     * @param index Index of the {@link Task}.
+     * @return New {@link Task} equal to the one added, a copy rather than a live view.
+     * @throws IndexOutOfBoundsException If index provided is < 0 or > {@code size()} - 1.
+     */
+    public Task get(int index) throws IndexOutOfBoundsException {
+        String name = getName(index);
+        int recurrenceCode = typeCodes[index] >>> KIND_BITS;
+        Recurrence recurrence = recurrenceCode == 0 ? null : RECURRENCES[recurrenceCode - 1];
+        Task task = switch (getKind(index)) {
+        case DEADLINE -> new Deadline(name, LocalDate.ofEpochDay(starts[index]), recurrence);
+        case EVENT -> new Event(name, fromEpochMinute(starts[index]), fromEpochMinute(starts[index] + spans[index]),
+                recurrence);
+        default -> new ToDo(name);
+        };
+        if (completeTasks.get(index)) {
+            task.mark();
+        }
+        return task;
+    }
+
+    /**
+     * Takes in an index (0-indexed) and removes the row there, shifting every row after it down.
+     *
+     * @param index Index of the {@link Task} to remove.
+     * @throws IndexOutOfBoundsException If index provided is < 0 or > {@code size()} - 1.
+     */
+    public void remove(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        int nameStart = getNameStart(index);
+        int nameLength = nameEnds[index] - nameStart;
+        System.arraycopy(nameArena, nameEnds[index], nameArena, nameStart, nameArenaLength - nameEnds[index]);
+        nameArenaLength -= nameLength;
+        int rowsAfter = size - index - 1;
+        System.arraycopy(nameEnds, index + 1, nameEnds, index, rowsAfter);
+        for (int i = index; i < size - 1; i++) {
+            nameEnds[i] -= nameLength;
+        }
+        System.arraycopy(typeCodes, index + 1, typeCodes, index, rowsAfter);
+        System.arraycopy(starts, index + 1, starts, index, rowsAfter);
+        System.arraycopy(spans, index + 1, spans, index, rowsAfter);
+        completeTasks.remove(index);
+        size--;
+    }
+
+    /**
+     * Shrinks every column to fit the rows held, freeing the room kept for rows yet to be added.
+     */
+    public void trimToSize() {
+        nameArena = Arrays.copyOf(nameArena, nameArenaLength);
+        nameEnds = Arrays.copyOf(nameEnds, size);
+        typeCodes = Arrays.copyOf(typeCodes, size);
+        starts = Arrays.copyOf(starts, size);
+        spans = Arrays.copyOf(spans, size);
+    }
+
+    /**
+     * Returns an {@link Iterator} creating a view of each {@link Task} in turn, as it is reached.
+     *
+     * @return {@link Iterator} over views of the {@link Task}s, in order.
+     */
+    @Override
+    public Iterator<Task> iterator() {
+        return new Iterator<>() {
+            private int nextIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex < size;
+            }
+
+            @Override
+            public Task next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(nextIndex++);
+            }
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package hypebot.tasklist;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import hypebot.task.Task;
+
+/**
+ * Represents a benchmark of the heap a {@link Tasklist} of {@link Task} objects takes up, against
+ * a {@link ColumnarTaskStore} of the same {@link Task}s, reported in bytes per {@link Task}.
+ * <p>Measures retained heap rather than time, so it runs as a plain program instead of under JMH:
+ * each holder is built from {@link TasklistFixtures}, and the heap in use is compared after
+ * collecting garbage before and after.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see TasklistFixtures
+ */
+public final class TaskMemoryBenchmark {
+    /** Number of {@link Task}s benchmarked if none is given. */
+    private static final int DEFAULT_SIZE = 1_000_000;
+
+    /** Number of garbage collections asked for before each reading of the heap in use. */
+    private static final int GC_ROUNDS = 4;
+
+    private TaskMemoryBenchmark() {}
+
+    /**
+     * Takes in the numbers of {@link Task}s to benchmark and prints the bytes per {@link Task} of
+     * each way of holding them.
+     *
+     * @param args Numbers of {@link Task}s, {@code 1000000} if none are given.
+     * @throws InterruptedException If interrupted while waiting for garbage to be collected.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        List<Integer> sizes = new ArrayList<>();
+        for (String arg : args) {
+            sizes.add(Integer.parseInt(arg));
+        }
+        if (sizes.isEmpty()) {
+            sizes.add(DEFAULT_SIZE);
+        }
+        for (int size : sizes) {
+            report("Tasklist", size, TasklistFixtures::createTasklist);
+            report("ColumnarTaskStore", size, n -> {
+                ColumnarTaskStore store = new ColumnarTaskStore(TasklistFixtures.createTasklist(n));
+                store.trimToSize();
+                return store;
+            });
+        }
+    }
+
+    /**
+     * Takes in a name, a number of {@link Task}s and a way of holding them, then holds that many
+     * {@link Task}s and prints the heap they take up.
+     *
+     * @param name    Name of the way of holding {@link Task}s.
+     * @param size    Number of {@link Task}s.
+     * @param builder Builder of a holder of that many {@link Task}s.
+     * @throws InterruptedException If interrupted while waiting for garbage to be collected.
+     */
+    private static void report(String name, int size, IntFunction<Object> builder) throws InterruptedException {
+        long usedBefore = getUsedHeap();
+        Object holder = builder.apply(size);
+        long usedAfter = getUsedHeap();
+        Reference.reachabilityFence(holder);
+        System.out.printf("%-18s %,10d tasks: %,8.1f bytes per task%n", name, size,
+                (double) (usedAfter - usedBefore) / size);
+    }
+
+    private static long getUsedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,85 @@
+package hypebot.tasklist;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import hypebot.parser.command.FindQueryParser;
+import hypebot.task.Task;
+import hypebot.task.ToDo;
+
+/**
+ * Represents JMH benchmarks for the queries and updates of a {@link Tasklist} of growing size.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see TasklistFixtures
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class TasklistBenchmark {
+    /** Number of {@link Task}s in the {@link Tasklist}. */
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Tasklist tasks;
+
+    /** {@link Task} not yet in {@code tasks}, added and removed again by {@code add()}. */
+    private Task newTask;
+
+    /** Search query matching about one in ten {@link Task} names. */
+    private Pattern searchQuery;
+
+    /** Date about one in {@code DATE_SPREAD_DAYS / 2} dated {@link Task}s happen on. */
+    private LocalDate searchDate;
+
+    /** Sets up the {@link Tasklist} and query arguments of every benchmark. */
+    @Setup
+    public void setUp() throws Exception {
+        tasks = TasklistFixtures.createTasklist(size);
+        newTask = new ToDo("a task that is not in the list yet");
+        searchQuery = new FindQueryParser().parse("find 7");
+        searchDate = TasklistFixtures.FIRST_DATE.plusDays(TasklistFixtures.DATE_SPREAD_DAYS / 2);
+    }
+
+    /**
+     * Adds a {@link Task} through the duplicate check of {@code Tasklist.add()}, then
+     * removes it again so that {@code size} stays constant across invocations.
+     */
+    @Benchmark
+    public boolean add() {
+        boolean isAdded = tasks.add(newTask);
+        tasks.remove(tasks.size() - 1);
+        return isAdded;
+    }
+
+    @Benchmark
+    public Tasklist getNameContains() {
+        return tasks.getNameContains(searchQuery);
+    }
+
+    @Benchmark
+    public Tasklist getHappeningOn() {
+        return tasks.getHappeningOn(searchDate);
+    }
+
+    @Benchmark
+    public String listToString() {
+        return tasks.toString();
+    }
+}
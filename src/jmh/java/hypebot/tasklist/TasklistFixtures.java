@@ -0,0 +1,69 @@
+package hypebot.tasklist;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import hypebot.task.Deadline;
+import hypebot.task.Event;
+import hypebot.task.Task;
+import hypebot.task.ToDo;
+
+/**
+ * Represents {@code TasklistFixtures}, builders of large {@link Tasklist}s shared by the benchmarks.
+ * <p>Dates are kept well in the future so {@link Task}s stay loadable by the storage benchmarks.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+public final class TasklistFixtures {
+    /** Earliest date any {@link Deadline} or {@link Event} in a fixture falls on. */
+    public static final LocalDate FIRST_DATE = LocalDate.of(2099, 1, 1);
+
+    /** Number of distinct dates {@link Deadline}s and {@link Event}s are spread over. */
+    public static final int DATE_SPREAD_DAYS = 365;
+
+    private TasklistFixtures() {}
+
+    /**
+     * Takes in an index and returns the {@link Task} at that index of every fixture;
+     * {@link ToDo}s, {@link Deadline}s and {@link Event}s in turn, with unique names.
+     *
+     * @param index Index of the {@link Task} in a fixture.
+     * @return {@link Task} at that index.
+     */
+    public static Task createTask(int index) {
+        LocalDate date = FIRST_DATE.plusDays(index % DATE_SPREAD_DAYS);
+        return switch (index % 3) {
+        case 0 -> new ToDo("read chapter " + index);
+        case 1 -> new Deadline("submit report " + index, date);
+        default -> new Event("team meeting " + index,
+                LocalDateTime.of(date, LocalTime.of(10, 0)),
+                LocalDateTime.of(date.plusDays(1), LocalTime.of(12, 0)));
+        };
+    }
+
+    /**
+     * Takes in a size and returns a new {@link Tasklist} with that many {@link Task}s,
+     * every fourth of which is marked complete.
+     * <p>Fills the {@link Tasklist} through {@code addAll()}, skipping the duplicate check of
+     * {@code add()}, so that building the fixture does not dominate setup time.</p>
+     *
+     * @param size Number of {@link Task}s in the {@link Tasklist}.
+     * @return New {@link Tasklist} of {@code size} {@link Task}s.
+     */
+    public static Tasklist createTasklist(int size) {
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Task task = createTask(i);
+            if (i % 4 == 0) {
+                task.mark();
+            }
+            tasks.add(task);
+        }
+        Tasklist tasklist = new Tasklist();
+        tasklist.addAll(tasks);
+        return tasklist;
+    }
+}
@@ -0,0 +1,71 @@
+package hypebot.ui.gui;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+
+/**
+ * Represents JMH benchmarks for showing messages in the {@link UiGuiDialogBox}es of the chat transcript,
+ * re-using one dialog box for message after message as a {@link UiGuiDialogCell} does.
+ * <p>Runs JavaFX on the headless Monocle platform, so no display is needed. Dialog boxes are
+ * used off the JavaFX application thread, which JavaFX allows for nodes not yet in a scene.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {
+    "-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw"
+})
+public class UiGuiDialogBoxBenchmark {
+    private Image image;
+    private UiGuiDialogBox dialogBox;
+
+    /** Starts the JavaFX platform and creates the profile pic and the dialog box re-used to show messages. */
+    @Setup
+    public void setUp() throws InterruptedException {
+        CountDownLatch startup = new CountDownLatch(1);
+        Platform.startup(startup::countDown);
+        startup.await();
+        image = new WritableImage(99, 99);
+        dialogBox = new UiGuiDialogBox("", image);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Platform.exit();
+    }
+
+    /** Shows a user message and then the reply to it, the way a cell alternates as the transcript scrolls. */
+    @Benchmark
+    public UiGuiDialogBox showUserThenHypeBotDialog() {
+        dialogBox.showUserDialog("todo read book", image);
+        dialogBox.showHypeBotDialog("HECK YEAH, ADDED:\n  [T][ ] read book", image, "AddCommand");
+        return dialogBox;
+    }
+
+    /** Shows one reply after another, the way a cell is re-used for the next message of the same sender. */
+    @Benchmark
+    public UiGuiDialogBox showHypeBotDialog() {
+        dialogBox.showHypeBotDialog("HECK YEAH, ADDED:\n  [T][ ] read book", image, "AddCommand");
+        return dialogBox;
+    }
+}
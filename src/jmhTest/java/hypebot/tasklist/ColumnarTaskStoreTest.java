@@ -0,0 +1,86 @@
+package hypebot.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import hypebot.task.Deadline;
+import hypebot.task.Event;
+import hypebot.task.Recurrence;
+import hypebot.task.Task;
+import hypebot.task.ToDo;
+
+/**
+ * Represents tests for {@link ColumnarTaskStore}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+public class ColumnarTaskStoreTest {
+    private static final LocalDateTime MONDAY_MORNING = LocalDateTime.of(2099, 1, 5, 9, 30);
+
+    private static List<Task> createTasks() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Recurrence recurrence = i % 4 == 0 ? null : Recurrence.values()[i % Recurrence.values().length];
+            Task task = switch (i % 3) {
+            case 0 -> new ToDo("café ☕ " + i);
+            case 1 -> new Deadline("essay " + i, LocalDate.of(2099, 1, 1).plusDays(i), recurrence);
+            default -> new Event("trip " + i, MONDAY_MORNING.plusHours(i), MONDAY_MORNING.plusDays(i % 5 + 1),
+                    recurrence);
+            };
+            if (i % 7 == 0) {
+                task.mark();
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private static void assertSameTasks(List<Task> expectedTasks, ColumnarTaskStore store) {
+        assertEquals(expectedTasks.size(), store.size());
+        int i = 0;
+        for (Task task : store) {
+            Task expectedTask = expectedTasks.get(i++);
+            assertEquals(expectedTask, task);
+            assertEquals(expectedTask.toFileString(), task.toFileString());
+        }
+    }
+
+    @Test
+    public void viewsMatchTasksAdded() {
+        List<Task> tasks = createTasks();
+        ColumnarTaskStore store = new ColumnarTaskStore(tasks);
+        assertSameTasks(tasks, store);
+        store.trimToSize();
+        assertSameTasks(tasks, store);
+        assertEquals(TaskKind.EVENT, store.getKind(2));
+        assertEquals("café ☕ 3", store.getName(3));
+    }
+
+    @Test
+    public void removingAndMarkingShiftEveryColumn() {
+        List<Task> tasks = createTasks();
+        ColumnarTaskStore store = new ColumnarTaskStore(tasks);
+        for (int index : new int[] {0, 150, 297, 64, 63}) {
+            tasks.remove(index);
+            store.remove(index);
+        }
+        assertSameTasks(tasks, store);
+
+        assertFalse(store.isComplete(1));
+        store.mark(1);
+        assertTrue(store.isComplete(1));
+        assertTrue(store.get(1).isComplete());
+        store.unmark(1);
+        assertFalse(store.get(1).isComplete());
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(store.size()));
+    }
+}
@@ -7,6 +7,7 @@ import hypebot.parser.command.CommandParser;
 import hypebot.storage.StorageManager;
 import hypebot.task.Task;
 import hypebot.tasklist.Tasklist;
+import hypebot.tasklist.TasklistEdit;
 import hypebot.ui.cli.UiCli;
 import hypebot.ui.cli.UiResponse;
 
@@ -51,6 +52,7 @@ public class AddCommand extends Command {
     @Override
     public UiResponse execute(Tasklist tasks, UiCli uiCli, StorageManager storageManager) {
         tasks.add(taskToAdd);
+        tasks.getHistory().record(TasklistEdit.added(taskToAdd, tasks.size() - 1));
         return uiCli.showAddedTask(taskToAdd, tasks);
     }
 }
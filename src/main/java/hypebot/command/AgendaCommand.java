@@ -0,0 +1,68 @@
+package hypebot.command;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+
+import hypebot.main.HypeBot;
+import hypebot.parser.command.CommandParser;
+import hypebot.storage.StorageManager;
+import hypebot.task.Task;
+import hypebot.tasklist.TaskDateIndex;
+import hypebot.tasklist.Tasklist;
+import hypebot.ui.cli.UiCli;
+import hypebot.ui.cli.UiResponse;
+
+/**
+ * Represents the {@code AgendaCommand} that lists the {@link Task}s in the {@link Tasklist}
+ * of a {@link HypeBot} happening on each day of a range of {@link LocalDate}s, day by day.
+ * <p>A child of {@link Command}.</p>
+ * <p>Instantiated when the {@link CommandParser} successfully parses an {@code 'agenda'}
+ * command by the user.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see Tasklist
+ * @see TaskDateIndex
+ * @see CommandParser
+ */
+public class AgendaCommand extends Command {
+    /** First {@link LocalDate} of the range to list {@link Task}s happening in. */
+    private final LocalDate fromDate;
+
+    /** Last {@link LocalDate} of the range to list {@link Task}s happening in, inclusive. */
+    private final LocalDate toDate;
+
+    /**
+     * Takes in the {@link LocalDate}s bounding a range of dates and creates a new
+     * {@code AgendaCommand} listing the {@link Task}s happening on each day of it.
+     *
+     * @param fromDate First {@link LocalDate} of the range.
+     * @param toDate   Last {@link LocalDate} of the range, inclusive.
+     */
+    public AgendaCommand(LocalDate fromDate, LocalDate toDate) {
+        super();
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+    }
+
+    /**
+     * Triggers the {@link HypeBot}-associated {@link Tasklist} to look up the {@link Task}s happening
+     * on each day from {@code fromDate} to {@code toDate}, then triggers {@link HypeBot}-associated
+     * {@link UiCli} to return a {@link UiResponse} showing them day by day.
+     *
+     * @param tasks          {@link Tasklist} containing {@link Task}s.
+     * @param uiCli          {@link UiCli} that deals with text user interacts with.
+     * @param storageManager {@link StorageManager} containing {@link File} where
+     *                       {@link Task}s are loaded / saved.
+     * @return {@link UiResponse} showing the {@link Task}s happening on each day of the range.
+     * @throws NoSuchElementException If no {@link Task}s happen on any day of the range.
+     */
+    @Override
+    public UiResponse execute(Tasklist tasks, UiCli uiCli, StorageManager storageManager)
+            throws NoSuchElementException {
+        NavigableMap<LocalDate, List<Task>> agenda = tasks.getAgenda(fromDate, toDate);
+        return uiCli.showAgenda(fromDate, toDate, agenda);
+    }
+}
@@ -0,0 +1,61 @@
+package hypebot.command;
+
+import static hypebot.common.Messages.ERROR_NO_COMPLETED_TASKS;
+
+import java.io.File;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import hypebot.main.HypeBot;
+import hypebot.parser.command.CommandParser;
+import hypebot.storage.StorageManager;
+import hypebot.storage.TaskArchive;
+import hypebot.task.Task;
+import hypebot.tasklist.Tasklist;
+import hypebot.ui.cli.UiCli;
+import hypebot.ui.cli.UiResponse;
+
+/**
+ * Represents the {@code ArchiveCommand} that moves every complete {@link Task} out of a
+ * {@link HypeBot}-associated {@link Tasklist} into the {@link TaskArchive} of its
+ * {@link StorageManager}.
+ * <p>A child of {@link Command}.</p>
+ * <p>Instantiated when the {@link CommandParser} successfully parses an {@code 'archive'}
+ * command typed in by the user.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see Tasklist
+ * @see TaskArchive
+ * @see CommandParser
+ */
+public class ArchiveCommand extends Command {
+    /**
+     * Creates a new {@code ArchiveCommand}.
+     */
+    public ArchiveCommand() {
+        super();
+    }
+
+    /**
+     * Triggers the {@link HypeBot}-associated {@link Tasklist} to remove every complete {@link Task},
+     * hands them to the {@link StorageManager} to be archived on the next save, then triggers
+     * {@link HypeBot}-associated {@link UiCli} to return a {@link UiResponse} showing them.
+     *
+     * @param tasks          {@link Tasklist} containing {@link Task}s.
+     * @param uiCli          {@link UiCli} that deals with text user interacts with.
+     * @param storageManager {@link StorageManager} containing {@link File} where
+     *                       {@link Task}s are loaded / saved.
+     * @return {@link UiResponse} showing the {@link Task}s archived.
+     * @throws NoSuchElementException If there are no complete {@link Task}s to archive.
+     */
+    @Override
+    public UiResponse execute(Tasklist tasks, UiCli uiCli, StorageManager storageManager)
+            throws NoSuchElementException {
+        List<Task> archivedTasks = tasks.removeCompleted();
+        if (archivedTasks.isEmpty()) {
+            throw new NoSuchElementException(ERROR_NO_COMPLETED_TASKS);
+        }
+        storageManager.archive(archivedTasks);
+        return uiCli.showArchivedTasks(archivedTasks, tasks);
+    }
+}
@@ -6,6 +6,7 @@ import java.io.IOException;
 import hypebot.main.HypeBot;
 import hypebot.parser.command.CommandParser;
 import hypebot.storage.StorageManager;
+import hypebot.storage.TasklistManager;
 import hypebot.task.Task;
 import hypebot.tasklist.Tasklist;
 import hypebot.ui.cli.UiCli;
@@ -21,14 +22,29 @@ import hypebot.ui.cli.UiResponse;
  * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
  * @see HypeBot
  * @see StorageManager
+ * @see TasklistManager
  * @see CommandParser
  */
 public class ByeCommand extends Command {
+    /** {@link TasklistManager} of the {@link HypeBot}, or {@code null} if it only has the one {@link Tasklist}. */
+    private final TasklistManager tasklistManager;
+
     /**
-     * Creates a new {@code ByeCommand}.
+     * Creates a new {@code ByeCommand} saving only the {@link Tasklist} it is executed on.
      */
     public ByeCommand() {
+        this(null);
+    }
+
+    /**
+     * Takes in the {@link TasklistManager} of the {@link HypeBot} and creates a new
+     * {@code ByeCommand} saving every {@link Tasklist} it has loaded.
+     *
+     * @param tasklistManager {@link TasklistManager} whose {@link Tasklist}s to save.
+     */
+    public ByeCommand(TasklistManager tasklistManager) {
         super();
+        this.tasklistManager = tasklistManager;
     }
 
     /**
@@ -36,6 +52,8 @@ public class ByeCommand extends Command {
      * the current {@link Tasklist} to the user's local computer, then triggers
      * the {@link HypeBot}-associated {@link UiCli} to return a {@link UiResponse}
      * that the {@link HypeBot}'s {@link Tasklist} are being saved to user.
+     * <p>With a {@link TasklistManager}, saves every {@link Tasklist} it has loaded that
+     * needs saving instead, each to its own {@link File}.</p>
      * <p>If {@link File} to save not found, triggers {@link UiCli} to return a
      * {@link UiErrorResponse}.</p>
      *
@@ -49,7 +67,11 @@ public class ByeCommand extends Command {
     @Override
     public UiResponse execute(Tasklist tasks, UiCli uiCli, StorageManager storageManager) {
         try {
-            storageManager.save(tasks);
+            if (tasklistManager == null) {
+                storageManager.save(tasks);
+            } else {
+                tasklistManager.saveAll();
+            }
             return uiCli.showSavingTasks();
         } catch (IOException e) {
             return uiCli.showError(e.getMessage());
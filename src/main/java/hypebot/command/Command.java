@@ -18,6 +18,8 @@ import hypebot.ui.cli.UiResponse;
  * @see HypeBot
  * @see CommandParser
  * @see AddCommand
+ * @see AgendaCommand
+ * @see ArchiveCommand
  * @see ByeCommand
  * @see DeleteCommand
  * @see DeleteAllCommand
@@ -26,8 +28,14 @@ import hypebot.ui.cli.UiResponse;
  * @see HappeningCommand
  * @see HelpCommand
  * @see ListCommand
+ * @see ListsCommand
  * @see MarkCommand
+ * @see RedoCommand
+ * @see SlowLogCommand
+ * @see StatsCommand
+ * @see UndoCommand
  * @see UnmarkCommand
+ * @see UseCommand
  * @see UnknownCommand
  */
 public abstract class Command {
@@ -1,12 +1,15 @@
 package hypebot.command;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 
 import hypebot.main.HypeBot;
 import hypebot.parser.command.CommandParser;
 import hypebot.storage.StorageManager;
 import hypebot.task.Task;
 import hypebot.tasklist.Tasklist;
+import hypebot.tasklist.TasklistEdit;
 import hypebot.ui.cli.UiCli;
 import hypebot.ui.cli.UiResponse;
 
@@ -43,7 +46,9 @@ public class DeleteAllCommand extends Command {
      */
     @Override
     public UiResponse execute(Tasklist tasks, UiCli uiCli, StorageManager storageManager) {
+        List<Task> deletedTasks = new ArrayList<>(tasks);
         tasks.clear();
+        tasks.getHistory().record(TasklistEdit.deletedAll(deletedTasks));
         return uiCli.showDeletedAllTasks();
     }
 }
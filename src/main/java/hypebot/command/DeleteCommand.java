@@ -7,6 +7,7 @@ import hypebot.parser.command.CommandParser;
 import hypebot.storage.StorageManager;
 import hypebot.task.Task;
 import hypebot.tasklist.Tasklist;
+import hypebot.tasklist.TasklistEdit;
 import hypebot.ui.cli.UiCli;
 import hypebot.ui.cli.UiResponse;
 
@@ -53,6 +54,7 @@ public class DeleteCommand extends Command {
     @Override
     public UiResponse execute(Tasklist tasks, UiCli uiCli, StorageManager storageManager) {
         Task removedTask = tasks.remove(indexOfTaskToDelete);
+        tasks.getHistory().record(TasklistEdit.deleted(removedTask, indexOfTaskToDelete));
         return uiCli.showDeletedTask(removedTask, tasks);
     }
 }
@@ -1,12 +1,18 @@
 package hypebot.command;
 
+import static hypebot.common.Messages.ERROR_NO_ARCHIVED_TASKS_MATCH_SEARCH;
+import static hypebot.common.Messages.ERROR_READ_ARCHIVE;
+
 import java.io.File;
+import java.io.IOException;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.regex.Pattern;
 
 import hypebot.main.HypeBot;
 import hypebot.parser.command.CommandParser;
 import hypebot.storage.StorageManager;
+import hypebot.storage.TaskArchive;
 import hypebot.task.Task;
 import hypebot.tasklist.Tasklist;
 import hypebot.ui.cli.UiCli;
@@ -14,7 +20,7 @@ import hypebot.ui.cli.UiResponse;
 
 /**
  * Represents the {@code FindCommand} that searches for {@link Task}s in the {@link Tasklist}
- * of a {@link HypeBot} matching a regex {@link Pattern} of keywords.
+ * of a {@link HypeBot}, or in its {@link TaskArchive}, matching a regex {@link Pattern} of keywords.
  * <p>A child of {@link Command}.</p>
  * <p>Instantiated when the {@link CommandParser} successfully parses a {@code 'find'}
  * command by the user.</p>
@@ -28,6 +34,9 @@ public class FindCommand extends Command {
     /** Regex {@link Pattern} of search keywords. */
     private final Pattern searchQuery;
 
+    /** Whether to search the {@link TaskArchive} instead of the {@link Tasklist}. */
+    private final boolean isSearchingArchive;
+
     /**
      * Takes in a search query in the form of a regex {@link Pattern} containing keywords
      * to find {@link Task}s with any keywords in its {@code name} in the
@@ -37,14 +46,30 @@ public class FindCommand extends Command {
      *                    search for in each {@link Task}'s {@code name}.
      */
     public FindCommand(Pattern searchQuery) {
+        this(searchQuery, false);
+    }
+
+    /**
+     * Takes in a search query in the form of a regex {@link Pattern} containing keywords and
+     * whether to search the {@link HypeBot}-associated {@link TaskArchive} instead of its
+     * {@link Tasklist}, and creates a new {@code FindCommand}.
+     *
+     * @param searchQuery        Regex {@link Pattern} search query containing keywords to
+     *                           search for in each {@link Task}'s {@code name}.
+     * @param isSearchingArchive Whether to search the {@link TaskArchive} instead of the {@link Tasklist}.
+     */
+    public FindCommand(Pattern searchQuery, boolean isSearchingArchive) {
         super();
         this.searchQuery = searchQuery;
+        this.isSearchingArchive = isSearchingArchive;
     }
 
     /**
      * Triggers the {@link HypeBot}-associated {@link Tasklist} to create a new {@link Tasklist} of
      * any {@link Task}s matching the {@code searchQuery}, then triggers {@link HypeBot}-associated
      * {@link UiCli} to return a {@link UiResponse} showing the new {@link Tasklist}.
+     * <p>If searching the {@link TaskArchive}, streams through it instead, through the
+     * {@link StorageManager}.</p>
      *
      * @param tasks          {@link Tasklist} containing {@link Task}s.
      * @param uiCli          {@link UiCli} that deals with text user interacts with.
@@ -53,12 +78,40 @@ public class FindCommand extends Command {
      * @return {@link UiResponse} showing the new {@link Tasklist} containing {@link Task}s
      *         that match this {@code FindCommand}'s {@code searchQuery}.
      * @throws NoSuchElementException If {@code Tasklist} is empty or there are no {@link Task}s that
-     *      *                         have a name with any of the keywords.
+     *                                have a name with any of the keywords.
      */
     @Override
     public UiResponse execute(Tasklist tasks, UiCli uiCli, StorageManager storageManager)
             throws NoSuchElementException {
+        if (isSearchingArchive) {
+            return searchArchive(uiCli, storageManager);
+        }
         Tasklist tasksWithSearchQuery = tasks.getNameContains(searchQuery);
         return uiCli.showTasksWithSearchQuery(String.valueOf(searchQuery), tasksWithSearchQuery);
     }
+
+    /**
+     * Triggers the {@link StorageManager} to stream through the {@link TaskArchive} for any
+     * {@link Task}s matching the {@code searchQuery}, then triggers {@link UiCli} to return a
+     * {@link UiResponse} showing them.
+     *
+     * @param uiCli          {@link UiCli} that deals with text user interacts with.
+     * @param storageManager {@link StorageManager} holding the {@link TaskArchive}.
+     * @return {@link UiResponse} showing the archived {@link Task}s matching the {@code searchQuery},
+     *         or the error reading the {@link TaskArchive}.
+     * @throws NoSuchElementException If there are no archived {@link Task}s that have a name
+     *                                with any of the keywords.
+     */
+    private UiResponse searchArchive(UiCli uiCli, StorageManager storageManager) throws NoSuchElementException {
+        List<Task> archivedTasksWithSearchQuery;
+        try {
+            archivedTasksWithSearchQuery = storageManager.searchArchive(searchQuery);
+        } catch (IOException e) {
+            return uiCli.showError(ERROR_READ_ARCHIVE);
+        }
+        if (archivedTasksWithSearchQuery.isEmpty()) {
+            throw new NoSuchElementException(ERROR_NO_ARCHIVED_TASKS_MATCH_SEARCH);
+        }
+        return uiCli.showArchivedTasksWithSearchQuery(String.valueOf(searchQuery), archivedTasksWithSearchQuery);
+    }
 }
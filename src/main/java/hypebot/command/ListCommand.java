@@ -1,18 +1,26 @@
 package hypebot.command;
 
+import static hypebot.common.Messages.ERROR_LIST_PAGE_PAST_END;
+import static hypebot.common.Messages.ERROR_NO_TASKS_MATCH_FILTER;
+
 import java.io.File;
+import java.util.NoSuchElementException;
 
 import hypebot.main.HypeBot;
 import hypebot.parser.command.CommandParser;
 import hypebot.storage.StorageManager;
 import hypebot.task.Task;
+import hypebot.tasklist.TaskBitset;
+import hypebot.tasklist.TaskFilter;
+import hypebot.tasklist.TaskOrder;
 import hypebot.tasklist.Tasklist;
 import hypebot.ui.cli.UiCli;
 import hypebot.ui.cli.UiResponse;
 
 /**
  * Represents the {@code ListCommand} created to list out all {@link Task}s saved in a
- * {@link HypeBot}-associated {@link Tasklist}.
+ * {@link HypeBot}-associated {@link Tasklist}, in insertion order or a {@link TaskOrder},
+ * only those let through a {@link TaskFilter}, whole or a page at a time.
  * <p>A child of {@link Command}.</p>
  * <p>Instantiated when the {@link CommandParser} successfully parses a {@code 'list'}
  * command typed in by the user.</p>
@@ -23,26 +31,79 @@ import hypebot.ui.cli.UiResponse;
  * @see CommandParser
  */
 public class ListCommand extends Command {
+    /** Page meaning the whole list rather than a page of it. */
+    public static final int WHOLE_LIST = 0;
+
+    /** Number of {@link Task}s on each page. */
+    public static final int PAGE_SIZE = 20;
+
+    /** {@link TaskOrder} to list {@link Task}s in, or {@code null} for insertion order. */
+    private final TaskOrder order;
+
+    /** {@link TaskFilter} of the {@link Task}s to list. */
+    private final TaskFilter filter;
+
+    /** Page (1-indexed) to list, or {@code WHOLE_LIST}. */
+    private final int page;
+
     /**
-     * Creates a new {@code ListCommand}.
+     * Creates a new {@code ListCommand} listing every {@link Task} in insertion order.
      */
     public ListCommand() {
+        this(null, TaskFilter.ALL, WHOLE_LIST);
+    }
+
+    /**
+     * Takes in a {@link TaskOrder}, a {@link TaskFilter} and a page, and creates a new
+     * {@code ListCommand} listing that page of the {@link Task}s let through, in that order.
+     *
+     * @param order  {@link TaskOrder} to list {@link Task}s in, or {@code null} for insertion order.
+     * @param filter {@link TaskFilter} of the {@link Task}s to list.
+     * @param page   Page (1-indexed) to list, or {@code WHOLE_LIST} to list every {@link Task}.
+     */
+    public ListCommand(TaskOrder order, TaskFilter filter, int page) {
         super();
+        this.order = order;
+        this.filter = filter;
+        this.page = page;
     }
 
     /**
      * Triggers the {@link HypeBot}-associated {@link Tasklist} to {@code list()}
      * {@link Task}s, then triggers {@link HypeBot}-associated {@link UiCli} to return
      * a {@link UiResponse} listing all {@link Task}s' details.
+     * <p>Sorted {@link Task}s are read straight from the {@link Tasklist}'s view in the
+     * {@link TaskOrder}, never sorted or copied. Filtered {@link Task}s in insertion order are
+     * read from the positions the {@link TaskFilter} selects, keeping their numbers in the
+     * {@link Tasklist}.</p>
      *
      * @param tasks          {@link Tasklist} containing {@link Task}s.
      * @param uiCli          {@link UiCli} that deals with text user interacts with.
      * @param storageManager {@link StorageManager} containing {@link File} where
      *                       {@link Task}s are loaded / saved.
      * @return {@link UiResponse} listing that all {@link Task}s' details.
+     * @throws NoSuchElementException If no {@link Task}s are let through the {@link TaskFilter},
+     *                                or the page asked for is past the end of the list.
      */
     @Override
-    public UiResponse execute(Tasklist tasks, UiCli uiCli, StorageManager storageManager) {
-        return uiCli.showListingTasks(tasks);
+    public UiResponse execute(Tasklist tasks, UiCli uiCli, StorageManager storageManager)
+            throws NoSuchElementException {
+        if (order == null && filter.isAll() && page == WHOLE_LIST) {
+            return uiCli.showListingTasks(tasks);
+        }
+        TaskBitset selectedTasks = filter.isAll() ? null : tasks.select(filter);
+        int taskCount = selectedTasks == null ? tasks.size() : selectedTasks.cardinality();
+        if (selectedTasks != null && taskCount == 0) {
+            throw new NoSuchElementException(ERROR_NO_TASKS_MATCH_FILTER.formatted(filter));
+        }
+        int pageCount = Math.max(1, (taskCount + PAGE_SIZE - 1) / PAGE_SIZE);
+        if (page > pageCount) {
+            throw new NoSuchElementException(ERROR_LIST_PAGE_PAST_END.formatted(pageCount));
+        }
+        if (order == null) {
+            return uiCli.showListingTasks(tasks, selectedTasks == null ? TaskBitset.allSet(taskCount) : selectedTasks,
+                    filter, page, pageCount);
+        }
+        return uiCli.showListingTasks(tasks, tasks.getSorted(order), order, filter, page, pageCount);
     }
 }
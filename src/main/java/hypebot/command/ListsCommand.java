@@ -0,0 +1,55 @@
+package hypebot.command;
+
+import java.io.File;
+
+import hypebot.main.HypeBot;
+import hypebot.parser.command.CommandParser;
+import hypebot.storage.StorageManager;
+import hypebot.storage.TasklistManager;
+import hypebot.task.Task;
+import hypebot.tasklist.Tasklist;
+import hypebot.ui.cli.UiCli;
+import hypebot.ui.cli.UiResponse;
+
+/**
+ * Represents the {@code ListsCommand} created to show every {@link Tasklist} kept by the
+ * {@link TasklistManager} of the {@link HypeBot}, and which one is current.
+ * <p>A child of {@link Command}.</p>
+ * <p>Instantiated when the {@link CommandParser} successfully parses a {@code 'lists'}
+ * command typed in by the user.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see TasklistManager
+ * @see UseCommand
+ * @see CommandParser
+ */
+public class ListsCommand extends Command {
+    /** {@link TasklistManager} of the {@link HypeBot}. */
+    private final TasklistManager tasklistManager;
+
+    /**
+     * Takes in the {@link TasklistManager} of the {@link HypeBot} and creates a new {@code ListsCommand}.
+     *
+     * @param tasklistManager {@link TasklistManager} whose {@link Tasklist}s to show.
+     */
+    public ListsCommand(TasklistManager tasklistManager) {
+        super();
+        this.tasklistManager = tasklistManager;
+    }
+
+    /**
+     * Triggers the {@link HypeBot}-associated {@link UiCli} to return a {@link UiResponse}
+     * showing the name of every {@link Tasklist}, how many {@link Task}s each one loaded has,
+     * and which one is current.
+     *
+     * @param tasks          {@link Tasklist} containing {@link Task}s.
+     * @param uiCli          {@link UiCli} that deals with text user interacts with.
+     * @param storageManager {@link StorageManager} containing {@link File} where
+     *                       {@link Task}s are loaded / saved.
+     * @return {@link UiResponse} showing every {@link Tasklist}.
+     */
+    @Override
+    public UiResponse execute(Tasklist tasks, UiCli uiCli, StorageManager storageManager) {
+        return uiCli.showTasklists(tasklistManager.getTasklistSizes(), tasklistManager.getCurrentName());
+    }
+}
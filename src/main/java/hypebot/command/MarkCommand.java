@@ -7,6 +7,7 @@ import hypebot.parser.command.CommandParser;
 import hypebot.storage.StorageManager;
 import hypebot.task.Task;
 import hypebot.tasklist.Tasklist;
+import hypebot.tasklist.TasklistEdit;
 import hypebot.ui.cli.UiCli;
 import hypebot.ui.cli.UiResponse;
 
@@ -52,7 +53,9 @@ public class MarkCommand extends Command {
      */
     @Override
     public UiResponse execute(Tasklist tasks, UiCli uiCli, StorageManager storageManager) {
-        tasks.mark(indexOfTaskToMark);
-        return uiCli.showMarkedTask(tasks.get(indexOfTaskToMark));
+        boolean wasComplete = tasks.mark(indexOfTaskToMark);
+        Task markedTask = tasks.get(indexOfTaskToMark);
+        tasks.getHistory().record(TasklistEdit.statusChanged(markedTask, indexOfTaskToMark, wasComplete));
+        return uiCli.showMarkedTask(markedTask);
     }
 }
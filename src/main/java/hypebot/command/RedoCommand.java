@@ -0,0 +1,54 @@
+package hypebot.command;
+
+import java.io.File;
+import java.util.NoSuchElementException;
+
+import hypebot.main.HypeBot;
+import hypebot.parser.command.CommandParser;
+import hypebot.storage.StorageManager;
+import hypebot.task.Task;
+import hypebot.tasklist.Tasklist;
+import hypebot.tasklist.TasklistEdit;
+import hypebot.tasklist.TasklistHistory;
+import hypebot.ui.cli.UiCli;
+import hypebot.ui.cli.UiResponse;
+
+/**
+ * Represents the {@code RedoCommand} that redoes the most recently undone {@link TasklistEdit} to the
+ * {@link Tasklist} of a {@link HypeBot}, from its {@link TasklistHistory}.
+ * <p>A child of {@link Command}.</p>
+ * <p>Instantiated when the {@link CommandParser} successfully parses an {@code 'redo'}
+ * command typed in by the user.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see TasklistHistory
+ * @see UndoCommand
+ * @see CommandParser
+ */
+public class RedoCommand extends Command {
+    /**
+     * Creates a new {@code RedoCommand}.
+     */
+    public RedoCommand() {
+        super();
+    }
+
+    /**
+     * Triggers the {@link TasklistHistory} of the {@link HypeBot}-associated {@link Tasklist} to
+     * redo its last {@link TasklistEdit}, then triggers {@link HypeBot}-associated {@link UiCli}
+     * to return a {@link UiResponse} showing what was redone.
+     *
+     * @param tasks          {@link Tasklist} containing {@link Task}s.
+     * @param uiCli          {@link UiCli} that deals with text user interacts with.
+     * @param storageManager {@link StorageManager} containing {@link File} where
+     *                       {@link Task}s are loaded / saved.
+     * @return {@link UiResponse} showing the {@link TasklistEdit} redone.
+     * @throws NoSuchElementException If there is no {@link TasklistEdit} to redo.
+     */
+    @Override
+    public UiResponse execute(Tasklist tasks, UiCli uiCli, StorageManager storageManager)
+            throws NoSuchElementException {
+        TasklistEdit redoneEdit = tasks.getHistory().redo(tasks);
+        return uiCli.showRedoneEdit(redoneEdit, tasks);
+    }
+}
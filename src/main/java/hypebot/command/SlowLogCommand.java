@@ -0,0 +1,54 @@
+package hypebot.command;
+
+import java.io.File;
+
+import hypebot.main.HypeBot;
+import hypebot.metrics.SlowCommandSampler;
+import hypebot.parser.command.CommandParser;
+import hypebot.storage.StorageManager;
+import hypebot.task.Task;
+import hypebot.tasklist.Tasklist;
+import hypebot.ui.cli.UiCli;
+import hypebot.ui.cli.UiResponse;
+
+/**
+ * Represents the {@code SlowLogCommand} created to show the most recent user input the
+ * {@link HypeBot} was slow to handle, with where the time went.
+ * <p>A child of {@link Command}.</p>
+ * <p>Instantiated when the {@link CommandParser} successfully parses a {@code 'slowlog'}
+ * command typed in by the user.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see SlowCommandSampler
+ * @see CommandParser
+ */
+public class SlowLogCommand extends Command {
+    /** {@link SlowCommandSampler} of the {@link HypeBot}. */
+    private final SlowCommandSampler slowCommandSampler;
+
+    /**
+     * Takes in the {@link SlowCommandSampler} of the {@link HypeBot}
+     * and creates a new {@code SlowLogCommand}.
+     *
+     * @param slowCommandSampler {@link SlowCommandSampler} whose samples to show.
+     */
+    public SlowLogCommand(SlowCommandSampler slowCommandSampler) {
+        super();
+        this.slowCommandSampler = slowCommandSampler;
+    }
+
+    /**
+     * Triggers the {@link HypeBot}-associated {@link UiCli} to return a {@link UiResponse}
+     * showing the most recent slow commands, newest first.
+     *
+     * @param tasks          {@link Tasklist} containing {@link Task}s.
+     * @param uiCli          {@link UiCli} that deals with text user interacts with.
+     * @param storageManager {@link StorageManager} containing {@link File} where
+     *                       {@link Task}s are loaded / saved.
+     * @return {@link UiResponse} showing the most recent slow commands.
+     */
+    @Override
+    public UiResponse execute(Tasklist tasks, UiCli uiCli, StorageManager storageManager) {
+        return uiCli.showSlowCommands(slowCommandSampler.getRecentSamples(), slowCommandSampler.getThresholdNanos());
+    }
+}
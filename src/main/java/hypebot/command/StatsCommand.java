@@ -0,0 +1,54 @@
+package hypebot.command;
+
+import java.io.File;
+
+import hypebot.main.HypeBot;
+import hypebot.metrics.CommandMetrics;
+import hypebot.parser.command.CommandParser;
+import hypebot.storage.StorageManager;
+import hypebot.task.Task;
+import hypebot.tasklist.Tasklist;
+import hypebot.ui.cli.UiCli;
+import hypebot.ui.cli.UiResponse;
+
+/**
+ * Represents the {@code StatsCommand} created to show how long the {@link HypeBot} has
+ * taken to handle each type of {@link Command} this session.
+ * <p>A child of {@link Command}.</p>
+ * <p>Instantiated when the {@link CommandParser} successfully parses a {@code 'stats'}
+ * command typed in by the user.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see CommandMetrics
+ * @see CommandParser
+ */
+public class StatsCommand extends Command {
+    /** {@link CommandMetrics} collected by the {@link HypeBot} this session. */
+    private final CommandMetrics metrics;
+
+    /**
+     * Takes in the {@link CommandMetrics} collected by the {@link HypeBot}
+     * and creates a new {@code StatsCommand}.
+     *
+     * @param metrics {@link CommandMetrics} to show.
+     */
+    public StatsCommand(CommandMetrics metrics) {
+        super();
+        this.metrics = metrics;
+    }
+
+    /**
+     * Triggers the {@link HypeBot}-associated {@link UiCli} to return a {@link UiResponse}
+     * showing the count, error rate and p50/p99/max latencies of each type of {@link Command}.
+     *
+     * @param tasks          {@link Tasklist} containing {@link Task}s.
+     * @param uiCli          {@link UiCli} that deals with text user interacts with.
+     * @param storageManager {@link StorageManager} containing {@link File} where
+     *                       {@link Task}s are loaded / saved.
+     * @return {@link UiResponse} showing the latency statistics of each type of {@link Command}.
+     */
+    @Override
+    public UiResponse execute(Tasklist tasks, UiCli uiCli, StorageManager storageManager) {
+        return uiCli.showStats(metrics.getAll());
+    }
+}
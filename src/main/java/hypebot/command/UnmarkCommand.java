@@ -7,6 +7,7 @@ import hypebot.parser.command.CommandParser;
 import hypebot.storage.StorageManager;
 import hypebot.task.Task;
 import hypebot.tasklist.Tasklist;
+import hypebot.tasklist.TasklistEdit;
 import hypebot.ui.cli.UiCli;
 import hypebot.ui.cli.UiResponse;
 
@@ -52,7 +53,9 @@ public class UnmarkCommand extends Command {
      */
     @Override
     public UiResponse execute(Tasklist tasks, UiCli uiCli, StorageManager storageManager) {
-        tasks.unmark(indexOfTaskToUnmark);
-        return uiCli.showUnmarkedTask(tasks.get(indexOfTaskToUnmark));
+        boolean wasComplete = tasks.unmark(indexOfTaskToUnmark);
+        Task unmarkedTask = tasks.get(indexOfTaskToUnmark);
+        tasks.getHistory().record(TasklistEdit.statusChanged(unmarkedTask, indexOfTaskToUnmark, wasComplete));
+        return uiCli.showUnmarkedTask(unmarkedTask);
     }
 }
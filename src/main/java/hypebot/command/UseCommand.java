@@ -0,0 +1,67 @@
+package hypebot.command;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+
+import hypebot.main.HypeBot;
+import hypebot.parser.command.CommandParser;
+import hypebot.storage.StorageManager;
+import hypebot.storage.TasklistManager;
+import hypebot.task.Task;
+import hypebot.tasklist.Tasklist;
+import hypebot.ui.cli.UiCli;
+import hypebot.ui.cli.UiResponse;
+
+/**
+ * Represents the {@code UseCommand} that switches the {@link HypeBot} over to another of the
+ * {@link Tasklist}s kept by its {@link TasklistManager}, creating it if there is none by that name.
+ * <p>A child of {@link Command}.</p>
+ * <p>Instantiated when the {@link CommandParser} successfully parses a {@code 'use'}
+ * command typed in by the user.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see TasklistManager
+ * @see ListsCommand
+ * @see CommandParser
+ */
+public class UseCommand extends Command {
+    /** {@link TasklistManager} of the {@link HypeBot}. */
+    private final TasklistManager tasklistManager;
+
+    /** Name of the {@link Tasklist} to switch to. */
+    private final String tasklistName;
+
+    /**
+     * Takes in the {@link TasklistManager} of the {@link HypeBot} and the name of the
+     * {@link Tasklist} to switch to, and creates a new {@code UseCommand}.
+     *
+     * @param tasklistManager {@link TasklistManager} keeping the {@link Tasklist}.
+     * @param tasklistName    Name of the {@link Tasklist} to switch to.
+     */
+    public UseCommand(TasklistManager tasklistManager, String tasklistName) {
+        super();
+        this.tasklistManager = tasklistManager;
+        this.tasklistName = tasklistName;
+    }
+
+    /**
+     * Triggers the {@link TasklistManager} to make the named {@link Tasklist} current, loading it
+     * if it is not loaded yet, then triggers {@link HypeBot}-associated {@link UiCli} to return a
+     * {@link UiResponse} showing the switch.
+     *
+     * @param tasks          {@link Tasklist} containing {@link Task}s, before the switch.
+     * @param uiCli          {@link UiCli} that deals with text user interacts with.
+     * @param storageManager {@link StorageManager} containing {@link File} where
+     *                       {@link Task}s are loaded / saved, before the switch.
+     * @return {@link UiResponse} showing the {@link Tasklist} switched to.
+     */
+    @Override
+    public UiResponse execute(Tasklist tasks, UiCli uiCli, StorageManager storageManager) {
+        try {
+            Tasklist usedTasks = tasklistManager.use(tasklistName);
+            return uiCli.showUsingTasklist(tasklistName, usedTasks);
+        } catch (FileNotFoundException e) {
+            return uiCli.showError(e.getMessage());
+        }
+    }
+}
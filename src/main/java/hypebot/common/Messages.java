@@ -22,30 +22,73 @@ public class Messages {
             • Type 'ev/event {Enter name here} /{Enter start time in yyyy-MM-dd HHmm format here} \
             /{Enter end time in yyyy-MM-dd HHmm format here}'
               to add an EXCITING event with start and end times!
+            • Add ' /every {day, week, month or year}' to the end of a deadline or event \
+            to make it come back AGAIN and AGAIN!
             • Type 'l/list' to see ALL YOUR SWEET TASKS in ADDED ORDER (earliest to latest)!
+            • Add '/sort due', '/sort name' or '/sort status' to a list to see them in THAT order, \
+            and '/page {Enter page number here}' to see them 20 at a time!
+            • Add '/done', '/todo' or '/type {Enter todo, deadline and/or event here}' to a list \
+            to see only those tasks!
             • Type 'm/mark {Enter task number here}' to mark a task as CONQUERED!
             • Type 'u/unmark {Enter task number here}' to unmark a task and TAKE IT ON AGAIN!
             • Type 'd/delete {Enter task number here}' to ANNIHILATE a task from your list!
             • Type 'da/deleteall' to ANNIHILATE ALL tasks from your list!
+            • Type 'undo' to take back your last add, delete, deleteall, mark or unmark, \
+            and 'redo' to do it again!
+            • Type 'ar/archive' to move ALL your CONQUERED tasks out of your list and into the archive!
             • Type 'hp/happening /{Enter date in yyyy-MM-dd format here}' to search any deadlines or events \
             happening on that day!
+            • Type 'ag/agenda /from {Enter date here} /to {Enter date here}' to see any deadlines or events \
+            happening on each day in between!
             • Type 'f/find {Enter keywords here}' to find any tasks with any of the keywords!
+              Add ' /archive' to the end to dig through your archive instead!
+            • Type 'use {Enter list name here}' to switch to another list of tasks, \
+            like 'use work' or 'use home' - I'll start it fresh if it's new!
+            • Type 'lists' to see ALL your lists, and which one we're rolling with!
+            • Type 'st/stats' to see how FAST I've been handling your commands!
+            • Type 'sl/slowlog' to see the commands that took me the LONGEST, and where the time went!
             • Type 'b/bye' if you're all set!
             """;
     public static final String MESSAGE_GREET_INTRO = "AYO WHAT'S UP IT'S ME YOUR\n\n";
     public static final String MESSAGE_GREET_OUTRO = "\nWhat can I do for you, my wonderful homie?\n";
     public static final String MESSAGE_LOADING_TASKLIST = "LOADING YOUR TASKS from your local computer...\n";
-    public static final String MESSAGE_DELETING_PAST_DEADLINE = "Deleting past deadline...\n";
-    public static final String MESSAGE_DELETING_PAST_EVENT = "Deleting past event...\n";
+    public static final String MESSAGE_LOADING_TASKLIST_PROGRESS =
+            "LOADING YOUR TASKS from your local computer... {0}%\n";
+    public static final String MESSAGE_LOADED_TASKLIST = "DONEZO! Let's CRUSH THOSE TASKS TOGETHER!";
     public static final String MESSAGE_SAVING_TASKLIST = "Alright homie, saving your tasks to your drive...\n";
     public static final String MESSAGE_LIST = "ALRIGHT, Here's that list!\n";
+    public static final String MESSAGE_LIST_SORTED = "ALRIGHT, Here's that list by %s!\n";
+    public static final String MESSAGE_LIST_PAGE = "(page %d of %d)\n";
+    public static final String MESSAGE_LIST_FILTERED = "Only showing your %s:\n";
     public static final String MESSAGE_HAPPENING = "ALRIGHT, Here's everything that's going down on ";
+    public static final String MESSAGE_AGENDA_INTRO = "ALRIGHT, Here's everything that's going down from ";
+    public static final String MESSAGE_AGENDA_TO = " to ";
+    public static final String MESSAGE_STATS_INTRO = "CHECK OUT these SPEEDS from this session!\n";
+    public static final String MESSAGE_SLOW_COMMANDS_INTRO = "Ugh, these commands took me over ";
+    public static final String MESSAGE_NO_SLOW_COMMANDS = "NOTHING has taken me over ";
+    public static final String MESSAGE_NO_SLOW_COMMANDS_OUTRO = " yet! I'm BLAZING FAST!\n";
+    public static final String MESSAGE_REMINDER_DEADLINE = "HEADS UP HOMIE, this one's DUE TODAY:\n  ";
+    public static final String MESSAGE_REMINDER_EVENT = "HEADS UP HOMIE, this one's STARTING RIGHT NOW:\n  ";
     public static final String MESSAGE_FIND_INTRO = "Searching every valley low and every mountain high for ";
     public static final String MESSAGE_ADDED_TASK = "HECK YEAH, ADDED:\n  ";
     public static final String MESSAGE_DELETED_TASK = "Say no more, BABY BYE BYE BYE to this task:\n ";
+    public static final String MESSAGE_ARCHIVED_TASKS = "OUT WITH THE OLD! Moved these to the archive:\n";
+    public static final String MESSAGE_FIND_ARCHIVE_INTRO = "Digging through the archive for";
     public static final String MESSAGE_DELETED_ALL_TASKS = "Say no more, BABY BYE BYE BYE to all your tasks!\n";
     public static final String MESSAGE_MARKED_TASK = "AIGHT, ABSOLUTELY CONQUERED THIS TASK:\n  ";
     public static final String MESSAGE_UNMARKED_TASK = "AIGHT, LET'S GET READY TO CONQUER THIS TASK:\n  ";
+    public static final String MESSAGE_USING_TASKLIST = "SWITCHED IT UP! We're now rolling with your '%s' list";
+    public static final String MESSAGE_TASKLISTS_INTRO = "CHECK OUT all your lists, homie!\n";
+    public static final String MESSAGE_TASKLIST_LOADED = " - %d task(s), ready to go";
+    public static final String MESSAGE_TASKLIST_SAVED = " - saved on your drive";
+    public static final String MESSAGE_TASKLIST_CURRENT = " <- we're on this one!";
+    public static final String MESSAGE_UNDONE = "NO SWEAT, TOOK BACK ";
+    public static final String MESSAGE_REDONE = "RUN IT BACK! DID THIS AGAIN - ";
+    public static final String MESSAGE_EDIT_ADDED = "adding:\n  ";
+    public static final String MESSAGE_EDIT_DELETED = "deleting:\n  ";
+    public static final String MESSAGE_EDIT_DELETED_ALL = "deleting all %d of your tasks";
+    public static final String MESSAGE_EDIT_MARKED = "marking:\n  ";
+    public static final String MESSAGE_EDIT_UNMARKED = "unmarking:\n  ";
     public static final String MESSAGE_TASKS_LEFT_INTRO = "!\nYOU'VE NOW GOT ";
     public static final String MESSAGE_TASKS_LEFT_OUTRO = " TASKS TO GO!\n";
     public static final String MESSAGE_UNKNOWN_INTRO = "but I don't think we're vibing when you say '";
@@ -57,12 +100,16 @@ public class Messages {
     public static final String ERROR_INTRO = "I might be tripping bro, my bad, my bad - \n";
     public static final String ERROR_LOCATING_TASKLIST = "but I couldn't find the file with your saved tasks: \n";
     public static final String ERROR_LOAD_TASK = "but I couldn't decode a task from your file!\n\n";
+    public static final String ERROR_LOADING_FAILED = "but I couldn't load your tasks at all, so I can't take on "
+            + "anything right now. Try closing this application and opening it again!\n\n";
     public static final String ERROR_FIX_CORRUPTED_TASK = """
             \n
             You can try closing this application first, locating your save file for your tasks \
             and fixing the format accordingly.
             """;
     public static final String ERROR_INVALID_TASK_TYPE = "I couldn't tell what task type this stands for: ";
+    public static final String ERROR_INVALID_RECURRENCE = "but I couldn't tell how often that repeats! "
+            + "Try '/every day', '/every week', '/every month' or '/every year'. I found: ";
     public static final String ERROR_TASK_MARK_INVALID = "The save file should indicate with 0 or 1 in the second "
             + "column to indicate the task as incomplete or complete. I found: ";
     public static final String ERROR_SAVE_TASKLIST = "but I couldn't find the file to save your tasks.\n";
@@ -107,8 +154,36 @@ public class Messages {
             but I couldn't catch the search date that you put.
             Try formatting your due date in this format: yyyy-MM-dd
             """;
+    public static final String ERROR_NOTHING_TO_UNDO = "there's nothing for me to undo!\n";
+    public static final String ERROR_NOTHING_TO_REDO = "there's nothing for me to redo!\n";
+    public static final String ERROR_EDITED_TASK_GONE = "that change can't be stepped over any more - "
+            + "this task has left your tasklist since:\n  ";
+    public static final String ERROR_UNDO_REDO_ARGUMENT = "undo and redo only ever step through "
+            + "your last changes, one at a time - drop whatever comes after them! I found: ";
     public static final String ERROR_NO_TASKS_HAPPENING = "no tasks are happening on that day!\n";
+    public static final String ERROR_NO_TASKS_IN_AGENDA = "no tasks are happening on any of those days!\n";
+    public static final String ERROR_AGENDA_DATES_MISSING = """
+            make sure you got the dates you want to see everything happening between!
+            Put a '/from' before your first date and a '/to' before your last date!
+            """;
+    public static final String ERROR_AGENDA_DATES_INORDERED = "but your from date and to date aren't adding up!\n";
+    public static final String ERROR_INVALID_SORT_ORDER = "but I can only sort your list by 'due', 'name' "
+            + "or 'status'. I found: ";
+    public static final String ERROR_INVALID_LIST_PAGE = "try a page number from 1 up! I found: ";
+    public static final String ERROR_INVALID_TASK_KIND = "but I can only filter your list by type 'todo', "
+            + "'deadline' or 'event'. I found: ";
+    public static final String ERROR_LIST_STATUS_CONFLICT = "but a task can't be both done and still to do!\n";
+    public static final String ERROR_NO_TASKS_MATCH_FILTER = "you haven't got any %s!\n";
+    public static final String ERROR_LIST_PAGE_PAST_END = "your list doesn't go that far - it's only got %d "
+            + "page(s)!\n";
+    public static final String ERROR_TASKLIST_NAME_MISSING = "make sure to tell me the name of the list "
+            + "you wanna use!\n";
+    public static final String ERROR_INVALID_TASKLIST_NAME = "but a list name can only have up to 64 letters, "
+            + "numbers, '-' and '_'. I found: ";
     public static final String ERROR_NO_TASKS_MATCH_SEARCH = "no tasks match that search!\n";
+    public static final String ERROR_NO_ARCHIVED_TASKS_MATCH_SEARCH = "no archived tasks match that search!\n";
+    public static final String ERROR_NO_COMPLETED_TASKS = "you haven't CONQUERED any tasks to archive yet!\n";
+    public static final String ERROR_READ_ARCHIVE = "but I couldn't read your archive of tasks.\n";
     public static final String ERROR_SEARCH_QUERY_EMPTY = "make sure to enter in some keywords in the name "
             + "of the tasks you're searching for!\n";
     public static final String ERROR_DUPLICATE_TASK = "but that task has already been hanging around with us! "
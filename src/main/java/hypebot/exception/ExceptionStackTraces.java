@@ -0,0 +1,36 @@
+package hypebot.exception;
+
+import hypebot.exception.datetime.HypeBotDateTimeParseException;
+import hypebot.exception.illegal.HypeBotIllegalArgumentException;
+import hypebot.exception.illegal.IllegalTaskIndexException;
+import hypebot.exception.missing.MissingArgumentException;
+import hypebot.main.HypeBot;
+
+/**
+ * Represents the switch deciding whether exceptions thrown on user-error paths, such as a
+ * mistyped command or a bad line in a save file, capture a stack trace.
+ * <p>These exceptions only ever reach the user as their message through {@link HypeBot},
+ * so by default they skip capturing a stack trace, which would otherwise cost more than
+ * parsing the input that caused them. Run with {@code -Dhypebot.captureStackTraces=true}
+ * to capture stack traces again when debugging.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see MissingArgumentException
+ * @see HypeBotIllegalArgumentException
+ * @see HypeBotDateTimeParseException
+ * @see IllegalTaskIndexException
+ */
+public final class ExceptionStackTraces {
+    /** System property that turns stack trace capture back on when set to {@code true}. */
+    public static final String CAPTURE_PROPERTY = "hypebot.captureStackTraces";
+
+    /** Whether stack traces are captured, read once as exceptions are created before their fields are set. */
+    private static final boolean IS_CAPTURED = Boolean.getBoolean(CAPTURE_PROPERTY);
+
+    private ExceptionStackTraces() {
+    }
+
+    public static boolean isCaptured() {
+        return IS_CAPTURED;
+    }
+}
@@ -2,6 +2,7 @@ package hypebot.exception.datetime;
 
 import java.time.format.DateTimeParseException;
 
+import hypebot.exception.ExceptionStackTraces;
 import hypebot.parser.datetime.DateTimeParser;
 import hypebot.parser.datetime.FileDateTimeParser;
 import hypebot.parser.datetime.UiDateTimeParser;
@@ -12,6 +13,7 @@ import hypebot.task.Task;
  * the parsing of {@link Task} objects that all {@code HypeBotDateTimeParseException}s
  * inherit from.
  * <p>A child of {@link DateTimeParseException}.</p>
+ * <p>Only captures a stack trace if {@link ExceptionStackTraces} says so.</p>
  *
  * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
  * @see DueDateParseException
@@ -33,4 +35,9 @@ public abstract class HypeBotDateTimeParseException extends DateTimeParseExcepti
     public HypeBotDateTimeParseException(String message, CharSequence parsedData, int errorIndex) {
         super(message, parsedData, errorIndex);
     }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return ExceptionStackTraces.isCaptured() ? super.fillInStackTrace() : this;
+    }
 }
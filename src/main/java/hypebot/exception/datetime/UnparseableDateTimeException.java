@@ -0,0 +1,30 @@
+package hypebot.exception.datetime;
+
+import java.time.format.DateTimeFormatter;
+
+import hypebot.parser.datetime.DateTimeParser;
+
+/**
+ * Represents an {@code UnparseableDateTimeException} thrown when a date or time does not match
+ * the {@link DateTimeFormatter} it is parsed with by a {@link DateTimeParser}.
+ * <p>A child of {@link HypeBotDateTimeParseException}.</p>
+ * <p>Stands in for the {@link java.time.format.DateTimeParseException} the
+ * {@link DateTimeFormatter} would throw, and is turned into a {@link DueDateParseException},
+ * {@link EventDateTimeParseException} or {@link HappeningSearchDateParseException}
+ * before reaching the user.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see DateTimeParser
+ */
+public class UnparseableDateTimeException extends HypeBotDateTimeParseException {
+    /**
+     * Takes in the parsed data that lead to error, and index of the data where parsing
+     * failed and creates a new {@code UnparseableDateTimeException}.
+     *
+     * @param parsedData User entered data or tasks.txt data that lead to error.
+     * @param errorIndex Index of data where error occurred.
+     */
+    public UnparseableDateTimeException(CharSequence parsedData, int errorIndex) {
+        super("Text '" + parsedData + "' could not be parsed at index " + errorIndex, parsedData, errorIndex);
+    }
+}
@@ -14,7 +14,7 @@ import hypebot.task.Task;
  * Represents an {@code DatePassedException} thrown when the {@link LocalDate}
  * due date of a {@link Deadline} or {@link LocalDateTime} event time of an
  * {@link Event} object has passed, thus cannot create a {@link Task} with such details.
- * <p>A child of {@link IllegalArgumentException}.</p>
+ * <p>A child of {@link HypeBotIllegalArgumentException}.</p>
  *
  * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
  * @see IllegalArgumentException
@@ -22,7 +22,7 @@ import hypebot.task.Task;
  * @see FileDateTimeParser
  * @see UiDateTimeParser
  */
-public class DatePassedException extends IllegalArgumentException {
+public class DatePassedException extends HypeBotIllegalArgumentException {
     /**
      * Takes in an error message and creates a new {@code DatePassedException}.
      *
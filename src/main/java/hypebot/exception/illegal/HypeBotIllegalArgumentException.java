@@ -0,0 +1,36 @@
+package hypebot.exception.illegal;
+
+import hypebot.exception.ExceptionStackTraces;
+import hypebot.parser.datetime.DateTimeParser;
+import hypebot.parser.task.TaskParser;
+
+/**
+ * Represents a base {@link IllegalArgumentException} which all illegal argument exceptions
+ * of HypeBot inherit from.
+ * <p>A child of {@link IllegalArgumentException}.</p>
+ * <p>Only captures a stack trace if {@link ExceptionStackTraces} says so.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see DatePassedException
+ * @see IllegalEventTimesException
+ * @see IllegalAgendaDatesException
+ * @see IllegalListFilterException
+ * @see IllegalListPageException
+ * @see IllegalRecurrenceException
+ * @see IllegalSortOrderException
+ * @see IllegalTaskStatusException
+ * @see IllegalTaskTypeException
+ * @see IllegalTasklistNameException
+ * @see DateTimeParser
+ * @see TaskParser
+ */
+public abstract class HypeBotIllegalArgumentException extends IllegalArgumentException {
+    public HypeBotIllegalArgumentException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return ExceptionStackTraces.isCaptured() ? super.fillInStackTrace() : this;
+    }
+}
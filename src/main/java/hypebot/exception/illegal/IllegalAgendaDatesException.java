@@ -0,0 +1,25 @@
+package hypebot.exception.illegal;
+
+import static hypebot.common.Messages.ERROR_AGENDA_DATES_INORDERED;
+
+import java.time.LocalDate;
+
+import hypebot.command.AgendaCommand;
+import hypebot.parser.datetime.UiDateTimeParser;
+
+/**
+ * Represents an {@code IllegalAgendaDatesException} thrown when the {@link LocalDate} from date
+ * of an {@link AgendaCommand} comes after its to date, thus cannot bound a range of dates.
+ * <p>A child of {@link HypeBotIllegalArgumentException}.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see UiDateTimeParser
+ */
+public class IllegalAgendaDatesException extends HypeBotIllegalArgumentException {
+    /**
+     * Creates a new {@code IllegalAgendaDatesException} with the appropriate error message.
+     */
+    public IllegalAgendaDatesException() {
+        super(ERROR_AGENDA_DATES_INORDERED);
+    }
+}
@@ -15,14 +15,14 @@ import hypebot.task.Task;
  * {@link LocalDateTime} start time and event time of an {@link Event} object are
  * not in a plausible chronological order, thus cannot create a {@link Task}
  * with such details.
- * <p>A child of {@link IllegalArgumentException}.</p>
+ * <p>A child of {@link HypeBotIllegalArgumentException}.</p>
  *
  * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
  * @see DateTimeParser
  * @see FileDateTimeParser
  * @see UiDateTimeParser
  */
-public class IllegalEventTimesException extends IllegalArgumentException {
+public class IllegalEventTimesException extends HypeBotIllegalArgumentException {
     /**
      * Creates a new {@code IllegalEventTimesException} with the appropriate error message.
      */
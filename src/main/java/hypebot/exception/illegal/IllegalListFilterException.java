@@ -0,0 +1,24 @@
+package hypebot.exception.illegal;
+
+import hypebot.command.ListCommand;
+import hypebot.parser.command.ListQueryParser;
+import hypebot.tasklist.TaskFilter;
+
+/**
+ * Represents an {@code IllegalListFilterException} thrown when a {@link ListCommand} is asked
+ * to filter by a kind of task that does not exist, or by a {@link TaskFilter} no task can match.
+ * <p>A child of {@link HypeBotIllegalArgumentException}.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see ListQueryParser
+ */
+public class IllegalListFilterException extends HypeBotIllegalArgumentException {
+    /**
+     * Takes in an error message and creates a new {@code IllegalListFilterException}.
+     *
+     * @param message Error message to be outputted to user interface.
+     */
+    public IllegalListFilterException(String message) {
+        super(message);
+    }
+}
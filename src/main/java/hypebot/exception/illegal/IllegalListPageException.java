@@ -0,0 +1,25 @@
+package hypebot.exception.illegal;
+
+import static hypebot.common.Messages.ERROR_INVALID_LIST_PAGE;
+
+import hypebot.command.ListCommand;
+import hypebot.parser.command.ListQueryParser;
+
+/**
+ * Represents an {@code IllegalListPageException} thrown when the page a {@link ListCommand}
+ * is asked to show is not a whole number from 1 up.
+ * <p>A child of {@link HypeBotIllegalArgumentException}.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see ListQueryParser
+ */
+public class IllegalListPageException extends HypeBotIllegalArgumentException {
+    /**
+     * Takes in the page entered and creates a new {@code IllegalListPageException}.
+     *
+     * @param enteredPage {@link String} page entered by user.
+     */
+    public IllegalListPageException(String enteredPage) {
+        super(ERROR_INVALID_LIST_PAGE + enteredPage + "\n");
+    }
+}
@@ -0,0 +1,29 @@
+package hypebot.exception.illegal;
+
+import static hypebot.common.Messages.ERROR_INVALID_RECURRENCE;
+
+import hypebot.parser.task.FileTaskParser;
+import hypebot.parser.task.UiTaskParser;
+import hypebot.task.Deadline;
+import hypebot.task.Event;
+import hypebot.task.Recurrence;
+
+/**
+ * Represents an {@code IllegalRecurrenceException} thrown when a {@link Deadline} or {@link Event}
+ * is asked to repeat by a period no {@link Recurrence} repeats by.
+ * <p>A child of {@link HypeBotIllegalArgumentException}.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see FileTaskParser
+ * @see UiTaskParser
+ */
+public class IllegalRecurrenceException extends HypeBotIllegalArgumentException {
+    /**
+     * Takes in the recurrence entered and creates a new {@code IllegalRecurrenceException}.
+     *
+     * @param enteredRecurrence {@link String} recurrence entered by user or saved in a file.
+     */
+    public IllegalRecurrenceException(String enteredRecurrence) {
+        super(ERROR_INVALID_RECURRENCE + enteredRecurrence + "\n");
+    }
+}
@@ -0,0 +1,26 @@
+package hypebot.exception.illegal;
+
+import static hypebot.common.Messages.ERROR_INVALID_SORT_ORDER;
+
+import hypebot.command.ListCommand;
+import hypebot.parser.command.ListQueryParser;
+import hypebot.tasklist.TaskOrder;
+
+/**
+ * Represents an {@code IllegalSortOrderException} thrown when a {@link ListCommand} is asked
+ * to sort by something no {@link TaskOrder} sorts by.
+ * <p>A child of {@link HypeBotIllegalArgumentException}.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see ListQueryParser
+ */
+public class IllegalSortOrderException extends HypeBotIllegalArgumentException {
+    /**
+     * Takes in the sort order entered and creates a new {@code IllegalSortOrderException}.
+     *
+     * @param enteredOrder {@link String} sort order entered by user.
+     */
+    public IllegalSortOrderException(String enteredOrder) {
+        super(ERROR_INVALID_SORT_ORDER + enteredOrder + "\n");
+    }
+}
@@ -0,0 +1,31 @@
+package hypebot.exception.illegal;
+
+import hypebot.exception.ExceptionStackTraces;
+import hypebot.parser.command.IndexParser;
+import hypebot.task.Task;
+import hypebot.tasklist.Tasklist;
+
+/**
+ * Represents an {@code IllegalTaskIndexException} thrown when the index of a {@link Task}
+ * in a {@link Tasklist} entered by user is missing or not a number.
+ * <p>A child of {@link NumberFormatException}.</p>
+ * <p>Only captures a stack trace if {@link ExceptionStackTraces} says so.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see IndexParser
+ */
+public class IllegalTaskIndexException extends NumberFormatException {
+    /**
+     * Takes in an error message and creates a new {@code IllegalTaskIndexException}.
+     *
+     * @param message Error message to be outputted to user interface.
+     */
+    public IllegalTaskIndexException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return ExceptionStackTraces.isCaptured() ? super.fillInStackTrace() : this;
+    }
+}
@@ -13,13 +13,13 @@ import hypebot.task.Task;
  * Represents an {@code IllegalTaskStatusException} thrown when the
  * marked indicator of a {@link Task} saved in a {@link File} retrieved by the
  * {@link StorageManager} is not 0 or 1 (unmarked, marked).
- * <p>A child of {@link IllegalArgumentException}.</p>
+ * <p>A child of {@link HypeBotIllegalArgumentException}.</p>
  *
  * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
  * @see TaskParser
  * @see FileTaskParser
  */
-public class IllegalTaskStatusException extends IllegalArgumentException {
+public class IllegalTaskStatusException extends HypeBotIllegalArgumentException {
     /**
      * Takes in an error message and creates a new {@code IllegalTaskStatusException}.
      *
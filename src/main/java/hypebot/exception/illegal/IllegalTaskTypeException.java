@@ -17,14 +17,14 @@ import hypebot.task.ToDo;
  * Represents an {@code IllegalTaskTypeException} thrown when the
  * type indicator of a {@link Task} saved in a {@link File} retrieved by the
  * {@link StorageManager} is not T, D, or E ({@link ToDo}, {@link Deadline}, or {@link Event}).
- * <p>A child of {@link IllegalArgumentException}.</p>
+ * <p>A child of {@link HypeBotIllegalArgumentException}.</p>
  *
  * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
  * @see TaskParser
  * @see FileTaskParser
  * @see UiTaskParser
  */
-public class IllegalTaskTypeException extends IllegalArgumentException {
+public class IllegalTaskTypeException extends HypeBotIllegalArgumentException {
     /**
      * Takes in an error message and creates a new {@code IllegalTaskTypeException}.
      *
@@ -0,0 +1,26 @@
+package hypebot.exception.illegal;
+
+import static hypebot.common.Messages.ERROR_INVALID_TASKLIST_NAME;
+
+import hypebot.command.UseCommand;
+import hypebot.parser.command.TasklistNameParser;
+import hypebot.storage.TasklistManager;
+
+/**
+ * Represents an {@code IllegalTasklistNameException} thrown when a {@link UseCommand} is asked
+ * to use a list whose name the {@link TasklistManager} cannot keep a file under.
+ * <p>A child of {@link HypeBotIllegalArgumentException}.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see TasklistNameParser
+ */
+public class IllegalTasklistNameException extends HypeBotIllegalArgumentException {
+    /**
+     * Takes in the list name entered and creates a new {@code IllegalTasklistNameException}.
+     *
+     * @param enteredName {@link String} list name entered by user.
+     */
+    public IllegalTasklistNameException(String enteredName) {
+        super(ERROR_INVALID_TASKLIST_NAME + enteredName + "\n");
+    }
+}
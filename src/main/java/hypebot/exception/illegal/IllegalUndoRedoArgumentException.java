@@ -0,0 +1,25 @@
+package hypebot.exception.illegal;
+
+import static hypebot.common.Messages.ERROR_UNDO_REDO_ARGUMENT;
+
+import hypebot.command.RedoCommand;
+import hypebot.command.UndoCommand;
+
+/**
+ * Represents an {@code IllegalUndoRedoArgumentException} thrown when anything is entered after
+ * the command word of an {@link UndoCommand} or {@link RedoCommand}, neither of which takes any.
+ * <p>A child of {@link HypeBotIllegalArgumentException}.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+public class IllegalUndoRedoArgumentException extends HypeBotIllegalArgumentException {
+    /**
+     * Takes in what was entered after the command word and creates a new
+     * {@code IllegalUndoRedoArgumentException}.
+     *
+     * @param enteredArgument {@link String} entered by user after the command word.
+     */
+    public IllegalUndoRedoArgumentException(String enteredArgument) {
+        super(ERROR_UNDO_REDO_ARGUMENT + enteredArgument + "\n");
+    }
+}
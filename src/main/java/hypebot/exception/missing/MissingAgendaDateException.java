@@ -0,0 +1,27 @@
+package hypebot.exception.missing;
+
+import static hypebot.common.Messages.ERROR_AGENDA_DATES_MISSING;
+
+import hypebot.command.AgendaCommand;
+import hypebot.parser.datetime.DateTimeParser;
+import hypebot.parser.datetime.UiDateTimeParser;
+
+/**
+ * Represents a {@code MissingAgendaDateException} associated with errors resulting
+ * from missing dates bounding an agenda.
+ * <p>A child of {@link MissingArgumentException}.</p>
+ * <p>Thrown whenever the from date or to date when parsing an {@link AgendaCommand} is missing.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see DateTimeParser
+ * @see UiDateTimeParser
+ */
+public class MissingAgendaDateException extends MissingArgumentException {
+    /**
+     * Creates a new {@code MissingAgendaDateException} with a message alerting that
+     * a from date or to date for an {@link AgendaCommand} is missing.
+     */
+    public MissingAgendaDateException() {
+        super(ERROR_AGENDA_DATES_MISSING);
+    }
+}
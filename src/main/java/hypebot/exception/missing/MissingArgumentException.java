@@ -1,5 +1,6 @@
 package hypebot.exception.missing;
 
+import hypebot.exception.ExceptionStackTraces;
 import hypebot.parser.command.CommandParser;
 import hypebot.parser.task.TaskParser;
 import hypebot.parser.task.UiTaskParser;
@@ -9,13 +10,16 @@ import hypebot.parser.task.UiTaskParser;
  * inherit from.
  * <p>A child of {@link IllegalArgumentException}.</p>
  * <p>Thrown whenever an argument for parsing input is missing.</p>
+ * <p>Only captures a stack trace if {@link ExceptionStackTraces} says so.</p>
  *
  * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
  * @see MissingTaskNameException
  * @see MissingDueDateException
  * @see MissingEventTimeException
  * @see MissingSearchDateException
+ * @see MissingAgendaDateException
  * @see MissingSearchQueryException
+ * @see MissingTasklistNameException
  * @see CommandParser
  * @see TaskParser
  * @see UiTaskParser
@@ -24,4 +28,9 @@ public abstract class MissingArgumentException extends IllegalArgumentException
     public MissingArgumentException(String message) {
         super(message);
     }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return ExceptionStackTraces.isCaptured() ? super.fillInStackTrace() : this;
+    }
 }
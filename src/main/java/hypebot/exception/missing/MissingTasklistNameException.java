@@ -0,0 +1,27 @@
+package hypebot.exception.missing;
+
+import static hypebot.common.Messages.ERROR_TASKLIST_NAME_MISSING;
+
+import hypebot.command.UseCommand;
+import hypebot.parser.Parser;
+import hypebot.parser.command.TasklistNameParser;
+
+/**
+ * Represents a {@code MissingTasklistNameException} associated with errors resulting
+ * from missing list name.
+ * <p>A child of {@link MissingArgumentException}.</p>
+ * <p>Thrown whenever the list name when parsing a {@link UseCommand} is missing.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see Parser
+ * @see TasklistNameParser
+ */
+public class MissingTasklistNameException extends MissingArgumentException {
+    /**
+     * Creates a new {@code MissingTasklistNameException} with a message alerting that
+     * the list name for a {@link UseCommand} is missing.
+     */
+    public MissingTasklistNameException() {
+        super(ERROR_TASKLIST_NAME_MISSING);
+    }
+}
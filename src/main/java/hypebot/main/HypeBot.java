@@ -3,13 +3,28 @@ package hypebot.main;
 import static hypebot.common.Messages.ERROR_FIX_CORRUPTED_TASK;
 import static hypebot.common.Messages.ERROR_LOAD_TASK;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.text.MessageFormat;
+import java.time.Clock;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 
 import hypebot.command.Command;
+import hypebot.command.UseCommand;
+import hypebot.metrics.CommandMetrics;
+import hypebot.metrics.CommandTypeMetrics.Phase;
+import hypebot.metrics.SlowCommandSample;
+import hypebot.metrics.SlowCommandSampler;
+import hypebot.metrics.jfr.ExecuteCommandEvent;
+import hypebot.metrics.jfr.ParseCommandEvent;
 import hypebot.parser.command.CommandParser;
+import hypebot.reminder.ReminderScheduler;
 import hypebot.storage.StorageManager;
+import hypebot.storage.TasklistManager;
 import hypebot.task.Task;
+import hypebot.tasklist.ExpiredTaskSweeper;
 import hypebot.tasklist.Tasklist;
 import hypebot.ui.cli.UiCli;
 import hypebot.ui.cli.UiResponse;
@@ -23,8 +38,11 @@ import hypebot.ui.gui.UiGuiMainWindow;
  * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
  */
 public class HypeBot {
-    /** Manages all storage-related tasks: loading, saving tasks to a local file. */
-    private final StorageManager storage;
+    /** Name of the log file slow commands are appended to, next to the tasklist file. */
+    private static final String SLOW_COMMAND_LOG_FILE_NAME = "slow-commands.log";
+
+    /** Keeps every named {@link Tasklist}, each loaded and saved by its own {@link StorageManager}. */
+    private final TasklistManager tasklistManager;
 
     /** Manages all text outputted to user interface. */
     private final UiCli uiCli;
@@ -32,32 +50,135 @@ public class HypeBot {
     /** Makes sense of all user input to executable commands. */
     private final CommandParser commandParser;
 
-    /** Stores all Tasks loaded and created by user during session. */
-    private Tasklist tasks;
+    /** Latencies, counts and errors of every command handled this session. */
+    private final CommandMetrics metrics;
+
+    /**
+     * Stores all Tasks loaded and created by user during session in the current {@link Tasklist}
+     * of the {@link TasklistManager}.
+     * <p>{@code null} until {@code loadTasks()} completes, which may happen on another thread.</p>
+     */
+    private volatile Tasklist tasks;
 
     /** String of latest command type executed. */
     private String commandType;
 
+    /** Command type the latest response's metrics were recorded under. */
+    private String measuredCommandType;
+
+    /** Error message of the latest user input that could not be parsed. */
+    private String parseErrorMessage;
+
+    /** Keeps the time spent handling any user input that was slow to handle. */
+    private final SlowCommandSampler slowCommandSampler;
+
+    /** {@link SlowCommandSample} of the latest user input, until its response is displayed. */
+    private SlowCommandSample pendingSample;
+
+    /** Reminds the user of deadlines and events as they come due; {@code null} until started. */
+    private ReminderScheduler reminderScheduler;
+
+    /** Retires deadlines and events once they expire; {@code null} until started. */
+    private ExpiredTaskSweeper expiredTaskSweeper;
+
+    /** {@link Consumer} of reminder messages; {@code null} until background work is started. */
+    private Consumer<String> reminderListener;
+
+    /** {@link Executor} running code on the thread the {@link Tasklist} is changed on; {@code null} until started. */
+    private Executor tasklistExecutor;
+
     /** Error message when HypeBot had trouble setting up. */
     private String bootingErrorMessage;
 
     /**
      * Creates a new {@code HypeBot}.
+     * <p>Does not load any {@link Task}s yet; {@code loadTasks()} must complete
+     * before any user input is responded to.</p>
      *
-     * @param filePath The file path for tasks to save and load to.
+     * @param filePath The file path for tasks of the default {@link Tasklist} to save and load to.
      */
     public HypeBot(String filePath) {
         uiCli = new UiCli();
-        storage = new StorageManager(filePath);
-        commandParser = new CommandParser();
+        tasklistManager = new TasklistManager(filePath);
+        metrics = new CommandMetrics();
+        slowCommandSampler = new SlowCommandSampler(
+                new File(new File(filePath).getAbsoluteFile().getParentFile(), SLOW_COMMAND_LOG_FILE_NAME));
+        commandParser = new CommandParser(metrics, slowCommandSampler, tasklistManager);
+    }
+
+    /**
+     * Loads the default {@link Tasklist} saved in the user's local file through the {@link TasklistManager}.
+     * <p>If the saved {@link Tasklist} cannot be loaded, starts off with an empty {@link Tasklist}
+     * and generates a {@code bootingErrorMessage}.</p>
+     */
+    public void loadTasks() {
+        loadTasks(progress -> {});
+    }
+
+    /**
+     * Loads the {@link Tasklist} like {@code loadTasks()}, reporting the fraction of the
+     * saved {@link Tasklist} loaded so far to the {@link DoubleConsumer} taken in.
+     * <p>May be called from a background thread; the {@link Tasklist} only becomes visible
+     * to {@code getResponse()} once it has been fully loaded.</p>
+     *
+     * @param progressListener {@link DoubleConsumer} taking in the fraction loaded, from 0 to 1.
+     */
+    public void loadTasks(DoubleConsumer progressListener) {
+        String defaultTasklistName = tasklistManager.getDefaultTasklistName();
         try {
-            tasks = storage.load();
+            tasks = tasklistManager.use(defaultTasklistName, progressListener);
         } catch (RuntimeException | FileNotFoundException e) {
             commandType = "Error";
             bootingErrorMessage = uiCli.showError(MessageFormat.format(
                     "{0}{1}{2}", ERROR_LOAD_TASK, e.getMessage(), ERROR_FIX_CORRUPTED_TASK
             )).show();
-            tasks = new Tasklist();
+            tasks = tasklistManager.useEmpty(defaultTasklistName);
+        }
+    }
+
+    /**
+     * Takes in a {@link Consumer} of reminder messages and an {@link Executor} running code on
+     * the thread the {@link Tasklist} is changed on, and starts the background work on the loaded
+     * {@link Tasklist}: reminding the user of each {@link Task} as it comes due, and retiring each
+     * {@link Task} once it expires to the archive of the {@link StorageManager}.
+     * <p>Must be called on the thread the {@link Tasklist} is changed on, after {@code loadTasks()}
+     * completes. Moves over to each {@link Tasklist} a {@link UseCommand} switches to.</p>
+     *
+     * @param reminderListener {@link Consumer} taking in each reminder message shown by the {@link UiCli},
+     *                         called through {@code tasklistExecutor}.
+     * @param tasklistExecutor {@link Executor} running code on the thread the {@link Tasklist} is changed on.
+     */
+    public void startBackgroundTasks(Consumer<String> reminderListener, Executor tasklistExecutor) {
+        stopBackgroundTasks();
+        this.reminderListener = reminderListener;
+        this.tasklistExecutor = tasklistExecutor;
+        // Renders each reminder on the thread the Tasklist is changed on, since Task caches its rendering.
+        reminderScheduler = new ReminderScheduler(Clock.systemDefaultZone(), task ->
+                tasklistExecutor.execute(() -> reminderListener.accept(uiCli.showReminder(task).show())));
+        reminderScheduler.scheduleAll(tasks);
+        tasks.addListener(reminderScheduler);
+        reminderScheduler.start();
+
+        expiredTaskSweeper = new ExpiredTaskSweeper(Clock.systemDefaultZone(), tasks, tasklistExecutor,
+                tasklistManager.getCurrentStorage()::archive);
+        expiredTaskSweeper.scheduleAll(tasks);
+        tasks.addListener(expiredTaskSweeper);
+        expiredTaskSweeper.start();
+    }
+
+    /**
+     * Stops the background work on the {@link Tasklist}, if {@code startBackgroundTasks()} was called.
+     */
+    public void stopBackgroundTasks() {
+        if (reminderScheduler != null) {
+            reminderScheduler.stop();
+            tasks.removeListener(reminderScheduler);
+            reminderScheduler = null;
+        }
+        if (expiredTaskSweeper != null) {
+            expiredTaskSweeper.stop();
+            tasks.removeListener(expiredTaskSweeper);
+            expiredTaskSweeper = null;
         }
     }
 
@@ -81,23 +202,194 @@ public class HypeBot {
         return tasks;
     }
 
+    /**
+     * Returns the number of {@link Task}s in the {@link Tasklist}, or 0 if it has not been loaded yet.
+     *
+     * @return Number of {@link Task}s in the {@link Tasklist}.
+     */
+    private int getTasklistSize() {
+        Tasklist loadedTasks = tasks;
+        return loadedTasks == null ? 0 : loadedTasks.size();
+    }
+
+    /**
+     * Returns whether {@code loadTasks()} has completed.
+     *
+     * @return Whether the {@link Tasklist} has been loaded.
+     */
+    public boolean hasLoadedTasks() {
+        return tasks != null;
+    }
+
     /**
      * Triggers parsing of user {@code input} to a {@link Command} by the {@link CommandParser},
      * receives the {@link UiResponse} generated by the execution of the {@link Command} and
      * returns the {@link UiResponse}-associated {@code message}.
+     * <p>Records the time spent parsing, executing and rendering in the {@link CommandMetrics}, under
+     * the command type, or under {@code "Error"} if the input could not be parsed. The time spent is
+     * also kept in a {@link SlowCommandSample}, completed by {@code recordDisplayTime()} if
+     * {@code isSamplingDisplayTime()}, or else used as is by the next call.</p>
      *
      * @param input Full user input from user interface.
      * @return String message to be outputted from {@link UiResponse} of parsed {@link Command}.
      */
     public String getResponse(String input) {
         bootingErrorMessage = null; // De-activate error message.
+        finishPendingSample();
+        pendingSample = new SlowCommandSample(input);
+        UiResponse response;
+        Command c = parse(input);
+        if (c == null) {
+            response = uiCli.showError(parseErrorMessage);
+        } else {
+            response = execute(c);
+        }
+        long renderStart = System.nanoTime();
+        String message = render(response);
+        recordPhase(Phase.RENDER, System.nanoTime() - renderStart);
+        pendingSample.setTasklistSize(getTasklistSize());
+        return message;
+    }
+
+    /**
+     * Takes in the {@link UiResponse} of the latest user input and returns its {@code message},
+     * or the message of the error rendering it ran into.
+     *
+     * @param response {@link UiResponse} of the latest user input.
+     * @return String message to be outputted from {@code response}, or showing the error it ran into.
+     */
+    private String render(UiResponse response) {
+        try {
+            return response.show();
+        } catch (Exception e) {
+            if (!commandType.equals("Error")) {
+                commandType = "Error";
+                metrics.recordError(measuredCommandType);
+            }
+            return uiCli.showError(e.getMessage()).show();
+        }
+    }
+
+    /**
+     * Takes in user {@code input} and returns the {@link Command} parsed from it by the
+     * {@link CommandParser}, recording the time spent parsing.
+     *
+     * @param input Full user input from user interface.
+     * @return {@link Command} parsed; {@code null} if the input could not be parsed,
+     *         with {@code parseErrorMessage} telling why.
+     */
+    private Command parse(String input) {
+        ParseCommandEvent parseEvent = new ParseCommandEvent();
+        parseEvent.begin();
+        long parseStart = System.nanoTime();
+        Command c = null;
         try {
-            Command c = commandParser.parse(input);
+            c = commandParser.parse(input);
             commandType = c.getClass().getSimpleName(); // Get the type of command.
-            return c.execute(tasks, uiCli, storage).show();
         } catch (Exception e) {
             commandType = "Error";
-            return uiCli.showError(e.getMessage()).show();
+            parseErrorMessage = e.getMessage();
+            metrics.recordError(commandType);
+        }
+        measuredCommandType = commandType;
+        pendingSample.setCommandType(measuredCommandType);
+        recordPhase(Phase.PARSE, System.nanoTime() - parseStart);
+        parseEvent.end();
+        if (parseEvent.shouldCommit()) {
+            parseEvent.setCommandType(measuredCommandType);
+            parseEvent.setInputLength(input.length());
+            parseEvent.commit();
+        }
+        return c;
+    }
+
+    /**
+     * Takes in a parsed {@link Command}, executes it and returns its {@link UiResponse},
+     * recording the time spent executing.
+     *
+     * @param c Parsed {@link Command}.
+     * @return {@link UiResponse} of the {@link Command}, or showing the error it ran into.
+     */
+    private UiResponse execute(Command c) {
+        ExecuteCommandEvent executeEvent = new ExecuteCommandEvent();
+        executeEvent.begin();
+        long executeStart = System.nanoTime();
+        try {
+            UiResponse response = c.execute(tasks, uiCli, tasklistManager.getCurrentStorage());
+            executeEvent.setSucceeded(true);
+            return response;
+        } catch (Exception e) {
+            commandType = "Error";
+            metrics.recordError(measuredCommandType);
+            return uiCli.showError(e.getMessage());
+        } finally {
+            if (tasklistManager.getCurrentTasks() != tasks) {
+                switchTasklist();
+            }
+            recordPhase(Phase.EXECUTE, System.nanoTime() - executeStart);
+            executeEvent.setCommandType(measuredCommandType);
+            executeEvent.setTasklistSize(getTasklistSize());
+            executeEvent.commit();
+        }
+    }
+
+    /**
+     * Makes the current {@link Tasklist} of the {@link TasklistManager} the one user input is
+     * executed on, moving any background work over to it.
+     */
+    private void switchTasklist() {
+        boolean isRunningBackgroundTasks = reminderScheduler != null;
+        stopBackgroundTasks();
+        tasks = tasklistManager.getCurrentTasks();
+        if (isRunningBackgroundTasks) {
+            startBackgroundTasks(reminderListener, tasklistExecutor);
+        }
+    }
+
+    /**
+     * Takes in a {@link Phase} of handling the latest user input and the nanoseconds spent in it,
+     * and records them in the {@link CommandMetrics} and the pending {@link SlowCommandSample}.
+     *
+     * @param phase {@link Phase} of handling the latest user input.
+     * @param nanos Duration in nanoseconds spent in {@code phase}.
+     */
+    private void recordPhase(Phase phase, long nanos) {
+        metrics.record(measuredCommandType, phase, nanos);
+        pendingSample.setPhaseNanos(phase, nanos);
+    }
+
+    /**
+     * Takes in the nanoseconds a user interface spent displaying the latest response, records
+     * them under the latest parsed command type, and completes its {@link SlowCommandSample}.
+     *
+     * @param nanos Duration in nanoseconds spent displaying the latest response.
+     */
+    public void recordDisplayTime(long nanos) {
+        if (pendingSample == null) {
+            return;
+        }
+        recordPhase(Phase.DISPLAY, nanos);
+        finishPendingSample();
+    }
+
+    /**
+     * Returns whether the time the latest response takes to display should be measured and passed to
+     * {@code recordDisplayTime()}, as decided by the {@link SlowCommandSampler}.
+     *
+     * @return Whether the display time of the latest response should be measured.
+     */
+    public boolean isSamplingDisplayTime() {
+        return pendingSample != null && slowCommandSampler.shouldSampleDisplay(pendingSample);
+    }
+
+    /**
+     * Hands the pending {@link SlowCommandSample} of the latest user input, if any,
+     * to the {@link SlowCommandSampler}; used as is if its response was never displayed.
+     */
+    private void finishPendingSample() {
+        if (pendingSample != null) {
+            slowCommandSampler.offer(pendingSample);
+            pendingSample = null;
         }
     }
 
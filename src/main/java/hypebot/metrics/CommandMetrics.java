@@ -0,0 +1,71 @@
+package hypebot.metrics;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import hypebot.command.Command;
+import hypebot.main.HypeBot;
+import hypebot.metrics.CommandTypeMetrics.Phase;
+
+/**
+ * Represents the {@code CommandMetrics} collected by a {@link HypeBot} over a session,
+ * keeping one {@link CommandTypeMetrics} per type of {@link Command}.
+ * <p>Types are keyed by the same {@link String} command type {@link HypeBot} reports,
+ * so input that fails to parse is counted under {@code "Error"}.</p>
+ * <p>Recording never locks and is safe to call from any thread.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see LatencyHistogram
+ */
+public class CommandMetrics {
+    /** {@link CommandTypeMetrics} of each command type run so far. */
+    private final Map<String, CommandTypeMetrics> commandTypeMetrics = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@code CommandMetrics} with nothing recorded.
+     */
+    public CommandMetrics() {
+        super();
+    }
+
+    /**
+     * Takes in a command type and returns its {@link CommandTypeMetrics}, creating them if needed.
+     *
+     * @param commandType Class name of a {@link Command}, or {@code "Error"}.
+     * @return {@link CommandTypeMetrics} of {@code commandType}.
+     */
+    private CommandTypeMetrics metricsOf(String commandType) {
+        return commandTypeMetrics.computeIfAbsent(commandType, type -> new CommandTypeMetrics());
+    }
+
+    /**
+     * Takes in a command type, a {@link Phase} and the nanoseconds spent in it, and records them.
+     *
+     * @param commandType Class name of a {@link Command}, or {@code "Error"}.
+     * @param phase       {@link Phase} of handling the {@link Command}.
+     * @param nanos       Duration in nanoseconds spent in {@code phase}.
+     */
+    public void record(String commandType, Phase phase, long nanos) {
+        metricsOf(commandType).getLatency(phase).record(nanos);
+    }
+
+    /**
+     * Takes in a command type and records a {@link Command} of that type ending in an error.
+     *
+     * @param commandType Class name of a {@link Command}, or {@code "Error"}.
+     */
+    public void recordError(String commandType) {
+        metricsOf(commandType).recordError();
+    }
+
+    /**
+     * Returns the {@link CommandTypeMetrics} of every command type run so far, by name.
+     *
+     * @return {@link SortedMap} of command types to their {@link CommandTypeMetrics}.
+     */
+    public SortedMap<String, CommandTypeMetrics> getAll() {
+        return new TreeMap<>(commandTypeMetrics);
+    }
+}
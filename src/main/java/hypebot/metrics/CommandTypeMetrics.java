@@ -0,0 +1,83 @@
+package hypebot.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import hypebot.command.Command;
+
+/**
+ * Represents the {@code CommandTypeMetrics} of a single type of {@link Command}: how many
+ * times it ran, how many of those ended in an error, and a {@link LatencyHistogram} of the
+ * time spent in each {@code Phase} of handling it.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see CommandMetrics
+ */
+public class CommandTypeMetrics {
+    /**
+     * Phases handling a line of user input goes through: parsing it into a {@link Command},
+     * executing the {@link Command}, rendering the text of its response, and displaying
+     * the response on the user interface.
+     */
+    public enum Phase {
+        PARSE,
+        EXECUTE,
+        RENDER,
+        DISPLAY
+    }
+
+    /** {@link LatencyHistogram} of each {@code Phase}; never modified after construction. */
+    private final Map<Phase, LatencyHistogram> phaseLatencies = new EnumMap<>(Phase.class);
+
+    /** Number of times a {@link Command} of this type ended in an error. */
+    private final LongAdder errorCount = new LongAdder();
+
+    /**
+     * Creates a new {@code CommandTypeMetrics} with nothing recorded.
+     */
+    public CommandTypeMetrics() {
+        super();
+        for (Phase phase : Phase.values()) {
+            phaseLatencies.put(phase, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Takes in a {@code Phase} and returns the {@link LatencyHistogram} of its durations.
+     *
+     * @param phase {@code Phase} of handling a {@link Command}.
+     * @return {@link LatencyHistogram} of durations in nanoseconds spent in {@code phase}.
+     */
+    public LatencyHistogram getLatency(Phase phase) {
+        return phaseLatencies.get(phase);
+    }
+
+    /**
+     * Returns the number of times a {@link Command} of this type ran, counted when parsed.
+     *
+     * @return Number of times a {@link Command} of this type ran.
+     */
+    public long getCount() {
+        return getLatency(Phase.PARSE).getCount();
+    }
+
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    /** Records a {@link Command} of this type ending in an error. */
+    void recordError() {
+        errorCount.increment();
+    }
+
+    /**
+     * Returns the fraction of runs of a {@link Command} of this type that ended in an error.
+     *
+     * @return Fraction of runs ending in an error, from 0 to 1; 0 if it never ran.
+     */
+    public double getErrorRate() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) getErrorCount() / count;
+    }
+}
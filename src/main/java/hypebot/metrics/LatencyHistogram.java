@@ -0,0 +1,120 @@
+package hypebot.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Represents a {@code LatencyHistogram} of durations in nanoseconds, recorded without locking.
+ * <p>Buckets are log-linear like those of HdrHistogram: every power of two is split into
+ * {@code SUB_BUCKET_COUNT} equal buckets, so any percentile read back is within about 6% of
+ * the real value while the whole range of a {@code long} fits in under a thousand buckets.</p>
+ * <p>Recording is a handful of atomic increments, safe to call from any thread. Reads are
+ * not atomic snapshots, so a percentile read during recording may be off by the few
+ * values recorded meanwhile.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see CommandMetrics
+ */
+public class LatencyHistogram {
+    /** Number of bits of precision kept for each recorded value. */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /** Number of buckets every power of two is split into. */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /** Number of buckets needed to hold any non-negative {@code long}. */
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    /** Number of values recorded in each bucket. */
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+
+    /** Total number of values recorded. */
+    private final LongAdder totalCount = new LongAdder();
+
+    /** Largest value recorded. */
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Creates a new empty {@code LatencyHistogram}.
+     */
+    public LatencyHistogram() {
+        super();
+    }
+
+    /**
+     * Takes in a non-negative value and returns the index of the bucket it is counted in.
+     *
+     * @param value Non-negative value.
+     * @return Index of the bucket {@code value} is counted in.
+     */
+    private static int bucketIndexOf(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> exponent) - SUB_BUCKET_COUNT;
+        return (exponent + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Takes in the index of a bucket and returns the largest value counted in it.
+     *
+     * @param index Index of a bucket.
+     * @return Largest value counted in the bucket.
+     */
+    private static long highestValueIn(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << exponent) - 1;
+    }
+
+    /**
+     * Takes in a duration in nanoseconds and records it; negative durations are recorded as 0.
+     *
+     * @param nanos Duration in nanoseconds.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        bucketCounts.incrementAndGet(bucketIndexOf(value));
+        totalCount.increment();
+        long currentMax = maxValue.get();
+        while (value > currentMax && !maxValue.compareAndSet(currentMax, value)) {
+            currentMax = maxValue.get();
+        }
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * Takes in a percentile and returns the duration in nanoseconds that many percent of the
+     * recorded durations are at or below, rounded up to the end of its bucket.
+     *
+     * @param percentile Percentile from 0 to 100.
+     * @return Duration in nanoseconds at the given percentile; 0 if nothing was recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += bucketCounts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), getMax());
+            }
+        }
+        return getMax();
+    }
+}
@@ -0,0 +1,154 @@
+package hypebot.metrics;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+import hypebot.command.Command;
+import hypebot.metrics.CommandTypeMetrics.Phase;
+import hypebot.tasklist.Tasklist;
+
+/**
+ * Represents a {@code SlowCommandSample}, the breakdown of the time spent handling a single line
+ * of user input, kept by a {@link SlowCommandSampler} if handling it was slow.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see SlowCommandSampler
+ */
+public class SlowCommandSample {
+    /** Format of the time a {@code SlowCommandSample} was taken in the log file. */
+    private static final DateTimeFormatter FORMATTER_TAKEN_AT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /** Time the line of user input was entered. */
+    private final LocalDateTime takenAt;
+
+    /** Raw line of user input. */
+    private final String input;
+
+    /** Class name of the {@link Command} parsed, or {@code "Error"} if the input could not be parsed. */
+    private String commandType = "Error";
+
+    /** Number of {@link hypebot.task.Task}s in the {@link Tasklist} after the input was handled. */
+    private int tasklistSize;
+
+    /** Nanoseconds spent in each {@link Phase}; phases never reached are missing. */
+    private final Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+
+    /**
+     * Takes in a raw line of user input and creates a new {@code SlowCommandSample}
+     * taken now, with no time spent in any {@link Phase} yet.
+     *
+     * @param input Raw line of user input.
+     */
+    public SlowCommandSample(String input) {
+        this.takenAt = LocalDateTime.now();
+        this.input = input;
+    }
+
+    /**
+     * Returns the raw line of user input this {@code SlowCommandSample} was taken of.
+     *
+     * @return {@link String} raw line of user input.
+     */
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * Returns the time the line of user input was entered.
+     *
+     * @return {@link LocalDateTime} the line of user input was entered.
+     */
+    public LocalDateTime getTakenAt() {
+        return takenAt;
+    }
+
+    /**
+     * Returns the class name of the {@link Command} parsed from the line of user input.
+     *
+     * @return {@link String} class name of the {@link Command} parsed, or {@code "Error"} if the
+     *         input could not be parsed.
+     */
+    public String getCommandType() {
+        return commandType;
+    }
+
+    /**
+     * Takes in the class name of the {@link Command} parsed from the line of user input, and records it.
+     *
+     * @param commandType {@link String} class name of the {@link Command} parsed, or {@code "Error"}.
+     */
+    public void setCommandType(String commandType) {
+        this.commandType = commandType;
+    }
+
+    /**
+     * Returns the number of {@link hypebot.task.Task}s in the {@link Tasklist} after the input was handled.
+     *
+     * @return Number of {@link hypebot.task.Task}s in the {@link Tasklist}.
+     */
+    public int getTasklistSize() {
+        return tasklistSize;
+    }
+
+    /**
+     * Takes in the number of {@link hypebot.task.Task}s in the {@link Tasklist} after the input was
+     * handled, and records it.
+     *
+     * @param tasklistSize Number of {@link hypebot.task.Task}s in the {@link Tasklist}.
+     */
+    public void setTasklistSize(int tasklistSize) {
+        this.tasklistSize = tasklistSize;
+    }
+
+    /**
+     * Takes in a {@link Phase} and the nanoseconds spent in it, and records them.
+     *
+     * @param phase {@link Phase} of handling the line of user input.
+     * @param nanos Duration in nanoseconds spent in {@code phase}.
+     */
+    public void setPhaseNanos(Phase phase, long nanos) {
+        phaseNanos.put(phase, nanos);
+    }
+
+    /**
+     * Takes in a {@link Phase} and returns the nanoseconds spent in it.
+     *
+     * @param phase {@link Phase} of handling the line of user input.
+     * @return Duration in nanoseconds spent in {@code phase}; 0 if it was never reached.
+     */
+    public long getPhaseNanos(Phase phase) {
+        return phaseNanos.getOrDefault(phase, 0L);
+    }
+
+    /**
+     * Returns the total nanoseconds spent handling the line of user input across all {@link Phase}s.
+     *
+     * @return Total duration in nanoseconds spent handling the line of user input.
+     */
+    public long getTotalNanos() {
+        return phaseNanos.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Returns this {@code SlowCommandSample} as a single tab-separated line for the log file:
+     * time taken, command type, tasklist size, total and per-{@link Phase} nanoseconds, then
+     * the raw input with any tabs and line breaks escaped.
+     *
+     * @return Log file line of this {@code SlowCommandSample}, ending with a line break.
+     */
+    public String toLogLine() {
+        StringBuilder line = new StringBuilder();
+        line.append(takenAt.format(FORMATTER_TAKEN_AT)).append('\t')
+                .append(commandType).append('\t')
+                .append(tasklistSize).append('\t')
+                .append(getTotalNanos());
+        for (Phase phase : Phase.values()) {
+            line.append('\t').append(getPhaseNanos(phase));
+        }
+        line.append('\t').append(input.replace("\\", "\\\\").replace("\t", "\\t")
+                .replace("\n", "\\n").replace("\r", "\\r"));
+        return line.append('\n').toString();
+    }
+}
@@ -0,0 +1,139 @@
+package hypebot.metrics;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import hypebot.main.HypeBot;
+
+/**
+ * Represents the {@code SlowCommandSampler} of a {@link HypeBot}, which keeps a
+ * {@link SlowCommandSample} of every line of user input that took longer than a threshold to handle.
+ * <p>The most recent samples are kept in a fixed-size ring buffer in memory, and every sample is
+ * also appended to a log {@link File} so that outliers survive the session.</p>
+ * <p>The threshold defaults to {@code DEFAULT_THRESHOLD_MILLIS} and can be changed by launching
+ * with {@code -Dhypebot.slowCommandThresholdMillis=<milliseconds>}.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see SlowCommandSample
+ */
+public class SlowCommandSampler {
+    /** System property the threshold in milliseconds is read from. */
+    public static final String THRESHOLD_PROPERTY = "hypebot.slowCommandThresholdMillis";
+
+    /** Threshold in milliseconds used when {@code THRESHOLD_PROPERTY} is not set. */
+    public static final long DEFAULT_THRESHOLD_MILLIS = 50;
+
+    /** Number of most recent {@link SlowCommandSample}s kept in memory. */
+    private static final int CAPACITY = 20;
+
+    /** Number of lines of user input per one whose display time is measured even if not yet slow. */
+    private static final int DISPLAY_SAMPLE_INTERVAL = 16;
+
+    /** Most recent {@link SlowCommandSample}s, in a ring starting at {@code oldestIndex}. */
+    private final SlowCommandSample[] recentSamples = new SlowCommandSample[CAPACITY];
+
+    /** {@link File} every {@link SlowCommandSample} is appended to; {@code null} if none. */
+    private final File logFile;
+
+    /** Nanoseconds handling a line of user input must take for it to be kept. */
+    private final long thresholdNanos;
+
+    /** Index of the oldest {@link SlowCommandSample} in {@code recentSamples}. */
+    private int oldestIndex = 0;
+
+    /** Number of {@link SlowCommandSample}s in {@code recentSamples}. */
+    private int sampleCount = 0;
+
+    /** Number of lines of user input since the last one whose display time was measured. */
+    private int unsampledDisplayCount = 0;
+
+    /**
+     * Takes in the log {@link File} to append samples to and creates a new {@code SlowCommandSampler}
+     * with the threshold given by {@code THRESHOLD_PROPERTY}, or {@code DEFAULT_THRESHOLD_MILLIS}.
+     *
+     * @param logFile {@link File} every {@link SlowCommandSample} is appended to.
+     */
+    public SlowCommandSampler(File logFile) {
+        this(logFile, TimeUnit.MILLISECONDS.toNanos(Long.getLong(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD_MILLIS)));
+    }
+
+    /**
+     * Takes in the log {@link File} to append samples to and the threshold in nanoseconds,
+     * and creates a new {@code SlowCommandSampler}.
+     *
+     * @param logFile        {@link File} every {@link SlowCommandSample} is appended to,
+     *                       or {@code null} to keep samples in memory only.
+     * @param thresholdNanos Nanoseconds handling a line of user input must take for it to be kept.
+     */
+    public SlowCommandSampler(File logFile, long thresholdNanos) {
+        this.logFile = logFile;
+        this.thresholdNanos = thresholdNanos;
+    }
+
+    public long getThresholdNanos() {
+        return thresholdNanos;
+    }
+
+    /**
+     * Takes in the {@link SlowCommandSample} of a response about to be displayed and returns whether
+     * its display time should be measured, which forces the user interface to lay it out at once.
+     * <p>It is measured if the sample has already reached the threshold, so that kept samples
+     * include their display time, and otherwise once every {@code DISPLAY_SAMPLE_INTERVAL} lines
+     * of user input, so that slow displays of otherwise fast commands are still caught.</p>
+     *
+     * @param sample {@link SlowCommandSample} of a response about to be displayed.
+     * @return Whether the display time of the response should be measured.
+     */
+    public synchronized boolean shouldSampleDisplay(SlowCommandSample sample) {
+        if (sample.getTotalNanos() < thresholdNanos && ++unsampledDisplayCount < DISPLAY_SAMPLE_INTERVAL) {
+            return false;
+        }
+        unsampledDisplayCount = 0;
+        return true;
+    }
+
+    /**
+     * Takes in a completed {@link SlowCommandSample} and keeps it if its total time reaches the
+     * threshold, evicting the oldest sample in memory if full and appending it to the log {@link File}.
+     * <p>If the log {@link File} cannot be written to, the sample is still kept in memory.</p>
+     *
+     * @param sample Completed {@link SlowCommandSample}.
+     */
+    public synchronized void offer(SlowCommandSample sample) {
+        if (sample.getTotalNanos() < thresholdNanos) {
+            return;
+        }
+        if (sampleCount < CAPACITY) {
+            recentSamples[(oldestIndex + sampleCount++) % CAPACITY] = sample;
+        } else {
+            recentSamples[oldestIndex] = sample;
+            oldestIndex = (oldestIndex + 1) % CAPACITY;
+        }
+        if (logFile == null) {
+            return;
+        }
+        try (Writer logWriter = new FileWriter(logFile, true)) {
+            logWriter.write(sample.toLogLine());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Returns the {@link SlowCommandSample}s kept in memory, newest first.
+     *
+     * @return {@link List} of the most recent {@link SlowCommandSample}s, newest first.
+     */
+    public synchronized List<SlowCommandSample> getRecentSamples() {
+        List<SlowCommandSample> samples = new ArrayList<>(sampleCount);
+        for (int i = sampleCount - 1; i >= 0; i--) {
+            samples.add(recentSamples[(oldestIndex + i) % CAPACITY]);
+        }
+        return samples;
+    }
+}
@@ -0,0 +1,38 @@
+package hypebot.metrics.jfr;
+
+import hypebot.storage.TasklistDecoder;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Represents a {@code DecodeTasklistEvent}, a JDK Flight Recorder {@link Event} emitted around
+ * {@link TasklistDecoder} decoding the lines of a save file into tasks.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+@Name("hypebot.DecodeTasklist")
+@Label("Decode Tasklist")
+@Category({"HypeBot", "Storage"})
+@Description("Decoding of the lines of a save file into tasks")
+public class DecodeTasklistEvent extends Event {
+    @Label("Records Parsed")
+    @Description("Number of lines decoded into tasks before decoding finished or failed")
+    private int recordsParsed;
+
+    @Label("Characters Read")
+    @DataAmount(DataAmount.BYTES)
+    @Description("Number of characters read, including line breaks")
+    private long charactersRead;
+
+    public void setRecordsParsed(int recordsParsed) {
+        this.recordsParsed = recordsParsed;
+    }
+
+    public void setCharactersRead(long charactersRead) {
+        this.charactersRead = charactersRead;
+    }
+}
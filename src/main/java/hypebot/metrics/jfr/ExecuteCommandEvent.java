@@ -0,0 +1,44 @@
+package hypebot.metrics.jfr;
+
+import hypebot.command.Command;
+import hypebot.tasklist.Tasklist;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Represents an {@code ExecuteCommandEvent}, a JDK Flight Recorder {@link Event} emitted around
+ * the execution of a {@link Command}, recording the size of the {@link Tasklist} afterwards.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+@Name("hypebot.ExecuteCommand")
+@Label("Execute Command")
+@Category({"HypeBot", "Command"})
+@Description("Execution of a parsed command against the tasklist")
+public class ExecuteCommandEvent extends Event {
+    @Label("Command Type")
+    @Description("Class name of the command executed")
+    private String commandType;
+
+    @Label("Tasklist Size")
+    @Description("Number of tasks in the tasklist after the command executed")
+    private int tasklistSize;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    public void setCommandType(String commandType) {
+        this.commandType = commandType;
+    }
+
+    public void setTasklistSize(int tasklistSize) {
+        this.tasklistSize = tasklistSize;
+    }
+
+    public void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+}
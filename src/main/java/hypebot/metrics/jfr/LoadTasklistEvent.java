@@ -0,0 +1,44 @@
+package hypebot.metrics.jfr;
+
+import hypebot.storage.StorageManager;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Represents a {@code LoadTasklistEvent}, a JDK Flight Recorder {@link Event} emitted around
+ * {@link StorageManager} loading the tasklist from its save file.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+@Name("hypebot.LoadTasklist")
+@Label("Load Tasklist")
+@Category({"HypeBot", "Storage"})
+@Description("Loading of the tasklist from its save file")
+public class LoadTasklistEvent extends Event {
+    @Label("File Path")
+    private String filePath;
+
+    @Label("Bytes Read")
+    @DataAmount(DataAmount.BYTES)
+    private long bytesRead;
+
+    @Label("Tasklist Size")
+    @Description("Number of tasks loaded, or 0 if loading failed")
+    private int tasklistSize;
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public void setBytesRead(long bytesRead) {
+        this.bytesRead = bytesRead;
+    }
+
+    public void setTasklistSize(int tasklistSize) {
+        this.tasklistSize = tasklistSize;
+    }
+}
@@ -0,0 +1,38 @@
+package hypebot.metrics.jfr;
+
+import hypebot.command.Command;
+import hypebot.parser.command.CommandParser;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Represents a {@code ParseCommandEvent}, a JDK Flight Recorder {@link Event} emitted around
+ * {@link CommandParser} parsing a line of user input into a {@link Command}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+@Name("hypebot.ParseCommand")
+@Label("Parse Command")
+@Category({"HypeBot", "Command"})
+@Description("Parsing of a line of user input into a command")
+public class ParseCommandEvent extends Event {
+    @Label("Command Type")
+    @Description("Class name of the command parsed, or Error if the input could not be parsed")
+    private String commandType;
+
+    @Label("Input Length")
+    @DataAmount(DataAmount.BYTES)
+    private int inputLength;
+
+    public void setCommandType(String commandType) {
+        this.commandType = commandType;
+    }
+
+    public void setInputLength(int inputLength) {
+        this.inputLength = inputLength;
+    }
+}
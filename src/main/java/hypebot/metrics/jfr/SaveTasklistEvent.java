@@ -0,0 +1,43 @@
+package hypebot.metrics.jfr;
+
+import hypebot.storage.StorageManager;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Represents a {@code SaveTasklistEvent}, a JDK Flight Recorder {@link Event} emitted around
+ * {@link StorageManager} saving the tasklist to its save file.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+@Name("hypebot.SaveTasklist")
+@Label("Save Tasklist")
+@Category({"HypeBot", "Storage"})
+@Description("Saving of the tasklist to its save file")
+public class SaveTasklistEvent extends Event {
+    @Label("File Path")
+    private String filePath;
+
+    @Label("Bytes Written")
+    @DataAmount(DataAmount.BYTES)
+    private long bytesWritten;
+
+    @Label("Tasklist Size")
+    private int tasklistSize;
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public void setBytesWritten(long bytesWritten) {
+        this.bytesWritten = bytesWritten;
+    }
+
+    public void setTasklistSize(int tasklistSize) {
+        this.tasklistSize = tasklistSize;
+    }
+}
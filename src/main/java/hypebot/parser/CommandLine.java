@@ -0,0 +1,201 @@
+package hypebot.parser;
+
+import java.util.Arrays;
+
+import hypebot.parser.command.CommandParser;
+import hypebot.parser.command.FindQueryParser;
+import hypebot.parser.command.IndexParser;
+import hypebot.parser.datetime.UiDateTimeParser;
+import hypebot.parser.task.UiTaskParser;
+import hypebot.ui.gui.UiGuiMainWindow;
+
+/**
+ * Represents a {@code CommandLine}, a full line of user input from {@link UiGuiMainWindow}
+ * tokenized once into offsets so that every {@link Parser} handling the line reads from
+ * the same tokens rather than splitting the line again.
+ * <p>A line is made up of a head followed by fields, each field starting after a {@code " /"},
+ * just as {@code line.split(" /")} would separate them; trailing empty fields are dropped.
+ * The head is further split into whitespace-separated words, the first of which is the
+ * command word.</p>
+ * <p>Immutable; only the values asked for are ever allocated as {@link String}s.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see CommandParser
+ * @see UiTaskParser
+ * @see UiDateTimeParser
+ * @see FindQueryParser
+ * @see IndexParser
+ */
+public final class CommandLine {
+    /** Separator between the head and each field of a line. */
+    private static final String FIELD_SEPARATOR = " /";
+
+    /** Full line entered by user. */
+    private final String line;
+
+    /** Start and end offsets in {@code line} of each word in the head, in pairs. */
+    private final int[] wordBounds;
+
+    /** Number of words in the head. */
+    private final int wordCount;
+
+    /** Start and end offsets in {@code line} of each field, in pairs. */
+    private final int[] fieldBounds;
+
+    /** Number of fields. */
+    private final int fieldCount;
+
+    /** Lower case command word, or an empty {@link String} if there are no words in the head. */
+    private final String commandWord;
+
+    /**
+     * Takes in the full line entered by user and creates a new {@code CommandLine},
+     * scanning the line once.
+     *
+     * @param line Full {@link String} line entered by user.
+     */
+    public CommandLine(String line) {
+        this.line = line;
+        int[] words = new int[8];
+        int wordBoundCount = 0;
+        int[] fields = new int[4];
+        int fieldBoundCount = 0;
+
+        int length = line.length();
+        int headEnd = length;
+        int wordStart = -1;
+        int fieldStart = -1;
+        for (int i = 0; i < length; i++) {
+            boolean isSeparator = line.startsWith(FIELD_SEPARATOR, i);
+            if (fieldStart < 0) {
+                if (isSeparator || line.charAt(i) <= ' ') {
+                    if (wordStart >= 0) {
+                        words = ensureCapacity(words, wordBoundCount + 2);
+                        words[wordBoundCount++] = wordStart;
+                        words[wordBoundCount++] = i;
+                        wordStart = -1;
+                    }
+                } else if (wordStart < 0) {
+                    wordStart = i;
+                }
+            }
+            if (isSeparator) {
+                if (fieldStart < 0) {
+                    headEnd = i;
+                } else {
+                    fields = ensureCapacity(fields, fieldBoundCount + 2);
+                    fields[fieldBoundCount++] = fieldStart;
+                    fields[fieldBoundCount++] = i;
+                }
+                fieldStart = i + FIELD_SEPARATOR.length();
+                i += FIELD_SEPARATOR.length() - 1;
+            }
+        }
+        if (fieldStart < 0 && wordStart >= 0) {
+            words = ensureCapacity(words, wordBoundCount + 2);
+            words[wordBoundCount++] = wordStart;
+            words[wordBoundCount++] = headEnd;
+        }
+        if (fieldStart >= 0) {
+            fields = ensureCapacity(fields, fieldBoundCount + 2);
+            fields[fieldBoundCount++] = fieldStart;
+            fields[fieldBoundCount++] = length;
+        }
+        /* Drops trailing empty fields, as String.split() does. */
+        while (fieldBoundCount > 0 && fields[fieldBoundCount - 1] == fields[fieldBoundCount - 2]) {
+            fieldBoundCount -= 2;
+        }
+
+        this.wordBounds = words;
+        this.wordCount = wordBoundCount / 2;
+        this.fieldBounds = fields;
+        this.fieldCount = fieldBoundCount / 2;
+        this.commandWord = wordCount == 0 ? "" : getWord(0).toLowerCase();
+    }
+
+    private static int[] ensureCapacity(int[] bounds, int capacity) {
+        return capacity <= bounds.length ? bounds : Arrays.copyOf(bounds, bounds.length * 2);
+    }
+
+    public String getLine() {
+        return line;
+    }
+
+    public String getCommandWord() {
+        return commandWord;
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Takes in the index of a word in the head and returns its start offset in the line.
+     *
+     * @param index Index of the word in the head, the command word being at index 0.
+     * @return Offset in the line of the first character of the word.
+     * @throws IndexOutOfBoundsException If there is no word at {@code index}.
+     */
+    public int getWordStart(int index) throws IndexOutOfBoundsException {
+        return wordBounds[2 * checkIndex(index, wordCount)];
+    }
+
+    /**
+     * Takes in the index of a word in the head and returns its end offset in the line.
+     *
+     * @param index Index of the word in the head, the command word being at index 0.
+     * @return Offset in the line just past the last character of the word.
+     * @throws IndexOutOfBoundsException If there is no word at {@code index}.
+     */
+    public int getWordEnd(int index) throws IndexOutOfBoundsException {
+        return wordBounds[2 * checkIndex(index, wordCount) + 1];
+    }
+
+    /**
+     * Takes in the index of a word in the head and returns the word.
+     *
+     * @param index Index of the word in the head, the command word being at index 0.
+     * @return {@link String} word at {@code index}, as entered by user.
+     * @throws IndexOutOfBoundsException If there is no word at {@code index}.
+     */
+    public String getWord(int index) throws IndexOutOfBoundsException {
+        return line.substring(getWordStart(index), getWordEnd(index));
+    }
+
+    /**
+     * Returns the argument of the command word, being everything in the head after the
+     * command word, with surrounding whitespace removed.
+     *
+     * @return {@link String} argument of the command word; empty if there is none.
+     */
+    public String getArgument() {
+        if (wordCount < 2) {
+            return "";
+        }
+        return line.substring(getWordStart(1), getWordEnd(wordCount - 1));
+    }
+
+    /**
+     * Takes in the index of a field and returns the field, being everything between the
+     * {@code " /"} starting it and the next {@code " /"} or the end of the line.
+     *
+     * @param index Index of the field, the field right after the head being at index 0.
+     * @return {@link String} field at {@code index}, as entered by user.
+     * @throws IndexOutOfBoundsException If there is no field at {@code index}.
+     */
+    public String getField(int index) throws IndexOutOfBoundsException {
+        int i = checkIndex(index, fieldCount);
+        return line.substring(fieldBounds[2 * i], fieldBounds[2 * i + 1]);
+    }
+
+    private static int checkIndex(int index, int count) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return index;
+    }
+}
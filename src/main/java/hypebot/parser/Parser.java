@@ -16,6 +16,7 @@ import hypebot.ui.gui.UiGuiMainWindow;
  * @see UiTaskParser
  * @see CommandParser
  * @see FindQueryParser
+ * @see CommandLine
  */
 public abstract class Parser {
     /**
@@ -0,0 +1,32 @@
+package hypebot.parser.command;
+
+import hypebot.command.Command;
+import hypebot.exception.datetime.HypeBotDateTimeParseException;
+import hypebot.exception.missing.MissingArgumentException;
+import hypebot.parser.CommandLine;
+
+/**
+ * Represents a {@code CommandFactory} that turns a {@link CommandLine} whose command word
+ * has been resolved by a {@link CommandRegistry} into the {@link Command} to be executed.
+ * <p>A {@code CommandFactory} for a stateless {@link Command} may return the same shared
+ * instance every time.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see CommandRegistry
+ * @see CommandParser
+ */
+@FunctionalInterface
+public interface CommandFactory {
+    /**
+     * Takes in the tokenized line of user input and returns the corresponding {@link Command}.
+     *
+     * @param commandLine {@link CommandLine} whose command word names this {@code CommandFactory}.
+     * @return Corresponding {@link Command} object pending execution.
+     * @throws MissingArgumentException      If an argument the {@link Command} needs is missing.
+     * @throws NumberFormatException         If an index the {@link Command} needs is not a number.
+     * @throws HypeBotDateTimeParseException If a date the {@link Command} needs is not properly formatted.
+     * @throws IndexOutOfBoundsException     If an index the {@link Command} needs is too low/high.
+     */
+    Command create(CommandLine commandLine) throws MissingArgumentException,
+            NumberFormatException, HypeBotDateTimeParseException, IndexOutOfBoundsException;
+}
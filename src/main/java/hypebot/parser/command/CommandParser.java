@@ -2,9 +2,10 @@ package hypebot.parser.command;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.regex.Pattern;
 
 import hypebot.command.AddCommand;
+import hypebot.command.AgendaCommand;
+import hypebot.command.ArchiveCommand;
 import hypebot.command.ByeCommand;
 import hypebot.command.Command;
 import hypebot.command.DeleteAllCommand;
@@ -14,14 +15,26 @@ import hypebot.command.GreetCommand;
 import hypebot.command.HappeningCommand;
 import hypebot.command.HelpCommand;
 import hypebot.command.ListCommand;
+import hypebot.command.ListsCommand;
 import hypebot.command.MarkCommand;
+import hypebot.command.RedoCommand;
+import hypebot.command.SlowLogCommand;
+import hypebot.command.StatsCommand;
+import hypebot.command.UndoCommand;
 import hypebot.command.UnknownCommand;
 import hypebot.command.UnmarkCommand;
+import hypebot.command.UseCommand;
 import hypebot.exception.datetime.HypeBotDateTimeParseException;
+import hypebot.exception.illegal.IllegalUndoRedoArgumentException;
 import hypebot.exception.missing.MissingArgumentException;
+import hypebot.main.HypeBot;
+import hypebot.metrics.CommandMetrics;
+import hypebot.metrics.SlowCommandSampler;
+import hypebot.parser.CommandLine;
 import hypebot.parser.Parser;
 import hypebot.parser.datetime.UiDateTimeParser;
 import hypebot.parser.task.UiTaskParser;
+import hypebot.storage.TasklistManager;
 import hypebot.task.Deadline;
 import hypebot.task.Event;
 import hypebot.task.Task;
@@ -38,76 +51,166 @@ import hypebot.ui.gui.UiGuiMainWindow;
  * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
  */
 public class CommandParser extends Parser {
+    /** Shared {@link GreetCommand}, which holds no state of its own. */
+    private static final GreetCommand GREET_COMMAND = new GreetCommand();
+
+    /** Shared {@link HelpCommand}, which holds no state of its own. */
+    private static final HelpCommand HELP_COMMAND = new HelpCommand();
+
+    /** Shared {@link ByeCommand}, which holds no state of its own. */
+    private static final ByeCommand BYE_COMMAND = new ByeCommand();
+
+    /** Shared {@link ListCommand}, which holds no state of its own. */
+    private static final ListCommand LIST_COMMAND = new ListCommand();
+
+    /** Shared {@link DeleteAllCommand}, which holds no state of its own. */
+    private static final DeleteAllCommand DELETE_ALL_COMMAND = new DeleteAllCommand();
+
+    /** Shared {@link ArchiveCommand}, which holds no state of its own. */
+    private static final ArchiveCommand ARCHIVE_COMMAND = new ArchiveCommand();
+
+    /** Shared {@link UndoCommand}, which holds no state of its own. */
+    private static final UndoCommand UNDO_COMMAND = new UndoCommand();
+
+    /** Shared {@link RedoCommand}, which holds no state of its own. */
+    private static final RedoCommand REDO_COMMAND = new RedoCommand();
+
     /** Helper {@link Parser} to parse {@link Task}-related entries. */
     private final UiTaskParser uiTaskParser = new UiTaskParser();
 
     /** Helper {@link Parser} to parse {@link LocalDate} and {@link LocalDateTime} related entries. */
     private final UiDateTimeParser uiDateTimeParser = new UiDateTimeParser();
 
-    /** All command types recognised. */
-    private enum CommandType {
-        START,
-        HELP,
-        BYE,
-        LIST,
-        DELETEALL,
-        FIND,
-        HAPPENING,
-        TODO,
-        DEADLINE,
-        EVENT,
-        MARK,
-        UNMARK,
-        DELETE,
-        UNKNOWN
-    }
+    /** {@link CommandMetrics} shown by {@link StatsCommand}s. */
+    private final CommandMetrics metrics;
+
+    /** {@link SlowCommandSampler} whose samples are shown by {@link SlowLogCommand}s. */
+    private final SlowCommandSampler slowCommandSampler;
+
+    /** {@link TasklistManager} switched between by {@link UseCommand}s, or {@code null} if there is none. */
+    private final TasklistManager tasklistManager;
+
+    /** Helper {@link Parser} to parse search keywords of {@link FindCommand}s. */
+    private final FindQueryParser findQueryParser = new FindQueryParser();
+
+    /** {@link CommandRegistry} resolving command words to the {@link Command}s they stand for. */
+    private final CommandRegistry commandRegistry = new CommandRegistry();
 
     /**
-     * Creates a new {@code CommandParser}.
+     * Creates a new {@code CommandParser} whose {@link StatsCommand}s and {@link SlowLogCommand}s
+     * show nothing recorded.
      */
     public CommandParser() {
+        this(new CommandMetrics(), new SlowCommandSampler(null, Long.MAX_VALUE));
+    }
+
+    /**
+     * Takes in the {@link CommandMetrics} and {@link SlowCommandSampler} of the {@link HypeBot}
+     * and creates a new {@code CommandParser} whose {@link StatsCommand}s and
+     * {@link SlowLogCommand}s show them.
+     *
+     * @param metrics            {@link CommandMetrics} shown by {@link StatsCommand}s.
+     * @param slowCommandSampler {@link SlowCommandSampler} shown by {@link SlowLogCommand}s.
+     */
+    public CommandParser(CommandMetrics metrics, SlowCommandSampler slowCommandSampler) {
+        this(metrics, slowCommandSampler, null);
+    }
+
+    /**
+     * Takes in the {@link CommandMetrics}, {@link SlowCommandSampler} and {@link TasklistManager} of
+     * the {@link HypeBot} and creates a new {@code CommandParser} whose {@link StatsCommand}s and
+     * {@link SlowLogCommand}s show them, and whose {@link UseCommand}s and {@link ListsCommand}s
+     * switch between and show the {@link Tasklist}s of the {@link TasklistManager}.
+     *
+     * @param metrics            {@link CommandMetrics} shown by {@link StatsCommand}s.
+     * @param slowCommandSampler {@link SlowCommandSampler} shown by {@link SlowLogCommand}s.
+     * @param tasklistManager    {@link TasklistManager} of the {@link HypeBot}; {@code null} to
+     *                           recognise neither {@link UseCommand}s nor {@link ListsCommand}s.
+     */
+    public CommandParser(CommandMetrics metrics, SlowCommandSampler slowCommandSampler,
+            TasklistManager tasklistManager) {
         super();
+        this.metrics = metrics;
+        this.slowCommandSampler = slowCommandSampler;
+        this.tasklistManager = tasklistManager;
+        registerBuiltInCommands();
     }
 
     /**
-     * Extracts and returns the first word in the user entry,
-     * recognised as the command keyword.
+     * Registers every {@link Command} built into {@link HypeBot} under its aliases.
+     */
+    private void registerBuiltInCommands() {
+        StatsCommand statsCommand = new StatsCommand(metrics);
+        SlowLogCommand slowLogCommand = new SlowLogCommand(slowCommandSampler);
+        registerCommand(commandLine -> GREET_COMMAND, "s", "start");
+        registerCommand(commandLine -> HELP_COMMAND, "h", "help");
+        ByeCommand byeCommand = tasklistManager == null ? BYE_COMMAND : new ByeCommand(tasklistManager);
+        registerCommand(commandLine -> byeCommand, "b", "bye");
+        registerCommand(commandLine -> commandLine.getFieldCount() == 0 ? LIST_COMMAND
+                : new ListCommand(ListQueryParser.parseSortOrder(commandLine), ListQueryParser.parseFilter(commandLine),
+                ListQueryParser.parsePage(commandLine)), "l", "list");
+        registerCommand(commandLine -> DELETE_ALL_COMMAND, "da", "deleteall");
+        registerCommand(commandLine -> ARCHIVE_COMMAND, "ar", "archive");
+        registerCommand(commandLine -> requireNoArgument(commandLine, UNDO_COMMAND), "undo");
+        registerCommand(commandLine -> requireNoArgument(commandLine, REDO_COMMAND), "redo");
+        registerCommand(commandLine -> new FindCommand(findQueryParser.parse(commandLine),
+                findQueryParser.parseIsArchiveSearch(commandLine)), "f", "find");
+        registerCommand(commandLine -> new HappeningCommand(uiDateTimeParser.parseHappeningDate(commandLine)),
+                "hp", "happening");
+        registerCommand(commandLine -> {
+            LocalDate[] agendaDates = uiDateTimeParser.parseAgendaDates(commandLine);
+            return new AgendaCommand(agendaDates[0], agendaDates[1]);
+        }, "ag", "agenda");
+        registerCommand(commandLine -> new AddCommand(uiTaskParser.parseToDo(commandLine)), "td", "todo");
+        registerCommand(commandLine -> new AddCommand(uiTaskParser.parseDeadline(commandLine)), "dl", "deadline");
+        registerCommand(commandLine -> new AddCommand(uiTaskParser.parseEvent(commandLine)), "ev", "event");
+        registerCommand(commandLine -> new MarkCommand(IndexParser.parseMarkIndex(commandLine)), "m", "mark");
+        registerCommand(commandLine -> new UnmarkCommand(IndexParser.parseUnmarkIndex(commandLine)), "u", "unmark");
+        registerCommand(commandLine -> new DeleteCommand(IndexParser.parseDeleteIndex(commandLine)), "d", "delete");
+        registerCommand(commandLine -> statsCommand, "st", "stats");
+        registerCommand(commandLine -> slowLogCommand, "sl", "slowlog");
+        if (tasklistManager != null) {
+            ListsCommand listsCommand = new ListsCommand(tasklistManager);
+            registerCommand(commandLine -> new UseCommand(tasklistManager,
+                    TasklistNameParser.parseTasklistName(commandLine)), "use");
+            registerCommand(commandLine -> listsCommand, "lists");
+        }
+    }
+
+    /**
+     * Takes in the tokenized line entered by user and the {@link Command} its command word stands
+     * for, and returns the {@link Command} if nothing else was entered.
      *
-     * @param line Full line of user input.
+     * @param commandLine {@link CommandLine} entered by user.
+     * @param command     {@link Command} the command word stands for.
+     * @return {@link Command} the command word stands for.
+     * @throws IllegalUndoRedoArgumentException If anything was entered after the command word.
      */
-    private String extractCommandWord(String line) {
-        return line.trim().split(" ")[0].toLowerCase();
+    private static Command requireNoArgument(CommandLine commandLine, Command command)
+            throws IllegalUndoRedoArgumentException {
+        if (commandLine.getWordCount() > 1 || commandLine.getFieldCount() > 0) {
+            throw new IllegalUndoRedoArgumentException(
+                    commandLine.getLine().substring(commandLine.getWordEnd(0)).strip());
+        }
+        return command;
     }
 
     /**
-     * Converts the {@link String} command keyword extracted from
-     * full user input to the corresponding {@code CommandType}.
+     * Takes in a {@link CommandFactory} and the aliases user can type to run it, and makes
+     * this {@code CommandParser} recognise those aliases, as well as any unambiguous prefix of them.
      *
-     * @param line Full line of user input.
-     * @return Corresponding {@code CommandType} of user input.
+     * @param factory {@link CommandFactory} creating the {@link Command} the aliases stand for.
+     * @param aliases Non-empty command words standing for the {@link Command}; matched ignoring case.
+     * @throws IllegalArgumentException If an alias is empty or is already registered.
      */
-    private CommandType parseCommand(String line) {
-        String commandWord = extractCommandWord(line);
-        return switch(commandWord) {
-        case "s", "start" -> CommandType.START;
-        case "h", "help" -> CommandType.HELP;
-        case "b", "bye" -> CommandType.BYE;
-        case "l", "list" -> CommandType.LIST;
-        case "da", "deleteall" -> CommandType.DELETEALL;
-        case "f", "find" -> CommandType.FIND;
-        case "hp", "happening" -> CommandType.HAPPENING;
-        case "td", "todo" -> CommandType.TODO;
-        case "dl", "deadline" -> CommandType.DEADLINE;
-        case "ev", "event" -> CommandType.EVENT;
-        case "m", "mark" -> CommandType.MARK;
-        case "u", "unmark" -> CommandType.UNMARK;
-        case "d", "delete" -> CommandType.DELETE;
-        default -> CommandType.UNKNOWN;
-        };
+    public void registerCommand(CommandFactory factory, String... aliases) throws IllegalArgumentException {
+        commandRegistry.register(factory, aliases);
     }
 
     /**
      * Takes in the line read from the user interface and returns appropriate {@code Command} to execute.
+     * <p>Tokenizes the line once into a {@link CommandLine} shared by every helper {@link Parser},
+     * and resolves its command word through the {@link CommandRegistry}.</p>
      *
      * @param fullCommand Line read from user interface from {@link UiGuiMainWindow}.
      * @return Corresponding {@link Command} object pending execution.
@@ -123,41 +226,12 @@ public class CommandParser extends Parser {
     @Override
     public Command parse(String fullCommand) throws MissingArgumentException,
             NumberFormatException, HypeBotDateTimeParseException, IndexOutOfBoundsException {
-        String commandWord = extractCommandWord(fullCommand);
-        CommandType command = parseCommand(fullCommand);
-
-        return switch (command) {
-        case START -> new GreetCommand();
-        case HELP -> new HelpCommand();
-        case BYE -> new ByeCommand();
-        case LIST -> new ListCommand();
-        case DELETEALL -> new DeleteAllCommand();
-        case TODO, DEADLINE, EVENT -> {
-            Task newTask = uiTaskParser.parse(fullCommand);
-            yield new AddCommand(newTask);
-        }
-        case FIND -> {
-            FindQueryParser keywordsParser = new FindQueryParser();
-            Pattern keywordsRegex = keywordsParser.parse(fullCommand);
-            yield new FindCommand(keywordsRegex);
-        }
-        case HAPPENING -> {
-            LocalDate searchDate = uiDateTimeParser.parseHappeningDate(fullCommand);
-            yield new HappeningCommand(searchDate);
-        }
-        case MARK -> {
-            int idxToMark = IndexParser.parseMarkIndex(fullCommand);
-            yield new MarkCommand(idxToMark);
-        }
-        case UNMARK -> {
-            int idxToMark = IndexParser.parseUnmarkIndex(fullCommand);
-            yield new UnmarkCommand(idxToMark);
-        }
-        case DELETE -> {
-            int idxToMark = IndexParser.parseDeleteIndex(fullCommand);
-            yield new DeleteCommand(idxToMark);
+        CommandLine commandLine = new CommandLine(fullCommand);
+        String commandWord = commandLine.getCommandWord();
+        CommandFactory factory = commandRegistry.resolve(commandWord);
+        if (factory == null) {
+            return new UnknownCommand(commandWord);
         }
-        case UNKNOWN -> new UnknownCommand(commandWord);
-        };
+        return factory.create(commandLine);
     }
 }
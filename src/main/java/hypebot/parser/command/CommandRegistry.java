@@ -0,0 +1,118 @@
+package hypebot.parser.command;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import hypebot.command.Command;
+
+/**
+ * Represents the {@code CommandRegistry} that maps the command words user can type to the
+ * {@link CommandFactory} creating the corresponding {@link Command}.
+ * <p>Every alias registered, such as {@code td} and {@code todo}, is stored in a trie keyed
+ * on its characters, so a command word is resolved in a single walk down the trie: to the
+ * {@link CommandFactory} registered for exactly that alias if there is one, or else to the
+ * only {@link CommandFactory} with an alias starting with the command word, so that
+ * {@code dea} resolves to {@code deadline} while {@code de} stays ambiguous.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see CommandParser
+ */
+public class CommandRegistry {
+    /** Root of the trie, standing for the empty command word. */
+    private final Node root = new Node();
+
+    /**
+     * Represents a {@code Node} of the trie, standing for the command word spelt by the path to it.
+     */
+    private static class Node {
+        /** Child {@code Node}s, keyed on the next character of the command word. */
+        private final Map<Character, Node> children = new HashMap<>();
+
+        /** {@link CommandFactory} registered for exactly this command word, if any. */
+        private CommandFactory exactFactory;
+
+        /** Only {@link CommandFactory} with an alias starting with this command word, if there is exactly one. */
+        private CommandFactory prefixFactory;
+
+        /** Whether more than one {@link CommandFactory} has an alias starting with this command word. */
+        private boolean isAmbiguous;
+    }
+
+    /**
+     * Creates a new, empty {@code CommandRegistry}.
+     */
+    public CommandRegistry() {
+        super();
+    }
+
+    /**
+     * Takes in a {@link CommandFactory} and the aliases user can type to run it,
+     * and registers the {@link CommandFactory} under each alias.
+     * <p>Checks every alias before registering any, so a rejected call leaves the
+     * {@code CommandRegistry}, and which prefixes are ambiguous, as it was.</p>
+     *
+     * @param factory {@link CommandFactory} creating the {@link Command} the aliases stand for.
+     * @param aliases Non-empty command words standing for the {@link Command}; matched ignoring case.
+     * @throws IllegalArgumentException If an alias is empty or is already registered.
+     */
+    public void register(CommandFactory factory, String... aliases) throws IllegalArgumentException {
+        Set<String> lowerCaseAliases = new LinkedHashSet<>();
+        for (String alias : aliases) {
+            if (alias.isEmpty()) {
+                throw new IllegalArgumentException("Command alias must not be empty");
+            }
+            String lowerCaseAlias = alias.toLowerCase();
+            Node node = findNode(lowerCaseAlias);
+            if (!lowerCaseAliases.add(lowerCaseAlias) || node != null && node.exactFactory != null) {
+                throw new IllegalArgumentException("Command alias already registered: " + alias);
+            }
+        }
+        for (String lowerCaseAlias : lowerCaseAliases) {
+            Node node = root;
+            for (int i = 0; i < lowerCaseAlias.length(); i++) {
+                node = node.children.computeIfAbsent(lowerCaseAlias.charAt(i), c -> new Node());
+                if (node.prefixFactory == null && !node.isAmbiguous) {
+                    node.prefixFactory = factory;
+                } else if (node.prefixFactory != factory) {
+                    node.prefixFactory = null;
+                    node.isAmbiguous = true;
+                }
+            }
+            node.exactFactory = factory;
+        }
+    }
+
+    /**
+     * Takes in a lower case command word and returns the {@code Node} of the trie standing for it.
+     *
+     * @param commandWord Lower case command word.
+     * @return {@code Node} spelt by {@code commandWord}, or {@code null} if no alias starts with it.
+     */
+    private Node findNode(String commandWord) {
+        Node node = root;
+        for (int i = 0; i < commandWord.length() && node != null; i++) {
+            node = node.children.get(commandWord.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Takes in a lower case command word and returns the {@link CommandFactory} it stands for.
+     *
+     * @param commandWord Lower case command word of user input.
+     * @return {@link CommandFactory} registered for exactly {@code commandWord}, else the only
+     *         {@link CommandFactory} with an alias starting with {@code commandWord}, else {@code null}.
+     */
+    public CommandFactory resolve(String commandWord) {
+        if (commandWord.isEmpty()) {
+            return null;
+        }
+        Node node = findNode(commandWord);
+        if (node == null) {
+            return null;
+        }
+        return node.exactFactory != null ? node.exactFactory : node.prefixFactory;
+    }
+}
@@ -6,8 +6,11 @@ import hypebot.command.FindCommand;
 import hypebot.command.HappeningCommand;
 import hypebot.exception.missing.MissingArgumentException;
 import hypebot.exception.missing.MissingSearchQueryException;
+import hypebot.parser.CommandLine;
 import hypebot.parser.Parser;
+import hypebot.storage.TaskArchive;
 import hypebot.task.Task;
+import hypebot.tasklist.Tasklist;
 import hypebot.ui.gui.UiGuiMainWindow;
 
 /**
@@ -21,56 +24,58 @@ import hypebot.ui.gui.UiGuiMainWindow;
  * @see MissingSearchQueryException
  */
 public class FindQueryParser extends Parser {
+    /** Field asking to search the {@link TaskArchive} rather than the {@link Tasklist}. */
+    private static final String ARCHIVE_FIELD = "archive";
+
     /**
-     * Takes in the user input separated into words and checks that search keywords
+     * Takes in the tokenized line entered by user and checks that search keywords
      * to find {@link Task}s with matching names were entered by user.
      *
-     * @param inputWords {@link String} array of user input split by word.
+     * @param commandLine {@link CommandLine} entered by user.
      * @throws MissingSearchQueryException If user has not put in any keywords as a search query.
      */
-    private void checkKeywordsExist(String[] inputWords) throws MissingSearchQueryException {
-        if (inputWords.length == 1) {
+    private void checkKeywordsExist(CommandLine commandLine) throws MissingSearchQueryException {
+        if (commandLine.getWordCount() == 1) {
             throw new MissingSearchQueryException();
         }
     }
 
     /**
-     * Takes in the full line entered by user and returns the {@link String} array
-     * of keywords to search for {@link Task}s with matching names.
+     * Takes in the tokenized line entered by user and returns the {@link String} form of the
+     * regex {@link Pattern} for finding {@link Task}s whose names contain any of the
+     * keywords specified, being every word after the command word.
      *
-     * @param line Line read from user interface from {@link UiGuiMainWindow}.
-     * @return {@link String} array of keywords to search for {@link Task}s with matching names.
+     * @param commandLine {@link CommandLine} entered by user.
+     * @return {@link String} form of the regex {@link Pattern} searching a match to any keywords.
      * @throws MissingSearchQueryException If user has not put in any keywords as a search query.
      */
-    private String[] extractKeywords(String line) throws MissingSearchQueryException {
-        /* Splits the full line entered by user and checks that search query was entered. */
-        String[] inputWords = line.split(" /")[0].split(" ");
-        checkKeywordsExist(inputWords);
-
-        /* Extracts the keywords for the search query only. */
-        String[] keywords = new String[inputWords.length - 1];
-        System.arraycopy(inputWords, 1, keywords, 0, inputWords.length - 1);
-
-        return keywords;
+    private String assembleKeywordsRegex(CommandLine commandLine) throws MissingSearchQueryException {
+        checkKeywordsExist(commandLine);
+        String line = commandLine.getLine();
+        StringBuilder keywordsSb = new StringBuilder();
+        for (int i = 1; i < commandLine.getWordCount(); i++) {
+            if (i > 1) {
+                keywordsSb.append("|");
+            }
+            keywordsSb.append(line, commandLine.getWordStart(i), commandLine.getWordEnd(i));
+        }
+        return keywordsSb.toString();
     }
 
     /**
-     * Takes in the full line entered by user and returns the {@link String} form of the
-     * regex {@link Pattern} for finding {@link Task}s whose names contain any of the
-     * keywords specified.
+     * Takes in the tokenized line entered by user and returns whether it asks to search
+     * the {@link TaskArchive} rather than the {@link Tasklist}, by a field reading {@code archive}.
      *
-     * @param line Line read from user interface from {@link UiGuiMainWindow}.
-     * @return {@link String} form of the regex {@link Pattern} searching a match to any keywords.
-     * @throws MissingSearchQueryException If user has not put in any keywords as a search query.
+     * @param commandLine {@link CommandLine} entered by user.
+     * @return Whether the {@link TaskArchive} should be searched.
      */
-    private String assembleKeywordsRegex(String line) throws MissingSearchQueryException {
-        String[] keywords = extractKeywords(line);
-        StringBuilder keywordsSb = new StringBuilder();
-        for (int i = 0; i < keywords.length - 1; i++) {
-            keywordsSb.append(keywords[i].toLowerCase()).append("|");
+    public boolean parseIsArchiveSearch(CommandLine commandLine) {
+        for (int i = 0; i < commandLine.getFieldCount(); i++) {
+            if (commandLine.getField(i).strip().equalsIgnoreCase(ARCHIVE_FIELD)) {
+                return true;
+            }
         }
-        keywordsSb.append(keywords[keywords.length - 1]);
-        return keywordsSb.toString().trim();
+        return false;
     }
 
     /**
@@ -84,7 +89,20 @@ public class FindQueryParser extends Parser {
      */
     @Override
     public Pattern parse(String line) throws MissingArgumentException {
-        String keywordsRegex = assembleKeywordsRegex(line);
+        return parse(new CommandLine(line));
+    }
+
+    /**
+     * Takes in the tokenized line entered by user and returns the regex {@link Pattern}
+     * for finding {@link Task}s whose names contain any of the keywords specified
+     * to be taken in by a {@link FindCommand} during instantiation.
+     *
+     * @param commandLine {@link CommandLine} entered by user.
+     * @return Regex {@link Pattern} indicating a match to any keywords specified by user.
+     * @throws MissingArgumentException If user has not put in any keywords as a search query.
+     */
+    public Pattern parse(CommandLine commandLine) throws MissingArgumentException {
+        String keywordsRegex = assembleKeywordsRegex(commandLine);
         return Pattern.compile(keywordsRegex, Pattern.CASE_INSENSITIVE);
     }
 }
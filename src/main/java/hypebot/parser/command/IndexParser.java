@@ -7,7 +7,9 @@ import static hypebot.common.Messages.ERROR_UNMARK_TASK_INDEX_MISSING;
 import hypebot.command.DeleteCommand;
 import hypebot.command.MarkCommand;
 import hypebot.command.UnmarkCommand;
+import hypebot.exception.illegal.IllegalTaskIndexException;
 import hypebot.main.HypeBot;
+import hypebot.parser.CommandLine;
 import hypebot.parser.Parser;
 import hypebot.task.Task;
 import hypebot.tasklist.Tasklist;
@@ -20,14 +22,52 @@ import hypebot.ui.gui.UiGuiMainWindow;
  * <p>A child of {@link Parser}.</p>
  *
  * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
- * @see NumberFormatException
+ * @see IllegalTaskIndexException
  */
 public class IndexParser {
     /* Offset constant from user-observed 1-index to Tasklist-observed 0-index. */
     private static final int INDEX_OFFSET = 1;
 
-    private static int getIndexOffset(String idx) throws NumberFormatException {
-        return Integer.parseInt(idx.strip()) - INDEX_OFFSET;
+    /* Most digits an int index can have. */
+    private static final int MAX_INDEX_DIGITS = 10;
+
+    /**
+     * Takes in the tokenized line entered by user and returns the index (0-indexed) given as
+     * the word right after the command word, parsed digit by digit in place without copying it
+     * out of the line or throwing along the way.
+     *
+     * @param commandLine  {@link CommandLine} entered by user.
+     * @param errorMessage Message of the {@link IllegalTaskIndexException} thrown if no index is given.
+     * @return Index (0-indexed) entered by user.
+     * @throws IllegalTaskIndexException If index entered is missing or not in {@link Integer} format.
+     */
+    private static int getIndexOffset(CommandLine commandLine, String errorMessage)
+            throws IllegalTaskIndexException {
+        if (commandLine.getWordCount() < 2) {
+            throw new IllegalTaskIndexException(errorMessage);
+        }
+        String line = commandLine.getLine();
+        int start = commandLine.getWordStart(1);
+        int end = commandLine.getWordEnd(1);
+        boolean isNegative = line.charAt(start) == '-';
+        if (isNegative || line.charAt(start) == '+') {
+            start++;
+        }
+        if (start == end || end - start > MAX_INDEX_DIGITS) {
+            throw new IllegalTaskIndexException(errorMessage);
+        }
+        long index = 0;
+        for (int i = start; i < end; i++) {
+            int digit = line.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalTaskIndexException(errorMessage);
+            }
+            index = index * 10 + digit;
+        }
+        if (index > Integer.MAX_VALUE) {
+            throw new IllegalTaskIndexException(errorMessage);
+        }
+        return (int) (isNegative ? -index : index) - INDEX_OFFSET;
     }
 
     /**
@@ -40,12 +80,20 @@ public class IndexParser {
      * @throws NumberFormatException If index entered is not in {@link Integer} format.
      */
     public static int parseMarkIndex(String line) throws NumberFormatException {
-        try {
-            String idxString = line.split(" ")[1];
-            return getIndexOffset(idxString);
-        } catch (NumberFormatException e) {
-            throw new NumberFormatException(ERROR_MARK_TASK_INDEX_MISSING);
-        }
+        return parseMarkIndex(new CommandLine(line));
+    }
+
+    /**
+     * Takes in the tokenized line user from {@link UiGuiMainWindow} enters and parses
+     * the index (0-indexed) of the {@link Task} to {@code mark()} complete in
+     * the {@link Tasklist} managed by {@link HypeBot}.
+     *
+     * @param commandLine {@link CommandLine} entered by user from {@link UiGuiMainWindow}.
+     * @return Index of {@link Task} to {@code mark()} complete in {@link Tasklist}.
+     * @throws NumberFormatException If index entered is not in {@link Integer} format.
+     */
+    public static int parseMarkIndex(CommandLine commandLine) throws NumberFormatException {
+        return getIndexOffset(commandLine, ERROR_MARK_TASK_INDEX_MISSING);
     }
 
     /**
@@ -58,16 +106,24 @@ public class IndexParser {
      * @throws NumberFormatException If index entered is not in {@link Integer} format.
      */
     public static int parseUnmarkIndex(String line) throws NumberFormatException {
-        try {
-            String idxString = line.split(" ")[1];
-            return getIndexOffset(idxString);
-        } catch (Exception e) {
-            throw new NumberFormatException(ERROR_UNMARK_TASK_INDEX_MISSING);
-        }
+        return parseUnmarkIndex(new CommandLine(line));
     }
 
     /**
-     * Takes in the full {@link String} line user enters from {@link UiGuiMainWindow} and parses
+     * Takes in the tokenized line user from {@link UiGuiMainWindow} enters and parses
+     * the index (0-indexed) of the {@link Task} to {@code unmark()} complete in
+     * the {@link Tasklist} managed by {@link HypeBot}.
+     *
+     * @param commandLine {@link CommandLine} entered by user from {@link UiGuiMainWindow}.
+     * @return Index of {@link Task} to {@code unmark()} complete in {@link Tasklist}.
+     * @throws NumberFormatException If index entered is not in {@link Integer} format.
+     */
+    public static int parseUnmarkIndex(CommandLine commandLine) throws NumberFormatException {
+        return getIndexOffset(commandLine, ERROR_UNMARK_TASK_INDEX_MISSING);
+    }
+
+    /**
+     * Takes in the full {@link String} line user from {@link UiGuiMainWindow} enters and parses
      * the index (0-indexed) of the {@link Task} to {@code delete()} complete in
      * the {@link Tasklist} managed by {@link HypeBot}.
      *
@@ -76,11 +132,19 @@ public class IndexParser {
      * @throws NumberFormatException If index entered is not in {@link Integer} format.
      */
     public static int parseDeleteIndex(String line) throws NumberFormatException {
-        try {
-            String idxString = line.split(" ")[1];
-            return getIndexOffset(idxString);
-        } catch (Exception e) {
-            throw new NumberFormatException(ERROR_DELETE_TASK_INDEX_MISSING);
-        }
+        return parseDeleteIndex(new CommandLine(line));
+    }
+
+    /**
+     * Takes in the tokenized line user from {@link UiGuiMainWindow} enters and parses
+     * the index (0-indexed) of the {@link Task} to {@code delete()} complete in
+     * the {@link Tasklist} managed by {@link HypeBot}.
+     *
+     * @param commandLine {@link CommandLine} entered by user from {@link UiGuiMainWindow}.
+     * @return Index of {@link Task} to {@code delete()} complete in {@link Tasklist}.
+     * @throws NumberFormatException If index entered is not in {@link Integer} format.
+     */
+    public static int parseDeleteIndex(CommandLine commandLine) throws NumberFormatException {
+        return getIndexOffset(commandLine, ERROR_DELETE_TASK_INDEX_MISSING);
     }
 }
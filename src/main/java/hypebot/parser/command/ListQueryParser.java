@@ -0,0 +1,142 @@
+package hypebot.parser.command;
+
+import static hypebot.common.Messages.ERROR_INVALID_TASK_KIND;
+import static hypebot.common.Messages.ERROR_LIST_STATUS_CONFLICT;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import hypebot.command.ListCommand;
+import hypebot.exception.illegal.IllegalListFilterException;
+import hypebot.exception.illegal.IllegalListPageException;
+import hypebot.exception.illegal.IllegalSortOrderException;
+import hypebot.parser.CommandLine;
+import hypebot.task.Task;
+import hypebot.tasklist.TaskFilter;
+import hypebot.tasklist.TaskKind;
+import hypebot.tasklist.TaskOrder;
+import hypebot.ui.gui.UiGuiMainWindow;
+
+/**
+ * Represents the {@code ListQueryParser} that parses the {@link TaskOrder}, {@link TaskFilter} and
+ * page inputted by the user at {@link UiGuiMainWindow} for the parsing of {@link ListCommand}s, from
+ * a field reading {@code sort {order}}, fields reading {@code done}, {@code todo} or
+ * {@code type {kinds}}, and a field reading {@code page {number}}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see IllegalSortOrderException
+ * @see IllegalListFilterException
+ * @see IllegalListPageException
+ */
+public class ListQueryParser {
+    /** First word of the field giving the {@link TaskOrder}. */
+    private static final String SORT_FIELD = "sort";
+
+    /** First word of the field giving the page. */
+    private static final String PAGE_FIELD = "page";
+
+    /** Field asking for only complete {@link Task}s. */
+    private static final String DONE_FIELD = "done";
+
+    /** Field asking for only incomplete {@link Task}s. */
+    private static final String TODO_FIELD = "todo";
+
+    /** First word of the field giving the {@link TaskKind}s. */
+    private static final String TYPE_FIELD = "type";
+
+    /**
+     * Takes in the tokenized line entered by user and the first word of a field, and returns
+     * the rest of the first field starting with that word.
+     *
+     * @param commandLine {@link CommandLine} entered by user.
+     * @param fieldName   First word of the field.
+     * @return {@link String} rest of the field, stripped, or {@code null} if there is no such field.
+     */
+    private static String getFieldValue(CommandLine commandLine, String fieldName) {
+        for (int i = 0; i < commandLine.getFieldCount(); i++) {
+            String field = commandLine.getField(i).strip();
+            if (field.regionMatches(true, 0, fieldName, 0, fieldName.length())
+                    && (field.length() == fieldName.length() || field.charAt(fieldName.length()) == ' ')) {
+                return field.substring(fieldName.length()).strip();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Takes in the tokenized line entered by user and returns the {@link TaskOrder} to list
+     * {@link ListCommand}s in.
+     *
+     * @param commandLine {@link CommandLine} entered by user.
+     * @return {@link TaskOrder} entered by user, or {@code null} to list in insertion order.
+     * @throws IllegalSortOrderException If no {@link TaskOrder} goes by the order entered.
+     */
+    public static TaskOrder parseSortOrder(CommandLine commandLine) throws IllegalSortOrderException {
+        String orderName = getFieldValue(commandLine, SORT_FIELD);
+        if (orderName == null) {
+            return null;
+        }
+        TaskOrder order = TaskOrder.fromOrderName(orderName);
+        if (order == null) {
+            throw new IllegalSortOrderException(orderName);
+        }
+        return order;
+    }
+
+    /**
+     * Takes in the tokenized line entered by user and returns the {@link TaskFilter} of the
+     * {@link Task}s for a {@link ListCommand} to list, from a {@code done} or {@code todo} field
+     * and a {@code type} field naming any of the {@link TaskKind}s, separated by spaces or {@code |}.
+     *
+     * @param commandLine {@link CommandLine} entered by user.
+     * @return {@link TaskFilter} entered by user, or {@link TaskFilter#ALL} if none was entered.
+     * @throws IllegalListFilterException If a {@link TaskKind} entered does not exist, or both
+     *                                    {@code done} and {@code todo} were entered.
+     */
+    public static TaskFilter parseFilter(CommandLine commandLine) throws IllegalListFilterException {
+        boolean isDoneOnly = getFieldValue(commandLine, DONE_FIELD) != null;
+        boolean isTodoOnly = getFieldValue(commandLine, TODO_FIELD) != null;
+        if (isDoneOnly && isTodoOnly) {
+            throw new IllegalListFilterException(ERROR_LIST_STATUS_CONFLICT);
+        }
+        Set<TaskKind> kinds = EnumSet.noneOf(TaskKind.class);
+        String kindNames = getFieldValue(commandLine, TYPE_FIELD);
+        if (kindNames != null) {
+            for (String kindName : kindNames.split("[\\s|]+")) {
+                TaskKind kind = TaskKind.fromKindName(kindName);
+                if (kind == null) {
+                    throw new IllegalListFilterException(ERROR_INVALID_TASK_KIND + kindName + "\n");
+                }
+                kinds.add(kind);
+            }
+        }
+        if (!isDoneOnly && !isTodoOnly && kinds.isEmpty()) {
+            return TaskFilter.ALL;
+        }
+        return new TaskFilter(isDoneOnly ? Boolean.TRUE : isTodoOnly ? Boolean.FALSE : null, kinds);
+    }
+
+    /**
+     * Takes in the tokenized line entered by user and returns the page (1-indexed) of the list
+     * for a {@link ListCommand} to show.
+     *
+     * @param commandLine {@link CommandLine} entered by user.
+     * @return Page entered by user, or {@link ListCommand#WHOLE_LIST} to show the whole list.
+     * @throws IllegalListPageException If the page entered is not a whole number from 1 up.
+     */
+    public static int parsePage(CommandLine commandLine) throws IllegalListPageException {
+        String page = getFieldValue(commandLine, PAGE_FIELD);
+        if (page == null) {
+            return ListCommand.WHOLE_LIST;
+        }
+        try {
+            int pageNumber = Integer.parseInt(page);
+            if (pageNumber < 1) {
+                throw new IllegalListPageException(page);
+            }
+            return pageNumber;
+        } catch (NumberFormatException e) {
+            throw new IllegalListPageException(page);
+        }
+    }
+}
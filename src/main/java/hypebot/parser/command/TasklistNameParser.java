@@ -0,0 +1,42 @@
+package hypebot.parser.command;
+
+import java.util.Locale;
+
+import hypebot.command.UseCommand;
+import hypebot.exception.illegal.IllegalTasklistNameException;
+import hypebot.exception.missing.MissingTasklistNameException;
+import hypebot.parser.CommandLine;
+import hypebot.storage.TasklistManager;
+import hypebot.ui.gui.UiGuiMainWindow;
+
+/**
+ * Represents the {@code TasklistNameParser} that parses the name of a list inputted by the user
+ * at {@link UiGuiMainWindow} for the parsing of {@link UseCommand}s.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see TasklistManager
+ * @see IllegalTasklistNameException
+ */
+public class TasklistNameParser {
+    /**
+     * Takes in the tokenized line entered by user and returns the name of the list to use,
+     * given as the argument of the command word, in lower case.
+     *
+     * @param commandLine {@link CommandLine} entered by user.
+     * @return {@link String} name of the list, in lower case.
+     * @throws MissingTasklistNameException If no list name is entered.
+     * @throws IllegalTasklistNameException If the list name is not one the {@link TasklistManager} accepts.
+     */
+    public static String parseTasklistName(CommandLine commandLine)
+            throws MissingTasklistNameException, IllegalTasklistNameException {
+        String enteredName = commandLine.getArgument();
+        if (enteredName.isEmpty()) {
+            throw new MissingTasklistNameException();
+        }
+        String tasklistName = enteredName.toLowerCase(Locale.ROOT);
+        if (!TasklistManager.isValidTasklistName(tasklistName)) {
+            throw new IllegalTasklistNameException(enteredName);
+        }
+        return tasklistName;
+    }
+}
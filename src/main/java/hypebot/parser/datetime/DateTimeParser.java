@@ -1,11 +1,17 @@
 package hypebot.parser.datetime;
 
+import java.text.ParsePosition;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
 
 import hypebot.exception.datetime.DueDateParseException;
 import hypebot.exception.datetime.EventDateTimeParseException;
+import hypebot.exception.datetime.UnparseableDateTimeException;
 import hypebot.exception.illegal.DatePassedException;
 import hypebot.exception.illegal.IllegalEventTimesException;
 import hypebot.exception.missing.MissingDueDateException;
@@ -25,9 +31,58 @@ import hypebot.task.Event;
 public abstract class DateTimeParser {
     protected final DateTimeFormatter formatterDueDate = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     protected final DateTimeFormatter formatterEventTime = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+    protected final DateTimeFormatter formatterTime = DateTimeFormatter.ofPattern("HHmm");
     protected LocalDate currentDate = LocalDate.now();
     protected LocalDateTime currentTime = LocalDateTime.now();
 
+    /**
+     * Takes in a {@link ChronoField} and a value parsed for it, and returns whether the value
+     * is one the {@link DateTimeFormatter}'s resolver is bound to reject.
+     * <p>Hour 24 is let through, as the resolver takes it to be midnight of the next day.</p>
+     *
+     * @param field {@link ChronoField} parsed.
+     * @param value Value parsed for {@code field}.
+     * @return Whether {@code value} is out of range for {@code field}.
+     */
+    private static boolean isOutOfRange(ChronoField field, long value) {
+        if (field == ChronoField.HOUR_OF_DAY && value == 24) {
+            return false;
+        }
+        return !field.range().isValidValue(value);
+    }
+
+    /**
+     * Takes in text, the {@link DateTimeFormatter} it should match and a {@link TemporalQuery}
+     * such as {@code LocalDate::from}, and returns the text parsed into what the query returns.
+     * <p>Checks the text against the {@link DateTimeFormatter} and the ranges of its fields
+     * without throwing first, so that text in the wrong format or with a value out of range fails
+     * with an {@link UnparseableDateTimeException}, which skips capturing a stack trace, rather
+     * than with the formatter's own exception.</p>
+     *
+     * @param text      Text to parse.
+     * @param formatter {@link DateTimeFormatter} the text should match.
+     * @param query     {@link TemporalQuery} creating the result from the parsed text.
+     * @param <T>       Type of the result.
+     * @return Text parsed into what {@code query} returns.
+     * @throws DateTimeParseException If the text does not match {@code formatter} or holds
+     *                                values out of range, such as a 13th month.
+     */
+    protected static <T> T parseWithFormatter(CharSequence text, DateTimeFormatter formatter,
+            TemporalQuery<T> query) throws DateTimeParseException {
+        ParsePosition position = new ParsePosition(0);
+        TemporalAccessor unresolved = formatter.parseUnresolved(text, position);
+        if (unresolved == null || position.getIndex() < text.length()) {
+            int errorIndex = position.getErrorIndex() >= 0 ? position.getErrorIndex() : position.getIndex();
+            throw new UnparseableDateTimeException(text, errorIndex);
+        }
+        for (ChronoField field : ChronoField.values()) {
+            if (unresolved.isSupported(field) && isOutOfRange(field, unresolved.getLong(field))) {
+                throw new UnparseableDateTimeException(text, 0);
+            }
+        }
+        return formatter.parse(text, query);
+    }
+
     /**
      * Takes in a {@link LocalDate} representing a due date of a {@link Deadline} object
      * and checks that {@link LocalDate} has not passed the {@code currentDate}.
@@ -0,0 +1,130 @@
+package hypebot.parser.datetime;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Represents the {@code FastDateTimeParser} that parses well-formed dates in the fixed-width
+ * {@code yyyy-MM-dd} form and times in the {@code HHmm} form by direct character arithmetic,
+ * without going through a {@link DateTimeFormatter}.
+ * <p>Never throws: anything it does not recognise as a valid date or time, such as a date
+ * with a day past the end of its month, yields {@code null}, so that callers can fall back to
+ * the {@link DateTimeFormatter}s of {@link DateTimeParser} for lenient resolution and
+ * for the usual error messages.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see UiDateTimeParser
+ * @see FileDateTimeParser
+ */
+public class FastDateTimeParser {
+    /** Length of a date in {@code yyyy-MM-dd} form. */
+    private static final int DATE_LENGTH = 10;
+
+    /** Length of a time in {@code HHmm} form. */
+    private static final int TIME_LENGTH = 4;
+
+    /** Length of a date and time in {@code yyyy-MM-dd HHmm} form. */
+    private static final int DATE_TIME_LENGTH = DATE_LENGTH + 1 + TIME_LENGTH;
+
+    private FastDateTimeParser() {
+    }
+
+    /**
+     * Takes in some text and the offset of a two digit number in it, and returns the number.
+     *
+     * @param text  Text containing the number.
+     * @param start Offset of the first digit.
+     * @return Two digit number at {@code start}, or -1 if either character is not a digit.
+     */
+    private static int twoDigits(CharSequence text, int start) {
+        int tens = text.charAt(start) - '0';
+        int ones = text.charAt(start + 1) - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
+
+    /**
+     * Takes in some text and the offset of a {@code yyyy-MM-dd} date in it, and returns the date.
+     *
+     * @param text  Text containing the date.
+     * @param start Offset of the first character of the date.
+     * @return {@link LocalDate} at {@code start}, or {@code null} if it is not a valid date.
+     */
+    private static LocalDate parseDateAt(CharSequence text, int start) {
+        if (text.charAt(start + 4) != '-' || text.charAt(start + 7) != '-') {
+            return null;
+        }
+        int centuries = twoDigits(text, start);
+        int years = twoDigits(text, start + 2);
+        int month = twoDigits(text, start + 5);
+        int day = twoDigits(text, start + 8);
+        if (centuries < 0 || years < 0 || month < 1 || month > 12 || day < 1) {
+            return null;
+        }
+        int year = centuries * 100 + years;
+        if (year == 0 || (day > 28 && day > Month.of(month).length(Year.isLeap(year)))) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Takes in some text and the offset of an {@code HHmm} time in it, and returns the time.
+     *
+     * @param text  Text containing the time.
+     * @param start Offset of the first character of the time.
+     * @return {@link LocalTime} at {@code start}, or {@code null} if it is not a valid time.
+     */
+    private static LocalTime parseTimeAt(CharSequence text, int start) {
+        int hour = twoDigits(text, start);
+        int minute = twoDigits(text, start + 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return null;
+        }
+        return LocalTime.of(hour, minute);
+    }
+
+    /**
+     * Takes in some text and returns the date it holds in {@code yyyy-MM-dd} form.
+     *
+     * @param text Text that may be a date.
+     * @return {@link LocalDate} held by {@code text}, or {@code null} if {@code text} is
+     *         anything other than a valid date in {@code yyyy-MM-dd} form.
+     */
+    public static LocalDate parseDate(CharSequence text) {
+        return text.length() == DATE_LENGTH ? parseDateAt(text, 0) : null;
+    }
+
+    /**
+     * Takes in some text and returns the time it holds in {@code HHmm} form.
+     *
+     * @param text Text that may be a time.
+     * @return {@link LocalTime} held by {@code text}, or {@code null} if {@code text} is
+     *         anything other than a valid time in {@code HHmm} form.
+     */
+    public static LocalTime parseTime(CharSequence text) {
+        return text.length() == TIME_LENGTH ? parseTimeAt(text, 0) : null;
+    }
+
+    /**
+     * Takes in some text and returns the date and time it holds in {@code yyyy-MM-dd HHmm} form.
+     *
+     * @param text Text that may be a date and time.
+     * @return {@link LocalDateTime} held by {@code text}, or {@code null} if {@code text} is
+     *         anything other than a valid date and time in {@code yyyy-MM-dd HHmm} form.
+     */
+    public static LocalDateTime parseDateTime(CharSequence text) {
+        if (text.length() != DATE_TIME_LENGTH || text.charAt(DATE_LENGTH) != ' ') {
+            return null;
+        }
+        LocalDate date = parseDateAt(text, 0);
+        LocalTime time = parseTimeAt(text, DATE_LENGTH + 1);
+        return date == null || time == null ? null : LocalDateTime.of(date, time);
+    }
+}
@@ -1,8 +1,5 @@
 package hypebot.parser.datetime;
 
-import static hypebot.common.Messages.MESSAGE_DELETING_PAST_DEADLINE;
-import static hypebot.common.Messages.MESSAGE_DELETING_PAST_EVENT;
-
 import java.io.File;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -10,18 +7,20 @@ import java.time.format.DateTimeParseException;
 
 import hypebot.exception.datetime.DueDateParseException;
 import hypebot.exception.datetime.EventDateTimeParseException;
-import hypebot.exception.illegal.DatePassedException;
 import hypebot.exception.illegal.IllegalEventTimesException;
 import hypebot.main.HypeBot;
 import hypebot.storage.StorageManager;
 import hypebot.task.Deadline;
 import hypebot.task.Event;
+import hypebot.tasklist.ExpiredTaskSweeper;
 
 /**
  * Represents a {@code FileDateTimeParser} that parses {@link LocalDate} or
  * {@link LocalDateTime} objects encoded in a save {@link File} accessed by
  * a {@link HypeBot}'s {@link StorageManager}.
  * <p>A child of {@link DateTimeParser}.</p>
+ * <p>Past due dates and concluded events are parsed like any other, so that every saved
+ * {@link Deadline} and {@link Event} loads; the {@link ExpiredTaskSweeper} retires them afterwards.</p>
  *
  * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
  */
@@ -35,16 +34,12 @@ public class FileDateTimeParser extends DateTimeParser {
 
     /**
      * Takes in a fully parsed {@link LocalDate} due date from task information
-     * saved on a {@link File} and checks if due date has passed.
+     * saved on a {@link File} and accepts it, even if it has passed.
      *
-     * @param dueDate {@link LocalDate} form of ue date.
-     * @throws DatePassedException If due date has passed current date.
+     * @param dueDate {@link LocalDate} form of due date.
      */
     @Override
-    protected void checkDueDatePassedBy(LocalDate dueDate) throws DatePassedException {
-        if (dueDate.isBefore(currentDate)) {
-            throw new DatePassedException(MESSAGE_DELETING_PAST_DEADLINE);
-        }
+    protected void checkDueDatePassedBy(LocalDate dueDate) {
     }
 
     /**
@@ -54,13 +49,14 @@ public class FileDateTimeParser extends DateTimeParser {
      * @param dueDateString {@link String} form of due date.
      * @return {@link LocalDate} form of due date.
      * @throws DueDateParseException If due date is encoded in an incorrect format.
-     * @throws DatePassedException   If due date has passed current date.
      */
     @Override
-    public LocalDate parseDueDate(String dueDateString)
-            throws DueDateParseException, DatePassedException {
+    public LocalDate parseDueDate(String dueDateString) throws DueDateParseException {
         try {
-            LocalDate dueDate = LocalDate.parse(dueDateString, formatterDueDate);
+            LocalDate dueDate = FastDateTimeParser.parseDate(dueDateString);
+            if (dueDate == null) {
+                dueDate = parseWithFormatter(dueDateString, formatterDueDate, LocalDate::from);
+            }
             checkDueDatePassedBy(dueDate);
             return dueDate;
         } catch (DateTimeParseException e) {
@@ -87,37 +83,61 @@ public class FileDateTimeParser extends DateTimeParser {
 
     /**
      * Takes in fully parsed {@link LocalDateTime} start time and end time of an {@link Event}
-     * saved on a {@link File} and checks if event has concluded.
+     * saved on a {@link File} and accepts them, even if the event has concluded.
      *
      * @param startTime {@link LocalDateTime} representing the start time.
      * @param endTime   {@link LocalDateTime} representing the end time.
-     * @throws DatePassedException If event has already concluded.
      */
     @Override
-    protected void checkEventPassedBy(LocalDateTime startTime, LocalDateTime endTime)
-            throws DatePassedException {
-        if (startTime.isBefore(currentTime) && endTime.isBefore(currentTime)) {
-            throw new DatePassedException(MESSAGE_DELETING_PAST_EVENT);
-        }
+    protected void checkEventPassedBy(LocalDateTime startTime, LocalDateTime endTime) {
+    }
+
+    /**
+     * Takes in a {@link String} representing an event time saved on a {@link File}
+     * and returns it in {@link LocalDateTime} form, through the {@link FastDateTimeParser}
+     * if it is well-formed.
+     *
+     * @param eventTimeString {@link String} form of an event time.
+     * @return {@link LocalDateTime} form of the event time.
+     * @throws DateTimeParseException If the event time is encoded in an incorrect format.
+     */
+    private LocalDateTime parseEventTime(String eventTimeString) throws DateTimeParseException {
+        LocalDateTime eventTime = FastDateTimeParser.parseDateTime(eventTimeString);
+        return eventTime != null
+                ? eventTime
+                : parseWithFormatter(eventTimeString, formatterEventTime, LocalDateTime::from);
     }
 
     /**
      * Takes in {@link String} representing a start time and end time for a {@link Event}
-     * saved on a {@link File}, and returns them in a {@link LocalDateTime} array.
+     * saved on a {@link File}, separated by a '/', and returns them in a {@link LocalDateTime} array.
      *
      * @param eventTimesString {@link String} form of start and end time.
      * @return {@link LocalDateTime} array of start time and end time.
      * @throws EventDateTimeParseException If any event times are encoded in an incorrect format.
-     * @throws DatePassedException         If {@link Event} has already concluded.
      */
     @Override
-    public LocalDateTime[] parseEventTimes(String eventTimesString)
-            throws EventDateTimeParseException, DatePassedException {
-        String startTimeString = eventTimesString.split("/")[0];
-        String endTimeString = eventTimesString.split("/")[1];
+    public LocalDateTime[] parseEventTimes(String eventTimesString) throws EventDateTimeParseException {
+        int separatorIdx = eventTimesString.indexOf('/');
+        int endTimeEnd = eventTimesString.indexOf('/', separatorIdx + 1);
+        return parseEventTimes(eventTimesString.substring(0, separatorIdx),
+                eventTimesString.substring(separatorIdx + 1, endTimeEnd < 0 ? eventTimesString.length() : endTimeEnd));
+    }
+
+    /**
+     * Takes in the {@link String}s representing a start time and end time for a {@link Event}
+     * saved on a {@link File}, and returns them in a {@link LocalDateTime} array.
+     *
+     * @param startTimeString {@link String} form of start time.
+     * @param endTimeString   {@link String} form of end time.
+     * @return {@link LocalDateTime} array of start time and end time.
+     * @throws EventDateTimeParseException If any event times are encoded in an incorrect format.
+     */
+    public LocalDateTime[] parseEventTimes(String startTimeString, String endTimeString)
+            throws EventDateTimeParseException {
         try {
-            LocalDateTime startTime = LocalDateTime.parse(startTimeString, formatterEventTime);
-            LocalDateTime endTime = LocalDateTime.parse(endTimeString, formatterEventTime);
+            LocalDateTime startTime = parseEventTime(startTimeString);
+            LocalDateTime endTime = parseEventTime(endTimeString);
             checkEventTimesChronological(startTime, endTime);
             checkEventPassedBy(startTime, endTime);
             return new LocalDateTime[] {startTime, endTime};
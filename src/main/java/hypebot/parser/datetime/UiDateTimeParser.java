@@ -6,20 +6,23 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAdjusters;
+import java.util.Map;
 
+import hypebot.command.AgendaCommand;
 import hypebot.command.HappeningCommand;
 import hypebot.exception.datetime.DueDateParseException;
 import hypebot.exception.datetime.EventDateTimeParseException;
 import hypebot.exception.datetime.HappeningSearchDateParseException;
 import hypebot.exception.illegal.DatePassedException;
+import hypebot.exception.illegal.IllegalAgendaDatesException;
 import hypebot.exception.illegal.IllegalEventTimesException;
-import hypebot.exception.illegal.NoMatchingShortcutException;
+import hypebot.exception.missing.MissingAgendaDateException;
 import hypebot.exception.missing.MissingDueDateException;
 import hypebot.exception.missing.MissingEventTimeException;
 import hypebot.exception.missing.MissingSearchDateException;
+import hypebot.parser.CommandLine;
 import hypebot.task.Deadline;
 import hypebot.task.Event;
 import hypebot.task.Task;
@@ -46,6 +49,31 @@ public class UiDateTimeParser extends DateTimeParser {
         SUNDAY
     }
 
+    /** Every alias a user may enter for a {@code DayShortcut}, in lower case. */
+    private static final Map<String, DayShortcut> DAY_SHORTCUT_ALIASES = Map.ofEntries(
+            Map.entry("tdy", DayShortcut.TODAY),
+            Map.entry("today", DayShortcut.TODAY),
+            Map.entry("tmw", DayShortcut.TOMORROW),
+            Map.entry("tmrw", DayShortcut.TOMORROW),
+            Map.entry("tomorrow", DayShortcut.TOMORROW),
+            Map.entry("mon", DayShortcut.MONDAY),
+            Map.entry("monday", DayShortcut.MONDAY),
+            Map.entry("tue", DayShortcut.TUESDAY),
+            Map.entry("tues", DayShortcut.TUESDAY),
+            Map.entry("tuesday", DayShortcut.TUESDAY),
+            Map.entry("wed", DayShortcut.WEDNESDAY),
+            Map.entry("wednesday", DayShortcut.WEDNESDAY),
+            Map.entry("thu", DayShortcut.THURSDAY),
+            Map.entry("thur", DayShortcut.THURSDAY),
+            Map.entry("thurs", DayShortcut.THURSDAY),
+            Map.entry("thursday", DayShortcut.THURSDAY),
+            Map.entry("fri", DayShortcut.FRIDAY),
+            Map.entry("friday", DayShortcut.FRIDAY),
+            Map.entry("sat", DayShortcut.SATURDAY),
+            Map.entry("saturday", DayShortcut.SATURDAY),
+            Map.entry("sun", DayShortcut.SUNDAY),
+            Map.entry("sunday", DayShortcut.SUNDAY));
+
     /**
      * Creates a new {@code UiDateTimeParser}.
      */
@@ -55,25 +83,14 @@ public class UiDateTimeParser extends DateTimeParser {
 
     /**
      * Takes in possible date shortcut used by user when entering a date or time,
-     * and extracts the corresponding {@code DayShortcut}.
+     * and looks up the corresponding {@code DayShortcut}.
      *
-     * @param alias Word entered by user representing a date shortcut.
-     * @return The corresponding {@code DayShortcut}.
-     * @throws NoMatchingShortcutException If alias for date does not match any {@code DayShortcut}.
+     * @param alias Word entered by user that may represent a date shortcut.
+     * @return The corresponding {@code DayShortcut}, or {@code null} if {@code alias}
+     *         does not match any {@code DayShortcut}.
      */
-    private DayShortcut extractDayShortcut(String alias) throws NoMatchingShortcutException {
-        return switch (alias.toLowerCase()) {
-        case "tdy", "today" -> DayShortcut.TODAY;
-        case "tmw", "tmrw", "tomorrow" -> DayShortcut.TOMORROW;
-        case "mon", "monday" -> DayShortcut.MONDAY;
-        case "tue", "tues", "tuesday" -> DayShortcut.TUESDAY;
-        case "wed", "wednesday" -> DayShortcut.WEDNESDAY;
-        case "thu", "thur", "thurs", "thursday" -> DayShortcut.THURSDAY;
-        case "fri", "friday" -> DayShortcut.FRIDAY;
-        case "sat", "saturday" -> DayShortcut.SATURDAY;
-        case "sun", "sunday" -> DayShortcut.SUNDAY;
-        default -> throw new NoMatchingShortcutException();
-        };
+    private DayShortcut extractDayShortcut(String alias) {
+        return DAY_SHORTCUT_ALIASES.get(alias.toLowerCase());
     }
 
     private LocalDate getNextOccurrence(DayOfWeek dayOfWeek) {
@@ -102,47 +119,33 @@ public class UiDateTimeParser extends DateTimeParser {
     }
 
     /**
-     * Takes in the full line user enters and returns the {@link String} array of the
-     * dates (or times) entered.
+     * Takes in the tokenized line user enters and checks whether the due date has been entered.
      *
-     * @param line Full {@link String} line entered by user.
-     * @return {@link String} array containing dates or times entered by user.
-     */
-    private String[] extractDates(String line) {
-        String[] splitBySlash = line.split(" /");
-        String[] dates = new String[splitBySlash.length - 1];
-        System.arraycopy(splitBySlash, 1, dates, 0, splitBySlash.length - 1);
-        return dates;
-    }
-
-    /**
-     * Takes in the full line user enters and checks whether the due date has been entered.
-     *
-     * @param line Full {@link String} line entered by user.
+     * @param commandLine {@link CommandLine} entered by user.
      * @throws MissingDueDateException If due date is missing in {@link Deadline} entry.
      */
-    private void checkDueDateExists(String line) throws MissingDueDateException {
-        String[] dates = extractDates(line);
-        if (dates.length < 1) {
+    private void checkDueDateExists(CommandLine commandLine) throws MissingDueDateException {
+        if (commandLine.getFieldCount() < 1) {
             throw new MissingDueDateException();
         }
     }
 
     /**
-     * Takes in the {@link String} form of a due date associated with a {@link Deadline}
-     * and tries to extract and parse a {@link LocalDate} using {@code DayShortcuts},
+     * Takes in the {@link String} form of a date entered by user and tries to extract and parse
+     * a {@link LocalDate} using {@code DayShortcuts}, then tries the {@link FastDateTimeParser},
      * then tries to format according to {@code FORMATTER_DUE_DATE} in {@link DateTimeParser}.
      *
-     * @param date {@link String} form of due date.
-     * @return {@link LocalDate} form of due date.
-     * @throws DateTimeParseException If due date entered is not in any expected format.
+     * @param date {@link String} form of date.
+     * @return {@link LocalDate} form of date.
+     * @throws DateTimeParseException If date entered is not in any expected format.
      */
-    private LocalDate convertStringToDueDate(String date) throws DateTimeParseException {
-        try {
-            return convertDayShortcutToLocalDate(extractDayShortcut(date));
-        } catch (NoMatchingShortcutException e) {
-            return LocalDate.parse(date, formatterDueDate);
+    private LocalDate convertStringToDate(String date) throws DateTimeParseException {
+        DayShortcut dayShortcut = extractDayShortcut(date);
+        if (dayShortcut != null) {
+            return convertDayShortcutToLocalDate(dayShortcut);
         }
+        LocalDate parsedDate = FastDateTimeParser.parseDate(date);
+        return parsedDate != null ? parsedDate : parseWithFormatter(date, formatterDueDate, LocalDate::from);
     }
 
     /**
@@ -172,10 +175,25 @@ public class UiDateTimeParser extends DateTimeParser {
     @Override
     public LocalDate parseDueDate(String fullCommand)
             throws MissingDueDateException, DueDateParseException, DatePassedException {
+        return parseDueDate(new CommandLine(fullCommand));
+    }
+
+    /**
+     * Takes in the tokenized line user enters and returns the due date specified by the user in
+     * {@link LocalDate} form.
+     *
+     * @param commandLine {@link CommandLine} entered by user.
+     * @return {@link LocalDate} form of due date specified by user.
+     * @throws MissingDueDateException If due date is missing in deadline entry.
+     * @throws DueDateParseException   If due date is not entered in an expected format.
+     * @throws DatePassedException     If due date has passed current date.
+     */
+    public LocalDate parseDueDate(CommandLine commandLine)
+            throws MissingDueDateException, DueDateParseException, DatePassedException {
         try {
-            checkDueDateExists(fullCommand);
-            String dueDateString = extractDates(fullCommand)[0];
-            LocalDate dueDate = convertStringToDueDate(dueDateString);
+            checkDueDateExists(commandLine);
+            String dueDateString = commandLine.getField(0);
+            LocalDate dueDate = convertStringToDate(dueDateString);
             checkDueDatePassedBy(dueDate);
             return dueDate;
         } catch (DateTimeParseException e) {
@@ -184,27 +202,18 @@ public class UiDateTimeParser extends DateTimeParser {
     }
 
     /**
-     * Takes in the full line user enters and checks whether the event
+     * Takes in the tokenized line user enters and checks whether the event
      * start time and end time has been entered.
      *
-     * @param line Full String command entered by user.
+     * @param commandLine {@link CommandLine} entered by user.
      * @throws MissingEventTimeException If start time or end time is missing in event entry.
      */
-    private void checkEventTimesExist(String line) throws MissingEventTimeException {
-        String[] dates = extractDates(line);
-        if (dates.length < 2) {
+    private void checkEventTimesExist(CommandLine commandLine) throws MissingEventTimeException {
+        if (commandLine.getFieldCount() < 2) {
             throw new MissingEventTimeException();
         }
     }
 
-    private String extractDateFromDateTime(String dateTime) {
-        return dateTime.split(" ")[0];
-    }
-
-    private String extractTimeFromDateTime(String dateTime) {
-        return dateTime.split(" ")[1];
-    }
-
     /**
      * Takes in two {@link LocalDateTime} objects representing a start time and end time
      * of an {@link Event} object and checks that the {@link LocalDateTime}s are in
@@ -240,20 +249,27 @@ public class UiDateTimeParser extends DateTimeParser {
     /**
      * Takes in an event time in {@link String} form and returns the {@link LocalDateTime}
      * form of the event time.
+     * <p>Tries a {@code DayShortcut} followed by a time, then the {@link FastDateTimeParser},
+     * then formats according to {@code FORMATTER_EVENT_TIME} in {@link DateTimeParser}.</p>
      *
      * @param dateTime An event time in {@link String} form.
      * @return {@link LocalDateTime} form of event time.
      * @throws DateTimeParseException If event time is not in an expected format.
      */
     private LocalDateTime convertStringToEventTime(String dateTime) throws DateTimeParseException {
-        String date = extractDateFromDateTime(dateTime);
-        String time = extractTimeFromDateTime(dateTime);
-        try {
-            return LocalDateTime.of(convertDayShortcutToLocalDate(extractDayShortcut(date)),
-                    LocalTime.parse(time, DateTimeFormatter.ofPattern("HHmm")));
-        } catch (NoMatchingShortcutException e) {
-            return LocalDateTime.parse(dateTime, formatterEventTime);
+        int timeStart = dateTime.indexOf(' ') + 1;
+        DayShortcut dayShortcut = timeStart > 0 ? extractDayShortcut(dateTime.substring(0, timeStart - 1)) : null;
+        if (dayShortcut != null) {
+            int timeEnd = dateTime.indexOf(' ', timeStart);
+            String time = dateTime.substring(timeStart, timeEnd < 0 ? dateTime.length() : timeEnd);
+            LocalTime parsedTime = FastDateTimeParser.parseTime(time);
+            return LocalDateTime.of(convertDayShortcutToLocalDate(dayShortcut),
+                    parsedTime != null ? parsedTime : parseWithFormatter(time, formatterTime, LocalTime::from));
         }
+        LocalDateTime parsedDateTime = FastDateTimeParser.parseDateTime(dateTime);
+        return parsedDateTime != null
+                ? parsedDateTime
+                : parseWithFormatter(dateTime, formatterEventTime, LocalDateTime::from);
     }
 
     /**
@@ -271,13 +287,28 @@ public class UiDateTimeParser extends DateTimeParser {
     @Override
     public LocalDateTime[] parseEventTimes(String fullCommand)
             throws MissingEventTimeException, EventDateTimeParseException, DatePassedException {
-        try {
-            checkEventTimesExist(fullCommand);
+        return parseEventTimes(new CommandLine(fullCommand));
+    }
 
-            String[] dateTimes = extractDates(fullCommand);
+    /**
+     * Takes in the tokenized line user enters and returns an {@link Event}'s start time and end time
+     * specified by the user in an {@link LocalDateTime} array {startTime, endTime}.
+     *
+     * @param commandLine {@link CommandLine} entered by user.
+     * @return {@link LocalDateTime} array of an {@link Event}'s start time and end time
+     *         specified by user.
+     * @throws MissingEventTimeException   If missing either start time or end time in
+     *                                     {@link Event} entry.
+     * @throws EventDateTimeParseException If event time is not entered in accepted formats.
+     * @throws DatePassedException         If event has concluded by the current date.
+     */
+    public LocalDateTime[] parseEventTimes(CommandLine commandLine)
+            throws MissingEventTimeException, EventDateTimeParseException, DatePassedException {
+        try {
+            checkEventTimesExist(commandLine);
 
-            String startDateTimeString = dateTimes[0];
-            String endDateTimeString = dateTimes[1];
+            String startDateTimeString = commandLine.getField(0);
+            String endDateTimeString = commandLine.getField(1);
 
             LocalDateTime startDateTime = convertStringToEventTime(startDateTimeString);
             LocalDateTime endDateTime = convertStringToEventTime(endDateTimeString);
@@ -291,52 +322,91 @@ public class UiDateTimeParser extends DateTimeParser {
     }
 
     /**
-     * Takes in the full line user enters and checks whether the search date has been entered.
+     * Takes in the tokenized line user enters and checks whether the search date has been entered.
      *
-     * @param line Full {@link String} line entered by user.
+     * @param commandLine {@link CommandLine} entered by user.
      * @throws MissingSearchDateException If search date is missing in happening search.
      */
-    private void checkHappeningDateExists(String line) throws MissingSearchDateException {
-        String[] dates = extractDates(line);
-        if (dates.length < 1) {
+    private void checkHappeningDateExists(CommandLine commandLine) throws MissingSearchDateException {
+        if (commandLine.getFieldCount() < 1) {
             throw new MissingSearchDateException();
         }
     }
 
     /**
-     * Takes in a String array of dates given by user, and attempts to parse a
-     * {@link LocalDate} search date with DayShortcuts, and then tries to parse
-     * the entry without.
+     * Takes in the full line user enters and returns the {@link LocalDate} search date
+     * a {@link HappeningCommand} uses to look up {@link Task}s occurring on this search date.
      *
-     * @param dates {@link String} array of dates given by user.
-     * @return {@link LocalDate} representation of user-entered search date.
-     * @throws DateTimeParseException If search date not in an expected format.
+     * @param fullCommand Full {@link String} command entered by user.
+     * @return {@link LocalDate} representation of user-entered search date for tasks.
+     * @throws MissingSearchDateException If search date not entered by user.
+     * @throws DateTimeParseException     If search date not in an expected format.
      */
-    private LocalDate parseHappeningDateWithShortcut(String[] dates) throws DateTimeParseException {
-        try {
-            return convertDayShortcutToLocalDate(extractDayShortcut(dates[0]));
-        } catch (NoMatchingShortcutException e) {
-            return LocalDate.parse(dates[0], formatterDueDate);
-        }
+    public LocalDate parseHappeningDate(String fullCommand)
+            throws MissingSearchDateException, HappeningSearchDateParseException {
+        return parseHappeningDate(new CommandLine(fullCommand));
     }
 
     /**
-     * Takes in the full line user enters and returns the {@link LocalDate} search date
+     * Takes in the tokenized line user enters and returns the {@link LocalDate} search date
      * a {@link HappeningCommand} uses to look up {@link Task}s occurring on this search date.
      *
-     * @param fullCommand Full {@link String} command entered by user.
+     * @param commandLine {@link CommandLine} entered by user.
      * @return {@link LocalDate} representation of user-entered search date for tasks.
      * @throws MissingSearchDateException If search date not entered by user.
      * @throws DateTimeParseException     If search date not in an expected format.
      */
-    public LocalDate parseHappeningDate(String fullCommand)
+    public LocalDate parseHappeningDate(CommandLine commandLine)
             throws MissingSearchDateException, HappeningSearchDateParseException {
         try {
-            checkHappeningDateExists(fullCommand);
+            checkHappeningDateExists(commandLine);
+
+            return convertStringToDate(commandLine.getField(0));
+        } catch (DateTimeParseException e) {
+            throw new HappeningSearchDateParseException(e.getParsedString(), e.getErrorIndex());
+        }
+    }
 
-            String[] dates = extractDates(fullCommand);
+    /**
+     * Takes in a field bounding an agenda and returns it without the {@code from} or {@code to}
+     * word it may start with.
+     *
+     * @param field     {@link String} field entered by user, such as {@code from tdy}.
+     * @param boundWord Word that may start the field, {@code from} or {@code to}.
+     * @return {@link String} date entered in the field.
+     */
+    private static String stripAgendaBoundWord(String field, String boundWord) {
+        String date = field.strip();
+        boolean hasBoundWord = date.length() > boundWord.length()
+                && date.regionMatches(true, 0, boundWord, 0, boundWord.length())
+                && Character.isWhitespace(date.charAt(boundWord.length()));
+        return hasBoundWord ? date.substring(boundWord.length()).strip() : date;
+    }
 
-            return parseHappeningDateWithShortcut(dates);
+    /**
+     * Takes in the tokenized line user enters and returns the {@link LocalDate}s bounding the range
+     * an {@link AgendaCommand} lists {@link Task}s happening in, in a {@link LocalDate} array
+     * {fromDate, toDate}.
+     * <p>Each date may be preceded by {@code from} or {@code to}, and may be a {@code DayShortcut}.</p>
+     *
+     * @param commandLine {@link CommandLine} entered by user.
+     * @return {@link LocalDate} array of the first and last dates of the range, inclusive.
+     * @throws MissingAgendaDateException        If either date is not entered by user.
+     * @throws HappeningSearchDateParseException If either date is not in an expected format.
+     * @throws IllegalAgendaDatesException       If the first date comes after the last date.
+     */
+    public LocalDate[] parseAgendaDates(CommandLine commandLine) throws MissingAgendaDateException,
+            HappeningSearchDateParseException, IllegalAgendaDatesException {
+        if (commandLine.getFieldCount() < 2) {
+            throw new MissingAgendaDateException();
+        }
+        try {
+            LocalDate fromDate = convertStringToDate(stripAgendaBoundWord(commandLine.getField(0), "from"));
+            LocalDate toDate = convertStringToDate(stripAgendaBoundWord(commandLine.getField(1), "to"));
+            if (fromDate.isAfter(toDate)) {
+                throw new IllegalAgendaDatesException();
+            }
+            return new LocalDate[]{fromDate, toDate};
         } catch (DateTimeParseException e) {
             throw new HappeningSearchDateParseException(e.getParsedString(), e.getErrorIndex());
         }
@@ -3,11 +3,12 @@ package hypebot.parser.task;
 import java.io.File;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 import hypebot.exception.datetime.DueDateParseException;
 import hypebot.exception.datetime.EventDateTimeParseException;
 import hypebot.exception.datetime.HypeBotDateTimeParseException;
-import hypebot.exception.illegal.DatePassedException;
+import hypebot.exception.illegal.IllegalRecurrenceException;
 import hypebot.exception.illegal.IllegalTaskStatusException;
 import hypebot.exception.illegal.IllegalTaskTypeException;
 import hypebot.main.HypeBot;
@@ -15,6 +16,7 @@ import hypebot.parser.datetime.FileDateTimeParser;
 import hypebot.storage.StorageManager;
 import hypebot.task.Deadline;
 import hypebot.task.Event;
+import hypebot.task.Recurrence;
 import hypebot.task.Task;
 import hypebot.task.ToDo;
 
@@ -22,15 +24,53 @@ import hypebot.task.ToDo;
  * Represents the {@code FileTaskParser} associated with parsing {@code Task}s
  * encoded in a save {@link File} accessed by a{@link HypeBot}'s {@link StorageManager}.
  * <p>A child of {@link TaskParser}.</p>
+ * <p>Walks each line once with index cursors, recording where each field starts and ends,
+ * so that only the {@link Task} name and dates are ever copied out of the line. The offsets
+ * are kept in a buffer re-used across lines, so a {@code FileTaskParser} must only be used
+ * by one thread at a time.</p>
  *
  * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
  */
 public class FileTaskParser extends TaskParser {
+    /** Separator between the fields of a line. */
+    private static final String FIELD_SEPARATOR = " , ";
+
+    /** Most fields any {@link Task} is saved with; those of a recurring {@link Event}. */
+    private static final int MAX_FIELD_COUNT = 6;
+
+    private static final int TASK_TYPE_FIELD_IDX = 0;
+    private static final int TASK_STATUS_FIELD_IDX = 1;
+    private static final int TASK_NAME_FIELD_IDX = 2;
+    private static final int DUE_DATE_FIELD_IDX = 3;
+    private static final int START_TIME_FIELD_IDX = 3;
+    private static final int END_TIME_FIELD_IDX = 4;
+    private static final int DEADLINE_RECURRENCE_FIELD_IDX = 4;
+    private static final int EVENT_RECURRENCE_FIELD_IDX = 5;
+
+    /** {@code dateTimeParser} as a {@link FileDateTimeParser}. */
+    private final FileDateTimeParser fileDateTimeParser;
+
+    /** Start and end offsets of each field of the line last scanned, in pairs. */
+    private final int[] fieldBounds = new int[2 * MAX_FIELD_COUNT];
+
+    /** Number of fields recorded in {@code fieldBounds}. */
+    private int fieldCount;
+
     /**
      * Creates a new {@code FileTaskParser} containing a {@link FileDateTimeParser}.
      */
     public FileTaskParser() {
-        super(new FileDateTimeParser());
+        this(new FileDateTimeParser());
+    }
+
+    /**
+     * Takes in the {@link FileDateTimeParser} to parse dates with and creates a new {@code FileTaskParser}.
+     *
+     * @param fileDateTimeParser {@link FileDateTimeParser} that handles parsing of date-related entries.
+     */
+    private FileTaskParser(FileDateTimeParser fileDateTimeParser) {
+        super(fileDateTimeParser);
+        this.fileDateTimeParser = fileDateTimeParser;
     }
 
     /**
@@ -44,24 +84,84 @@ public class FileTaskParser extends TaskParser {
      */
     @Override
     protected String[] splitLine(String line) {
-        return line.split(" , ");
+        return line.split(FIELD_SEPARATOR);
     }
 
     /**
-     * Takes in the full {@link String} line of a save {@link File} and returns
-     * the integer in the {@link Task} completion status column.
+     * Takes in the full {@link String} line of a save {@link File} and walks it once,
+     * recording the start and end offsets of up to {@code MAX_FIELD_COUNT} fields.
+     * <p>Fields are separated just as {@code splitLine()} would separate them,
+     * trailing empty fields included.</p>
      *
      * @param line {@link String} line of a save {@link File}.
+     */
+    private void scanFields(String line) {
+        fieldCount = 0;
+        int fieldStart = 0;
+        int fieldEnd = line.indexOf(FIELD_SEPARATOR);
+        while (fieldEnd >= 0 && fieldCount < MAX_FIELD_COUNT) {
+            recordField(fieldStart, fieldEnd);
+            fieldStart = fieldEnd + FIELD_SEPARATOR.length();
+            fieldEnd = line.indexOf(FIELD_SEPARATOR, fieldStart);
+        }
+        if (fieldCount < MAX_FIELD_COUNT) {
+            recordField(fieldStart, line.length());
+            /* Drops trailing empty fields, as String.split() does. */
+            while (fieldCount > 1 && fieldBounds[2 * fieldCount - 2] == fieldBounds[2 * fieldCount - 1]) {
+                fieldCount--;
+            }
+        }
+    }
+
+    private void recordField(int start, int end) {
+        fieldBounds[2 * fieldCount] = start;
+        fieldBounds[2 * fieldCount + 1] = end;
+        fieldCount++;
+    }
+
+    private int getFieldStart(int index) throws IndexOutOfBoundsException {
+        return fieldBounds[2 * Objects.checkIndex(index, fieldCount)];
+    }
+
+    private int getFieldEnd(int index) throws IndexOutOfBoundsException {
+        return fieldBounds[2 * Objects.checkIndex(index, fieldCount) + 1];
+    }
+
+    /**
+     * Takes in the {@link String} line last scanned and the index of one of its fields,
+     * and returns the field.
+     *
+     * @param line  {@link String} line last scanned by {@code scanFields()}.
+     * @param index Index of the field.
+     * @return {@link String} field at {@code index}.
+     * @throws IndexOutOfBoundsException If the line has no field at {@code index}.
+     */
+    private String getField(String line, int index) throws IndexOutOfBoundsException {
+        return line.substring(getFieldStart(index), getFieldEnd(index));
+    }
+
+    /**
+     * Takes in the {@link String} line last scanned and returns the integer in
+     * the {@link Task} completion status column, parsed in place.
+     *
+     * @param line {@link String} line last scanned by {@code scanFields()}.
      * @return Integer in the completion status column.
      * @throws IllegalTaskStatusException If completion status not indicated as an integer.
      */
     private int isCompleteAsANumber(String line) throws IllegalTaskStatusException {
-        int taskCompletedArrayIdx = 1;
-        String isCompleteMarker = splitLine(line)[taskCompletedArrayIdx];
+        int statusStart = getFieldStart(TASK_STATUS_FIELD_IDX);
+        if (getFieldEnd(TASK_STATUS_FIELD_IDX) == statusStart + 1) {
+            int status = line.charAt(statusStart) - '0';
+            if (status >= 0 && status <= 9) {
+                return status;
+            }
+            throw new IllegalTaskStatusException(getField(line, TASK_STATUS_FIELD_IDX));
+        }
         try {
-            return Integer.parseInt(isCompleteMarker);
+            return Integer.parseInt(line, getFieldStart(TASK_STATUS_FIELD_IDX),
+                    getFieldEnd(TASK_STATUS_FIELD_IDX), 10);
         } catch (NumberFormatException e) {
-            throw new IllegalTaskStatusException(isCompleteMarker);
+            throw new IllegalTaskStatusException(getField(line, TASK_STATUS_FIELD_IDX));
         }
     }
 
@@ -79,11 +179,11 @@ public class FileTaskParser extends TaskParser {
     }
 
     /**
-     * Takes in the {@link String} line of a save {@link File} and a {@link Task}
+     * Takes in the {@link String} line last scanned and a {@link Task}
      * parsed using the details of this line, and {@code mark()}s the {@link Task}'s
      * completion status accordingly.
      *
-     * @param line {@link String} line of a save {@link File}.
+     * @param line {@link String} line last scanned by {@code scanFields()}.
      * @param task {@link Task} parsed using the details of this line
      * @throws IllegalTaskStatusException If completion status not indicated as an integer
      *                                    or is an integer other than 0 and 1.
@@ -98,67 +198,98 @@ public class FileTaskParser extends TaskParser {
         }
     }
 
+    /**
+     * Takes in the {@link String} line last scanned and the index of the field that may hold
+     * the period a {@link Deadline} or {@link Event} repeats by, and returns its {@link Recurrence}.
+     *
+     * @param line  {@link String} line last scanned by {@code scanFields()}.
+     * @param index Index of the field that may hold the period.
+     * @return {@link Recurrence} saved, or {@code null} if the line has no such field.
+     * @throws IllegalRecurrenceException If the field is not the period of a {@link Recurrence}.
+     */
+    private Recurrence parseScannedRecurrence(String line, int index) throws IllegalRecurrenceException {
+        if (fieldCount <= index) {
+            return null;
+        }
+        String periodName = getField(line, index);
+        Recurrence recurrence = Recurrence.fromPeriodName(periodName);
+        if (recurrence == null) {
+            throw new IllegalRecurrenceException(periodName);
+        }
+        return recurrence;
+    }
+
     @Override
     protected String parseTaskName(String line) {
-        int taskNameArrayIdx = 2;
-        return splitLine(line)[taskNameArrayIdx];
+        scanFields(line);
+        return getField(line, TASK_NAME_FIELD_IDX);
     }
 
     @Override
     public ToDo parseToDo(String line) {
-        String taskName = parseTaskName(line);
-        return new ToDo(taskName);
+        scanFields(line);
+        return parseScannedToDo(line);
     }
 
-    private String extractDueDateString(String line) {
-        int dueDateArrayIdx = 3;
-        return splitLine(line)[dueDateArrayIdx];
+    private ToDo parseScannedToDo(String line) {
+        return new ToDo(getField(line, TASK_NAME_FIELD_IDX));
     }
 
     @Override
     public Deadline parseDeadline(String line) throws DueDateParseException, IllegalArgumentException {
-        String taskName = parseTaskName(line);
-        String dueDateString = extractDueDateString(line);
-        LocalDate dueDate = dateTimeParser.parseDueDate(dueDateString);
-        return new Deadline(taskName, dueDate);
+        scanFields(line);
+        return parseScannedDeadline(line);
     }
 
-    private String parseEventTimesStringFile(String line) {
-        int startTimeArrayIdx = 3;
-        int endTimeArrayIdx = 4;
-        return splitLine(line)[startTimeArrayIdx] + "/" + splitLine(line)[endTimeArrayIdx];
+    private Deadline parseScannedDeadline(String line) throws DueDateParseException, IllegalArgumentException {
+        String taskName = getField(line, TASK_NAME_FIELD_IDX);
+        LocalDate dueDate = fileDateTimeParser.parseDueDate(getField(line, DUE_DATE_FIELD_IDX));
+        return new Deadline(taskName, dueDate, parseScannedRecurrence(line, DEADLINE_RECURRENCE_FIELD_IDX));
     }
 
     @Override
-    public Event parseEvent(String line) throws EventDateTimeParseException, DatePassedException {
-        String taskName = parseTaskName(line);
-        String eventTimesString = parseEventTimesStringFile(line);
-        LocalDateTime[] eventTimes = dateTimeParser.parseEventTimes(eventTimesString);
+    public Event parseEvent(String line) throws EventDateTimeParseException {
+        scanFields(line);
+        return parseScannedEvent(line);
+    }
+
+    private Event parseScannedEvent(String line) throws EventDateTimeParseException {
+        String taskName = getField(line, TASK_NAME_FIELD_IDX);
+        LocalDateTime[] eventTimes = fileDateTimeParser.parseEventTimes(
+                getField(line, START_TIME_FIELD_IDX), getField(line, END_TIME_FIELD_IDX));
         LocalDateTime startTime = eventTimes[0];
         LocalDateTime endTime = eventTimes[1];
-        return new Event(taskName, startTime, endTime);
+        return new Event(taskName, startTime, endTime, parseScannedRecurrence(line, EVENT_RECURRENCE_FIELD_IDX));
     }
 
     @Override
     protected TaskType extractTaskType(String line) throws IllegalTaskTypeException {
-        int taskTypeArrayIdx = 0;
-        String enteredTaskType = splitLine(line)[taskTypeArrayIdx];
-        return switch(enteredTaskType) {
-        case "T" -> TaskType.TODO;
-        case "D" -> TaskType.DEADLINE;
-        case "E" -> TaskType.EVENT;
-        default -> throw new IllegalTaskTypeException(enteredTaskType);
+        scanFields(line);
+        return extractScannedTaskType(line);
+    }
+
+    private TaskType extractScannedTaskType(String line) throws IllegalTaskTypeException {
+        int typeStart = getFieldStart(TASK_TYPE_FIELD_IDX);
+        boolean isSingleCharacter = getFieldEnd(TASK_TYPE_FIELD_IDX) == typeStart + 1;
+        TaskType taskType = !isSingleCharacter ? null : switch(line.charAt(typeStart)) {
+        case 'T' -> TaskType.TODO;
+        case 'D' -> TaskType.DEADLINE;
+        case 'E' -> TaskType.EVENT;
+        default -> null;
         };
+        if (taskType == null) {
+            throw new IllegalTaskTypeException(getField(line, TASK_TYPE_FIELD_IDX));
+        }
+        return taskType;
     }
 
     /**
      * Takes in a {@link String} representation of a {@link Task} saved on a {@link File},
      * and returns a {@link Task} with the corresponding details.
+     * <p>The line is walked only once, and only the name and dates are copied out of it.</p>
      *
      * @param line {@link String} form of a {@link Task} outlined in {@link File}.
      * @return {@link Task} with corresponding details.
-     * @throws DatePassedException           If a {@link Deadline}'s due date has passed current
-     *                                       date, or an {@link Event} has already concluded.
      * @throws HypeBotDateTimeParseException If {@link Deadline}'s due date or {@link Event} times
      *                                       encoded in an incorrect format.
      * @throws IllegalTaskStatusException    If a {@link Task}'s completion status is not an
@@ -166,13 +297,14 @@ public class FileTaskParser extends TaskParser {
      * @throws IllegalTaskTypeException      If no accepted task type is detected.
      */
     @Override
-    public Task parse(String line) throws DatePassedException, HypeBotDateTimeParseException,
+    public Task parse(String line) throws HypeBotDateTimeParseException,
             IllegalTaskStatusException, IllegalTaskTypeException {
-        TaskType taskType = extractTaskType(line);
+        scanFields(line);
+        TaskType taskType = extractScannedTaskType(line);
         Task newTask = switch(taskType) {
-        case TODO -> parseToDo(line);
-        case DEADLINE -> parseDeadline(line);
-        case EVENT -> parseEvent(line);
+        case TODO -> parseScannedToDo(line);
+        case DEADLINE -> parseScannedDeadline(line);
+        case EVENT -> parseScannedEvent(line);
         };
         checkIsCompleted(line, newTask);
         return newTask;
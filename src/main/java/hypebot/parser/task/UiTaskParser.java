@@ -7,12 +7,15 @@ import hypebot.exception.datetime.DueDateParseException;
 import hypebot.exception.datetime.EventDateTimeParseException;
 import hypebot.exception.datetime.HypeBotDateTimeParseException;
 import hypebot.exception.illegal.DatePassedException;
+import hypebot.exception.illegal.IllegalRecurrenceException;
 import hypebot.exception.illegal.IllegalTaskTypeException;
 import hypebot.exception.missing.MissingArgumentException;
 import hypebot.exception.missing.MissingTaskNameException;
+import hypebot.parser.CommandLine;
 import hypebot.parser.datetime.UiDateTimeParser;
 import hypebot.task.Deadline;
 import hypebot.task.Event;
+import hypebot.task.Recurrence;
 import hypebot.task.Task;
 import hypebot.task.ToDo;
 import hypebot.ui.gui.UiGuiMainWindow;
@@ -24,11 +27,33 @@ import hypebot.ui.gui.UiGuiMainWindow;
  * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
  */
 public class UiTaskParser extends TaskParser {
+    /** Word starting the field of a recurring {@link Deadline} or {@link Event} that says how often it repeats. */
+    private static final String RECURRENCE_PREFIX = "every ";
+
+    /** Index of the field saying how often a {@link Deadline} repeats, after its due date. */
+    private static final int DEADLINE_RECURRENCE_FIELD_IDX = 1;
+
+    /** Index of the field saying how often an {@link Event} repeats, after its start and end times. */
+    private static final int EVENT_RECURRENCE_FIELD_IDX = 2;
+
+    /** {@code dateTimeParser} as a {@link UiDateTimeParser}, which parses {@link CommandLine}s. */
+    private final UiDateTimeParser uiDateTimeParser;
+
     /**
      * Creates a new {@code UiTaskParser} containing a {@link UiDateTimeParser}.
      */
     public UiTaskParser() {
-        super(new UiDateTimeParser());
+        this(new UiDateTimeParser());
+    }
+
+    /**
+     * Takes in the {@link UiDateTimeParser} to parse dates with and creates a new {@code UiTaskParser}.
+     *
+     * @param uiDateTimeParser {@link UiDateTimeParser} that handles parsing of date-related entries.
+     */
+    private UiTaskParser(UiDateTimeParser uiDateTimeParser) {
+        super(uiDateTimeParser);
+        this.uiDateTimeParser = uiDateTimeParser;
     }
 
     /**
@@ -54,7 +79,19 @@ public class UiTaskParser extends TaskParser {
      */
     @Override
     protected TaskType extractTaskType(String line) throws IllegalTaskTypeException {
-        String enteredTaskType = splitLine(line)[0].split(" ")[0].trim().toLowerCase();
+        return extractTaskType(new CommandLine(line));
+    }
+
+    /**
+     * Takes in the tokenized line entered by user and returns the corresponding {@code TaskType}
+     * specified by the user.
+     *
+     * @param commandLine {@link CommandLine} entered by user.
+     * @return {@code TaskType} specified by the user.
+     * @throws IllegalTaskTypeException If no accepted {@code TaskType} is parsed.
+     */
+    private TaskType extractTaskType(CommandLine commandLine) throws IllegalTaskTypeException {
+        String enteredTaskType = commandLine.getCommandWord();
         return switch(enteredTaskType) {
         case "td", "todo" -> TaskType.TODO;
         case "dl", "deadline" -> TaskType.DEADLINE;
@@ -64,61 +101,57 @@ public class UiTaskParser extends TaskParser {
     }
 
     /**
-     * Takes in the full line entered by user and returns the {@link String}
-     * array containing the entered {@link Task}'s name separated by word.
+     * Takes in the full line user enters and returns the {@link String} form
+     * of the {@link Task} name entered.
      *
      * @param line Full {@link String} line entered by user.
-     * @return {@link String} array containing the {@link Task}'s name separated by word.
+     * @return {@link String} form of the {@link Task} name entered.
      * @throws MissingTaskNameException If no {@link Task} name is entered.
      */
-    private String[] separateTaskNameFromLine(String line) throws MissingTaskNameException {
-        String commandAndTaskNameString = splitLine(line)[0];
-        String[] commandAndTaskName = commandAndTaskNameString.split(" ");
-
-        String[] taskName = new String[commandAndTaskName.length - 1];
-        System.arraycopy(commandAndTaskName, 1, taskName, 0, taskName.length);
-
-        return taskName;
+    @Override
+    protected String parseTaskName(String line) throws MissingTaskNameException {
+        return parseTaskName(new CommandLine(line));
     }
 
     /**
-     * Takes in the full line entered by user and returns the entered
-     * {@link Task}'s name in {@link String} form using a {@link StringBuilder}.
+     * Takes in the tokenized line user enters and returns the {@link String} form
+     * of the {@link Task} name entered, being every word after the command word.
      *
-     * @param line Full {@link String} line entered by user.
-     * @return {@link String} name of the {@link Task} entered.
+     * @param commandLine {@link CommandLine} entered by user.
+     * @return {@link String} form of the {@link Task} name entered.
      * @throws MissingTaskNameException If no {@link Task} name is entered.
      */
-    private String buildTaskName(String line) throws MissingTaskNameException {
-        String[] taskNameWords = separateTaskNameFromLine(line);
-
-        try {
-            StringBuilder taskNameBuilder = new StringBuilder();
-            for (int i = 0; i < taskNameWords.length - 1; i++) {
-                taskNameBuilder.append(taskNameWords[i]).append(" ");
-            }
-            taskNameBuilder.append(taskNameWords[taskNameWords.length - 1]);
-            return taskNameBuilder.toString().trim();
-        } catch (ArrayIndexOutOfBoundsException e) {
+    private String parseTaskName(CommandLine commandLine) throws MissingTaskNameException {
+        String taskName = commandLine.getArgument();
+        if (taskName.isEmpty()) {
             throw new MissingTaskNameException();
         }
+        return taskName;
     }
 
     /**
-     * Takes in the full line user enters and returns the {@link String} form
-     * of the {@link Task} name entered.
+     * Takes in the tokenized line user enters and the index of the field that may say how often
+     * a {@link Deadline} or {@link Event} repeats, and returns the {@link Recurrence} entered.
      *
-     * @param line Full {@link String} line entered by user.
-     * @return {@link String} form of the {@link Task} name entered.
-     * @throws MissingTaskNameException If no {@link Task} name is entered.
+     * @param commandLine {@link CommandLine} entered by user.
+     * @param fieldIndex  Index of the field that may read {@code every {period}}.
+     * @return {@link Recurrence} entered, or {@code null} if there is no such field.
+     * @throws IllegalRecurrenceException If the field does not read {@code every} followed by
+     *                                    the period of a {@link Recurrence}.
      */
-    @Override
-    protected String parseTaskName(String line) throws MissingTaskNameException {
-        String taskName = buildTaskName(line);
-        if (taskName.isEmpty()) {
-            throw new MissingTaskNameException();
+    private Recurrence parseRecurrence(CommandLine commandLine, int fieldIndex) throws IllegalRecurrenceException {
+        if (commandLine.getFieldCount() <= fieldIndex) {
+            return null;
         }
-        return taskName;
+        String recurrenceField = commandLine.getField(fieldIndex).strip();
+        boolean hasPrefix = recurrenceField.regionMatches(true, 0, RECURRENCE_PREFIX, 0, RECURRENCE_PREFIX.length());
+        Recurrence recurrence = !hasPrefix
+                ? null
+                : Recurrence.fromPeriodName(recurrenceField.substring(RECURRENCE_PREFIX.length()).strip());
+        if (recurrence == null) {
+            throw new IllegalRecurrenceException(recurrenceField);
+        }
+        return recurrence;
     }
 
     /**
@@ -130,7 +163,18 @@ public class UiTaskParser extends TaskParser {
      */
     @Override
     public ToDo parseToDo(String fullCommand) throws MissingTaskNameException {
-        String taskName = parseTaskName(fullCommand);
+        return parseToDo(new CommandLine(fullCommand));
+    }
+
+    /**
+     * Takes in the tokenized line user enters and returns the {@link ToDo} entered.
+     *
+     * @param commandLine {@link CommandLine} entered by user.
+     * @return {@link ToDo} instance with name specified by user.
+     * @throws MissingTaskNameException If no name specified.
+     */
+    public ToDo parseToDo(CommandLine commandLine) throws MissingTaskNameException {
+        String taskName = parseTaskName(commandLine);
         return new ToDo(taskName);
     }
 
@@ -146,11 +190,27 @@ public class UiTaskParser extends TaskParser {
     @Override
     public Deadline parseDeadline(String fullCommand)
             throws MissingArgumentException, DueDateParseException, DatePassedException {
-        String taskName = parseTaskName(fullCommand);
+        return parseDeadline(new CommandLine(fullCommand));
+    }
 
-        LocalDate dueDate = dateTimeParser.parseDueDate(fullCommand);
+    /**
+     * Takes in the tokenized line user enters and returns the {@link Deadline} entered.
+     *
+     * @param commandLine {@link CommandLine} entered by user.
+     * @return {@link Deadline} instance with name, due date specified by user.
+     * @throws MissingArgumentException If any of name or due date not entered.
+     * @throws DueDateParseException    If due date is not entered in an accepted format.
+     * @throws DatePassedException      If due date has passed current date.
+     * @throws IllegalRecurrenceException If how often the {@link Deadline} repeats is not understood.
+     */
+    public Deadline parseDeadline(CommandLine commandLine)
+            throws MissingArgumentException, DueDateParseException, DatePassedException, IllegalRecurrenceException {
+        String taskName = parseTaskName(commandLine);
 
-        return new Deadline(taskName, dueDate);
+        LocalDate dueDate = uiDateTimeParser.parseDueDate(commandLine);
+        Recurrence recurrence = parseRecurrence(commandLine, DEADLINE_RECURRENCE_FIELD_IDX);
+
+        return new Deadline(taskName, dueDate, recurrence);
     }
 
     /**
@@ -165,14 +225,30 @@ public class UiTaskParser extends TaskParser {
     @Override
     public Event parseEvent(String fullCommand)
             throws MissingArgumentException, EventDateTimeParseException, DatePassedException {
-        String taskName = parseTaskName(fullCommand);
+        return parseEvent(new CommandLine(fullCommand));
+    }
 
-        LocalDateTime[] eventTimes = dateTimeParser.parseEventTimes(fullCommand);
+    /**
+     * Takes in the tokenized line user enters and returns the {@link Event} entered.
+     *
+     * @param commandLine {@link CommandLine} entered by user.
+     * @return {@link Event} task entered by user.
+     * @throws MissingArgumentException    If any of task name, start time, or end time not entered.
+     * @throws EventDateTimeParseException If event times not in an accepted format.
+     * @throws DatePassedException         If {@link Event} has already concluded.
+     * @throws IllegalRecurrenceException  If how often the {@link Event} repeats is not understood.
+     */
+    public Event parseEvent(CommandLine commandLine) throws MissingArgumentException,
+            EventDateTimeParseException, DatePassedException, IllegalRecurrenceException {
+        String taskName = parseTaskName(commandLine);
+
+        LocalDateTime[] eventTimes = uiDateTimeParser.parseEventTimes(commandLine);
 
         LocalDateTime startTime = eventTimes[0];
         LocalDateTime endTime = eventTimes[1];
+        Recurrence recurrence = parseRecurrence(commandLine, EVENT_RECURRENCE_FIELD_IDX);
 
-        return new Event(taskName, startTime, endTime);
+        return new Event(taskName, startTime, endTime, recurrence);
     }
 
     /**
@@ -187,11 +263,25 @@ public class UiTaskParser extends TaskParser {
     @Override
     public Task parse(String fullCommand)
             throws MissingArgumentException, HypeBotDateTimeParseException, DatePassedException {
-        TaskType taskType = extractTaskType(fullCommand);
+        return parse(new CommandLine(fullCommand));
+    }
+
+    /**
+     * Takes in the tokenized line user enters and returns the {@link Task} entered.
+     *
+     * @param commandLine {@link CommandLine} entered by user.
+     * @return {@link Task} entered by user.
+     * @throws MissingArgumentException      If any necessary {@link Task} fields not entered.
+     * @throws HypeBotDateTimeParseException If any dates entered in not in an accepted format.
+     * @throws DatePassedException           If {@link Task} date has already passed.
+     */
+    public Task parse(CommandLine commandLine)
+            throws MissingArgumentException, HypeBotDateTimeParseException, DatePassedException {
+        TaskType taskType = extractTaskType(commandLine);
         return switch(taskType) {
-        case TODO -> parseToDo(fullCommand);
-        case DEADLINE -> parseDeadline(fullCommand);
-        case EVENT -> parseEvent(fullCommand);
+        case TODO -> parseToDo(commandLine);
+        case DEADLINE -> parseDeadline(commandLine);
+        case EVENT -> parseEvent(commandLine);
         };
     }
 }
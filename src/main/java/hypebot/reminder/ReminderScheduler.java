@@ -0,0 +1,221 @@
+package hypebot.reminder;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import hypebot.main.HypeBot;
+import hypebot.task.Deadline;
+import hypebot.task.Event;
+import hypebot.task.Task;
+import hypebot.tasklist.TaskDueQueue;
+import hypebot.tasklist.Tasklist;
+import hypebot.tasklist.TasklistListener;
+
+/**
+ * Represents the {@code ReminderScheduler} of a {@link HypeBot}, which reminds the user of each
+ * incomplete {@link Deadline} on the day it is due and of each incomplete {@link Event} as it starts,
+ * and again on each occurrence of those that recur.
+ * <p>Keeps the {@link Task}s to remind of in a {@link TaskDueQueue}, so scheduling or cancelling a
+ * reminder costs O(log n) at most and each tick only peeks at the soonest one when nothing is due.</p>
+ * <p>Set as a {@link TasklistListener} of the {@link Tasklist} it schedules, so that adding,
+ * deleting, marking and unmarking {@link Task}s keeps it up to date. Thread-safe: ticks run on
+ * a background thread while the {@link Tasklist} changes on the user interface thread.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see TasklistListener
+ */
+public class ReminderScheduler implements TasklistListener {
+    /** Milliseconds between ticks once {@code start()} is called. */
+    private static final long TICK_MILLIS = 1_000;
+
+    /** {@link Clock} telling when reminders come due. */
+    private final Clock clock;
+
+    /** {@link Consumer} taking in each {@link Task} whose reminder comes due. */
+    private final Consumer<Task> reminderListener;
+
+    /** {@link Task}s to remind the user of, by when their reminders come due. */
+    private final TaskDueQueue reminders = new TaskDueQueue();
+
+    /** Runs {@code tick()} in the background; {@code null} until {@code start()} is called. */
+    private ScheduledExecutorService ticker;
+
+    /**
+     * Takes in a {@link Clock} and a {@link Consumer} of {@link Task}s, and creates a new
+     * {@code ReminderScheduler} with nothing scheduled that hands each {@link Task} to the
+     * {@link Consumer} as its reminder comes due by the {@link Clock}.
+     *
+     * @param clock            {@link Clock} telling when reminders come due.
+     * @param reminderListener {@link Consumer} taking in each {@link Task} whose reminder comes due,
+     *                         called on the thread ticking.
+     */
+    public ReminderScheduler(Clock clock, Consumer<Task> reminderListener) {
+        super();
+        this.clock = clock;
+        this.reminderListener = reminderListener;
+    }
+
+    /**
+     * Takes in a {@link Task} and the current {@link LocalDateTime}, and returns when the user
+     * should be reminded of it.
+     *
+     * @param task {@link Task} to remind the user of.
+     * @param now  Current {@link LocalDateTime}.
+     * @return Start of the next due date of an incomplete {@link Deadline} not yet past, next start
+     *         time of an incomplete {@link Event} not yet started, or {@code null} if there is
+     *         nothing to remind of.
+     */
+    private static LocalDateTime getDueAt(Task task, LocalDateTime now) {
+        if (task.isComplete()) {
+            return null;
+        } else if (task instanceof Deadline deadline) {
+            LocalDate nextDueDate = deadline.getNextDueDate(now.toLocalDate());
+            return nextDueDate == null ? null : nextDueDate.atStartOfDay();
+        } else if (task instanceof Event event) {
+            return event.getNextStartTime(now);
+        }
+        return null;
+    }
+
+    /**
+     * Takes in a recurring {@link Task} just reminded of and the current {@link LocalDateTime},
+     * and returns when the user should be reminded of its next occurrence.
+     *
+     * @param task {@link Task} just reminded of.
+     * @param now  Current {@link LocalDateTime}.
+     * @return Start of the following due date of a {@link Deadline}, following start time of an
+     *         {@link Event}, or {@code null} if the {@link Task} does not recur.
+     */
+    private static LocalDateTime getNextDueAt(Task task, LocalDateTime now) {
+        if (!task.isRecurring()) {
+            return null;
+        } else if (task instanceof Deadline) {
+            return getDueAt(task, now.toLocalDate().plusDays(1).atStartOfDay());
+        }
+        return getDueAt(task, now.plusNanos(1));
+    }
+
+    /**
+     * Takes in every {@link Task} to remind the user of and schedules a reminder for each,
+     * in place of everything scheduled before.
+     *
+     * @param tasks {@link Task}s to remind the user of, such as a freshly loaded {@link Tasklist}.
+     */
+    public synchronized void scheduleAll(Collection<Task> tasks) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Task> tasksToRemind = new ArrayList<>();
+        List<LocalDateTime> dueAts = new ArrayList<>();
+        for (Task task : tasks) {
+            LocalDateTime dueAt = getDueAt(task, now);
+            if (dueAt != null) {
+                tasksToRemind.add(task);
+                dueAts.add(dueAt);
+            }
+        }
+        reminders.scheduleAll(tasksToRemind, dueAts);
+    }
+
+    /**
+     * Takes in a {@link Task} and schedules a reminder for it in place of any scheduled before,
+     * if there is anything to remind of.
+     *
+     * @param task {@link Task} to remind the user of.
+     */
+    private void schedule(Task task) {
+        LocalDateTime dueAt = getDueAt(task, LocalDateTime.now(clock));
+        if (dueAt == null) {
+            reminders.cancel(task);
+        } else {
+            reminders.schedule(task, dueAt);
+        }
+    }
+
+    @Override
+    public synchronized void taskAdded(Task task) {
+        schedule(task);
+    }
+
+    @Override
+    public synchronized void taskRemoved(Task task) {
+        reminders.cancel(task);
+    }
+
+    @Override
+    public synchronized void taskUpdated(Task task) {
+        schedule(task);
+    }
+
+    @Override
+    public synchronized void tasksCleared() {
+        reminders.clear();
+    }
+
+    /**
+     * Returns the number of reminders scheduled and not yet due.
+     *
+     * @return Number of reminders scheduled.
+     */
+    public synchronized int getScheduledCount() {
+        return reminders.size();
+    }
+
+    /**
+     * Takes in the current {@link LocalDateTime} and returns the {@link Task}s of every reminder
+     * due by then, soonest due first, each only once per occurrence.
+     * <p>Schedules a reminder for the next occurrence of each recurring {@link Task} taken.</p>
+     *
+     * @param now Current {@link LocalDateTime}.
+     * @return {@link Task}s whose reminders are due.
+     */
+    private synchronized List<Task> pollDueTasks(LocalDateTime now) {
+        List<Task> dueTasks = reminders.pollDue(now, Integer.MAX_VALUE);
+        for (Task task : dueTasks) {
+            LocalDateTime nextDueAt = getNextDueAt(task, now);
+            if (nextDueAt != null) {
+                reminders.schedule(task, nextDueAt);
+            }
+        }
+        return dueTasks;
+    }
+
+    /**
+     * Hands the {@link Task} of every reminder now due by the {@link Clock} to the
+     * {@link Consumer} of reminders, each only once.
+     */
+    public void tick() {
+        pollDueTasks(LocalDateTime.now(clock)).forEach(reminderListener);
+    }
+
+    /**
+     * Starts calling {@code tick()} every {@code TICK_MILLIS} on a background daemon thread.
+     */
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread tickingThread = new Thread(runnable, "HypeBot-reminders");
+            tickingThread.setDaemon(true);
+            return tickingThread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, 0, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops calling {@code tick()} in the background, if {@code start()} was called.
+     */
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+}
@@ -1,12 +1,24 @@
 package hypebot.storage;
 
+import static hypebot.common.Messages.ERROR_SAVE_TASKLIST;
+
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+import java.util.regex.Pattern;
 
+import hypebot.command.ArchiveCommand;
 import hypebot.command.Command;
 import hypebot.main.HypeBot;
+import hypebot.metrics.jfr.LoadTasklistEvent;
+import hypebot.metrics.jfr.SaveTasklistEvent;
 import hypebot.task.Task;
+import hypebot.tasklist.ExpiredTaskSweeper;
 import hypebot.tasklist.Tasklist;
 
 /**
@@ -14,15 +26,43 @@ import hypebot.tasklist.Tasklist;
  * have access to.
  * <p>Triggers loading and saving of {@link Task}s in the {@link HypeBot}'s {@link Tasklist}
  * into/from a {@link File} located through a given {@link String} {@code filePath}.</p>
+ * <p>{@link Task}s moved out of the {@link Tasklist}, by an {@link ArchiveCommand} or the
+ * {@link ExpiredTaskSweeper}, are held until the next {@code save()}, which appends them to a
+ * {@link TaskArchive} next to the tasklist {@link File}, so that both {@link File}s change together.</p>
+ * <p>If launched with {@code -Dhypebot.autoArchiveCompleted=true}, every completed {@link Task}
+ * is also moved to the {@link TaskArchive} on each {@code save()}.</p>
+ * <p>{@link Task}s are saved in {@link TasklistShards}, listed by a manifest in the tasklist
+ * {@link File}, so that a {@code save()} only rewrites the shards changed since the last one.
+ * A tasklist {@link File} of {@link Task}s one per line, as saved before shards, is still loaded
+ * by a {@link TasklistDecoder}, and is turned into a manifest by the next {@code save()}.</p>
  *
  * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
  * @see TasklistDecoder
- * @see TasklistEncoder
+ * @see TasklistShards
+ * @see TaskArchive
  */
 public class StorageManager {
+    /** System property that turns on moving completed tasks to the archive on each save. */
+    public static final String AUTO_ARCHIVE_PROPERTY = "hypebot.autoArchiveCompleted";
+
+    /** Name of the archive file tasks are appended to, next to the tasklist file. */
+    private static final String ARCHIVE_FILE_NAME = "archived-tasks.gz";
+
     /** {@link File} object {@link Task}s are read / written to. */
     private final File tasklistFile;
 
+    /** {@link TasklistShards} {@link Task}s are saved in, listed by {@code tasklistFile}. */
+    private final TasklistShards tasklistShards;
+
+    /** {@link TaskArchive} {@link Task}s moved out of the {@link Tasklist} are appended to. */
+    private final TaskArchive taskArchive;
+
+    /** {@link Task}s moved out of the {@link Tasklist} since the last {@code save()}, oldest first. */
+    private final List<Task> pendingArchivedTasks = new ArrayList<>();
+
+    /** Whether completed {@link Task}s are moved to the {@link TaskArchive} on each {@code save()}. */
+    private final boolean isAutoArchiving = Boolean.getBoolean(AUTO_ARCHIVE_PROPERTY);
+
     /**
      * Takes in a {@link String} filepath to locate the {@link File} with
      * {@link Task} data, and creates a new {@code StorageManager} object
@@ -31,7 +71,21 @@ public class StorageManager {
      * @param filePath {@link String} filepath with saved {@link Task} data.
      */
     public StorageManager(String filePath) {
+        this(filePath, new File(new File(filePath).getAbsoluteFile().getParentFile(), ARCHIVE_FILE_NAME).getPath());
+    }
+
+    /**
+     * Takes in a {@link String} filepath to locate the {@link File} with {@link Task} data
+     * and one to locate the {@link File} of its {@link TaskArchive}, and creates a new
+     * {@code StorageManager} object with the specified {@link File}s.
+     *
+     * @param filePath        {@link String} filepath with saved {@link Task} data.
+     * @param archiveFilePath {@link String} filepath archived {@link Task}s are appended to.
+     */
+    public StorageManager(String filePath, String archiveFilePath) {
         tasklistFile = new File(filePath);
+        tasklistShards = new TasklistShards(tasklistFile);
+        taskArchive = new TaskArchive(new File(archiveFilePath));
         try {
             if (!tasklistFile.exists()) {
                 tasklistFile.getParentFile().mkdirs();
@@ -43,28 +97,115 @@ public class StorageManager {
     }
 
     /**
-     * Creates a new {@link TasklistDecoder} with the {@link File} {@code tasklistFile},
-     * and returns the {@link Tasklist} created by {@code TasklistDecoder.decode()}.
+     * Loads the {@link Tasklist} from the {@link TasklistShards} listed by {@link File}
+     * {@code tasklistFile}, or, if it lists none, decodes the {@link Task}s in it with a new
+     * {@link TasklistDecoder}.
      *
      * @return {@link Tasklist} of {@link Task}s saved in {@link File} {@code tasklistFile}.
      * @throws FileNotFoundException If specified {@link File} not found.
      * @throws RuntimeException If any saved data is not in expected format.
      */
     public Tasklist load() throws FileNotFoundException, RuntimeException {
-        TasklistDecoder decoder = new TasklistDecoder(tasklistFile);
-        return decoder.decode();
+        return load(progress -> {});
+    }
+
+    /**
+     * Loads the {@link Tasklist} like {@code load()}, reporting the fraction of the
+     * {@link Task}s read so far to the {@link DoubleConsumer} taken in.
+     *
+     * @param progressListener {@link DoubleConsumer} taking in the fraction decoded, from 0 to 1.
+     * @return {@link Tasklist} of {@link Task}s saved in {@link File} {@code tasklistFile}.
+     * @throws FileNotFoundException If specified {@link File} not found.
+     * @throws RuntimeException If any saved data is not in expected format.
+     */
+    public Tasklist load(DoubleConsumer progressListener) throws FileNotFoundException, RuntimeException {
+        LoadTasklistEvent event = new LoadTasklistEvent();
+        event.begin();
+        Tasklist tasks = null;
+        long bytesRead = tasklistFile.length();
+        try {
+            if (TasklistShards.isManifest(tasklistFile)) {
+                tasks = tasklistShards.load(progressListener);
+                bytesRead += tasklistShards.getBytesLoaded();
+            } else {
+                TasklistDecoder decoder = new TasklistDecoder(tasklistFile);
+                tasks = decoder.decode(progressListener);
+            }
+            return tasks;
+        } catch (FileNotFoundException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setFilePath(tasklistFile.getPath());
+                event.setBytesRead(bytesRead);
+                event.setTasklistSize(tasks == null ? 0 : tasks.size());
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Takes in {@link Task}s moved out of the {@link Tasklist} and holds them until the next
+     * {@code save()} appends them to the {@link TaskArchive}.
+     *
+     * @param archivedTasks {@link Task}s moved out of the {@link Tasklist}.
+     */
+    public void archive(Collection<Task> archivedTasks) {
+        pendingArchivedTasks.addAll(archivedTasks);
+    }
+
+    /**
+     * Takes in a regex {@link Pattern} of search keywords and returns every archived {@link Task},
+     * saved or not, whose name contains any of them.
+     *
+     * @param searchQuery Regex {@link Pattern} of search keywords.
+     * @return Archived {@link Task}s with names matching the search query, oldest first.
+     * @throws IOException If the {@link TaskArchive} cannot be read.
+     */
+    public List<Task> searchArchive(Pattern searchQuery) throws IOException {
+        List<Task> matchingTasks = taskArchive.search(searchQuery);
+        for (Task task : pendingArchivedTasks) {
+            if (task.nameContains(searchQuery)) {
+                matchingTasks.add(task);
+            }
+        }
+        return matchingTasks;
     }
 
     /**
      * Takes in a {@link Tasklist} to encode and save to the {@link File} specified.
-     * Creates a new {@link TasklistEncoder} and calls {@code TasklistEncoder.encode()}
-     * to save {@link Task}s in {@link Tasklist}.
+     * Appends any {@link Task}s moved out of the {@link Tasklist} since the last save, and every
+     * completed {@link Task} if auto-archiving, to the {@link TaskArchive}, then
+     * saves the {@link Task}s in {@link Tasklist} to the {@link TasklistShards} they changed.
      *
      * @param tasks {@link Tasklist} of {@link Task}s to save.
-     * @throws IOException If specified {@link File} not found.
+     * @throws IOException If specified {@link File} not found or could not be written.
      */
     public void save(Tasklist tasks) throws IOException {
-        TasklistEncoder encoder = new TasklistEncoder(tasklistFile, tasks);
-        encoder.encode();
+        SaveTasklistEvent event = new SaveTasklistEvent();
+        event.begin();
+        long bytesWritten = 0;
+        try {
+            if (!tasklistFile.exists()) {
+                throw new FileNotFoundException(ERROR_SAVE_TASKLIST);
+            }
+            if (isAutoArchiving) {
+                archive(tasks.removeCompleted());
+            }
+            taskArchive.append(pendingArchivedTasks);
+            pendingArchivedTasks.clear();
+            bytesWritten = tasklistShards.save(tasks);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setFilePath(tasklistFile.getPath());
+                event.setBytesWritten(bytesWritten);
+                event.setTasklistSize(tasks.size());
+                event.commit();
+            }
+        }
     }
 }
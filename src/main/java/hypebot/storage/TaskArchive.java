@@ -0,0 +1,103 @@
+package hypebot.storage;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import hypebot.parser.task.FileTaskParser;
+import hypebot.task.Task;
+import hypebot.tasklist.Tasklist;
+
+/**
+ * Represents a {@code TaskArchive}, an append-only, gzip-compressed {@link File} of {@link Task}s
+ * moved out of the {@link Tasklist}, encoded one per line just as in the tasklist {@link File}.
+ * <p>Each append writes a new gzip member to the end of the {@link File}, so nothing already
+ * archived is ever read or rewritten; the members read back as one stream.</p>
+ * <p>Searching streams through the {@link File} a line at a time, so only the matching
+ * {@link Task}s are ever held in memory. Lines that cannot be parsed back into a {@link Task},
+ * such as one cut short by a crash mid-append, are skipped rather than failing the search.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see StorageManager
+ */
+public class TaskArchive {
+    /** {@link File} archived {@link Task}s are appended to. */
+    private final File archiveFile;
+
+    /** {@link FileTaskParser} that parses archived lines back into {@link Task}s. */
+    private final FileTaskParser fileTaskParser = new FileTaskParser();
+
+    /**
+     * Takes in the {@link File} to archive {@link Task}s to and creates a new {@code TaskArchive};
+     * the {@link File} is only created once something is archived.
+     *
+     * @param archiveFile {@link File} archived {@link Task}s are appended to.
+     */
+    public TaskArchive(File archiveFile) {
+        this.archiveFile = archiveFile;
+    }
+
+    /**
+     * Takes in {@link Task}s and appends them to the end of the archive {@link File}
+     * as a new gzip member.
+     *
+     * @param tasksToArchive {@link Task}s to archive, in order.
+     * @throws IOException If the archive {@link File} cannot be written to.
+     */
+    public void append(Collection<Task> tasksToArchive) throws IOException {
+        if (tasksToArchive.isEmpty()) {
+            return;
+        }
+        try (Writer archiveWriter = new OutputStreamWriter(
+                new GZIPOutputStream(new FileOutputStream(archiveFile, true)), StandardCharsets.UTF_8)) {
+            for (Task task : tasksToArchive) {
+                archiveWriter.write(task.toFileString());
+            }
+        }
+    }
+
+    /**
+     * Takes in a regex {@link Pattern} of search keywords and returns every archived {@link Task}
+     * whose name contains any of them, streaming through the archive {@link File} and skipping
+     * any line that cannot be parsed.
+     *
+     * @param searchQuery Regex {@link Pattern} of search keywords.
+     * @return Archived {@link Task}s with names matching the search query, oldest first;
+     *         empty if nothing has been archived.
+     * @throws IOException If the archive {@link File} cannot be read.
+     */
+    public List<Task> search(Pattern searchQuery) throws IOException {
+        List<Task> matchingTasks = new ArrayList<>();
+        if (!archiveFile.exists()) {
+            return matchingTasks;
+        }
+        try (BufferedReader archiveReader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new FileInputStream(archiveFile)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = archiveReader.readLine()) != null) {
+                Task task;
+                try {
+                    task = fileTaskParser.parse(line);
+                } catch (RuntimeException e) {
+                    continue;
+                }
+                if (task.nameContains(searchQuery)) {
+                    matchingTasks.add(task);
+                }
+            }
+        }
+        return matchingTasks;
+    }
+}
@@ -5,11 +5,12 @@ import static hypebot.common.Messages.ERROR_LOCATING_TASKLIST;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.util.Scanner;
+import java.util.function.DoubleConsumer;
 
 import hypebot.exception.datetime.HypeBotDateTimeParseException;
-import hypebot.exception.illegal.DatePassedException;
 import hypebot.exception.illegal.IllegalTaskStatusException;
 import hypebot.exception.illegal.IllegalTaskTypeException;
+import hypebot.metrics.jfr.DecodeTasklistEvent;
 import hypebot.parser.task.FileTaskParser;
 import hypebot.task.Deadline;
 import hypebot.task.Event;
@@ -49,16 +50,14 @@ public class TasklistDecoder {
      *
      * @param taskTextLine {@link String} line from the {@link File} {@code tasklistFile}.
      * @param tasks        {@link Tasklist} where {@link Task}s are being loaded into.
-     * @throws DatePassedException           If a {@link Deadline}'s due date has passed current
-     *                                       date, or an {@link Event} has already concluded.
      * @throws HypeBotDateTimeParseException If {@link Deadline}'s due date or {@link Event} times
      *                                       encoded in an incorrect format.
      * @throws IllegalTaskStatusException    If a {@link Task}'s completion status is not an
      *                                       accepted value.
      * @throws IllegalTaskTypeException      If no accepted task type is detected.
      */
-    private void addTaskFromText(String taskTextLine, Tasklist tasks) throws DatePassedException,
-            HypeBotDateTimeParseException, IllegalTaskStatusException, IllegalTaskTypeException {
+    private void addTaskFromText(String taskTextLine, Tasklist tasks) throws HypeBotDateTimeParseException,
+            IllegalTaskStatusException, IllegalTaskTypeException {
         Task newTask = fileTaskParser.parse(taskTextLine);
         tasks.add(newTask);
     }
@@ -72,26 +71,62 @@ public class TasklistDecoder {
      * @throws FileNotFoundException         If {@link File} {@code tasklistFile} does not exist.
      * @throws HypeBotDateTimeParseException If {@link Deadline}'s due date or {@link Event} times
      *                                       encoded in an incorrect format.
-     * @throws IllegalArgumentException      If either a {@link Deadline}'s due date has passed,
-     *                                       or an {@link Event} has already concluded; if a
-     *                                       {@link Task}'s completion status is not accepted;
+     * @throws IllegalArgumentException      If a {@link Task}'s completion status is not accepted,
      *                                       or if an unaccepted task type is found.
      */
     public Tasklist decode() throws FileNotFoundException, HypeBotDateTimeParseException, IllegalArgumentException {
+        return decode(progress -> {});
+    }
+
+    /**
+     * Decodes {@link File} {@code tasklistFile} like {@code decode()}, reporting the fraction
+     * of the {@link File} decoded so far to the {@link DoubleConsumer} taken in.
+     * <p>Progress is reported each time another whole percent of the {@link File} is decoded,
+     * and is estimated from the characters read against the size of the {@link File}.</p>
+     *
+     * @param progressListener {@link DoubleConsumer} taking in the fraction decoded, from 0 to 1.
+     * @return {@link Tasklist} with {@link Task}s decoded from {@link File} {@code tasklistFile}.
+     * @throws FileNotFoundException         If {@link File} {@code tasklistFile} does not exist.
+     * @throws HypeBotDateTimeParseException If {@link Deadline}'s due date or {@link Event} times
+     *                                       encoded in an incorrect format.
+     * @throws IllegalArgumentException      If a {@link Task}'s completion status is not accepted,
+     *                                       or if an unaccepted task type is found.
+     */
+    public Tasklist decode(DoubleConsumer progressListener)
+            throws FileNotFoundException, HypeBotDateTimeParseException, IllegalArgumentException {
         if (!tasklistFile.exists()) {
             throw new FileNotFoundException(ERROR_LOCATING_TASKLIST + tasklistFile.getAbsolutePath());
         }
 
+        DecodeTasklistEvent event = new DecodeTasklistEvent();
+        event.begin();
         Scanner scanner = new Scanner(tasklistFile);
         Tasklist tasks = new Tasklist();
+        long fileLength = Math.max(1, tasklistFile.length());
+        long charsRead = 0;
+        long lastPercentReported = 0;
 
-        while (scanner.hasNextLine()) {
-            String taskText = scanner.nextLine();
-            addTaskFromText(taskText, tasks);
+        try {
+            while (scanner.hasNextLine()) {
+                String taskText = scanner.nextLine();
+                addTaskFromText(taskText, tasks);
+                charsRead += taskText.length() + 1;
+                long percentRead = Math.min(100, charsRead * 100 / fileLength);
+                if (percentRead > lastPercentReported) {
+                    lastPercentReported = percentRead;
+                    progressListener.accept(percentRead / 100.0);
+                }
+            }
+        } finally {
+            scanner.close();
+            event.end();
+            if (event.shouldCommit()) {
+                event.setRecordsParsed(tasks.size());
+                event.setCharactersRead(charsRead);
+                event.commit();
+            }
         }
 
-        scanner.close();
-
         return tasks;
     }
 }
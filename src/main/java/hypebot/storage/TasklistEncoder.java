@@ -2,10 +2,18 @@ package hypebot.storage;
 
 import static hypebot.common.Messages.ERROR_SAVE_TASKLIST;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
 import hypebot.main.HypeBot;
 import hypebot.task.Task;
@@ -19,6 +27,9 @@ import hypebot.tasklist.Tasklist;
  * @see TasklistDecoder
  */
 public class TasklistEncoder {
+    /** Suffix of the temporary {@link File} written to before it replaces the {@link File} it is next to. */
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
     /** {@link File} to save all {@link Task}s in a {@link Tasklist}. */
     private final File tasklistFile;
 
@@ -37,23 +48,67 @@ public class TasklistEncoder {
         this.tasks = tasks;
     }
 
+    /**
+     * Represents the contents {@code writeDurably()} writes to a {@link File}.
+     */
+    @FunctionalInterface
+    interface FileContents {
+        /**
+         * Takes in a {@link Writer} to the {@link File} and writes the contents to it.
+         *
+         * @param writer {@link Writer} to the {@link File}.
+         * @throws IOException If the contents could not be written.
+         */
+        void writeTo(Writer writer) throws IOException;
+    }
 
     /**
      * Encodes {@link Task}s in the {@code TasklistEncoder}'s {@code tasks} in a
-     * {@link TasklistDecoder}-decodeable format using a {@link FileWriter}.
+     * {@link TasklistDecoder}-decodeable format, durably.
      *
      * @throws IOException If {@link File} to save to does not exist or an unexpected
-     *                     error occurs when encoding with the {@link FileWriter}.
+     *                     error occurs when writing or moving the temporary {@link File}.
      */
     public void encode() throws IOException {
         if (!tasklistFile.exists()) {
             throw new FileNotFoundException(ERROR_SAVE_TASKLIST);
         }
-        FileWriter tasklistWriter = new FileWriter(tasklistFile);
-        tasklistWriter.write("");
-        for (Task task : tasks) {
-            tasklistWriter.append(task.toFileString());
+        writeDurably(tasklistFile, Charset.defaultCharset(), tasklistWriter -> {
+            for (Task task : tasks) {
+                tasklistWriter.write(task.toFileString());
+            }
+        });
+    }
+
+    /**
+     * Takes in a {@link File}, the {@link Charset} to encode it in and its {@link FileContents},
+     * and replaces whatever the {@link File} held with them, durably.
+     * <p>Writes them to a temporary {@link File} next to it, forces that to the drive, then moves
+     * it over the {@link File} in one step, so that a crash part way through leaves the last
+     * contents whole rather than half-written ones.</p>
+     *
+     * @param file     {@link File} to write.
+     * @param charset  {@link Charset} to encode the contents in.
+     * @param contents {@link FileContents} to write.
+     * @return Number of bytes written.
+     * @throws IOException If an unexpected error occurs when writing or moving the temporary {@link File}.
+     */
+    static long writeDurably(File file, Charset charset, FileContents contents) throws IOException {
+        Path filePath = file.getAbsoluteFile().toPath();
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        long bytesWritten;
+        try (FileOutputStream tempOutput = new FileOutputStream(tempPath.toFile());
+                Writer writer = new BufferedWriter(new OutputStreamWriter(tempOutput, charset))) {
+            contents.writeTo(writer);
+            writer.flush();
+            tempOutput.getFD().sync();
+            bytesWritten = tempOutput.getChannel().size();
+        }
+        try {
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
         }
-        tasklistWriter.close();
+        return bytesWritten;
     }
 }
@@ -0,0 +1,367 @@
+package hypebot.storage;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.DoubleConsumer;
+import java.util.regex.Pattern;
+
+import hypebot.command.ListsCommand;
+import hypebot.command.UseCommand;
+import hypebot.main.HypeBot;
+import hypebot.task.Task;
+import hypebot.tasklist.Tasklist;
+import hypebot.tasklist.TasklistListener;
+
+/**
+ * Represents a {@code TasklistManager} keeping the named {@link Tasklist}s of a {@link HypeBot},
+ * each saved to its own {@link File} by its own {@link StorageManager}, one of them current.
+ * <p>The default {@link Tasklist} is the {@link File} the {@link HypeBot} was created with,
+ * named after it; every other {@link Tasklist} is kept in a {@code lists} directory next to it,
+ * with its archive beside it.</p>
+ * <p>A {@link Tasklist} is only loaded the first time a {@link UseCommand} asks for it, and stays
+ * in memory so switching back to it is a lookup. Once more than {@code maxLoadedTasklists} are
+ * loaded, or more than {@code maxLoadedTasks} {@link Task}s across them, the least recently used
+ * are saved, if changed, and dropped from memory until used again. The limits default to those
+ * given by {@code -Dhypebot.maxLoadedTasklists} and {@code -Dhypebot.maxLoadedTasks}; a
+ * {@link Task} takes up about 140 bytes in a {@link Tasklist}, so the default of a million
+ * {@link Task}s keeps them to roughly 140 MB.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see StorageManager
+ * @see UseCommand
+ * @see ListsCommand
+ */
+public class TasklistManager {
+    /** System property giving the most {@link Tasklist}s kept loaded at once. */
+    public static final String MAX_LOADED_TASKLISTS_PROPERTY = "hypebot.maxLoadedTasklists";
+
+    /** System property giving the most {@link Task}s kept loaded at once, across every {@link Tasklist}. */
+    public static final String MAX_LOADED_TASKS_PROPERTY = "hypebot.maxLoadedTasks";
+
+    /** Most {@link Tasklist}s kept loaded at once, unless set otherwise. */
+    private static final int DEFAULT_MAX_LOADED_TASKLISTS = 8;
+
+    /** Most {@link Task}s kept loaded at once, unless set otherwise. */
+    private static final int DEFAULT_MAX_LOADED_TASKS = 1_000_000;
+
+    /** Name of the directory every {@link Tasklist} but the default is kept in. */
+    private static final String TASKLIST_DIRECTORY_NAME = "lists";
+
+    /** Ending of the name of each {@link File} a {@link Tasklist} is saved to. */
+    private static final String TASKLIST_FILE_SUFFIX = ".txt";
+
+    /** Ending of the name of each {@link File} a {@link Tasklist}'s {@link Task}s are archived to. */
+    private static final String ARCHIVE_FILE_SUFFIX = "-archived-tasks.gz";
+
+    /** {@link Pattern} every name of a {@link Tasklist} matches, so it can name a {@link File} as is. */
+    private static final Pattern TASKLIST_NAME_PATTERN = Pattern.compile("[a-z0-9_-]{1,64}");
+
+    /** Path of the {@link File} the default {@link Tasklist} is saved to. */
+    private final String defaultFilePath;
+
+    /** Name of the default {@link Tasklist}. */
+    private final String defaultTasklistName;
+
+    /** Directory every {@link Tasklist} but the default is kept in. */
+    private final File tasklistDirectory;
+
+    /** Most {@link Tasklist}s kept loaded at once. */
+    private final int maxLoadedTasklists;
+
+    /** Most {@link Task}s kept loaded at once, across every {@link Tasklist}. */
+    private final long maxLoadedTasks;
+
+    /** Every loaded {@link Tasklist} by name, least recently used first. */
+    private final Map<String, LoadedTasklist> loadedTasklists = new LinkedHashMap<>();
+
+    /** Name of the current {@link Tasklist}; {@code null} until one is used. */
+    private String currentName;
+
+    /** Current {@link Tasklist}; {@code null} until one is used. */
+    private LoadedTasklist current;
+
+    /**
+     * Represents a {@code LoadedTasklist}, a {@link Tasklist} in memory with the {@link StorageManager}
+     * saving it, which watches it to know whether it has changed since it was last saved.
+     */
+    private static class LoadedTasklist implements TasklistListener {
+        private final StorageManager storage;
+        private final Tasklist tasks;
+        private boolean isChanged = false;
+
+        private LoadedTasklist(StorageManager storage, Tasklist tasks) {
+            this.storage = storage;
+            this.tasks = tasks;
+            tasks.addListener(this);
+        }
+
+        private void save() throws IOException {
+            storage.save(tasks);
+            isChanged = false;
+        }
+
+        @Override
+        public void taskAdded(Task task) {
+            isChanged = true;
+        }
+
+        @Override
+        public void taskRemoved(Task task) {
+            isChanged = true;
+        }
+
+        @Override
+        public void taskUpdated(Task task) {
+            isChanged = true;
+        }
+
+        @Override
+        public void tasksCleared() {
+            isChanged = true;
+        }
+    }
+
+    /**
+     * Takes in the {@link String} filepath of the default {@link Tasklist} and creates a new
+     * {@code TasklistManager} with nothing loaded, keeping as many {@link Tasklist}s and
+     * {@link Task}s loaded as the system properties allow.
+     *
+     * @param defaultFilePath {@link String} filepath the default {@link Tasklist} is saved to.
+     */
+    public TasklistManager(String defaultFilePath) {
+        this(defaultFilePath, Integer.getInteger(MAX_LOADED_TASKLISTS_PROPERTY, DEFAULT_MAX_LOADED_TASKLISTS),
+                Long.getLong(MAX_LOADED_TASKS_PROPERTY, DEFAULT_MAX_LOADED_TASKS));
+    }
+
+    /**
+     * Takes in the {@link String} filepath of the default {@link Tasklist} and the most
+     * {@link Tasklist}s and {@link Task}s to keep loaded at once, and creates a new
+     * {@code TasklistManager} with nothing loaded.
+     *
+     * @param defaultFilePath    {@link String} filepath the default {@link Tasklist} is saved to.
+     * @param maxLoadedTasklists Most {@link Tasklist}s kept loaded at once; the current one always is.
+     * @param maxLoadedTasks     Most {@link Task}s kept loaded at once, across every {@link Tasklist}.
+     */
+    public TasklistManager(String defaultFilePath, int maxLoadedTasklists, long maxLoadedTasks) {
+        super();
+        File defaultFile = new File(defaultFilePath);
+        String defaultFileName = defaultFile.getName();
+        this.defaultFilePath = defaultFilePath;
+        this.defaultTasklistName = (defaultFileName.endsWith(TASKLIST_FILE_SUFFIX)
+                ? defaultFileName.substring(0, defaultFileName.length() - TASKLIST_FILE_SUFFIX.length())
+                : defaultFileName).toLowerCase(Locale.ROOT);
+        this.tasklistDirectory = new File(defaultFile.getAbsoluteFile().getParentFile(), TASKLIST_DIRECTORY_NAME);
+        this.maxLoadedTasklists = Math.max(1, maxLoadedTasklists);
+        this.maxLoadedTasks = maxLoadedTasks;
+    }
+
+    /**
+     * Takes in a name and returns whether a {@link Tasklist} can go by it.
+     *
+     * @param tasklistName Name of a {@link Tasklist}.
+     * @return Whether the name is 1 to 64 lower case letters, digits, {@code -} and {@code _}.
+     */
+    public static boolean isValidTasklistName(String tasklistName) {
+        return TASKLIST_NAME_PATTERN.matcher(tasklistName).matches();
+    }
+
+    /**
+     * Takes in the name of a {@link Tasklist} and returns the {@link StorageManager} saving it.
+     *
+     * @param tasklistName Name of the {@link Tasklist}.
+     * @return {@link StorageManager} saving the {@link Tasklist} to its own {@link File}.
+     */
+    private StorageManager createStorage(String tasklistName) {
+        if (tasklistName.equals(defaultTasklistName)) {
+            return new StorageManager(defaultFilePath);
+        }
+        return new StorageManager(new File(tasklistDirectory, tasklistName + TASKLIST_FILE_SUFFIX).getPath(),
+                new File(tasklistDirectory, tasklistName + ARCHIVE_FILE_SUFFIX).getPath());
+    }
+
+    /**
+     * Takes in the name of a {@link Tasklist}, loads it if it is not loaded yet, creating an empty
+     * one if there is none by that name, makes it the current {@link Tasklist} and returns it.
+     *
+     * @param tasklistName Name of the {@link Tasklist} to use.
+     * @return {@link Tasklist} now current.
+     * @throws FileNotFoundException    If the {@link File} of the {@link Tasklist} is not found.
+     * @throws IllegalArgumentException If the name is not one a {@link Tasklist} can go by.
+     * @throws RuntimeException         If any saved data is not in expected format.
+     */
+    public Tasklist use(String tasklistName) throws FileNotFoundException, RuntimeException {
+        return use(tasklistName, progress -> {});
+    }
+
+    /**
+     * Uses the {@link Tasklist} like {@code use()}, reporting the fraction of its {@link File}
+     * loaded so far to the {@link DoubleConsumer} taken in, if it is not loaded yet.
+     * <p>Leaves the current {@link Tasklist} as it was if the {@link Tasklist} cannot be loaded.</p>
+     *
+     * @param tasklistName     Name of the {@link Tasklist} to use.
+     * @param progressListener {@link DoubleConsumer} taking in the fraction loaded, from 0 to 1.
+     * @return {@link Tasklist} now current.
+     * @throws FileNotFoundException    If the {@link File} of the {@link Tasklist} is not found.
+     * @throws IllegalArgumentException If the name is neither the default nor one a {@link Tasklist} can go by.
+     * @throws RuntimeException         If any saved data is not in expected format.
+     */
+    public Tasklist use(String tasklistName, DoubleConsumer progressListener)
+            throws FileNotFoundException, RuntimeException {
+        if (!tasklistName.equals(defaultTasklistName) && !isValidTasklistName(tasklistName)) {
+            throw new IllegalArgumentException("Invalid tasklist name: " + tasklistName);
+        }
+        LoadedTasklist tasklist = loadedTasklists.remove(tasklistName);
+        if (tasklist == null) {
+            StorageManager storage = createStorage(tasklistName);
+            tasklist = new LoadedTasklist(storage, storage.load(progressListener));
+        }
+        makeCurrent(tasklistName, tasklist);
+        return tasklist.tasks;
+    }
+
+    /**
+     * Takes in the name of a {@link Tasklist} that could not be loaded, and makes a new, empty
+     * {@link Tasklist} current in its place, which replaces its {@link File} when saved.
+     *
+     * @param tasklistName Name of the {@link Tasklist} that could not be loaded.
+     * @return Empty {@link Tasklist} now current.
+     */
+    public Tasklist useEmpty(String tasklistName) {
+        LoadedTasklist tasklist = new LoadedTasklist(createStorage(tasklistName), new Tasklist());
+        LoadedTasklist unloadableTasklist = loadedTasklists.remove(tasklistName);
+        if (unloadableTasklist != null) {
+            unloadableTasklist.tasks.removeListener(unloadableTasklist);
+        }
+        makeCurrent(tasklistName, tasklist);
+        return tasklist.tasks;
+    }
+
+    private void makeCurrent(String tasklistName, LoadedTasklist tasklist) {
+        loadedTasklists.put(tasklistName, tasklist);
+        currentName = tasklistName;
+        current = tasklist;
+        evictLeastRecentlyUsed();
+    }
+
+    /**
+     * Saves and drops from memory the least recently used {@link Tasklist}s, other than the current
+     * one, until no more {@link Tasklist}s or {@link Task}s are loaded than allowed.
+     * <p>A {@link Tasklist} unchanged since it was loaded or saved is dropped without saving. One
+     * that cannot be saved is kept loaded rather than lose its changes.</p>
+     */
+    private void evictLeastRecentlyUsed() {
+        long loadedTaskCount = 0;
+        for (LoadedTasklist tasklist : loadedTasklists.values()) {
+            loadedTaskCount += tasklist.tasks.size();
+        }
+        Iterator<LoadedTasklist> leastRecentlyUsed = loadedTasklists.values().iterator();
+        while (leastRecentlyUsed.hasNext()
+                && (loadedTasklists.size() > maxLoadedTasklists || loadedTaskCount > maxLoadedTasks)) {
+            LoadedTasklist tasklist = leastRecentlyUsed.next();
+            if (tasklist == current) {
+                continue;
+            }
+            try {
+                if (tasklist.isChanged) {
+                    tasklist.save();
+                }
+            } catch (IOException e) {
+                continue;
+            }
+            tasklist.tasks.removeListener(tasklist);
+            leastRecentlyUsed.remove();
+            loadedTaskCount -= tasklist.tasks.size();
+        }
+    }
+
+    /**
+     * Saves the current {@link Tasklist} and every other loaded {@link Tasklist} changed since it
+     * was loaded or last saved, each to its own {@link File}.
+     *
+     * @throws IOException If any {@link Tasklist} could not be saved; the rest are still saved.
+     */
+    public void saveAll() throws IOException {
+        IOException saveError = null;
+        for (LoadedTasklist tasklist : loadedTasklists.values()) {
+            try {
+                if (tasklist == current || tasklist.isChanged) {
+                    tasklist.save();
+                }
+            } catch (IOException e) {
+                saveError = saveError == null ? e : saveError;
+            }
+        }
+        if (saveError != null) {
+            throw saveError;
+        }
+    }
+
+    /**
+     * Returns the name of every {@link Tasklist}, loaded or saved, with the number of {@link Task}s
+     * in each one loaded.
+     *
+     * @return Name of every {@link Tasklist} in alphabetical order, each with its number of
+     *         {@link Task}s if loaded, or {@code null} if only saved.
+     */
+    public Map<String, Integer> getTasklistSizes() {
+        Map<String, Integer> tasklistSizes = new TreeMap<>();
+        tasklistSizes.put(defaultTasklistName, null);
+        File[] tasklistFiles = tasklistDirectory.listFiles();
+        if (tasklistFiles != null) {
+            for (File tasklistFile : tasklistFiles) {
+                String fileName = tasklistFile.getName();
+                if (!fileName.endsWith(TASKLIST_FILE_SUFFIX)) {
+                    continue;
+                }
+                String tasklistName = fileName.substring(0, fileName.length() - TASKLIST_FILE_SUFFIX.length());
+                if (isValidTasklistName(tasklistName)) {
+                    tasklistSizes.put(tasklistName, null);
+                }
+            }
+        }
+        loadedTasklists.forEach((tasklistName, tasklist) -> tasklistSizes.put(tasklistName, tasklist.tasks.size()));
+        return tasklistSizes;
+    }
+
+    /**
+     * Returns the name of the default {@link Tasklist}, taken from the name of its {@link File}.
+     *
+     * @return Name of the default {@link Tasklist}.
+     */
+    public String getDefaultTasklistName() {
+        return defaultTasklistName;
+    }
+
+    /**
+     * Returns the name of the current {@link Tasklist}.
+     *
+     * @return Name of the current {@link Tasklist}; {@code null} if none has been used yet.
+     */
+    public String getCurrentName() {
+        return currentName;
+    }
+
+    /**
+     * Returns the current {@link Tasklist}.
+     *
+     * @return Current {@link Tasklist}; {@code null} if none has been used yet.
+     */
+    public Tasklist getCurrentTasks() {
+        return current == null ? null : current.tasks;
+    }
+
+    /**
+     * Returns the {@link StorageManager} saving the current {@link Tasklist}.
+     *
+     * @return {@link StorageManager} of the current {@link Tasklist}; {@code null} if none has been used yet.
+     */
+    public StorageManager getCurrentStorage() {
+        return current == null ? null : current.storage;
+    }
+}
@@ -0,0 +1,590 @@
+package hypebot.storage;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.DoubleConsumer;
+
+import hypebot.parser.task.FileTaskParser;
+import hypebot.task.Deadline;
+import hypebot.task.Event;
+import hypebot.task.Task;
+import hypebot.task.ToDo;
+import hypebot.tasklist.Tasklist;
+import hypebot.tasklist.TasklistListener;
+
+/**
+ * Represents the {@code TasklistShards} a {@link Tasklist} is saved to: one shard {@link File} of
+ * {@link ToDo}s, one of recurring {@link Task}s, and one for each month any other {@link Deadline}
+ * is due or {@link Event} starts in, listed by a manifest kept in the tasklist {@link File} itself.
+ * <p>Set as a {@link TasklistListener} of the {@link Tasklist} it loads or saves, it marks the shard
+ * of each {@link Task} added, removed, marked or unmarked as changed, so that a save only rewrites
+ * those shards and the manifest.</p>
+ * <p>Each save writes the shards it rewrites to new {@link File}s, numbered with the generation of
+ * the save, then the manifest listing them, durably by {@link TasklistEncoder}. Until the manifest
+ * is replaced, it still lists the shard {@link File}s of the save before, so a save cut short
+ * leaves that one whole; shard {@link File}s no manifest lists any more are deleted after.</p>
+ * <p>Each {@link Task} is saved with an ordinal, increasing down the {@link Tasklist}, so that the
+ * shards, read in parallel, merge back into the order the {@link Task}s were in. Ordinals are spaced
+ * out, so a {@link Task} put back between two others takes one between theirs, and only shifts
+ * the ordinals of those after it when there is no room left.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see StorageManager
+ */
+public class TasklistShards implements TasklistListener {
+    /** First line of a tasklist {@link File} holding a manifest of shards rather than {@link Task}s. */
+    private static final String MANIFEST_HEADER = "# HypeBot tasklist shards v1";
+
+    /** Separator between the fields of a line of a shard or the manifest. */
+    private static final String FIELD_SEPARATOR = " , ";
+
+    /** Name of the shard of {@link ToDo}s. */
+    private static final String TODO_SHARD_NAME = "todos";
+
+    /** Name of the shard of recurring {@link Deadline}s and {@link Event}s. */
+    private static final String RECURRING_SHARD_NAME = "recurring";
+
+    /** Key of the shard of {@link ToDo}s; every other key is a month, counted from year 0. */
+    private static final int TODO_SHARD_KEY = Integer.MIN_VALUE;
+
+    /** Key of the shard of recurring {@link Deadline}s and {@link Event}s. */
+    private static final int RECURRING_SHARD_KEY = Integer.MIN_VALUE + 1;
+
+    /** Ending of the name of the directory shards are kept in, next to the tasklist {@link File}. */
+    private static final String SHARD_DIRECTORY_SUFFIX = "-shards";
+
+    /** Ending of the name of each shard {@link File}, after its generation. */
+    private static final String SHARD_FILE_SUFFIX = ".txt";
+
+    /** Separator between the name of a shard and its generation, in the name of its {@link File}. */
+    private static final char GENERATION_SEPARATOR = '.';
+
+    /** Gap left between the ordinals of {@link Task}s added one after another. */
+    private static final long ORDINAL_GAP = 1 << 10;
+
+    /** Tasklist {@link File} the manifest is kept in. */
+    private final File manifestFile;
+
+    /** Directory the shard {@link File}s are kept in. */
+    private final File shardDirectory;
+
+    /** Ordinal each {@link Task} was last saved or loaded with, by identity. */
+    private final Map<Task, Long> ordinals = new IdentityHashMap<>();
+
+    /** {@link SavedShard} of each shard listed in the manifest, by key. */
+    private final Map<Integer, SavedShard> savedShards = new TreeMap<>();
+
+    /** Keys of the shards changed since the last save. */
+    private final Set<Integer> changedShardKeys = new HashSet<>();
+
+    /** {@link Tasklist} loaded or last saved and being watched, or {@code null} if there is none yet. */
+    private Tasklist watchedTasks;
+
+    /** Latest generation of any shard listed in the manifest, loaded or last saved. */
+    private long generation = 0;
+
+    /** Whether the manifest lists the shards of {@code watchedTasks}, as loaded or last saved. */
+    private boolean isManifestSaved = false;
+
+    /** Whether any {@link Task} has been added since the last save, which may need a new ordinal. */
+    private boolean isTaskAdded = false;
+
+    /** Number of bytes of shards read by the last load. */
+    private long bytesLoaded = 0;
+
+    /**
+     * Takes in the tasklist {@link File} and creates new {@code TasklistShards} kept in a directory
+     * next to it, named after it.
+     *
+     * @param tasklistFile Tasklist {@link File} the manifest is kept in.
+     */
+    public TasklistShards(File tasklistFile) {
+        super();
+        String fileName = tasklistFile.getName();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        this.manifestFile = tasklistFile;
+        this.shardDirectory = new File(tasklistFile.getAbsoluteFile().getParentFile(),
+                baseName + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Takes in a tasklist {@link File} and returns whether it holds a manifest of shards, rather
+     * than {@link Task}s one per line as written by a {@link TasklistEncoder}.
+     *
+     * @param tasklistFile Tasklist {@link File}.
+     * @return Whether the first line of the {@link File} is the header of a manifest.
+     * @throws IOException If the {@link File} cannot be read.
+     */
+    public static boolean isManifest(File tasklistFile) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(tasklistFile), StandardCharsets.UTF_8))) {
+            return MANIFEST_HEADER.equals(reader.readLine());
+        }
+    }
+
+    /**
+     * Takes in a {@link Task} and returns the key of the shard it is saved in.
+     *
+     * @param task {@link Task} saved.
+     * @return Key of the shard of the {@link Task}.
+     */
+    private static int getShardKey(Task task) {
+        if (task.isRecurring()) {
+            return RECURRING_SHARD_KEY;
+        }
+        LocalDate date;
+        if (task instanceof Deadline deadline) {
+            date = deadline.getDueDate();
+        } else if (task instanceof Event event) {
+            date = event.getStartTime().toLocalDate();
+        } else {
+            return TODO_SHARD_KEY;
+        }
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+
+    private static String getShardName(int shardKey) {
+        return switch (shardKey) {
+        case TODO_SHARD_KEY -> TODO_SHARD_NAME;
+        case RECURRING_SHARD_KEY -> RECURRING_SHARD_NAME;
+        default -> "%04d-%02d".formatted(Math.floorDiv(shardKey, 12), Math.floorMod(shardKey, 12) + 1);
+        };
+    }
+
+    private static int parseShardKey(String shardName) throws IllegalArgumentException {
+        if (shardName.equals(TODO_SHARD_NAME)) {
+            return TODO_SHARD_KEY;
+        } else if (shardName.equals(RECURRING_SHARD_NAME)) {
+            return RECURRING_SHARD_KEY;
+        }
+        int separatorIndex = shardName.lastIndexOf('-');
+        if (separatorIndex <= 0) {
+            throw new IllegalArgumentException("Unknown tasklist shard: " + shardName);
+        }
+        return Integer.parseInt(shardName.substring(0, separatorIndex)) * 12
+                + Integer.parseInt(shardName.substring(separatorIndex + 1)) - 1;
+    }
+
+    private File getShardFile(int shardKey, long shardGeneration) {
+        return new File(shardDirectory,
+                getShardName(shardKey) + GENERATION_SEPARATOR + shardGeneration + SHARD_FILE_SUFFIX);
+    }
+
+    /**
+     * Takes in the name of a {@link File} in the shard directory and returns the generation of
+     * the shard it holds.
+     *
+     * @param fileName Name of a {@link File} in the shard directory.
+     * @return Generation of the shard, or -1 if the {@link File} is not named like a shard.
+     */
+    private static long getGeneration(String fileName) {
+        int generationStart = fileName.indexOf(GENERATION_SEPARATOR) + 1;
+        int generationEnd = fileName.indexOf(GENERATION_SEPARATOR, generationStart);
+        if (generationStart == 0 || generationEnd < 0) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(fileName.substring(generationStart, generationEnd));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Represents a {@code SavedShard}, the number of {@link Task}s in a shard listed in the manifest
+     * and the generation of the save that wrote its {@link File}.
+     *
+     * @param size       Number of {@link Task}s in the shard.
+     * @param generation Generation of the shard {@link File}.
+     */
+    private record SavedShard(int size, long generation) {
+    }
+
+    /**
+     * Represents a {@code LoadedShard}, the {@link Task}s read from one shard with their ordinals,
+     * in order, and how far through them a merge has got.
+     */
+    private static class LoadedShard {
+        private final List<Task> tasks;
+        private final long[] ordinals;
+        private int next = 0;
+
+        private LoadedShard(List<Task> tasks, long[] ordinals) {
+            this.tasks = tasks;
+            this.ordinals = ordinals;
+        }
+    }
+
+    /**
+     * Takes in the {@link File} of a shard and the number of {@link Task}s listed for it in the
+     * manifest, and reads its {@link Task}s with their ordinals.
+     *
+     * @param shardFile {@link File} of the shard.
+     * @param shardSize Number of {@link Task}s listed for it in the manifest.
+     * @return {@link LoadedShard} of the {@link Task}s read.
+     * @throws UncheckedIOException     If the shard {@link File} cannot be read.
+     * @throws IllegalArgumentException If a line is not an ordinal and a {@link Task}, or the shard
+     *                                  does not hold as many {@link Task}s as the manifest lists.
+     */
+    private static LoadedShard readShard(File shardFile, int shardSize)
+            throws UncheckedIOException, IllegalArgumentException {
+        FileTaskParser fileTaskParser = new FileTaskParser();
+        List<Task> tasks = new ArrayList<>(shardSize);
+        long[] shardOrdinals = new long[shardSize];
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(shardFile), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separatorIndex = line.indexOf(FIELD_SEPARATOR);
+                if (separatorIndex < 0 || tasks.size() == shardSize) {
+                    throw new IllegalArgumentException("Corrupted tasklist shard " + shardFile.getPath()
+                            + " at line " + (tasks.size() + 1));
+                }
+                shardOrdinals[tasks.size()] = Long.parseLong(line.substring(0, separatorIndex));
+                tasks.add(fileTaskParser.parse(line.substring(separatorIndex + FIELD_SEPARATOR.length())));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (tasks.size() != shardSize) {
+            throw new IllegalArgumentException("Corrupted tasklist shard " + shardFile.getPath()
+                    + ": " + tasks.size() + " tasks found, " + shardSize + " expected");
+        }
+        return new LoadedShard(tasks, shardOrdinals);
+    }
+
+    /**
+     * Reads the manifest, then every shard it lists in parallel, merges their {@link Task}s back
+     * into the order they were saved in and returns them in a new {@link Tasklist}, which is
+     * watched for changes from then on.
+     *
+     * @param progressListener {@link DoubleConsumer} taking in the fraction of shards read, from 0 to 1.
+     * @return {@link Tasklist} of every {@link Task} in the shards.
+     * @throws FileNotFoundException If the manifest or a shard {@link File} is not found.
+     * @throws RuntimeException      If any saved data is not in expected format.
+     */
+    public Tasklist load(DoubleConsumer progressListener) throws FileNotFoundException, RuntimeException {
+        readManifest();
+        long totalBytes = 0;
+        for (Map.Entry<Integer, SavedShard> savedShard : savedShards.entrySet()) {
+            totalBytes += getShardFile(savedShard.getKey(), savedShard.getValue().generation()).length();
+        }
+        long[] bytesRead = {0};
+        long totalBytesToRead = Math.max(1, totalBytes);
+        List<LoadedShard> loadedShards;
+        try {
+            loadedShards = savedShards.entrySet().parallelStream().map(savedShard -> {
+                File shardFile = getShardFile(savedShard.getKey(), savedShard.getValue().generation());
+                LoadedShard loadedShard = readShard(shardFile, savedShard.getValue().size());
+                long shardBytes = shardFile.length();
+                synchronized (bytesRead) {
+                    bytesRead[0] += shardBytes;
+                    progressListener.accept((double) bytesRead[0] / totalBytesToRead);
+                }
+                return loadedShard;
+            }).toList();
+        } catch (UncheckedIOException e) {
+            if (e.getCause() instanceof FileNotFoundException fileNotFound) {
+                throw fileNotFound;
+            }
+            throw e;
+        }
+        bytesLoaded = totalBytes;
+
+        Tasklist tasks = new Tasklist();
+        tasks.addAll(merge(loadedShards));
+        watch(tasks);
+        isManifestSaved = true;
+        return tasks;
+    }
+
+    /**
+     * Takes in the {@link LoadedShard}s read and merges their {@link Task}s by ordinal,
+     * recording the ordinal of each.
+     *
+     * @param loadedShards {@link LoadedShard}s, each in order of ordinal.
+     * @return Every {@link Task} in order of ordinal.
+     */
+    private List<Task> merge(List<LoadedShard> loadedShards) {
+        int taskCount = 0;
+        Comparator<LoadedShard> byNextOrdinal =
+                Comparator.comparingLong(loadedShard -> loadedShard.ordinals[loadedShard.next]);
+        PriorityQueue<LoadedShard> shardsByNextOrdinal =
+                new PriorityQueue<>(Math.max(1, loadedShards.size()), byNextOrdinal);
+        for (LoadedShard loadedShard : loadedShards) {
+            taskCount += loadedShard.tasks.size();
+            if (!loadedShard.tasks.isEmpty()) {
+                shardsByNextOrdinal.add(loadedShard);
+            }
+        }
+        List<Task> mergedTasks = new ArrayList<>(taskCount);
+        ordinals.clear();
+        while (!shardsByNextOrdinal.isEmpty()) {
+            LoadedShard loadedShard = shardsByNextOrdinal.poll();
+            Task task = loadedShard.tasks.get(loadedShard.next);
+            ordinals.put(task, loadedShard.ordinals[loadedShard.next]);
+            mergedTasks.add(task);
+            if (++loadedShard.next < loadedShard.tasks.size()) {
+                shardsByNextOrdinal.add(loadedShard);
+            }
+        }
+        return mergedTasks;
+    }
+
+    /**
+     * Reads the name, number of {@link Task}s and generation of each shard listed in the manifest.
+     *
+     * @throws FileNotFoundException If the manifest is not found.
+     * @throws RuntimeException      If the manifest is not in expected format.
+     */
+    private void readManifest() throws FileNotFoundException, RuntimeException {
+        savedShards.clear();
+        generation = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(manifestFile), StandardCharsets.UTF_8))) {
+            if (!MANIFEST_HEADER.equals(reader.readLine())) {
+                throw new IllegalArgumentException("Not a tasklist shard manifest: " + manifestFile.getPath());
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(FIELD_SEPARATOR);
+                if (fields.length != 3) {
+                    throw new IllegalArgumentException("Corrupted tasklist shard manifest line: " + line);
+                }
+                SavedShard savedShard = new SavedShard(Integer.parseInt(fields[1]), Long.parseLong(fields[2]));
+                savedShards.put(parseShardKey(fields[0]), savedShard);
+                generation = Math.max(generation, savedShard.generation());
+            }
+        } catch (FileNotFoundException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Takes in a {@link Tasklist} and watches it for changes in place of any watched before,
+     * without marking any shard as changed.
+     *
+     * @param tasks {@link Tasklist} to watch.
+     */
+    private void watch(Tasklist tasks) {
+        if (watchedTasks != null) {
+            watchedTasks.removeListener(this);
+        }
+        watchedTasks = tasks;
+        tasks.addListener(this);
+        changedShardKeys.clear();
+        isTaskAdded = false;
+    }
+
+    /**
+     * Takes in a {@link Tasklist} and saves it, rewriting only the shards changed since it was
+     * loaded or last saved, then the manifest.
+     * <p>A {@link Tasklist} not loaded or saved by these {@code TasklistShards} before, such as one
+     * decoded from a tasklist {@link File} of {@link Task}s one per line, has every shard written,
+     * and the manifest written even if it has no {@link Task}s left.</p>
+     *
+     * @param tasks {@link Tasklist} to save.
+     * @return Number of bytes written.
+     * @throws IOException If a shard or the manifest could not be written.
+     */
+    public long save(Tasklist tasks) throws IOException {
+        if (tasks != watchedTasks) {
+            watch(tasks);
+            isManifestSaved = false;
+            ordinals.clear();
+            changedShardKeys.addAll(savedShards.keySet());
+            for (Task task : tasks) {
+                changedShardKeys.add(getShardKey(task));
+            }
+            isTaskAdded = true;
+        }
+        if (isTaskAdded) {
+            assignOrdinals(tasks);
+        }
+        if (changedShardKeys.isEmpty() && isManifestSaved) {
+            return 0;
+        }
+
+        Map<Integer, List<Task>> changedShards = new HashMap<>();
+        for (int shardKey : changedShardKeys) {
+            changedShards.put(shardKey, new ArrayList<>());
+        }
+        for (Task task : tasks) {
+            List<Task> shardTasks = changedShards.get(getShardKey(task));
+            if (shardTasks != null) {
+                shardTasks.add(task);
+            }
+        }
+
+        long bytesWritten = 0;
+        shardDirectory.mkdirs();
+        if (!isManifestSaved) {
+            generation = Math.max(generation, getLatestGenerationOnDisk());
+        }
+        long saveGeneration = generation + 1;
+        for (Map.Entry<Integer, List<Task>> changedShard : changedShards.entrySet()) {
+            int shardKey = changedShard.getKey();
+            List<Task> shardTasks = changedShard.getValue();
+            if (shardTasks.isEmpty()) {
+                savedShards.remove(shardKey);
+                continue;
+            }
+            File shardFile = getShardFile(shardKey, saveGeneration);
+            bytesWritten += TasklistEncoder.writeDurably(shardFile, StandardCharsets.UTF_8, writer -> {
+                for (Task task : shardTasks) {
+                    writer.write(Long.toString(ordinals.get(task)));
+                    writer.write(FIELD_SEPARATOR);
+                    writer.write(task.toFileString());
+                }
+            });
+            savedShards.put(shardKey, new SavedShard(shardTasks.size(), saveGeneration));
+        }
+        generation = saveGeneration;
+        bytesWritten += writeManifest();
+        isManifestSaved = true;
+        deleteUnlistedShardFiles();
+        changedShardKeys.clear();
+        isTaskAdded = false;
+        return bytesWritten;
+    }
+
+    /**
+     * Writes the name and number of {@link Task}s of each saved shard to the manifest, durably.
+     *
+     * @return Number of bytes written.
+     * @throws IOException If the manifest could not be written.
+     */
+    private long writeManifest() throws IOException {
+        return TasklistEncoder.writeDurably(manifestFile, StandardCharsets.UTF_8, writer -> {
+            writer.write(MANIFEST_HEADER);
+            writer.write('\n');
+            for (Map.Entry<Integer, SavedShard> savedShard : savedShards.entrySet()) {
+                writer.write(getShardName(savedShard.getKey()) + FIELD_SEPARATOR + savedShard.getValue().size()
+                        + FIELD_SEPARATOR + savedShard.getValue().generation() + "\n");
+            }
+        });
+    }
+
+    /**
+     * Returns the latest generation of any shard {@link File} in the shard directory, listed in the
+     * manifest or not, so that a save by new {@code TasklistShards} never writes over one.
+     *
+     * @return Latest generation of a shard {@link File}, or 0 if there is none.
+     */
+    private long getLatestGenerationOnDisk() {
+        long latestGeneration = 0;
+        String[] fileNames = shardDirectory.list();
+        for (String fileName : fileNames == null ? new String[0] : fileNames) {
+            latestGeneration = Math.max(latestGeneration, getGeneration(fileName));
+        }
+        return latestGeneration;
+    }
+
+    /**
+     * Deletes every {@link File} in the shard directory the manifest does not list, such as shard
+     * {@link File}s replaced or emptied by the last save, or left behind by a save cut short.
+     */
+    private void deleteUnlistedShardFiles() {
+        Set<String> listedFileNames = new HashSet<>();
+        for (Map.Entry<Integer, SavedShard> savedShard : savedShards.entrySet()) {
+            listedFileNames.add(getShardFile(savedShard.getKey(), savedShard.getValue().generation()).getName());
+        }
+        File[] files = shardDirectory.listFiles();
+        for (File file : files == null ? new File[0] : files) {
+            if (!listedFileNames.contains(file.getName())) {
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * Takes in the {@link Tasklist} being saved and gives each {@link Task} without an ordinal, or
+     * with one out of order, a new ordinal between those of the {@link Task}s around it, marking
+     * its shard as changed.
+     *
+     * @param tasks {@link Tasklist} being saved.
+     */
+    private void assignOrdinals(Tasklist tasks) {
+        long previousOrdinal = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            Long ordinal = ordinals.get(task);
+            if (ordinal == null || ordinal <= previousOrdinal) {
+                Long nextOrdinal = i + 1 < tasks.size() ? ordinals.get(tasks.get(i + 1)) : null;
+                ordinal = nextOrdinal != null && nextOrdinal - previousOrdinal > 1
+                        ? previousOrdinal + (nextOrdinal - previousOrdinal) / 2
+                        : previousOrdinal + ORDINAL_GAP;
+                ordinals.put(task, ordinal);
+                changedShardKeys.add(getShardKey(task));
+            }
+            previousOrdinal = ordinal;
+        }
+    }
+
+    /**
+     * Returns the number of bytes of shards read by the last {@code load()}.
+     *
+     * @return Number of bytes of shards read.
+     */
+    public long getBytesLoaded() {
+        return bytesLoaded;
+    }
+
+    /**
+     * Returns the name of every shard listed in the manifest, loaded or last saved.
+     *
+     * @return Names of the shards saved, {@link ToDo}s and recurring {@link Task}s first,
+     *         then months in order.
+     */
+    public List<String> getShardNames() {
+        List<String> shardNames = new ArrayList<>();
+        for (int shardKey : savedShards.keySet()) {
+            shardNames.add(getShardName(shardKey));
+        }
+        return Collections.unmodifiableList(shardNames);
+    }
+
+    @Override
+    public void taskAdded(Task task) {
+        changedShardKeys.add(getShardKey(task));
+        isTaskAdded = true;
+    }
+
+    @Override
+    public void taskRemoved(Task task) {
+        changedShardKeys.add(getShardKey(task));
+        ordinals.remove(task);
+    }
+
+    @Override
+    public void taskUpdated(Task task) {
+        changedShardKeys.add(getShardKey(task));
+    }
+
+    @Override
+    public void tasksCleared() {
+        changedShardKeys.addAll(savedShards.keySet());
+        ordinals.clear();
+    }
+}
@@ -2,29 +2,35 @@ package hypebot.task;
 
 import java.io.File;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 
 import hypebot.command.HappeningCommand;
 import hypebot.ui.gui.UiGuiMainWindow;
 
 /**
- * Represents a {@code Deadline} type {@link Task} with a {@link LocalDate} due date.
+ * Represents a {@code Deadline} type {@link Task} with a {@link LocalDate} due date,
+ * which may be due again and again by a {@link Recurrence}.
  * <p>A child of {@link Task}.</p>
  *
  * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
  * @see LocalDate
- * @see DateTimeFormatter
+ * @see MemoizedDateTimeFormatter
+ * @see Recurrence
  */
 public class Deadline extends Task {
-    /** {@link DateTimeFormatter} of how due date is encoded to a {@link File}. */
-    private static final DateTimeFormatter DUE_DATE_FORMATTER_FILE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    /** {@link MemoizedDateTimeFormatter} of how due date is encoded to a {@link File}. */
+    private static final MemoizedDateTimeFormatter DUE_DATE_FORMATTER_FILE =
+            MemoizedDateTimeFormatter.ofPattern("yyyy-MM-dd");
 
-    /** {@link DateTimeFormatter} of how due date is outputted to {@link UiGuiMainWindow}. */
-    private static final DateTimeFormatter DUE_DATE_FORMATTER_UI = DateTimeFormatter.ofPattern("MMM d yyyy");
+    /** {@link MemoizedDateTimeFormatter} of how due date is outputted to {@link UiGuiMainWindow}. */
+    private static final MemoizedDateTimeFormatter DUE_DATE_FORMATTER_UI =
+            MemoizedDateTimeFormatter.ofPattern("MMM d yyyy");
 
     /** {@link LocalDate} representation of this {@code Deadline}'s due date. */
     private LocalDate dueDate;
 
+    /** {@link Recurrence} the {@code Deadline} is due again by, or {@code null} if it is due once. */
+    private final Recurrence recurrence;
+
     /**
      * Takes in a {@link String} name and a {@link LocalDate} due date,
      * and creates a {@code Deadline} with the specified name and due date.
@@ -33,46 +39,110 @@ public class Deadline extends Task {
      * @param dueDate {@link LocalDate} due date of the {@code Deadline}.
      */
     public Deadline(String name, LocalDate dueDate) {
+        this(name, dueDate, null);
+    }
+
+    /**
+     * Takes in a {@link String} name, a {@link LocalDate} first due date and a {@link Recurrence},
+     * and creates a {@code Deadline} due on the first due date and again by the {@link Recurrence}.
+     *
+     * @param name       {@link String} name of the {@code Deadline}.
+     * @param dueDate    {@link LocalDate} first due date of the {@code Deadline}.
+     * @param recurrence {@link Recurrence} the {@code Deadline} is due again by,
+     *                   or {@code null} if it is due once.
+     */
+    public Deadline(String name, LocalDate dueDate, Recurrence recurrence) {
         super(name);
         this.dueDate = dueDate;
+        this.recurrence = recurrence;
+    }
+
+    /**
+     * Returns the {@code dueDate} of the {@code Deadline}.
+     *
+     * @return {@link LocalDate} {@code dueDate} of the {@code Deadline}.
+     */
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    /**
+     * Returns the {@code recurrence} of the {@code Deadline}.
+     *
+     * @return {@link Recurrence} the {@code Deadline} is due again by, or {@code null} if it is due once.
+     */
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    /**
+     * Returns whether the {@code Deadline} happens again and again by a {@link Recurrence}.
+     *
+     * @return Whether the {@code Deadline} has a {@code recurrence}.
+     */
+    @Override
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * Takes in a {@link LocalDate} and returns the first date the {@code Deadline} is due
+     * on or after it.
+     *
+     * @param date {@link LocalDate} to look from.
+     * @return {@link LocalDate} the {@code Deadline} is next due, or {@code null} if it is never
+     *         due on or after {@code date}.
+     */
+    public LocalDate getNextDueDate(LocalDate date) {
+        if (recurrence == null) {
+            return dueDate.isBefore(date) ? null : dueDate;
+        }
+        return recurrence.getNextOccurrence(dueDate, date);
     }
 
     /**
-     * Takes in a {@link LocalDate} representing a search date from a {@link HappeningCommand}
-     * and returns whether the {@code Deadline} is happening on the given date.
+     * Takes in two {@link LocalDate}s bounding a range of dates from a {@link HappeningCommand}
+     * and returns whether the {@code Deadline} is due on any date in that range.
+     * <p>A recurring {@code Deadline} finds its first due date in range arithmetically,
+     * without stepping through each due date before it.</p>
      *
-     * @param date {@link LocalDate} representing a search date.
-     * @return Whether the {@code Deadline} is happening on the given date.
+     * @param fromDate First {@link LocalDate} of the range.
+     * @param toDate   Last {@link LocalDate} of the range, inclusive.
+     * @return Whether the {@code Deadline} is due on any date in that range.
      */
     @Override
-    public boolean isHappeningOn(LocalDate date) {
-        return dueDate.isEqual(date);
+    public boolean isHappeningBetween(LocalDate fromDate, LocalDate toDate) {
+        LocalDate nextDueDate = getNextDueDate(fromDate);
+        return nextDueDate != null && !nextDueDate.isAfter(toDate);
     }
 
     /**
-     * Returns the {@link String} description of {@code Deadline} to append to a {@link File}.
+     * Renders the {@link String} description of {@code Deadline} to append to a {@link File}.
      * <p>Should be in this form: "D , {0 if not complete, 1 if complete} ,
-     * {{@code name}} , {{@code dueDate} as specified by {@code DUE_DATE_FORMATTER_FILE}}".</p>
+     * {{@code name}} , {{@code dueDate} as specified by {@code DUE_DATE_FORMATTER_FILE}}",
+     * followed by " , {period name of {@code recurrence}}" if recurring.</p>
      *
      * @return {@link String} description of {@code Deadline}
      *         to append to the save {@link File} on the user's local computer.
      */
     @Override
-    public String toFileString() {
-        return "D , %s , %s\n".formatted(super.toFileString(), dueDate.format(DUE_DATE_FORMATTER_FILE));
+    protected String renderFileString() {
+        String fileString = "D , " + super.renderFileString() + " , " + DUE_DATE_FORMATTER_FILE.format(dueDate);
+        return recurrence == null ? fileString + "\n" : fileString + " , " + recurrence.getPeriodName() + "\n";
     }
 
     /**
-     * Returns the {@link String} representation of the {@code Deadline} as shown
+     * Renders the {@link String} representation of the {@code Deadline} as shown
      * to the user on the {@link UiGuiMainWindow}.
      * <p>Is in this form: "[D][(X if complete)] {{@code name}} (by: {{@code dueDate}
-     * as specified by {@code DUE_DATE_FORMATTER_UI}})".</p>
+     * as specified by {@code DUE_DATE_FORMATTER_UI}}{, {@code recurrence} if recurring})".</p>
      *
      * @return {@link String} representation of {@code Deadline} as shown on GUI.
      */
     @Override
-    public String toString() {
-        return "[D]%s (by: %s)".formatted(super.toString(), dueDate.format(DUE_DATE_FORMATTER_UI));
+    protected String renderString() {
+        String deadlineString = "[D]" + super.renderString() + " (by: " + DUE_DATE_FORMATTER_UI.format(dueDate);
+        return recurrence == null ? deadlineString + ")" : deadlineString + ", " + recurrence + ")";
     }
 
     /**
@@ -87,8 +157,9 @@ public class Deadline extends Task {
         if (this == obj) {
             return true;
         } else if (obj instanceof Deadline deadline) {
-            // Checks whether both share the same name and due date.
-            return super.equals(deadline) && this.dueDate.isEqual(deadline.dueDate);
+            // Checks whether both share the same name, due date and recurrence.
+            return super.equals(deadline) && this.dueDate.isEqual(deadline.dueDate)
+                    && this.recurrence == deadline.recurrence;
         }
         return false;
     }
@@ -3,30 +3,37 @@ package hypebot.task;
 import java.io.File;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 
 import hypebot.command.HappeningCommand;
 import hypebot.ui.gui.UiGuiMainWindow;
 
 /**
  * Represents an {@code Event} type {@link Task} with
- * a {@link LocalDateTime} start time and an end time.
+ * a {@link LocalDateTime} start time and an end time,
+ * which may happen again and again by a {@link Recurrence}.
  * <p>A child of {@link Task}.</p>
  *
  * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
  * @see LocalDateTime
  * @see LocalDate
- * @see DateTimeFormatter
+ * @see MemoizedDateTimeFormatter
+ * @see Recurrence
  */
 public class Event extends Task {
-    /** {@link DateTimeFormatter} of how an event time is encoded to a {@link File}. */
-    private static final DateTimeFormatter EVENT_TIME_FORMATTER_FILE = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+    /** {@link MemoizedDateTimeFormatter} of how an event time is encoded to a {@link File}. */
+    private static final MemoizedDateTimeFormatter EVENT_TIME_FORMATTER_FILE =
+            MemoizedDateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
 
-    /** {@link DateTimeFormatter} of how event time is encoded to a {@link UiGuiMainWindow}. */
-    private static final DateTimeFormatter EVENT_TIME_FORMATTER_UI = DateTimeFormatter.ofPattern("MMM d yyyy HH:mm");
+    /** {@link MemoizedDateTimeFormatter} of how event time is encoded to a {@link UiGuiMainWindow}. */
+    private static final MemoizedDateTimeFormatter EVENT_TIME_FORMATTER_UI =
+            MemoizedDateTimeFormatter.ofPattern("MMM d yyyy HH:mm");
     private LocalDateTime startTime;
     private LocalDateTime endTime;
 
+    /** {@link Recurrence} the {@code Event} happens again by, or {@code null} if it happens once. */
+    private final Recurrence recurrence;
+
     /**
      * Takes in a {@link String} name, a {@link LocalDateTime} start time and end time
      * and creates an {@code Event} with the specified name, start time, and end time.
@@ -36,57 +43,138 @@ public class Event extends Task {
      * @param endTime   {@link LocalDateTime} end time of the {@code Event}.
      */
     public Event(String name, LocalDateTime startTime, LocalDateTime endTime) {
+        this(name, startTime, endTime, null);
+    }
+
+    /**
+     * Takes in a {@link String} name, a {@link LocalDateTime} start time and end time of the first
+     * occurrence and a {@link Recurrence}, and creates an {@code Event} happening at those times
+     * and again by the {@link Recurrence}.
+     *
+     * @param name       {@link String} name of the {@code Event}.
+     * @param startTime  {@link LocalDateTime} start time of the first occurrence of the {@code Event}.
+     * @param endTime    {@link LocalDateTime} end time of the first occurrence of the {@code Event}.
+     * @param recurrence {@link Recurrence} the {@code Event} happens again by,
+     *                   or {@code null} if it happens once.
+     */
+    public Event(String name, LocalDateTime startTime, LocalDateTime endTime, Recurrence recurrence) {
         super(name);
         this.startTime = startTime;
         this.endTime = endTime;
+        this.recurrence = recurrence;
+    }
+
+    /**
+     * Returns the {@code startTime} of the {@code Event}.
+     *
+     * @return {@link LocalDateTime} {@code startTime} of the {@code Event}.
+     */
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Returns the {@code endTime} of the {@code Event}.
+     *
+     * @return {@link LocalDateTime} {@code endTime} of the {@code Event}.
+     */
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    /**
+     * Returns the {@code recurrence} of the {@code Event}.
+     *
+     * @return {@link Recurrence} the {@code Event} happens again by, or {@code null} if it happens once.
+     */
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    /**
+     * Returns whether the {@code Event} happens again and again by a {@link Recurrence}.
+     *
+     * @return Whether the {@code Event} has a {@code recurrence}.
+     */
+    @Override
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * Takes in a {@link LocalDateTime} and returns the start time of the first occurrence of the
+     * {@code Event} starting at or after it.
+     *
+     * @param time {@link LocalDateTime} to look from.
+     * @return {@link LocalDateTime} the {@code Event} next starts, or {@code null} if it never
+     *         starts at or after {@code time}.
+     */
+    public LocalDateTime getNextStartTime(LocalDateTime time) {
+        if (recurrence == null) {
+            return startTime.isBefore(time) ? null : startTime;
+        }
+        LocalDateTime nextStartTime = recurrence.getNextOccurrence(startTime.toLocalDate(), time.toLocalDate())
+                .atTime(startTime.toLocalTime());
+        return nextStartTime.isBefore(time)
+                ? recurrence.getNextOccurrence(startTime.toLocalDate(), time.toLocalDate().plusDays(1))
+                        .atTime(startTime.toLocalTime())
+                : nextStartTime;
     }
 
     /**
-     * Takes in a {@link LocalDate} representing a search date from a {@link HappeningCommand}
-     * and returns whether the {@code Event} is happening on the given date.
+     * Takes in two {@link LocalDate}s bounding a range of dates from a {@link HappeningCommand}
+     * and returns whether the {@code Event} is happening on any date in that range.
+     * <p>An occurrence spanning several days overlaps the range if it starts no later than the
+     * last date, and no earlier than as many days before the first date as it spans; a recurring
+     * {@code Event} finds its first such occurrence arithmetically, without stepping through
+     * each occurrence before it.</p>
      *
-     * @param date {@link LocalDate} representing a search date.
-     * @return Whether the {@code Event} is happening on the given date.
+     * @param fromDate First {@link LocalDate} of the range.
+     * @param toDate   Last {@link LocalDate} of the range, inclusive.
+     * @return Whether the {@code Event} is happening on any date in that range.
      */
     @Override
-    public boolean isHappeningOn(LocalDate date) {
+    public boolean isHappeningBetween(LocalDate fromDate, LocalDate toDate) {
         LocalDate startDate = startTime.toLocalDate();
-        LocalDate endDate = endTime.toLocalDate();
-        return (date.isEqual(startDate) || date.isAfter(startDate))
-                && (date.isEqual(endDate) || date.isBefore(endDate));
+        long spanDays = ChronoUnit.DAYS.between(startDate, endTime.toLocalDate());
+        LocalDate earliestStartDate = fromDate.minusDays(spanDays);
+        LocalDate overlappingStartDate = recurrence == null
+                ? (startDate.isBefore(earliestStartDate) ? null : startDate)
+                : recurrence.getNextOccurrence(startDate, earliestStartDate);
+        return overlappingStartDate != null && !overlappingStartDate.isAfter(toDate);
     }
 
     /**
-     * Returns the {@link String} description of {@code Event} to append to a {@link File}.
+     * Renders the {@link String} description of {@code Event} to append to a {@link File}.
      * <p>Should be in this form: "E , {0 if not complete, 1 if complete} ,
      * {{@code name}} , {{@code startTime}, {{@code endTime}} as specified by
-     * {@code EVENT_TIME_FORMATTER_FILE}}".</p>
+     * {@code EVENT_TIME_FORMATTER_FILE}}", followed by " , {period name of {@code recurrence}}"
+     * if recurring.</p>
      *
      * @return {@link String} description of {@code Event} to append to the save {@link File}
      *         on the user's local computer.
      */
     @Override
-    public String toFileString() {
-        return "E , %s , %s , %s\n".formatted(
-                super.toFileString(),
-                startTime.format(EVENT_TIME_FORMATTER_FILE),
-                endTime.format(EVENT_TIME_FORMATTER_FILE));
+    protected String renderFileString() {
+        String fileString = "E , " + super.renderFileString() + " , " + EVENT_TIME_FORMATTER_FILE.format(startTime)
+                + " , " + EVENT_TIME_FORMATTER_FILE.format(endTime);
+        return recurrence == null ? fileString + "\n" : fileString + " , " + recurrence.getPeriodName() + "\n";
     }
 
     /**
-     * Returns the {@link String} representation of the {@code Event} as shown
+     * Renders the {@link String} representation of the {@code Event} as shown
      * to the user on the {@link UiGuiMainWindow}.
      * <p>Is in this form: "[E][(X if complete)] {{@code name}} (from: {{@code startTime}
-     * to: {{@code endTime}})" as specified by {@code EVENT_TIME_FORMATTER_UI}}.</p>
+     * to: {{@code endTime}}{, {@code recurrence} if recurring})" as specified by
+     * {@code EVENT_TIME_FORMATTER_UI}}.</p>
      *
      * @return {@link String} representation of {@code Event} as shown on GUI.
      */
     @Override
-    public String toString() {
-        return "[E]%s (from: %s to: %s)".formatted(
-                super.toString(),
-                startTime.format(EVENT_TIME_FORMATTER_UI),
-                endTime.format(EVENT_TIME_FORMATTER_UI));
+    protected String renderString() {
+        String eventString = "[E]" + super.renderString() + " (from: " + EVENT_TIME_FORMATTER_UI.format(startTime)
+                + " to: " + EVENT_TIME_FORMATTER_UI.format(endTime);
+        return recurrence == null ? eventString + ")" : eventString + ", " + recurrence + ")";
     }
 
     /**
@@ -101,8 +189,9 @@ public class Event extends Task {
         if (this == obj) {
             return true;
         } else if (obj instanceof Event event) {
-            // Checks whether both share the same name, start time, end time.
-            return super.equals(event) && this.startTime.equals(event.startTime) && this.endTime.equals(event.endTime);
+            // Checks whether both share the same name, start time, end time, recurrence.
+            return super.equals(event) && this.startTime.equals(event.startTime) && this.endTime.equals(event.endTime)
+                    && this.recurrence == event.recurrence;
         }
         return false;
     }
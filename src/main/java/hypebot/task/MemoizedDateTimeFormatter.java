@@ -0,0 +1,65 @@
+package hypebot.task;
+
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents a {@code MemoizedDateTimeFormatter}, a {@link DateTimeFormatter} that remembers
+ * the {@link String} it formatted each date or time to, and hands that back when asked to
+ * format the same one again.
+ * <p>A tasklist is full of {@link Task}s sharing a handful of dates, so most formats
+ * are a lookup rather than a walk through the pattern. Once more than {@code MAX_MEMOIZED}
+ * are remembered, everything is forgotten and remembered afresh.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see Deadline
+ * @see Event
+ */
+public final class MemoizedDateTimeFormatter {
+    /** Most dates and times remembered before all are forgotten. */
+    private static final int MAX_MEMOIZED = 4096;
+
+    /** {@link DateTimeFormatter} doing the formatting. */
+    private final DateTimeFormatter formatter;
+
+    /** {@link String} each date or time was formatted to. */
+    private final Map<TemporalAccessor, String> formatted = new ConcurrentHashMap<>();
+
+    private MemoizedDateTimeFormatter(DateTimeFormatter formatter) {
+        super();
+        this.formatter = formatter;
+    }
+
+    /**
+     * Takes in a {@link String} pattern and returns a {@code MemoizedDateTimeFormatter} formatting by it.
+     *
+     * @param pattern {@link String} pattern, as taken by {@link DateTimeFormatter#ofPattern(String)}.
+     * @return {@code MemoizedDateTimeFormatter} formatting by the pattern.
+     */
+    public static MemoizedDateTimeFormatter ofPattern(String pattern) {
+        return new MemoizedDateTimeFormatter(DateTimeFormatter.ofPattern(pattern));
+    }
+
+    /**
+     * Takes in a date or time and returns it formatted, from memory if formatted before.
+     * <p>Only meant for immutable dates and times, such as {@link java.time.LocalDate}
+     * and {@link java.time.LocalDateTime}, since they are remembered by equality.</p>
+     *
+     * @param temporal Date or time to format.
+     * @return {@link String} of the date or time, formatted.
+     */
+    public String format(TemporalAccessor temporal) {
+        String formattedString = formatted.get(temporal);
+        if (formattedString != null) {
+            return formattedString;
+        }
+        if (formatted.size() >= MAX_MEMOIZED) {
+            formatted.clear();
+        }
+        formattedString = formatter.format(temporal);
+        formatted.put(temporal, formattedString);
+        return formattedString;
+    }
+}
@@ -0,0 +1,89 @@
+package hypebot.task;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import hypebot.ui.gui.UiGuiMainWindow;
+
+/**
+ * Represents a {@code Recurrence}, the rule by which a {@link Deadline} or {@link Event}
+ * repeats every day, week, month or year after its first occurrence, without end.
+ * <p>Only the rule is ever stored; the n-th occurrence is the first occurrence plus n periods,
+ * falling on the last day of a shorter month where the first occurrence's day does not exist,
+ * and is found arithmetically rather than by stepping through every occurrence.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see Deadline
+ * @see Event
+ */
+public enum Recurrence {
+    DAILY("day", ChronoUnit.DAYS),
+    WEEKLY("week", ChronoUnit.WEEKS),
+    MONTHLY("month", ChronoUnit.MONTHS),
+    YEARLY("year", ChronoUnit.YEARS);
+
+    /** Name of one period, as entered by user and encoded to a {@link File}. */
+    private final String periodName;
+
+    /** {@link ChronoUnit} of one period. */
+    private final ChronoUnit periodUnit;
+
+    Recurrence(String periodName, ChronoUnit periodUnit) {
+        this.periodName = periodName;
+        this.periodUnit = periodUnit;
+    }
+
+    /**
+     * Takes in the name of a period and returns the {@code Recurrence} repeating every such period.
+     *
+     * @param periodName Name of one period, such as {@code week}, in any case.
+     * @return {@code Recurrence} repeating every such period, or {@code null} if there is none.
+     */
+    public static Recurrence fromPeriodName(String periodName) {
+        for (Recurrence recurrence : values()) {
+            if (recurrence.periodName.equalsIgnoreCase(periodName)) {
+                return recurrence;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the name of one period of the {@code Recurrence}.
+     *
+     * @return {@link String} name of one period, such as {@code week}.
+     */
+    public String getPeriodName() {
+        return periodName;
+    }
+
+    /**
+     * Takes in the date of a first occurrence and a date, and returns the date of the earliest
+     * occurrence on or after that date, in O(1).
+     *
+     * @param firstDate {@link LocalDate} of the first occurrence.
+     * @param date      {@link LocalDate} to find the next occurrence from.
+     * @return {@link LocalDate} of the earliest occurrence on or after {@code date}.
+     */
+    public LocalDate getNextOccurrence(LocalDate firstDate, LocalDate date) {
+        if (!date.isAfter(firstDate)) {
+            return firstDate;
+        }
+        long periodsBefore = periodUnit.between(firstDate, date);
+        LocalDate occurrence = firstDate.plus(periodsBefore, periodUnit);
+        // Clamping to the end of a shorter month can leave the occurrence just before date.
+        return occurrence.isBefore(date) ? firstDate.plus(periodsBefore + 1, periodUnit) : occurrence;
+    }
+
+    /**
+     * Returns the {@link String} representation of the {@code Recurrence} as shown
+     * to the user on the {@link UiGuiMainWindow}.
+     *
+     * @return {@link String} representation of the {@code Recurrence}, such as {@code every week}.
+     */
+    @Override
+    public String toString() {
+        return "every " + periodName;
+    }
+}
@@ -22,6 +22,15 @@ public class Task {
     /** Name of the {@code Task}. */
     private final String name;
 
+    /**
+     * {@link String} representation of the {@code Task}, or {@code null} until rendered since last changed.
+     * <p>Not guarded, so the {@code Task} must only be rendered on the thread it is changed on.</p>
+     */
+    private String renderedString;
+
+    /** {@link String} description of the {@code Task} for a {@link File}, or {@code null} until rendered. */
+    private String renderedFileString;
+
     /**
      * Takes in a {@link String} name
      * and creates a new {@code Task} with the specified name.
@@ -66,6 +75,7 @@ public class Task {
      */
     public void mark() {
         this.isComplete = true;
+        clearRendered();
     }
 
     /**
@@ -73,6 +83,24 @@ public class Task {
      */
     public void unmark() {
         this.isComplete = false;
+        clearRendered();
+    }
+
+    /**
+     * Forgets the {@link String}s rendered of the {@code Task}, to be rendered again when next asked for.
+     */
+    private void clearRendered() {
+        renderedString = null;
+        renderedFileString = null;
+    }
+
+    /**
+     * Returns whether the {@code Task} happens again and again by a {@link Recurrence}.
+     *
+     * @return {@code false} - {@code Task} base class does not have a date associated.
+     */
+    public boolean isRecurring() {
+        return false;
     }
 
     /**
@@ -80,34 +108,80 @@ public class Task {
      * and returns whether the {@code Task} is happening on the given date.
      *
      * @param date LocalDate representing a search date.
-     * @return {@code false} - {@code Task} base class does not have a date associated.
+     * @return Whether the {@code Task} is happening on the given date.
      */
     public boolean isHappeningOn(LocalDate date) {
+        return isHappeningBetween(date, date);
+    }
+
+    /**
+     * Takes in two {@link LocalDate}s bounding a range of dates and returns whether the
+     * {@code Task} is happening on any date in that range.
+     *
+     * @param fromDate First {@link LocalDate} of the range.
+     * @param toDate   Last {@link LocalDate} of the range, inclusive.
+     * @return {@code false} - {@code Task} base class does not have a date associated.
+     */
+    public boolean isHappeningBetween(LocalDate fromDate, LocalDate toDate) {
         return false;
     }
 
     /**
-     * Returns the {@link String} description of the {@code Task}
+     * Renders the {@link String} description of the {@code Task}
      * to append to a {@link File}.
      * <p>Should be in this form: "{0 if not complete, 1 if complete} , {{@code name}}".</p>
      *
      * @return {@link String} description of {@code Task} to append to the save {@link File}
      *         on the user's local computer.
      */
-    public String toFileString() {
-        return "%d , %s".formatted(isComplete ? 1 : 0, name);
+    protected String renderFileString() {
+        return (isComplete ? "1 , " : "0 , ") + name;
     }
 
     /**
-     * Returns the {@link String} representation of the {@code Task}
+     * Returns the {@link String} description of the {@code Task} to append to a {@link File}.
+     * <p>Renders it only the first time it is asked for since the {@code Task} was created,
+     * marked or unmarked, and hands back the same {@link String} after that.</p>
+     *
+     * @return {@link String} description of {@code Task} to append to the save {@link File}
+     *         on the user's local computer.
+     */
+    public final String toFileString() {
+        String fileString = renderedFileString;
+        if (fileString == null) {
+            fileString = renderFileString();
+            renderedFileString = fileString;
+        }
+        return fileString;
+    }
+
+    /**
+     * Renders the {@link String} representation of the {@code Task}
      * as shown to the user on the {@link UiGuiMainWindow}.
      * <p>Should be in this form: "[{X if complete}] {{@code name}}".</p>
      *
      * @return {@link String} representation of {@code Task} as shown on GUI.
      */
+    protected String renderString() {
+        return (isComplete ? "[X] " : "[ ] ") + name;
+    }
+
+    /**
+     * Returns the {@link String} representation of the {@code Task}
+     * as shown to the user on the {@link UiGuiMainWindow}.
+     * <p>Renders it only the first time it is asked for since the {@code Task} was created,
+     * marked or unmarked, and hands back the same {@link String} after that.</p>
+     *
+     * @return {@link String} representation of {@code Task} as shown on GUI.
+     */
     @Override
-    public String toString() {
-        return "[%s] %s".formatted(isComplete ? "X" : " ", name);
+    public final String toString() {
+        String string = renderedString;
+        if (string == null) {
+            string = renderString();
+            renderedString = string;
+        }
+        return string;
     }
 
     /**
@@ -21,27 +21,27 @@ public class ToDo extends Task {
     }
 
     /**
-     * Returns the {@link String} description of {@code ToDo} to append to a {@link File}.
+     * Renders the {@link String} description of {@code ToDo} to append to a {@link File}.
      * <p>Should be in this form: "T , {0 if not complete, 1 if complete} , {{@code name}}".</p>
      *
      * @return {@link String} description of {@code ToDo}
      *         to append to the save {@link File} on the user's local computer.
      */
     @Override
-    public String toFileString() {
-        return "T , %s\n".formatted(super.toFileString());
+    protected String renderFileString() {
+        return "T , " + super.renderFileString() + "\n";
     }
 
     /**
-     * Returns the {@link String} representation of the {@link ToDo} as shown
+     * Renders the {@link String} representation of the {@link ToDo} as shown
      * to the user on the {@link UiGuiMainWindow}.
      * <p>Is in this form: "[T][(X if complete)] {{@code name}}".</p>
      *
      * @return {@link String} representation of {@code ToDo} as shown on GUI.
      */
     @Override
-    public String toString() {
-        return "[T]" + super.toString();
+    protected String renderString() {
+        return "[T]" + super.renderString();
     }
 
     /**
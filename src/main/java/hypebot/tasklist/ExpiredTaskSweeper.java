@@ -0,0 +1,215 @@
+package hypebot.tasklist;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import hypebot.main.HypeBot;
+import hypebot.storage.StorageManager;
+import hypebot.task.Deadline;
+import hypebot.task.Event;
+import hypebot.task.Task;
+
+/**
+ * Represents the {@code ExpiredTaskSweeper} of a {@link HypeBot}, which retires each
+ * {@link Deadline} once its due date has passed and each {@link Event} once it has concluded,
+ * moving them out of the {@link Tasklist} to the archive of the {@link StorageManager}.
+ * Recurring {@link Task}s always have another occurrence ahead, so never expire.
+ * <p>Keeps the {@link Task}s that can expire in a {@link TaskDueQueue} ordered by when they
+ * expire, and retires at most {@code BATCH_SIZE} of them per tick, so that how many {@link Task}s
+ * have expired never holds up loading nor the thread the {@link Tasklist} is changed on.</p>
+ * <p>Set as a {@link TasklistListener} of the {@link Tasklist} it sweeps, so that adding and
+ * deleting {@link Task}s keeps it up to date. Ticks run on a background thread, while batches
+ * are removed from the {@link Tasklist} on the thread it is changed on.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see TaskDueQueue
+ */
+public class ExpiredTaskSweeper implements TasklistListener {
+    /** Milliseconds between ticks once {@code start()} is called. */
+    private static final long TICK_MILLIS = 100;
+
+    /** Most {@link Task}s retired per tick. */
+    private static final int BATCH_SIZE = 64;
+
+    /** {@link Clock} telling when {@link Task}s expire. */
+    private final Clock clock;
+
+    /** {@link Tasklist} expired {@link Task}s are retired from. */
+    private final Tasklist tasks;
+
+    /** {@link Executor} running code on the thread {@code tasks} is changed on. */
+    private final Executor tasklistExecutor;
+
+    /** {@link Consumer} taking in each batch of {@link Task}s retired, to archive them. */
+    private final Consumer<List<Task>> archiver;
+
+    /** {@link Task}s that can expire, by when they expire. */
+    private final TaskDueQueue expiries = new TaskDueQueue();
+
+    /** Whether a batch handed to {@code tasklistExecutor} has yet to be retired. */
+    private boolean isRetiring = false;
+
+    /** Runs {@code tick()} in the background; {@code null} until {@code start()} is called. */
+    private ScheduledExecutorService ticker;
+
+    /**
+     * Takes in a {@link Clock}, the {@link Tasklist} to sweep, an {@link Executor} running code on
+     * the thread the {@link Tasklist} is changed on, and a {@link Consumer} archiving retired
+     * {@link Task}s, and creates a new {@code ExpiredTaskSweeper} with nothing scheduled.
+     *
+     * @param clock            {@link Clock} telling when {@link Task}s expire.
+     * @param tasks            {@link Tasklist} expired {@link Task}s are retired from.
+     * @param tasklistExecutor {@link Executor} running code on the thread {@code tasks} is changed on.
+     * @param archiver         {@link Consumer} taking in each batch of {@link Task}s retired,
+     *                         called on the thread {@code tasks} is changed on.
+     */
+    public ExpiredTaskSweeper(Clock clock, Tasklist tasks, Executor tasklistExecutor,
+            Consumer<List<Task>> archiver) {
+        super();
+        this.clock = clock;
+        this.tasks = tasks;
+        this.tasklistExecutor = tasklistExecutor;
+        this.archiver = archiver;
+    }
+
+    /**
+     * Takes in a {@link Task} and returns when it expires.
+     *
+     * @param task {@link Task} that may expire.
+     * @return Start of the day after the due date of a {@link Deadline}, end time of an
+     *         {@link Event}, or {@code null} if the {@link Task} never expires, as recurring ones do not.
+     */
+    private static LocalDateTime getExpiresAt(Task task) {
+        if (task.isRecurring()) {
+            return null;
+        } else if (task instanceof Deadline deadline) {
+            return deadline.getDueDate().plusDays(1).atStartOfDay();
+        } else if (task instanceof Event event) {
+            return event.getEndTime();
+        }
+        return null;
+    }
+
+    /**
+     * Takes in every {@link Task} that may expire and schedules each to be retired once it
+     * expires, in place of everything scheduled before.
+     *
+     * @param tasksToSweep {@link Task}s that may expire, such as a freshly loaded {@link Tasklist}.
+     */
+    public synchronized void scheduleAll(Collection<Task> tasksToSweep) {
+        List<Task> expiringTasks = new ArrayList<>();
+        List<LocalDateTime> expiresAts = new ArrayList<>();
+        for (Task task : tasksToSweep) {
+            LocalDateTime expiresAt = getExpiresAt(task);
+            if (expiresAt != null) {
+                expiringTasks.add(task);
+                expiresAts.add(expiresAt);
+            }
+        }
+        expiries.scheduleAll(expiringTasks, expiresAts);
+    }
+
+    @Override
+    public synchronized void taskAdded(Task task) {
+        LocalDateTime expiresAt = getExpiresAt(task);
+        if (expiresAt != null) {
+            expiries.schedule(task, expiresAt);
+        }
+    }
+
+    @Override
+    public synchronized void taskRemoved(Task task) {
+        expiries.cancel(task);
+    }
+
+    @Override
+    public void taskUpdated(Task task) {
+        // Marking a task complete or incomplete does not change when it expires.
+    }
+
+    @Override
+    public synchronized void tasksCleared() {
+        expiries.clear();
+    }
+
+    /**
+     * Returns the number of {@link Task}s scheduled to be retired once they expire.
+     *
+     * @return Number of {@link Task}s scheduled.
+     */
+    public synchronized int getScheduledCount() {
+        return expiries.size();
+    }
+
+    /**
+     * Takes the next batch of at most {@code BATCH_SIZE} {@link Task}s expired by the {@link Clock}
+     * and hands it to the thread the {@link Tasklist} is changed on to be retired, unless the
+     * previous batch has yet to be retired.
+     */
+    public void tick() {
+        List<Task> expiredTasks;
+        synchronized (this) {
+            if (isRetiring) {
+                return;
+            }
+            expiredTasks = expiries.pollDue(LocalDateTime.now(clock), BATCH_SIZE);
+            if (expiredTasks.isEmpty()) {
+                return;
+            }
+            isRetiring = true;
+        }
+        tasklistExecutor.execute(() -> retire(expiredTasks));
+    }
+
+    /**
+     * Takes in a batch of expired {@link Task}s, removes those still in the {@link Tasklist}
+     * and archives them.
+     *
+     * @param expiredTasks {@link Task}s expired.
+     */
+    private void retire(List<Task> expiredTasks) {
+        try {
+            List<Task> retiredTasks = tasks.removeTasks(expiredTasks);
+            if (!retiredTasks.isEmpty()) {
+                archiver.accept(retiredTasks);
+            }
+        } finally {
+            synchronized (this) {
+                isRetiring = false;
+            }
+        }
+    }
+
+    /**
+     * Starts calling {@code tick()} every {@code TICK_MILLIS} on a background daemon thread.
+     */
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread tickingThread = new Thread(runnable, "HypeBot-expired-task-sweeper");
+            tickingThread.setDaemon(true);
+            return tickingThread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, 0, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops calling {@code tick()} in the background, if {@code start()} was called.
+     */
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package hypebot.tasklist;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import hypebot.task.Task;
+
+/**
+ * Represents a {@code TaskBitIndex}, a {@link TaskBitset} of the positions of the complete
+ * {@link Task}s of a {@link Tasklist} and one of the positions of each {@link TaskKind}, with a
+ * running count of each.
+ * <p>Kept up to date by the {@link Tasklist} itself as it adds, deletes, marks and unmarks
+ * {@link Task}s, since the bits follow positions in the {@link Tasklist}. Counts are read in O(1),
+ * and a {@link TaskFilter} is answered with word-level AND, OR and AND NOT over the bitsets.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see TaskFilter
+ */
+public class TaskBitIndex {
+    /** Positions of complete {@link Task}s. */
+    private final TaskBitset completeTasks = new TaskBitset();
+
+    /** Positions of {@link Task}s of each {@link TaskKind}. */
+    private final Map<TaskKind, TaskBitset> tasksOfKind = new EnumMap<>(TaskKind.class);
+
+    /** Number of complete {@link Task}s. */
+    private int completeCount = 0;
+
+    /** Number of {@link Task}s of each {@link TaskKind}, by ordinal. */
+    private final int[] kindCounts = new int[TaskKind.values().length];
+
+    /**
+     * Creates a new, empty {@code TaskBitIndex}.
+     */
+    public TaskBitIndex() {
+        super();
+        for (TaskKind kind : TaskKind.values()) {
+            tasksOfKind.put(kind, new TaskBitset());
+        }
+    }
+
+    /**
+     * Takes in a {@link Task} and the position it was just inserted at, and inserts its bits.
+     *
+     * @param position Position (0-indexed) of the {@link Task}.
+     * @param task     {@link Task} inserted.
+     */
+    public void taskInserted(int position, Task task) {
+        TaskKind taskKind = TaskKind.of(task);
+        completeTasks.insert(position, task.isComplete());
+        for (Map.Entry<TaskKind, TaskBitset> kindTasks : tasksOfKind.entrySet()) {
+            kindTasks.getValue().insert(position, kindTasks.getKey() == taskKind);
+        }
+        completeCount += task.isComplete() ? 1 : 0;
+        kindCounts[taskKind.ordinal()]++;
+    }
+
+    /**
+     * Takes in a {@link Task} and the position it was just removed from, and removes its bits.
+     *
+     * @param position Position (0-indexed) the {@link Task} was at.
+     * @param task     {@link Task} removed.
+     */
+    public void taskRemoved(int position, Task task) {
+        completeCount -= completeTasks.get(position) ? 1 : 0;
+        kindCounts[TaskKind.of(task).ordinal()]--;
+        completeTasks.remove(position);
+        for (TaskBitset kindTasks : tasksOfKind.values()) {
+            kindTasks.remove(position);
+        }
+    }
+
+    /**
+     * Takes in the position of a {@link Task} just marked or unmarked, and whether it is now
+     * complete, and updates its bit.
+     *
+     * @param position   Position (0-indexed) of the {@link Task}.
+     * @param isComplete Whether the {@link Task} is now complete.
+     */
+    public void taskStatusChanged(int position, boolean isComplete) {
+        if (completeTasks.get(position) != isComplete) {
+            completeTasks.set(position, isComplete);
+            completeCount += isComplete ? 1 : -1;
+        }
+    }
+
+    /**
+     * Takes in every {@link Task} of a {@link Tasklist} and indexes them, in place of everything
+     * indexed before.
+     *
+     * @param tasks {@link Task}s to index, in order.
+     */
+    public void indexAll(List<Task> tasks) {
+        completeTasks.clear();
+        for (TaskBitset kindTasks : tasksOfKind.values()) {
+            kindTasks.clear();
+        }
+        completeCount = 0;
+        Arrays.fill(kindCounts, 0);
+        for (int i = 0; i < tasks.size(); i++) {
+            taskInserted(i, tasks.get(i));
+        }
+    }
+
+    /**
+     * Returns the number of complete {@link Task}s, in O(1).
+     *
+     * @return Number of complete {@link Task}s.
+     */
+    public int getCompleteCount() {
+        return completeCount;
+    }
+
+    /**
+     * Takes in a {@link TaskKind} and returns the number of {@link Task}s of it, in O(1).
+     *
+     * @param kind {@link TaskKind} to count.
+     * @return Number of {@link Task}s of the {@link TaskKind}.
+     */
+    public int getCount(TaskKind kind) {
+        return kindCounts[kind.ordinal()];
+    }
+
+    /**
+     * Takes in a {@link TaskFilter} and returns the positions of the {@link Task}s it lets through:
+     * the OR of the bitsets of its {@link TaskKind}s, ANDed with the complete {@link Task}s or
+     * with NOT the complete {@link Task}s.
+     *
+     * @param filter {@link TaskFilter} to apply.
+     * @return New {@link TaskBitset} of the positions of the {@link Task}s let through.
+     */
+    public TaskBitset select(TaskFilter filter) {
+        TaskBitset selectedTasks = null;
+        for (TaskKind kind : filter.getKinds()) {
+            if (selectedTasks == null) {
+                selectedTasks = tasksOfKind.get(kind).copy();
+            } else {
+                selectedTasks.or(tasksOfKind.get(kind));
+            }
+        }
+        if (selectedTasks == null) {
+            selectedTasks = TaskBitset.allSet(completeTasks.size());
+        }
+        if (Boolean.TRUE.equals(filter.getIsComplete())) {
+            selectedTasks.and(completeTasks);
+        } else if (Boolean.FALSE.equals(filter.getIsComplete())) {
+            selectedTasks.andNot(completeTasks);
+        }
+        return selectedTasks;
+    }
+}
@@ -0,0 +1,220 @@
+package hypebot.tasklist;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import hypebot.task.Task;
+
+/**
+ * Represents a {@code TaskBitset}, one bit for each position of a {@link Tasklist}, set for
+ * the positions of {@link Task}s with some property.
+ * <p>Unlike a {@link BitSet}, bits can be inserted and removed in the middle, shifting every bit
+ * after them a word at a time, so the bits stay lined up with the {@link Tasklist} as
+ * {@link Task}s are added and deleted. Bits from the size of the {@code TaskBitset} up are
+ * always clear.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see TaskBitIndex
+ */
+public class TaskBitset {
+    /** Number of bits in each word. */
+    private static final int WORD_SIZE = Long.SIZE;
+
+    /** Words holding the bits, lowest position first. */
+    private long[] words;
+
+    /** Number of positions the {@code TaskBitset} has bits for. */
+    private int size;
+
+    /**
+     * Creates a new, empty {@code TaskBitset}.
+     */
+    public TaskBitset() {
+        this(new long[1], 0);
+    }
+
+    private TaskBitset(long[] words, int size) {
+        super();
+        this.words = words;
+        this.size = size;
+    }
+
+    /**
+     * Takes in a number of positions and returns a new {@code TaskBitset} with every bit set.
+     *
+     * @param size Number of positions.
+     * @return {@code TaskBitset} with every bit from 0 to {@code size} - 1 set.
+     */
+    public static TaskBitset allSet(int size) {
+        long[] words = new long[Math.max(1, getWordCount(size))];
+        Arrays.fill(words, 0, size / WORD_SIZE, -1L);
+        if (size % WORD_SIZE != 0) {
+            words[size / WORD_SIZE] = getLowMask(size % WORD_SIZE);
+        }
+        return new TaskBitset(words, size);
+    }
+
+    private static int getWordCount(int bitCount) {
+        return (bitCount + WORD_SIZE - 1) / WORD_SIZE;
+    }
+
+    private static long getLowMask(int bitCount) {
+        return bitCount == 0 ? 0 : -1L >>> (WORD_SIZE - bitCount);
+    }
+
+    /**
+     * Returns the number of positions the {@code TaskBitset} has bits for.
+     *
+     * @return Number of positions.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Takes in a position and returns whether its bit is set.
+     *
+     * @param position Position (0-indexed).
+     * @return Whether the bit at the position is set.
+     */
+    public boolean get(int position) {
+        return (words[position / WORD_SIZE] & (1L << position)) != 0;
+    }
+
+    /**
+     * Takes in a position and sets or clears its bit.
+     *
+     * @param position Position (0-indexed), less than the size.
+     * @param value    Whether to set the bit.
+     */
+    public void set(int position, boolean value) {
+        if (value) {
+            words[position / WORD_SIZE] |= 1L << position;
+        } else {
+            words[position / WORD_SIZE] &= ~(1L << position);
+        }
+    }
+
+    /**
+     * Takes in a position and a value, and inserts a bit of that value there, shifting every
+     * bit from that position up by one.
+     *
+     * @param position Position (0-indexed) to insert at, from 0 to the size.
+     * @param value    Whether the bit inserted is set.
+     */
+    public void insert(int position, boolean value) {
+        int wordCount = getWordCount(size + 1);
+        if (wordCount > words.length) {
+            words = Arrays.copyOf(words, Math.max(wordCount, words.length * 2));
+        }
+        int wordIndex = position / WORD_SIZE;
+        for (int i = wordCount - 1; i > wordIndex; i--) {
+            words[i] = (words[i] << 1) | (words[i - 1] >>> (WORD_SIZE - 1));
+        }
+        long lowMask = getLowMask(position % WORD_SIZE);
+        words[wordIndex] = (words[wordIndex] & lowMask) | ((words[wordIndex] & ~lowMask) << 1);
+        size++;
+        set(position, value);
+    }
+
+    /**
+     * Takes in a position and removes its bit, shifting every bit after it down by one.
+     *
+     * @param position Position (0-indexed) to remove, less than the size.
+     */
+    public void remove(int position) {
+        int wordCount = getWordCount(size);
+        int wordIndex = position / WORD_SIZE;
+        long lowMask = getLowMask(position % WORD_SIZE);
+        words[wordIndex] = (words[wordIndex] & lowMask) | ((words[wordIndex] >>> 1) & ~lowMask);
+        for (int i = wordIndex; i < wordCount - 1; i++) {
+            words[i] |= words[i + 1] << (WORD_SIZE - 1);
+            words[i + 1] >>>= 1;
+        }
+        size--;
+    }
+
+    /**
+     * Removes every bit, leaving the {@code TaskBitset} empty.
+     */
+    public void clear() {
+        Arrays.fill(words, 0);
+        size = 0;
+    }
+
+    /**
+     * Returns a copy of the {@code TaskBitset}.
+     *
+     * @return New {@code TaskBitset} with the same bits.
+     */
+    public TaskBitset copy() {
+        return new TaskBitset(words.clone(), size);
+    }
+
+    /**
+     * Takes in another {@code TaskBitset} of the same size and clears every bit not also set in it.
+     *
+     * @param other {@code TaskBitset} to AND with.
+     */
+    public void and(TaskBitset other) {
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= i < other.words.length ? other.words[i] : 0;
+        }
+    }
+
+    /**
+     * Takes in another {@code TaskBitset} of the same size and sets every bit also set in it.
+     *
+     * @param other {@code TaskBitset} to OR with.
+     */
+    public void or(TaskBitset other) {
+        for (int i = 0; i < Math.min(words.length, other.words.length); i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    /**
+     * Takes in another {@code TaskBitset} of the same size and clears every bit set in it.
+     *
+     * @param other {@code TaskBitset} whose bits to clear, as an AND NOT.
+     */
+    public void andNot(TaskBitset other) {
+        for (int i = 0; i < Math.min(words.length, other.words.length); i++) {
+            words[i] &= ~other.words[i];
+        }
+    }
+
+    /**
+     * Returns the number of bits set.
+     *
+     * @return Number of bits set.
+     */
+    public int cardinality() {
+        int setBitCount = 0;
+        for (long word : words) {
+            setBitCount += Long.bitCount(word);
+        }
+        return setBitCount;
+    }
+
+    /**
+     * Takes in a position and returns the first position from it with its bit set.
+     *
+     * @param fromPosition Position (0-indexed) to start from.
+     * @return Position (0-indexed) of the next bit set, or -1 if there is none.
+     */
+    public int nextSetBit(int fromPosition) {
+        int wordIndex = fromPosition / WORD_SIZE;
+        if (fromPosition >= size) {
+            return -1;
+        }
+        long word = words[wordIndex] & (-1L << fromPosition);
+        while (word == 0) {
+            if (++wordIndex >= words.length) {
+                return -1;
+            }
+            word = words[wordIndex];
+        }
+        return wordIndex * WORD_SIZE + Long.numberOfTrailingZeros(word);
+    }
+}
@@ -0,0 +1,191 @@
+package hypebot.tasklist;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import hypebot.command.AgendaCommand;
+import hypebot.task.Deadline;
+import hypebot.task.Event;
+import hypebot.task.Recurrence;
+import hypebot.task.Task;
+
+/**
+ * Represents a {@code TaskDateIndex}, an index of the {@link Deadline}s and {@link Event}s of a
+ * {@link Tasklist} sorted by the date each starts, answering which {@link Task}s happen on each
+ * day of a range of dates for an {@link AgendaCommand}.
+ * <p>Keeps {@link Task}s happening once in a {@link TreeMap} by start date, so a range only walks
+ * the {@link Task}s starting in it, and from as many days before it as the longest of them still
+ * indexed spans.
+ * Recurring {@link Task}s are kept aside, and each jumps straight from one occurrence in the
+ * range to the next by its {@link Recurrence}.</p>
+ * <p>Set as a {@link TasklistListener} of the {@link Tasklist} it indexes, so that adding and
+ * deleting {@link Task}s keeps it up to date.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see AgendaCommand
+ */
+public class TaskDateIndex implements TasklistListener {
+    /** {@link Comparator} ordering {@link Task}s on the same day, deadlines first, then events by start. */
+    private static final Comparator<Task> SAME_DAY_ORDER = Comparator.comparing(TaskDateIndex::getStartTimeOfDay);
+
+    /** {@link Task}s happening once, by the date each starts. */
+    private final NavigableMap<LocalDate, List<Task>> oneOffTasksByStartDate = new TreeMap<>();
+
+    /** Recurring {@link Task}s, by identity. */
+    private final Set<Task> recurringTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /** Number of indexed {@link Task}s happening once, by how many days each spans past the date it starts. */
+    private final NavigableMap<Long, Integer> oneOffSpanDayCounts = new TreeMap<>();
+
+    /**
+     * Creates a new, empty {@code TaskDateIndex}.
+     */
+    public TaskDateIndex() {
+        super();
+    }
+
+    private static LocalDate getStartDate(Task task) {
+        return task instanceof Event event ? event.getStartTime().toLocalDate() : ((Deadline) task).getDueDate();
+    }
+
+    private static LocalTime getStartTimeOfDay(Task task) {
+        return task instanceof Event event ? event.getStartTime().toLocalTime() : LocalTime.MIN;
+    }
+
+    private static long getSpanDays(Task task) {
+        if (task instanceof Event event) {
+            return ChronoUnit.DAYS.between(event.getStartTime().toLocalDate(), event.getEndTime().toLocalDate());
+        }
+        return 0;
+    }
+
+    private static Recurrence getRecurrence(Task task) {
+        return task instanceof Event event ? event.getRecurrence() : ((Deadline) task).getRecurrence();
+    }
+
+    /**
+     * Takes in every {@link Task} of a {@link Tasklist} and indexes each {@link Deadline}
+     * and {@link Event}, in place of everything indexed before.
+     *
+     * @param tasks {@link Task}s to index.
+     */
+    public void indexAll(Collection<Task> tasks) {
+        tasksCleared();
+        for (Task task : tasks) {
+            taskAdded(task);
+        }
+    }
+
+    @Override
+    public void taskAdded(Task task) {
+        if (!(task instanceof Deadline) && !(task instanceof Event)) {
+            return;
+        }
+        if (task.isRecurring()) {
+            recurringTasks.add(task);
+            return;
+        }
+        oneOffTasksByStartDate.computeIfAbsent(getStartDate(task), startDate -> new ArrayList<>()).add(task);
+        oneOffSpanDayCounts.merge(getSpanDays(task), 1, Integer::sum);
+    }
+
+    @Override
+    public void taskRemoved(Task task) {
+        if (recurringTasks.remove(task)) {
+            return;
+        } else if (!(task instanceof Deadline) && !(task instanceof Event)) {
+            return;
+        }
+        LocalDate startDate = getStartDate(task);
+        List<Task> tasksStarting = oneOffTasksByStartDate.get(startDate);
+        if (tasksStarting == null) {
+            return;
+        }
+        if (!tasksStarting.removeIf(taskStarting -> taskStarting == task)) {
+            return;
+        }
+        if (tasksStarting.isEmpty()) {
+            oneOffTasksByStartDate.remove(startDate);
+        }
+        oneOffSpanDayCounts.computeIfPresent(getSpanDays(task), (spanDays, count) -> count == 1 ? null : count - 1);
+    }
+
+    @Override
+    public void taskUpdated(Task task) {
+        // Marking a task complete or incomplete does not change when it happens.
+    }
+
+    @Override
+    public void tasksCleared() {
+        oneOffTasksByStartDate.clear();
+        recurringTasks.clear();
+        oneOffSpanDayCounts.clear();
+    }
+
+    /**
+     * Takes in a {@link Task}, the date one occurrence of it starts and a range of dates, and adds
+     * the {@link Task} to each day of the range that occurrence spans.
+     *
+     * @param agenda    Days of the range, each with the {@link Task}s happening on it.
+     * @param task      {@link Task} happening.
+     * @param startDate {@link LocalDate} the occurrence starts.
+     * @param fromDate  First {@link LocalDate} of the range.
+     * @param toDate    Last {@link LocalDate} of the range, inclusive.
+     */
+    private static void addOccurrence(NavigableMap<LocalDate, List<Task>> agenda, Task task, LocalDate startDate,
+            LocalDate fromDate, LocalDate toDate) {
+        LocalDate endDate = startDate.plusDays(getSpanDays(task));
+        LocalDate lastDate = endDate.isBefore(toDate) ? endDate : toDate;
+        for (LocalDate date = startDate.isBefore(fromDate) ? fromDate : startDate; !date.isAfter(lastDate);
+                date = date.plusDays(1)) {
+            agenda.computeIfAbsent(date, day -> new ArrayList<>()).add(task);
+        }
+    }
+
+    /**
+     * Takes in a range of dates and returns each day in it that any indexed {@link Task} happens on,
+     * with those {@link Task}s.
+     * <p>Days nothing happens on are never visited, so cost grows with what happens in the range
+     * rather than with how many days it spans.</p>
+     *
+     * @param fromDate First {@link LocalDate} of the range.
+     * @param toDate   Last {@link LocalDate} of the range, inclusive.
+     * @return Days something happens on, earliest first, each with its {@link Task}s, deadlines
+     *         first, then events by start time; empty if nothing happens in the range.
+     */
+    public NavigableMap<LocalDate, List<Task>> getAgenda(LocalDate fromDate, LocalDate toDate) {
+        NavigableMap<LocalDate, List<Task>> agenda = new TreeMap<>();
+        long maxOneOffSpanDays = oneOffSpanDayCounts.isEmpty() ? 0 : oneOffSpanDayCounts.lastKey();
+        LocalDate earliestStartDate = fromDate.minusDays(maxOneOffSpanDays);
+        for (Map.Entry<LocalDate, List<Task>> tasksStarting
+                : oneOffTasksByStartDate.subMap(earliestStartDate, true, toDate, true).entrySet()) {
+            for (Task task : tasksStarting.getValue()) {
+                addOccurrence(agenda, task, tasksStarting.getKey(), fromDate, toDate);
+            }
+        }
+        for (Task task : recurringTasks) {
+            LocalDate firstStartDate = getStartDate(task);
+            Recurrence recurrence = getRecurrence(task);
+            LocalDate startDate = recurrence.getNextOccurrence(firstStartDate, fromDate.minusDays(getSpanDays(task)));
+            while (!startDate.isAfter(toDate)) {
+                addOccurrence(agenda, task, startDate, fromDate, toDate);
+                startDate = recurrence.getNextOccurrence(firstStartDate, startDate.plusDays(1));
+            }
+        }
+        for (List<Task> tasksHappening : agenda.values()) {
+            tasksHappening.sort(SAME_DAY_ORDER);
+        }
+        return agenda;
+    }
+}
@@ -0,0 +1,164 @@
+package hypebot.tasklist;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import hypebot.reminder.ReminderScheduler;
+import hypebot.task.Task;
+
+/**
+ * Represents a {@code TaskDueQueue}, a date-ordered index of {@link Task}s each due at a
+ * {@link LocalDateTime}, from which the {@link Task}s due by a given time are taken soonest first.
+ * <p>Keeps one {@code Entry} per {@link Task} in a min-heap ordered by when it comes due, so
+ * scheduling a {@link Task} costs O(log n) and polling only peeks at the head of the heap when
+ * nothing is due. Cancelled {@code Entry}s are only flagged, costing O(1), and are skipped as
+ * they reach the head, or swept out all at once when they make up most of the heap.</p>
+ * <p>Not thread-safe; owners accessing it from several threads must synchronize.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see ReminderScheduler
+ * @see ExpiredTaskSweeper
+ */
+public class TaskDueQueue {
+    /** Fewest cancelled {@code Entry}s in the heap before they are swept out. */
+    private static final int MIN_CANCELLED_TO_SWEEP = 64;
+
+    /** Scheduled {@code Entry} of each {@link Task}, by identity. */
+    private final Map<Task, Entry> entries = new IdentityHashMap<>();
+
+    /** Scheduled and cancelled {@code Entry}s, soonest due at the head. */
+    private PriorityQueue<Entry> heap = new PriorityQueue<>();
+
+    /** Number of cancelled {@code Entry}s still in {@code heap}. */
+    private int cancelledCount = 0;
+
+    /**
+     * Represents an {@code Entry} of a {@link Task}, due at a {@link LocalDateTime}.
+     */
+    private static class Entry implements Comparable<Entry> {
+        /** {@link Task} due. */
+        private final Task task;
+
+        /** {@link LocalDateTime} the {@link Task} comes due. */
+        private final LocalDateTime dueAt;
+
+        /** Whether the {@code Entry} was cancelled while in the heap. */
+        private boolean isCancelled = false;
+
+        private Entry(Task task, LocalDateTime dueAt) {
+            this.task = task;
+            this.dueAt = dueAt;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return dueAt.compareTo(other.dueAt);
+        }
+    }
+
+    /**
+     * Creates a new, empty {@code TaskDueQueue}.
+     */
+    public TaskDueQueue() {
+        super();
+    }
+
+    /**
+     * Takes in {@link Task}s and when each comes due, and schedules them in place of everything
+     * scheduled before.
+     * <p>Builds the heap in one pass, costing O(n) rather than O(n log n).</p>
+     *
+     * @param tasks  {@link Task}s to schedule.
+     * @param dueAts {@link LocalDateTime} each {@link Task} at the same index comes due.
+     */
+    public void scheduleAll(List<Task> tasks, List<LocalDateTime> dueAts) {
+        entries.clear();
+        List<Entry> newEntries = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if (!entries.containsKey(task)) {
+                Entry entry = new Entry(task, dueAts.get(i));
+                entries.put(task, entry);
+                newEntries.add(entry);
+            }
+        }
+        heap = new PriorityQueue<>(newEntries);
+        cancelledCount = 0;
+    }
+
+    /**
+     * Takes in a {@link Task} and when it comes due, and schedules it in place of any
+     * earlier schedule of the same {@link Task}.
+     *
+     * @param task  {@link Task} to schedule.
+     * @param dueAt {@link LocalDateTime} the {@link Task} comes due.
+     */
+    public void schedule(Task task, LocalDateTime dueAt) {
+        cancel(task);
+        Entry entry = new Entry(task, dueAt);
+        entries.put(task, entry);
+        heap.add(entry);
+    }
+
+    /**
+     * Takes in a {@link Task} and cancels its schedule, if it is scheduled.
+     *
+     * @param task {@link Task} not to be due anymore.
+     */
+    public void cancel(Task task) {
+        Entry entry = entries.remove(task);
+        if (entry == null) {
+            return;
+        }
+        entry.isCancelled = true;
+        cancelledCount++;
+        if (cancelledCount >= MIN_CANCELLED_TO_SWEEP && cancelledCount > heap.size() / 2) {
+            heap.removeIf(heapEntry -> heapEntry.isCancelled);
+            cancelledCount = 0;
+        }
+    }
+
+    /**
+     * Cancels the schedule of every {@link Task}.
+     */
+    public void clear() {
+        entries.clear();
+        heap.clear();
+        cancelledCount = 0;
+    }
+
+    /**
+     * Returns the number of {@link Task}s scheduled and not yet taken off.
+     *
+     * @return Number of {@link Task}s scheduled.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Takes in the current {@link LocalDateTime} and the most {@link Task}s to take, takes
+     * {@link Task}s due by then off the heap, and returns them, soonest due first.
+     *
+     * @param now      Current {@link LocalDateTime}.
+     * @param maxCount Most {@link Task}s to take off the heap.
+     * @return {@link Task}s due by {@code now}, at most {@code maxCount} of them.
+     */
+    public List<Task> pollDue(LocalDateTime now, int maxCount) {
+        List<Task> dueTasks = new ArrayList<>();
+        while (dueTasks.size() < maxCount && !heap.isEmpty() && !heap.peek().dueAt.isAfter(now)) {
+            Entry entry = heap.poll();
+            if (entry.isCancelled) {
+                cancelledCount--;
+            } else {
+                entries.remove(entry.task);
+                dueTasks.add(entry.task);
+            }
+        }
+        return dueTasks;
+    }
+}
@@ -0,0 +1,91 @@
+package hypebot.tasklist;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import hypebot.command.ListCommand;
+import hypebot.task.Task;
+
+/**
+ * Represents a {@code TaskFilter}, which {@link Task}s of a {@link Tasklist} a {@link ListCommand}
+ * lists: done or not yet done, and of which {@link TaskKind}s.
+ * <p>Selected from a {@link TaskBitIndex} with word-level AND, OR and AND NOT of its bitsets.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see TaskBitIndex
+ */
+public class TaskFilter {
+    /** {@code TaskFilter} letting every {@link Task} through. */
+    public static final TaskFilter ALL = new TaskFilter(null, EnumSet.noneOf(TaskKind.class));
+
+    /** Whether {@link Task}s let through are complete, or {@code null} to let both through. */
+    private final Boolean isComplete;
+
+    /** {@link TaskKind}s let through, any of them; every {@link TaskKind} if empty. */
+    private final Set<TaskKind> kinds;
+
+    /**
+     * Takes in whether {@link Task}s let through are complete and of which {@link TaskKind}s,
+     * and creates a new {@code TaskFilter}.
+     *
+     * @param isComplete Whether {@link Task}s let through are complete, or {@code null} for either.
+     * @param kinds      {@link TaskKind}s let through, any of them; every {@link TaskKind} if empty.
+     */
+    public TaskFilter(Boolean isComplete, Set<TaskKind> kinds) {
+        super();
+        this.isComplete = isComplete;
+        this.kinds = kinds.isEmpty() ? EnumSet.noneOf(TaskKind.class) : EnumSet.copyOf(kinds);
+    }
+
+    /**
+     * Returns whether {@link Task}s let through are complete.
+     *
+     * @return Whether {@link Task}s let through are complete, or {@code null} for either.
+     */
+    public Boolean getIsComplete() {
+        return isComplete;
+    }
+
+    /**
+     * Returns the {@link TaskKind}s let through.
+     *
+     * @return {@link TaskKind}s let through, any of them; every {@link TaskKind} if empty.
+     */
+    public Set<TaskKind> getKinds() {
+        return kinds;
+    }
+
+    /**
+     * Returns whether the {@code TaskFilter} lets every {@link Task} through.
+     *
+     * @return Whether every {@link Task} is let through.
+     */
+    public boolean isAll() {
+        return isComplete == null && kinds.isEmpty();
+    }
+
+    /**
+     * Takes in a {@link Task} and returns whether the {@code TaskFilter} lets it through.
+     *
+     * @param task {@link Task} to check.
+     * @return Whether the {@link Task} is let through.
+     */
+    public boolean matches(Task task) {
+        return (isComplete == null || task.isComplete() == isComplete)
+                && (kinds.isEmpty() || kinds.contains(TaskKind.of(task)));
+    }
+
+    /**
+     * Returns the {@link String} representation of the {@link Task}s let through, as shown to the user.
+     *
+     * @return {@link String} such as {@code undone deadlines and events}.
+     */
+    @Override
+    public String toString() {
+        String status = isComplete == null ? "" : isComplete ? "done " : "undone ";
+        String kindNames = kinds.isEmpty() ? "tasks"
+                : kinds.stream().map(TaskKind::toString).collect(Collectors.joining(" and "));
+        return status + kindNames;
+    }
+}
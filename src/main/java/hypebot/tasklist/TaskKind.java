@@ -0,0 +1,70 @@
+package hypebot.tasklist;
+
+import hypebot.task.Deadline;
+import hypebot.task.Event;
+import hypebot.task.Task;
+import hypebot.task.ToDo;
+
+/**
+ * Represents a {@code TaskKind}, which of the kinds of {@link Task} a {@link Task} is, for
+ * filtering a {@link Tasklist} by.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see TaskFilter
+ */
+public enum TaskKind {
+    TODO("todo", "todos"),
+    DEADLINE("deadline", "deadlines"),
+    EVENT("event", "events");
+
+    /** Name of the {@code TaskKind}, as entered by user. */
+    private final String kindName;
+
+    /** Plural of the name of the {@code TaskKind}, as shown to the user. */
+    private final String pluralName;
+
+    TaskKind(String kindName, String pluralName) {
+        this.kindName = kindName;
+        this.pluralName = pluralName;
+    }
+
+    /**
+     * Takes in a {@link Task} and returns its {@code TaskKind}.
+     *
+     * @param task {@link Task} to tell the kind of.
+     * @return {@code TaskKind} of the {@link Task}, {@code TODO} for a {@link ToDo}.
+     */
+    public static TaskKind of(Task task) {
+        if (task instanceof Deadline) {
+            return DEADLINE;
+        } else if (task instanceof Event) {
+            return EVENT;
+        }
+        return TODO;
+    }
+
+    /**
+     * Takes in the name of a kind of {@link Task} and returns the {@code TaskKind} of that name.
+     *
+     * @param kindName Name of a kind of {@link Task}, such as {@code deadline}, in any case.
+     * @return {@code TaskKind} of that name, or {@code null} if there is none.
+     */
+    public static TaskKind fromKindName(String kindName) {
+        for (TaskKind kind : values()) {
+            if (kind.kindName.equalsIgnoreCase(kindName)) {
+                return kind;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the plural name of the {@code TaskKind}, as shown to the user.
+     *
+     * @return {@link String} plural name, such as {@code deadlines}.
+     */
+    @Override
+    public String toString() {
+        return pluralName;
+    }
+}
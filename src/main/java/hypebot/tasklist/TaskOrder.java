@@ -0,0 +1,91 @@
+package hypebot.tasklist;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import hypebot.command.ListCommand;
+import hypebot.task.Deadline;
+import hypebot.task.Event;
+import hypebot.task.Task;
+
+/**
+ * Represents a {@code TaskOrder}, an order other than insertion order that a {@link ListCommand}
+ * can list the {@link Task}s of a {@link Tasklist} in.
+ * <p>Each {@code TaskOrder} takes a sort key from each {@link Task}; {@link Task}s with the same
+ * sort key keep the order they were added in.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see TaskSortIndex
+ */
+public enum TaskOrder {
+    DUE("due", "due date") {
+        @Override
+        Comparable<?> getSortKey(Task task) {
+            if (task instanceof Deadline deadline) {
+                return deadline.getDueDate().atStartOfDay();
+            } else if (task instanceof Event event) {
+                return event.getStartTime();
+            }
+            return LocalDateTime.MAX;
+        }
+    },
+    NAME("name", "name") {
+        @Override
+        Comparable<?> getSortKey(Task task) {
+            return task.getName().toLowerCase(Locale.ROOT);
+        }
+    },
+    STATUS("status", "status") {
+        @Override
+        Comparable<?> getSortKey(Task task) {
+            return task.isComplete();
+        }
+    };
+
+    /** Name of the {@code TaskOrder}, as entered by user. */
+    private final String orderName;
+
+    /** Description of what the {@code TaskOrder} sorts by, as shown to the user. */
+    private final String description;
+
+    TaskOrder(String orderName, String description) {
+        this.orderName = orderName;
+        this.description = description;
+    }
+
+    /**
+     * Takes in the name of an order and returns the {@code TaskOrder} of that name.
+     *
+     * @param orderName Name of an order, such as {@code due}, in any case.
+     * @return {@code TaskOrder} of that name, or {@code null} if there is none.
+     */
+    public static TaskOrder fromOrderName(String orderName) {
+        for (TaskOrder order : values()) {
+            if (order.orderName.equalsIgnoreCase(orderName)) {
+                return order;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Takes in a {@link Task} and returns what the {@code TaskOrder} sorts it by: the date and time
+     * a {@link Deadline} is due or an {@link Event} starts, with every other {@link Task} last;
+     * its name, ignoring case; or whether it is complete, incomplete {@link Task}s first.
+     * <p>Recurring {@link Task}s are sorted by their first occurrence.</p>
+     *
+     * @param task {@link Task} to sort.
+     * @return {@link Comparable} sort key of the {@link Task}, of the same type for every {@link Task}.
+     */
+    abstract Comparable<?> getSortKey(Task task);
+
+    /**
+     * Returns what the {@code TaskOrder} sorts by, as shown to the user.
+     *
+     * @return {@link String} description, such as {@code due date}.
+     */
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,124 @@
+package hypebot.tasklist;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import hypebot.command.ListCommand;
+import hypebot.task.Task;
+
+/**
+ * Represents a {@code TaskSortIndex}, the {@link Task}s of a {@link Tasklist} kept sorted in a
+ * {@link TaskOrder}, for a {@link ListCommand} to list without sorting the {@link Tasklist}.
+ * <p>Keeps {@link Task}s in a {@link TreeMap} by a snapshot of each one's sort key, so adding,
+ * deleting, marking or unmarking a {@link Task} moves only that {@link Task}, in O(log n), and
+ * listing costs only the iteration. The snapshot lets a {@link Task} be found again after marking
+ * or unmarking has already changed its sort key.</p>
+ * <p>Set as a {@link TasklistListener} of the {@link Tasklist} it sorts, so that every change to
+ * the {@link Tasklist} keeps it up to date.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see TaskOrder
+ */
+public class TaskSortIndex implements TasklistListener {
+    /** {@link TaskOrder} the {@link Task}s are kept in. */
+    private final TaskOrder order;
+
+    /** {@link Task}s, by sort key. */
+    private final NavigableMap<SortKey, Task> sortedTasks = new TreeMap<>();
+
+    /** Sort key each {@link Task} is currently filed under, by identity. */
+    private final Map<Task, SortKey> sortKeys = new IdentityHashMap<>();
+
+    /** Sequence number given to the next {@link Task} added, breaking ties in the same order as added. */
+    private long nextSequenceNumber = 0;
+
+    /**
+     * Takes in a {@link TaskOrder} and creates a new, empty {@code TaskSortIndex} keeping
+     * {@link Task}s in that order.
+     *
+     * @param order {@link TaskOrder} to keep {@link Task}s in.
+     */
+    public TaskSortIndex(TaskOrder order) {
+        super();
+        this.order = order;
+    }
+
+    /**
+     * Takes in every {@link Task} of a {@link Tasklist} and sorts them, in place of everything
+     * sorted before.
+     *
+     * @param tasks {@link Task}s to sort, in the order they were added.
+     */
+    public void indexAll(Collection<Task> tasks) {
+        tasksCleared();
+        for (Task task : tasks) {
+            taskAdded(task);
+        }
+    }
+
+    @Override
+    public void taskAdded(Task task) {
+        SortKey sortKey = new SortKey(order.getSortKey(task), nextSequenceNumber++);
+        sortKeys.put(task, sortKey);
+        sortedTasks.put(sortKey, task);
+    }
+
+    @Override
+    public void taskRemoved(Task task) {
+        SortKey sortKey = sortKeys.remove(task);
+        if (sortKey != null) {
+            sortedTasks.remove(sortKey);
+        }
+    }
+
+    @Override
+    public void taskUpdated(Task task) {
+        SortKey oldSortKey = sortKeys.get(task);
+        if (oldSortKey == null) {
+            return;
+        }
+        SortKey newSortKey = new SortKey(order.getSortKey(task), oldSortKey.sequenceNumber());
+        if (newSortKey.compareTo(oldSortKey) == 0) {
+            return;
+        }
+        sortedTasks.remove(oldSortKey);
+        sortKeys.put(task, newSortKey);
+        sortedTasks.put(newSortKey, task);
+    }
+
+    @Override
+    public void tasksCleared() {
+        sortedTasks.clear();
+        sortKeys.clear();
+    }
+
+    /**
+     * Returns a read-only view of the {@link Task}s in the {@link TaskOrder}, which stays up to date
+     * with the {@link Tasklist} without ever being copied.
+     *
+     * @return {@link Task}s in the {@link TaskOrder}.
+     */
+    public Collection<Task> getSortedTasks() {
+        return Collections.unmodifiableCollection(sortedTasks.values());
+    }
+
+    /**
+     * Represents the sort key a {@link Task} is filed under: what its {@link TaskOrder} sorts it by,
+     * then the order it was added in.
+     *
+     * @param key            {@link Comparable} sort key from the {@link TaskOrder}.
+     * @param sequenceNumber Sequence number of the {@link Task}, unique within the index.
+     */
+    private record SortKey(Comparable<?> key, long sequenceNumber) implements Comparable<SortKey> {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public int compareTo(SortKey other) {
+            int keyComparison = ((Comparable) key).compareTo(other.key);
+            return keyComparison != 0 ? keyComparison : Long.compare(sequenceNumber, other.sequenceNumber);
+        }
+    }
+}
@@ -4,19 +4,32 @@ import static hypebot.common.Messages.ERROR_DELETE_TASK_INDEX_OUT_OF_BOUNDS;
 import static hypebot.common.Messages.ERROR_DUPLICATE_TASK;
 import static hypebot.common.Messages.ERROR_MARK_TASK_INDEX_OUT_OF_BOUNDS;
 import static hypebot.common.Messages.ERROR_NO_TASKS_HAPPENING;
+import static hypebot.common.Messages.ERROR_NO_TASKS_IN_AGENDA;
 import static hypebot.common.Messages.ERROR_NO_TASKS_MATCH_SEARCH;
 import static hypebot.common.Messages.ERROR_UNMARK_TASK_INDEX_OUT_OF_BOUNDS;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import com.sun.jdi.request.DuplicateRequestException;
 
+import hypebot.command.AgendaCommand;
+import hypebot.command.Command;
 import hypebot.command.FindCommand;
 import hypebot.command.HappeningCommand;
+import hypebot.command.ListCommand;
 import hypebot.parser.command.FindQueryParser;
 import hypebot.parser.datetime.UiDateTimeParser;
 import hypebot.task.Task;
@@ -28,8 +41,24 @@ import hypebot.ui.gui.UiGuiMainWindow;
  *
  * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
  * @see Task
+ * @see TasklistListener
  */
 public class Tasklist extends ArrayList<Task> {
+    /** {@link TasklistListener}s told about every change to this {@code Tasklist}, in order added. */
+    private final transient List<TasklistListener> listeners = new ArrayList<>();
+
+    /** {@link TaskBitIndex} of this {@code Tasklist}, kept up to date by every change to it. */
+    private final transient TaskBitIndex bitIndex = new TaskBitIndex();
+
+    /** {@link TaskDateIndex} of this {@code Tasklist}; {@code null} until an agenda is first asked for. */
+    private transient TaskDateIndex dateIndex;
+
+    /** {@link TaskSortIndex} of this {@code Tasklist} for each {@link TaskOrder} it has been listed in. */
+    private final transient Map<TaskOrder, TaskSortIndex> sortIndexes = new EnumMap<>(TaskOrder.class);
+
+    /** {@link TasklistHistory} of edits to this {@code Tasklist}; {@code null} until one is first recorded. */
+    private transient TasklistHistory history;
+
     /**
      * Creates a new empty {@code Tasklist}.
      */
@@ -52,9 +81,155 @@ public class Tasklist extends ArrayList<Task> {
             throw new DuplicateRequestException(ERROR_DUPLICATE_TASK + (indexOf(task) + 1) + ".\n");
         }
         super.add(task);
+        bitIndex.taskInserted(size() - 1, task);
+        for (TasklistListener listener : listeners) {
+            listener.taskAdded(task);
+        }
         return true;
     }
 
+    /**
+     * Takes in an integer index (0-indexed) and a {@link Task}, and inserts the {@link Task}
+     * into the {@code Tasklist} at that index.
+     *
+     * @param index Index to insert the {@link Task} at.
+     * @param task  {@link Task} to be inserted.
+     * @throws DuplicateRequestException If the {@code Tasklist} already contains the {@link Task}
+     *                                   or a {@link Task} of the same semantics.
+     */
+    @Override
+    public void add(int index, Task task) throws DuplicateRequestException {
+        if (contains(task)) {
+            throw new DuplicateRequestException(ERROR_DUPLICATE_TASK + (indexOf(task) + 1) + ".\n");
+        }
+        super.add(index, task);
+        bitIndex.taskInserted(index, task);
+        for (TasklistListener listener : listeners) {
+            listener.taskAdded(task);
+        }
+    }
+
+    /**
+     * Takes in {@link Task}s and adds them all to the end of the {@code Tasklist}, in order,
+     * without checking for duplicates.
+     *
+     * @param tasksToAdd {@link Task}s to be added.
+     * @return Whether any {@link Task} was added.
+     */
+    @Override
+    public boolean addAll(Collection<? extends Task> tasksToAdd) {
+        int firstIndex = size();
+        boolean isChanged = super.addAll(tasksToAdd);
+        for (int i = firstIndex; i < size(); i++) {
+            bitIndex.taskInserted(i, get(i));
+            for (TasklistListener listener : listeners) {
+                listener.taskAdded(get(i));
+            }
+        }
+        return isChanged;
+    }
+
+    /**
+     * Takes in {@link Task}s deleted all at once and puts them back at the start of the
+     * {@code Tasklist}, in order, skipping any the {@code Tasklist} already contains.
+     * <p>Takes a single bulk copy when the {@code Tasklist} is empty, as it is straight
+     * after every {@link Task} was deleted.</p>
+     *
+     * @param tasksToRestore {@link Task}s to be put back, in the order they were in.
+     */
+    public void restoreAll(List<Task> tasksToRestore) {
+        List<Task> restoredTasks = tasksToRestore;
+        if (!isEmpty()) {
+            restoredTasks = tasksToRestore.stream().filter(task -> !contains(task)).toList();
+        }
+        super.addAll(0, restoredTasks);
+        bitIndex.indexAll(this);
+        for (Task restoredTask : restoredTasks) {
+            for (TasklistListener listener : listeners) {
+                listener.taskAdded(restoredTask);
+            }
+        }
+    }
+
+    /**
+     * Takes in a {@link Task} and the index (0-indexed) it was last known to be at, and returns
+     * where that very {@link Task} now is in the {@code Tasklist}.
+     * <p>Checks the index given first, so this is O(1) unless the {@link Task} has since moved.</p>
+     *
+     * @param task      {@link Task} to look for, matched by identity rather than by {@code equals()}.
+     * @param indexHint Index (0-indexed) the {@link Task} was last known to be at.
+     * @return Index (0-indexed) of the {@link Task}, or -1 if it is no longer in the {@code Tasklist}.
+     */
+    public int indexOfSame(Task task, int indexHint) {
+        if (indexHint >= 0 && indexHint < size() && get(indexHint) == task) {
+            return indexHint;
+        }
+        for (int i = 0; i < size(); i++) {
+            if (get(i) == task) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Takes in {@link Task}s of the {@code Tasklist} and returns where each of them is in it,
+     * in one pass over the {@code Tasklist} that stops once every one has been found.
+     *
+     * @param tasksToFind {@link Task}s to look for, matched by identity rather than by {@code equals()}.
+     * @return Index (0-indexed) of each {@link Task}, in the order taken in, or -1 for any not in
+     *         the {@code Tasklist}.
+     */
+    public int[] indexesOfSame(List<Task> tasksToFind) {
+        Map<Task, Integer> orderFound = new IdentityHashMap<>();
+        for (int i = 0; i < tasksToFind.size(); i++) {
+            orderFound.put(tasksToFind.get(i), i);
+        }
+        int[] indexes = new int[tasksToFind.size()];
+        Arrays.fill(indexes, -1);
+        int foundCount = 0;
+        for (int i = 0; i < size() && foundCount < orderFound.size(); i++) {
+            Integer order = orderFound.get(get(i));
+            if (order != null) {
+                indexes[order] = i;
+                foundCount++;
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Returns the {@link TasklistHistory} of edits made to the {@code Tasklist} by
+     * {@link Command}s, creating it the first time it is asked for.
+     *
+     * @return {@link TasklistHistory} of the {@code Tasklist}.
+     */
+    public TasklistHistory getHistory() {
+        if (history == null) {
+            history = new TasklistHistory();
+        }
+        return history;
+    }
+
+    /**
+     * Takes in a {@link TasklistListener} and tells it about every change made to this
+     * {@code Tasklist} from now on.
+     *
+     * @param listener {@link TasklistListener} to tell.
+     */
+    public void addListener(TasklistListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Takes in a {@link TasklistListener} and stops telling it about changes made to this {@code Tasklist}.
+     *
+     * @param listener {@link TasklistListener} to stop telling.
+     */
+    public void removeListener(TasklistListener listener) {
+        listeners.remove(listener);
+    }
+
     /**
      * Takes in an integer index (0-indexed), removes it from the {@code Tasklist}
      * and returns the {@link Task} at the previously specified index.
@@ -65,39 +240,118 @@ public class Tasklist extends ArrayList<Task> {
      */
     @Override
     public Task remove(int index) throws IndexOutOfBoundsException {
+        Task removedTask;
         try {
-            return super.remove(index);
+            removedTask = super.remove(index);
         } catch (IndexOutOfBoundsException e) {
             throw new IndexOutOfBoundsException(ERROR_DELETE_TASK_INDEX_OUT_OF_BOUNDS);
         }
+        bitIndex.taskRemoved(index, removedTask);
+        for (TasklistListener listener : listeners) {
+            listener.taskRemoved(removedTask);
+        }
+        return removedTask;
+    }
+
+    /**
+     * Takes in {@link Task}s and removes each of them still in the {@code Tasklist},
+     * in a single pass over the {@code Tasklist}.
+     * <p>{@link Task}s are matched by identity rather than by {@code equals()}.</p>
+     *
+     * @param tasksToRemove {@link Task}s to be removed.
+     * @return {@link Task}s removed, in the order they were in the {@code Tasklist}.
+     */
+    public List<Task> removeTasks(Collection<Task> tasksToRemove) {
+        Set<Task> tasksToRemoveSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        tasksToRemoveSet.addAll(tasksToRemove);
+        List<Task> removedTasks = new ArrayList<>();
+        for (Task task : this) {
+            if (tasksToRemoveSet.contains(task)) {
+                removedTasks.add(task);
+            }
+        }
+        if (!removedTasks.isEmpty()) {
+            super.removeIf(tasksToRemoveSet::contains);
+            bitIndex.indexAll(this);
+        }
+        for (Task removedTask : removedTasks) {
+            for (TasklistListener listener : listeners) {
+                listener.taskRemoved(removedTask);
+            }
+        }
+        return removedTasks;
+    }
+
+    /**
+     * Removes every complete {@link Task} from the {@code Tasklist}, in a single pass.
+     *
+     * @return {@link Task}s removed, in the order they were in the {@code Tasklist}.
+     */
+    public List<Task> removeCompleted() {
+        TaskBitset completeTasks = bitIndex.select(new TaskFilter(true, EnumSet.noneOf(TaskKind.class)));
+        List<Task> tasksToRemove = new ArrayList<>(bitIndex.getCompleteCount());
+        for (int i = completeTasks.nextSetBit(0); i >= 0; i = completeTasks.nextSetBit(i + 1)) {
+            tasksToRemove.add(get(i));
+        }
+        return removeTasks(tasksToRemove);
+    }
+
+    /**
+     * Removes every {@link Task} from the {@code Tasklist}.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        bitIndex.indexAll(this);
+        for (TasklistListener listener : listeners) {
+            listener.tasksCleared();
+        }
     }
 
     /**
      * Takes in an integer index (0-indexed), marks the corresponding {@link Task} as complete.
      *
      * @param index Index of {@link Task} to be marked complete.
+     * @return Whether the {@link Task} was complete before.
      * @throws IndexOutOfBoundsException If index provided < 0 or > {@code size()} - 1.
      */
-    public void mark(int index) throws IndexOutOfBoundsException {
+    public boolean mark(int index) throws IndexOutOfBoundsException {
+        Task task;
         try {
-            get(index).mark();
+            task = get(index);
         } catch (IndexOutOfBoundsException e) {
             throw new IndexOutOfBoundsException(ERROR_MARK_TASK_INDEX_OUT_OF_BOUNDS);
         }
+        boolean wasComplete = task.isComplete();
+        task.mark();
+        bitIndex.taskStatusChanged(index, task.isComplete());
+        for (TasklistListener listener : listeners) {
+            listener.taskUpdated(task);
+        }
+        return wasComplete;
     }
 
     /**
      * Takes in an integer index (0-indexed), marks the corresponding {@link Task} as incomplete.
      *
      * @param index Index of {@link Task} to be marked incomplete.
+     * @return Whether the {@link Task} was complete before.
      * @throws IndexOutOfBoundsException If index provided < 0 or > {@code size()} - 1.
      */
-    public void unmark(int index) throws IndexOutOfBoundsException {
+    public boolean unmark(int index) throws IndexOutOfBoundsException {
+        Task task;
         try {
-            get(index).unmark();
+            task = get(index);
         } catch (IndexOutOfBoundsException e) {
             throw new IndexOutOfBoundsException(ERROR_UNMARK_TASK_INDEX_OUT_OF_BOUNDS);
         }
+        boolean wasComplete = task.isComplete();
+        task.unmark();
+        bitIndex.taskStatusChanged(index, task.isComplete());
+        for (TasklistListener listener : listeners) {
+            listener.taskUpdated(task);
+        }
+        return wasComplete;
     }
 
     /**
@@ -122,6 +376,83 @@ public class Tasklist extends ArrayList<Task> {
         return newTasklist;
     }
 
+    /**
+     * Takes in a range of {@link LocalDate}s and returns each day in it that any {@link Task}
+     * happens on, with those {@link Task}s.
+     * <p>Looks the range up in a {@link TaskDateIndex}, built the first time an agenda is asked for
+     * and kept up to date as a {@link TasklistListener} from then on.</p>
+     *
+     * @param fromDate First {@link LocalDate} of the range, from an {@link AgendaCommand}.
+     * @param toDate   Last {@link LocalDate} of the range, inclusive.
+     * @return Days something happens on, earliest first, each with its {@link Task}s.
+     * @throws NoSuchElementException If no {@link Task}s happen on any day of the range.
+     */
+    public NavigableMap<LocalDate, List<Task>> getAgenda(LocalDate fromDate, LocalDate toDate)
+            throws NoSuchElementException {
+        if (dateIndex == null) {
+            dateIndex = new TaskDateIndex();
+            dateIndex.indexAll(this);
+            addListener(dateIndex);
+        }
+        NavigableMap<LocalDate, List<Task>> agenda = dateIndex.getAgenda(fromDate, toDate);
+        if (agenda.isEmpty()) {
+            throw new NoSuchElementException(ERROR_NO_TASKS_IN_AGENDA);
+        }
+        return agenda;
+    }
+
+    /**
+     * Returns the number of {@link Task}s in the {@code Tasklist} not yet complete, in O(1).
+     *
+     * @return Number of incomplete {@link Task}s.
+     */
+    public int getIncompleteCount() {
+        return size() - bitIndex.getCompleteCount();
+    }
+
+    /**
+     * Takes in a {@link TaskKind} and returns the number of {@link Task}s of it in the
+     * {@code Tasklist}, in O(1).
+     *
+     * @param kind {@link TaskKind} to count.
+     * @return Number of {@link Task}s of the {@link TaskKind}.
+     */
+    public int getCount(TaskKind kind) {
+        return bitIndex.getCount(kind);
+    }
+
+    /**
+     * Takes in a {@link TaskFilter} and returns the positions of the {@link Task}s in the
+     * {@code Tasklist} it lets through, worked out a word of positions at a time from the
+     * {@link TaskBitIndex} rather than by checking each {@link Task}.
+     *
+     * @param filter {@link TaskFilter} from a {@link ListCommand}.
+     * @return New {@link TaskBitset} of the positions (0-indexed) of the {@link Task}s let through.
+     */
+    public TaskBitset select(TaskFilter filter) {
+        return bitIndex.select(filter);
+    }
+
+    /**
+     * Takes in a {@link TaskOrder} and returns every {@link Task} in the {@code Tasklist} in that order,
+     * without sorting or copying the {@code Tasklist}.
+     * <p>Reads from a {@link TaskSortIndex}, built the first time that order is asked for and kept
+     * up to date as a {@link TasklistListener} from then on.</p>
+     *
+     * @param order {@link TaskOrder} from a {@link ListCommand}.
+     * @return Read-only view of the {@link Task}s in the {@link TaskOrder}.
+     */
+    public Collection<Task> getSorted(TaskOrder order) {
+        TaskSortIndex sortIndex = sortIndexes.get(order);
+        if (sortIndex == null) {
+            sortIndex = new TaskSortIndex(order);
+            sortIndex.indexAll(this);
+            addListener(sortIndex);
+            sortIndexes.put(order, sortIndex);
+        }
+        return sortIndex.getSortedTasks();
+    }
+
     /**
      * Takes in a regex {@link Pattern}, created by {@link FindQueryParser} to send to a
      * {@link FindCommand}, and a returns a new {@link Tasklist} of all {@link Task}s that
@@ -155,8 +486,9 @@ public class Tasklist extends ArrayList<Task> {
     @Override
     public String toString() {
         StringBuilder listMessage = new StringBuilder();
+        int taskNumber = 1;
         for (Task task : this) {
-            listMessage.append(indexOf(task) + 1).append(". ").append(task).append("\n");
+            listMessage.append(taskNumber++).append(". ").append(task).append("\n");
         }
         return listMessage.toString().stripTrailing();
     }
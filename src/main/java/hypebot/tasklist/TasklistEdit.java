@@ -0,0 +1,244 @@
+package hypebot.tasklist;
+
+import static hypebot.common.Messages.ERROR_EDITED_TASK_GONE;
+import static hypebot.common.Messages.MESSAGE_EDIT_ADDED;
+import static hypebot.common.Messages.MESSAGE_EDIT_DELETED;
+import static hypebot.common.Messages.MESSAGE_EDIT_DELETED_ALL;
+import static hypebot.common.Messages.MESSAGE_EDIT_MARKED;
+import static hypebot.common.Messages.MESSAGE_EDIT_UNMARKED;
+
+import java.util.List;
+
+import hypebot.command.AddCommand;
+import hypebot.command.Command;
+import hypebot.command.DeleteAllCommand;
+import hypebot.command.DeleteCommand;
+import hypebot.command.MarkCommand;
+import hypebot.command.UnmarkCommand;
+import hypebot.task.Task;
+
+/**
+ * Represents a {@code TasklistEdit}, one change made to a {@link Tasklist} by a {@link Command}
+ * that can be undone and redone, recorded in a {@link TasklistHistory}.
+ * <p>Holds only what it takes to reverse the change: the {@link Task}s it touched and where they
+ * were, never a copy of the {@link Tasklist}. Each {@link Task} is found again by its recorded
+ * index, falling back to a search only if the {@link Tasklist} has since shifted; if it has
+ * since left the {@link Tasklist}, such as by being archived, the change can no longer be reversed.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see TasklistHistory
+ */
+public abstract class TasklistEdit {
+    /**
+     * Creates a new {@code TasklistEdit}.
+     */
+    protected TasklistEdit() {
+        super();
+    }
+
+    /**
+     * Takes in a {@link Task} added by an {@link AddCommand} and where it was added, and returns
+     * the {@code TasklistEdit} adding it.
+     *
+     * @param task  {@link Task} added.
+     * @param index Index (0-indexed) the {@link Task} was added at.
+     * @return {@code TasklistEdit} adding the {@link Task}.
+     */
+    public static TasklistEdit added(Task task, int index) {
+        return new TaskAdded(task, index);
+    }
+
+    /**
+     * Takes in a {@link Task} deleted by a {@link DeleteCommand} and where it was, and returns
+     * the {@code TasklistEdit} deleting it.
+     *
+     * @param task  {@link Task} deleted.
+     * @param index Index (0-indexed) the {@link Task} was deleted from.
+     * @return {@code TasklistEdit} deleting the {@link Task}.
+     */
+    public static TasklistEdit deleted(Task task, int index) {
+        return new TaskDeleted(task, index);
+    }
+
+    /**
+     * Takes in every {@link Task} deleted by a {@link DeleteAllCommand}, and returns the
+     * {@code TasklistEdit} deleting them all.
+     *
+     * @param tasks {@link Task}s deleted, in the order they were in the {@link Tasklist}.
+     * @return {@code TasklistEdit} deleting every {@link Task}.
+     */
+    public static TasklistEdit deletedAll(List<Task> tasks) {
+        return new AllTasksDeleted(tasks);
+    }
+
+    /**
+     * Takes in a {@link Task} just marked or unmarked by a {@link MarkCommand} or {@link UnmarkCommand},
+     * where it is and whether it was complete before, and returns the {@code TasklistEdit}
+     * marking or unmarking it.
+     *
+     * @param task        {@link Task} just marked or unmarked.
+     * @param index       Index (0-indexed) of the {@link Task}.
+     * @param wasComplete Whether the {@link Task} was complete before.
+     * @return {@code TasklistEdit} marking or unmarking the {@link Task}.
+     */
+    public static TasklistEdit statusChanged(Task task, int index, boolean wasComplete) {
+        return new TaskStatusChanged(task, index, wasComplete);
+    }
+
+    /**
+     * Takes in the {@link Tasklist}, a {@link Task} touched by a change and the index it was
+     * recorded at, and returns where the {@link Task} is now.
+     *
+     * @param tasks {@link Tasklist} the change was made to.
+     * @param task  {@link Task} touched by the change.
+     * @param index Index (0-indexed) the {@link Task} was recorded at.
+     * @return Index (0-indexed) of the {@link Task} now.
+     * @throws IllegalStateException If the {@link Task} is no longer in the {@link Tasklist}.
+     */
+    private static int findTask(Tasklist tasks, Task task, int index) throws IllegalStateException {
+        int currentIndex = tasks.indexOfSame(task, index);
+        if (currentIndex < 0) {
+            throw new IllegalStateException(ERROR_EDITED_TASK_GONE + task);
+        }
+        return currentIndex;
+    }
+
+    /**
+     * Takes in the {@link Tasklist} the change was made to and reverses the change.
+     *
+     * @param tasks {@link Tasklist} the change was made to.
+     * @throws IllegalStateException If a {@link Task} the change touched is no longer in the {@link Tasklist}.
+     */
+    public abstract void undo(Tasklist tasks) throws IllegalStateException;
+
+    /**
+     * Takes in the {@link Tasklist} the change was undone on and makes the change again.
+     *
+     * @param tasks {@link Tasklist} the change was undone on.
+     * @throws IllegalStateException If a {@link Task} the change touched is no longer in the {@link Tasklist}.
+     */
+    public abstract void redo(Tasklist tasks) throws IllegalStateException;
+
+    /**
+     * Represents the {@code TasklistEdit} of adding a {@link Task}.
+     */
+    private static class TaskAdded extends TasklistEdit {
+        private final Task task;
+        private final int index;
+
+        private TaskAdded(Task task, int index) {
+            this.task = task;
+            this.index = index;
+        }
+
+        @Override
+        public void undo(Tasklist tasks) {
+            tasks.remove(findTask(tasks, task, index));
+        }
+
+        @Override
+        public void redo(Tasklist tasks) {
+            tasks.add(Math.min(index, tasks.size()), task);
+        }
+
+        @Override
+        public String toString() {
+            return MESSAGE_EDIT_ADDED + task;
+        }
+    }
+
+    /**
+     * Represents the {@code TasklistEdit} of deleting a {@link Task}.
+     */
+    private static class TaskDeleted extends TasklistEdit {
+        private final Task task;
+        private final int index;
+
+        private TaskDeleted(Task task, int index) {
+            this.task = task;
+            this.index = index;
+        }
+
+        @Override
+        public void undo(Tasklist tasks) {
+            tasks.add(Math.min(index, tasks.size()), task);
+        }
+
+        @Override
+        public void redo(Tasklist tasks) {
+            tasks.remove(findTask(tasks, task, index));
+        }
+
+        @Override
+        public String toString() {
+            return MESSAGE_EDIT_DELETED + task;
+        }
+    }
+
+    /**
+     * Represents the {@code TasklistEdit} of deleting every {@link Task}.
+     */
+    private static class AllTasksDeleted extends TasklistEdit {
+        private final List<Task> tasks;
+
+        private AllTasksDeleted(List<Task> tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        public void undo(Tasklist tasks) {
+            tasks.restoreAll(this.tasks);
+        }
+
+        @Override
+        public void redo(Tasklist tasks) {
+            tasks.removeTasks(this.tasks);
+        }
+
+        @Override
+        public String toString() {
+            return MESSAGE_EDIT_DELETED_ALL.formatted(tasks.size());
+        }
+    }
+
+    /**
+     * Represents the {@code TasklistEdit} of marking or unmarking a {@link Task}.
+     */
+    private static class TaskStatusChanged extends TasklistEdit {
+        private final Task task;
+        private final int index;
+        private final boolean wasComplete;
+        private final boolean isComplete;
+
+        private TaskStatusChanged(Task task, int index, boolean wasComplete) {
+            this.task = task;
+            this.index = index;
+            this.wasComplete = wasComplete;
+            this.isComplete = task.isComplete();
+        }
+
+        private void setComplete(Tasklist tasks, boolean isComplete) {
+            int currentIndex = findTask(tasks, task, index);
+            if (isComplete) {
+                tasks.mark(currentIndex);
+            } else {
+                tasks.unmark(currentIndex);
+            }
+        }
+
+        @Override
+        public void undo(Tasklist tasks) {
+            setComplete(tasks, wasComplete);
+        }
+
+        @Override
+        public void redo(Tasklist tasks) {
+            setComplete(tasks, isComplete);
+        }
+
+        @Override
+        public String toString() {
+            return (isComplete ? MESSAGE_EDIT_MARKED : MESSAGE_EDIT_UNMARKED) + task;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package hypebot.tasklist;
+
+import static hypebot.common.Messages.ERROR_NOTHING_TO_REDO;
+import static hypebot.common.Messages.ERROR_NOTHING_TO_UNDO;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+
+import hypebot.command.RedoCommand;
+import hypebot.command.UndoCommand;
+
+/**
+ * Represents the {@code TasklistHistory} of a {@link Tasklist}, the most recent {@link TasklistEdit}s
+ * made to it, which an {@link UndoCommand} steps back through and a {@link RedoCommand} steps
+ * forward through again.
+ * <p>Keeps at most {@code MAX_EDITS} {@link TasklistEdit}s, dropping the oldest, so the history
+ * never grows past a fixed number of compact entries. Making a new {@link TasklistEdit} forgets
+ * every {@link TasklistEdit} undone.</p>
+ * <p>A {@link TasklistEdit} that can no longer be undone or redone, such as putting back a
+ * {@link hypebot.task.Task} an equal one has since taken the place of, is dropped from the history,
+ * so that the {@link TasklistEdit}s before it can still be stepped through.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see TasklistEdit
+ */
+public class TasklistHistory {
+    /** Most {@link TasklistEdit}s kept to undo. */
+    private static final int MAX_EDITS = 100;
+
+    /** {@link TasklistEdit}s that can be undone, most recent first. */
+    private final Deque<TasklistEdit> undoableEdits = new ArrayDeque<>();
+
+    /** {@link TasklistEdit}s undone that can be redone, most recently undone first. */
+    private final Deque<TasklistEdit> redoableEdits = new ArrayDeque<>();
+
+    /**
+     * Creates a new, empty {@code TasklistHistory}.
+     */
+    public TasklistHistory() {
+        super();
+    }
+
+    /**
+     * Takes in a {@link TasklistEdit} just made and records it to be undone, forgetting every
+     * {@link TasklistEdit} undone before it.
+     *
+     * @param edit {@link TasklistEdit} just made.
+     */
+    public void record(TasklistEdit edit) {
+        undoableEdits.push(edit);
+        if (undoableEdits.size() > MAX_EDITS) {
+            undoableEdits.removeLast();
+        }
+        redoableEdits.clear();
+    }
+
+    /**
+     * Takes in the {@link Tasklist} and undoes the most recent {@link TasklistEdit} made to it.
+     *
+     * @param tasks {@link Tasklist} the {@link TasklistEdit} was made to.
+     * @return {@link TasklistEdit} undone.
+     * @throws NoSuchElementException If there is no {@link TasklistEdit} to undo.
+     * @throws RuntimeException       If the {@link TasklistEdit} can no longer be undone, after
+     *                                dropping it from the history.
+     */
+    public TasklistEdit undo(Tasklist tasks) throws NoSuchElementException, RuntimeException {
+        TasklistEdit edit = undoableEdits.poll();
+        if (edit == null) {
+            throw new NoSuchElementException(ERROR_NOTHING_TO_UNDO);
+        }
+        edit.undo(tasks);
+        redoableEdits.push(edit);
+        return edit;
+    }
+
+    /**
+     * Takes in the {@link Tasklist} and redoes the most recently undone {@link TasklistEdit}.
+     *
+     * @param tasks {@link Tasklist} the {@link TasklistEdit} was undone on.
+     * @return {@link TasklistEdit} redone.
+     * @throws NoSuchElementException If there is no {@link TasklistEdit} to redo.
+     * @throws RuntimeException       If the {@link TasklistEdit} can no longer be redone, after
+     *                                dropping it from the history.
+     */
+    public TasklistEdit redo(Tasklist tasks) throws NoSuchElementException, RuntimeException {
+        TasklistEdit edit = redoableEdits.poll();
+        if (edit == null) {
+            throw new NoSuchElementException(ERROR_NOTHING_TO_REDO);
+        }
+        edit.redo(tasks);
+        undoableEdits.push(edit);
+        return edit;
+    }
+}
@@ -0,0 +1,38 @@
+package hypebot.tasklist;
+
+import hypebot.task.Task;
+
+/**
+ * Represents a {@code TasklistListener} told about every change made to a {@link Tasklist}
+ * it has been set on, right after the change is made.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see Tasklist
+ */
+public interface TasklistListener {
+    /**
+     * Takes in a {@link Task} just added to the {@link Tasklist}.
+     *
+     * @param task {@link Task} added.
+     */
+    void taskAdded(Task task);
+
+    /**
+     * Takes in a {@link Task} just removed from the {@link Tasklist}.
+     *
+     * @param task {@link Task} removed.
+     */
+    void taskRemoved(Task task);
+
+    /**
+     * Takes in a {@link Task} in the {@link Tasklist} that was just marked complete or incomplete.
+     *
+     * @param task {@link Task} changed.
+     */
+    void taskUpdated(Task task);
+
+    /**
+     * Called right after every {@link Task} has been removed from the {@link Tasklist}.
+     */
+    void tasksCleared();
+}
@@ -2,31 +2,72 @@ package hypebot.ui.cli;
 
 import static hypebot.common.Messages.LOGO;
 import static hypebot.common.Messages.MESSAGE_ADDED_TASK;
+import static hypebot.common.Messages.MESSAGE_AGENDA_INTRO;
+import static hypebot.common.Messages.MESSAGE_AGENDA_TO;
+import static hypebot.common.Messages.MESSAGE_ARCHIVED_TASKS;
 import static hypebot.common.Messages.MESSAGE_DELETED_ALL_TASKS;
 import static hypebot.common.Messages.MESSAGE_DELETED_TASK;
 import static hypebot.common.Messages.MESSAGE_EXIT;
+import static hypebot.common.Messages.MESSAGE_FIND_ARCHIVE_INTRO;
 import static hypebot.common.Messages.MESSAGE_FIND_INTRO;
 import static hypebot.common.Messages.MESSAGE_GREET_INTRO;
 import static hypebot.common.Messages.MESSAGE_GREET_OUTRO;
 import static hypebot.common.Messages.MESSAGE_HAPPENING;
 import static hypebot.common.Messages.MESSAGE_HELP;
 import static hypebot.common.Messages.MESSAGE_LIST;
+import static hypebot.common.Messages.MESSAGE_LIST_FILTERED;
+import static hypebot.common.Messages.MESSAGE_LIST_PAGE;
+import static hypebot.common.Messages.MESSAGE_LIST_SORTED;
+import static hypebot.common.Messages.MESSAGE_LOADED_TASKLIST;
 import static hypebot.common.Messages.MESSAGE_LOADING_TASKLIST;
+import static hypebot.common.Messages.MESSAGE_LOADING_TASKLIST_PROGRESS;
 import static hypebot.common.Messages.MESSAGE_MARKED_TASK;
+import static hypebot.common.Messages.MESSAGE_NO_SLOW_COMMANDS;
+import static hypebot.common.Messages.MESSAGE_NO_SLOW_COMMANDS_OUTRO;
+import static hypebot.common.Messages.MESSAGE_REDONE;
+import static hypebot.common.Messages.MESSAGE_REMINDER_DEADLINE;
+import static hypebot.common.Messages.MESSAGE_REMINDER_EVENT;
 import static hypebot.common.Messages.MESSAGE_SAVING_TASKLIST;
+import static hypebot.common.Messages.MESSAGE_SLOW_COMMANDS_INTRO;
+import static hypebot.common.Messages.MESSAGE_STATS_INTRO;
+import static hypebot.common.Messages.MESSAGE_TASKLISTS_INTRO;
+import static hypebot.common.Messages.MESSAGE_TASKLIST_CURRENT;
+import static hypebot.common.Messages.MESSAGE_TASKLIST_LOADED;
+import static hypebot.common.Messages.MESSAGE_TASKLIST_SAVED;
 import static hypebot.common.Messages.MESSAGE_TASKS_LEFT_INTRO;
 import static hypebot.common.Messages.MESSAGE_TASKS_LEFT_OUTRO;
+import static hypebot.common.Messages.MESSAGE_UNDONE;
 import static hypebot.common.Messages.MESSAGE_UNKNOWN_INTRO;
 import static hypebot.common.Messages.MESSAGE_UNKNOWN_OUTRO;
 import static hypebot.common.Messages.MESSAGE_UNMARKED_TASK;
+import static hypebot.common.Messages.MESSAGE_USING_TASKLIST;
 
+import java.text.MessageFormat;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
 
 import hypebot.command.Command;
+import hypebot.command.ListCommand;
 import hypebot.main.HypeBot;
+import hypebot.metrics.CommandTypeMetrics;
+import hypebot.metrics.CommandTypeMetrics.Phase;
+import hypebot.metrics.LatencyHistogram;
+import hypebot.metrics.SlowCommandSample;
+import hypebot.task.Deadline;
+import hypebot.task.Event;
 import hypebot.task.Task;
+import hypebot.tasklist.TaskBitset;
+import hypebot.tasklist.TaskFilter;
+import hypebot.tasklist.TaskOrder;
 import hypebot.tasklist.Tasklist;
+import hypebot.tasklist.TasklistEdit;
 
 /**
  * Represents the {@code UiCli} that deals with all text that
@@ -37,6 +78,12 @@ import hypebot.tasklist.Tasklist;
  * @see UiErrorResponse
  */
 public class UiCli {
+    /** {@link DateTimeFormatter} of how dates are shown to user. */
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMM d yyyy");
+
+    /** {@link DateTimeFormatter} of how each day of an agenda is headed. */
+    private static final DateTimeFormatter AGENDA_DAY_FORMATTER = DateTimeFormatter.ofPattern("EEE, MMM d yyyy");
+
     /**
      * Creates a new {@code UiCli}.
      */
@@ -50,6 +97,24 @@ public class UiCli {
         return new UiResponse(MESSAGE_LOADING_TASKLIST);
     }
 
+    /**
+     * Takes in the fraction of the {@link Tasklist} loaded so far and returns a new
+     * {@link UiResponse} telling the user how far loading the {@link Tasklist} has come.
+     *
+     * @param progress Fraction of the {@link Tasklist} loaded so far, from 0 to 1.
+     */
+    public UiResponse showLoadingTasks(double progress) {
+        return new UiResponse(MessageFormat.format(MESSAGE_LOADING_TASKLIST_PROGRESS, Math.round(progress * 100)));
+    }
+
+    /**
+     * Returns a new {@link UiResponse} telling the user that the {@link Tasklist}
+     * saved on the user's local computer has finished loading.
+     */
+    public UiResponse showLoadedTasks() {
+        return new UiResponse(MESSAGE_LOADED_TASKLIST);
+    }
+
     /**
      * Returns a new {@link UiResponse} telling the user that the {@link Tasklist}
      * is being saved to the user's local computer is being loaded.
@@ -74,7 +139,105 @@ public class UiCli {
      * @param tasks {@link Tasklist} to list.
      */
     public UiResponse showListingTasks(Tasklist tasks) {
-        return new UiResponse(MESSAGE_LIST + tasks.toString());
+        return new UiResponse(() -> MESSAGE_LIST + tasks.toString());
+    }
+
+    /**
+     * Takes in the {@link Tasklist}, the positions of the {@link Task}s in it let through a
+     * {@link TaskFilter} and a page of them, and returns a new {@link UiResponse} listing the
+     * {@link Task}s on that page in insertion order, each numbered by its place in the {@link Tasklist}.
+     * <p>Walks only the set bits of the positions, so nothing is copied.</p>
+     *
+     * @param tasks         {@link Tasklist} containing {@link Task}s.
+     * @param selectedTasks {@link TaskBitset} of positions of the {@link Task}s let through.
+     * @param filter        {@link TaskFilter} the {@link Task}s were let through.
+     * @param page          Page (1-indexed) to list, or {@link ListCommand#WHOLE_LIST} for every {@link Task}.
+     * @param pageCount     Number of pages the {@link Task}s let through fill.
+     */
+    public UiResponse showListingTasks(Tasklist tasks, TaskBitset selectedTasks, TaskFilter filter, int page,
+            int pageCount) {
+        return new UiResponse(() -> {
+            StringBuilder listMessage = new StringBuilder(getListingIntro(null, filter, page, pageCount));
+            int rank = 0;
+            int[] ranks = getPageRanks(page);
+            for (int i = selectedTasks.nextSetBit(0); i >= 0 && rank < ranks[1]; i = selectedTasks.nextSetBit(i + 1)) {
+                if (rank++ >= ranks[0]) {
+                    listMessage.append(i + 1).append(". ").append(tasks.get(i)).append("\n");
+                }
+            }
+            return listMessage.toString().stripTrailing();
+        });
+    }
+
+    /**
+     * Takes in the {@link Tasklist}, its {@link Task}s in a {@link TaskOrder}, a {@link TaskFilter}
+     * and a page, and returns a new {@link UiResponse} listing the {@link Task}s let through on
+     * that page in the order, each numbered by its place in the {@link Tasklist}, so that the number
+     * shown is the one to mark, unmark or delete it by.
+     * <p>Skips straight through the {@link Task}s before the page, so nothing is copied or sorted,
+     * then finds the places of those on the page in one pass over the {@link Tasklist}.</p>
+     *
+     * @param tasks        {@link Tasklist} containing {@link Task}s.
+     * @param orderedTasks {@link Task}s of the {@link Tasklist} in order.
+     * @param order        {@link TaskOrder} of the {@link Task}s.
+     * @param filter       {@link TaskFilter} of the {@link Task}s to list.
+     * @param page         Page (1-indexed) to list, or {@link ListCommand#WHOLE_LIST} for every {@link Task}.
+     * @param pageCount    Number of pages the {@link Task}s let through fill.
+     */
+    public UiResponse showListingTasks(Tasklist tasks, Collection<Task> orderedTasks, TaskOrder order,
+            TaskFilter filter, int page, int pageCount) {
+        return new UiResponse(() -> {
+            StringBuilder listMessage = new StringBuilder(getListingIntro(order, filter, page, pageCount));
+            int rank = 0;
+            int[] ranks = getPageRanks(page);
+            List<Task> pageTasks = new ArrayList<>();
+            Iterator<Task> taskIterator = orderedTasks.iterator();
+            while (taskIterator.hasNext() && rank < ranks[1]) {
+                Task task = taskIterator.next();
+                if (filter.matches(task) && rank++ >= ranks[0]) {
+                    pageTasks.add(task);
+                }
+            }
+            int[] pageIndexes = tasks.indexesOfSame(pageTasks);
+            for (int i = 0; i < pageTasks.size(); i++) {
+                listMessage.append(pageIndexes[i] + 1).append(". ").append(pageTasks.get(i)).append("\n");
+            }
+            return listMessage.toString().stripTrailing();
+        });
+    }
+
+    /**
+     * Takes in how a listing is ordered, filtered and paged, and returns the lines introducing it.
+     *
+     * @param order     {@link TaskOrder} of the listing, or {@code null} for insertion order.
+     * @param filter    {@link TaskFilter} of the listing.
+     * @param page      Page (1-indexed) listed, or {@link ListCommand#WHOLE_LIST}.
+     * @param pageCount Number of pages in the listing.
+     * @return {@link String} introducing the listing.
+     */
+    private static String getListingIntro(TaskOrder order, TaskFilter filter, int page, int pageCount) {
+        String intro = order == null ? MESSAGE_LIST : MESSAGE_LIST_SORTED.formatted(order);
+        if (!filter.isAll()) {
+            intro += MESSAGE_LIST_FILTERED.formatted(filter);
+        }
+        if (page != ListCommand.WHOLE_LIST) {
+            intro += MESSAGE_LIST_PAGE.formatted(page, pageCount);
+        }
+        return intro;
+    }
+
+    /**
+     * Takes in a page and returns the ranks (0-indexed) of the first {@link Task} on it and of
+     * the first {@link Task} after it.
+     *
+     * @param page Page (1-indexed), or {@link ListCommand#WHOLE_LIST} for every {@link Task}.
+     * @return Ranks from (inclusive) and to (exclusive).
+     */
+    private static int[] getPageRanks(int page) {
+        if (page == ListCommand.WHOLE_LIST) {
+            return new int[] {0, Integer.MAX_VALUE};
+        }
+        return new int[] {(page - 1) * ListCommand.PAGE_SIZE, page * ListCommand.PAGE_SIZE};
     }
 
     /**
@@ -88,7 +251,7 @@ public class UiCli {
      */
     public UiResponse showAddedTask(Task addedTask, Tasklist tasks) {
         return new UiResponse(MESSAGE_ADDED_TASK + addedTask
-                + MESSAGE_TASKS_LEFT_INTRO + tasks.size() + MESSAGE_TASKS_LEFT_OUTRO);
+                + MESSAGE_TASKS_LEFT_INTRO + tasks.getIncompleteCount() + MESSAGE_TASKS_LEFT_OUTRO);
     }
 
     /**
@@ -102,7 +265,7 @@ public class UiCli {
      */
     public UiResponse showDeletedTask(Task removedTask, Tasklist tasks) {
         return new UiResponse(MESSAGE_DELETED_TASK + removedTask
-                + MESSAGE_TASKS_LEFT_INTRO + tasks.size() + MESSAGE_TASKS_LEFT_OUTRO);
+                + MESSAGE_TASKS_LEFT_INTRO + tasks.getIncompleteCount() + MESSAGE_TASKS_LEFT_OUTRO);
     }
 
     /**
@@ -113,6 +276,19 @@ public class UiCli {
         return new UiResponse(MESSAGE_DELETED_ALL_TASKS);
     }
 
+    /**
+     * Takes in the {@link Task}s moved out of the {@link Tasklist} to the archive and the
+     * {@link Tasklist}, and returns a new {@link UiResponse} showing the {@link Task}s archived,
+     * as well as the number of {@link Task}s left in the {@link Tasklist}.
+     *
+     * @param archivedTasks {@link Task}s moved to the archive.
+     * @param tasks         {@link Tasklist} after {@link Task}s archived.
+     */
+    public UiResponse showArchivedTasks(List<Task> archivedTasks, Tasklist tasks) {
+        return new UiResponse(() -> MESSAGE_ARCHIVED_TASKS + listUnnumbered(archivedTasks).stripTrailing()
+                + MESSAGE_TASKS_LEFT_INTRO + tasks.getIncompleteCount() + MESSAGE_TASKS_LEFT_OUTRO);
+    }
+
     /**
      * Takes in a {@link Task} and returns a new {@link UiResponse} telling
      * the user the {@link Task} was marked complete.
@@ -133,6 +309,77 @@ public class UiCli {
         return new UiResponse(MESSAGE_UNMARKED_TASK + taskToUnmark + "\n");
     }
 
+    /**
+     * Takes in a {@link TasklistEdit} just undone and the {@link Tasklist}, and returns a new
+     * {@link UiResponse} telling the user what was undone, as well as the number of {@link Task}s
+     * now in the {@link Tasklist}.
+     *
+     * @param undoneEdit {@link TasklistEdit} undone.
+     * @param tasks      {@link Tasklist} after the {@link TasklistEdit} was undone.
+     */
+    public UiResponse showUndoneEdit(TasklistEdit undoneEdit, Tasklist tasks) {
+        return new UiResponse(MESSAGE_UNDONE + undoneEdit + MESSAGE_TASKS_LEFT_INTRO + tasks.getIncompleteCount()
+                + MESSAGE_TASKS_LEFT_OUTRO);
+    }
+
+    /**
+     * Takes in a {@link TasklistEdit} just redone and the {@link Tasklist}, and returns a new
+     * {@link UiResponse} telling the user what was redone, as well as the number of {@link Task}s
+     * now in the {@link Tasklist}.
+     *
+     * @param redoneEdit {@link TasklistEdit} redone.
+     * @param tasks      {@link Tasklist} after the {@link TasklistEdit} was redone.
+     */
+    public UiResponse showRedoneEdit(TasklistEdit redoneEdit, Tasklist tasks) {
+        return new UiResponse(MESSAGE_REDONE + redoneEdit + MESSAGE_TASKS_LEFT_INTRO + tasks.getIncompleteCount()
+                + MESSAGE_TASKS_LEFT_OUTRO);
+    }
+
+    /**
+     * Takes in the name of the {@link Tasklist} just switched to and the {@link Tasklist}, and
+     * returns a new {@link UiResponse} telling the user the switch was made, as well as the
+     * number of {@link Task}s in the {@link Tasklist}.
+     *
+     * @param tasklistName Name of the {@link Tasklist} switched to.
+     * @param tasks        {@link Tasklist} switched to.
+     */
+    public UiResponse showUsingTasklist(String tasklistName, Tasklist tasks) {
+        return new UiResponse(MESSAGE_USING_TASKLIST.formatted(tasklistName) + MESSAGE_TASKS_LEFT_INTRO
+                + tasks.getIncompleteCount() + MESSAGE_TASKS_LEFT_OUTRO);
+    }
+
+    /**
+     * Takes in the name of every {@link Tasklist} with the number of {@link Task}s in each one
+     * loaded, and the name of the current {@link Tasklist}, and returns a new {@link UiResponse}
+     * showing each {@link Tasklist} on its own line.
+     *
+     * @param tasklistSizes {@link Map} of each name to its number of {@link Task}s, or {@code null} if not loaded.
+     * @param currentName   Name of the current {@link Tasklist}.
+     */
+    public UiResponse showTasklists(Map<String, Integer> tasklistSizes, String currentName) {
+        StringBuilder tasklistsMessage = new StringBuilder(MESSAGE_TASKLISTS_INTRO);
+        tasklistSizes.forEach((tasklistName, tasklistSize) -> {
+            tasklistsMessage.append("• ").append(tasklistName).append(tasklistSize == null
+                    ? MESSAGE_TASKLIST_SAVED : MESSAGE_TASKLIST_LOADED.formatted(tasklistSize));
+            if (tasklistName.equals(currentName)) {
+                tasklistsMessage.append(MESSAGE_TASKLIST_CURRENT);
+            }
+            tasklistsMessage.append("\n");
+        });
+        return new UiResponse(tasklistsMessage.toString());
+    }
+
+    /**
+     * Takes in a {@link Deadline} due today or an {@link Event} starting now and returns
+     * a new {@link UiResponse} reminding the user of it.
+     *
+     * @param task {@link Deadline} or {@link Event} to remind the user of.
+     */
+    public UiResponse showReminder(Task task) {
+        String reminderIntro = task instanceof Event ? MESSAGE_REMINDER_EVENT : MESSAGE_REMINDER_DEADLINE;
+        return new UiResponse(reminderIntro + task + "\n");
+    }
+
     /**
      * Takes in a {@link LocalDate} and {@link Tasklist} of {@link Task}s
      * occurring on the given date, and returns a new {@link UiResponse}
@@ -144,10 +391,34 @@ public class UiCli {
      *                             corresponding search date.
      */
     public UiResponse showTasksHappeningOnDate(LocalDate searchDate, Tasklist tasksHappeningOnDate) {
-        return new UiResponse(MESSAGE_HAPPENING + searchDate.format(DateTimeFormatter.ofPattern("MMM d yyyy"))
+        return new UiResponse(() -> MESSAGE_HAPPENING + searchDate.format(DATE_FORMATTER)
                 + "!\n" + tasksHappeningOnDate.toString());
     }
 
+    /**
+     * Takes in the {@link LocalDate}s bounding a range of dates and each day in it that any
+     * {@link Task} happens on, with those {@link Task}s, and returns a new {@link UiResponse}
+     * listing them day by day.
+     *
+     * @param fromDate First {@link LocalDate} of the range (shown to user in MMM d yyyy format).
+     * @param toDate   Last {@link LocalDate} of the range (shown to user in MMM d yyyy format).
+     * @param agenda   Days something happens on, earliest first, each with its {@link Task}s.
+     */
+    public UiResponse showAgenda(LocalDate fromDate, LocalDate toDate, NavigableMap<LocalDate, List<Task>> agenda) {
+        return new UiResponse(() -> {
+            StringBuilder agendaMessage = new StringBuilder(MESSAGE_AGENDA_INTRO)
+                    .append(fromDate.format(DATE_FORMATTER)).append(MESSAGE_AGENDA_TO)
+                    .append(toDate.format(DATE_FORMATTER)).append("!\n");
+            for (Map.Entry<LocalDate, List<Task>> day : agenda.entrySet()) {
+                agendaMessage.append("\n").append(day.getKey().format(AGENDA_DAY_FORMATTER)).append(":\n");
+                for (Task task : day.getValue()) {
+                    agendaMessage.append("• ").append(task).append("\n");
+                }
+            }
+            return agendaMessage.toString().stripTrailing();
+        });
+    }
+
     /**
      * Takes in a {@link String} search query and a {@link Tasklist} of {@link Task}s
      * whose name contains at least one of the keywords in the search query, and returns
@@ -158,10 +429,108 @@ public class UiCli {
      *                             in their names.
      */
     public UiResponse showTasksWithSearchQuery(String searchQuery, Tasklist tasksWithSearchQuery) {
-        return new UiResponse(MESSAGE_FIND_INTRO + " '" + searchQuery + "': \n"
+        return new UiResponse(() -> MESSAGE_FIND_INTRO + " '" + searchQuery + "': \n"
                 + tasksWithSearchQuery.toString());
     }
 
+    /**
+     * Takes in a {@link String} search query and the archived {@link Task}s whose name contains
+     * at least one of the keywords in the search query, and returns a {@link UiResponse}
+     * showing them.
+     *
+     * @param searchQuery                  {@link String} search query containing keywords.
+     * @param archivedTasksWithSearchQuery Archived {@link Task}s with keyword(s) in their names.
+     */
+    public UiResponse showArchivedTasksWithSearchQuery(String searchQuery, List<Task> archivedTasksWithSearchQuery) {
+        return new UiResponse(() -> MESSAGE_FIND_ARCHIVE_INTRO + " '" + searchQuery + "': \n"
+                + listUnnumbered(archivedTasksWithSearchQuery).stripTrailing());
+    }
+
+    /**
+     * Takes in {@link Task}s that are not in the {@link Tasklist}, and returns them one per line.
+     *
+     * @param tasks {@link Task}s to list.
+     * @return {@link String} of each {@link Task} on its own line, marked by a bullet rather than a number.
+     */
+    private static String listUnnumbered(List<Task> tasks) {
+        StringBuilder listMessage = new StringBuilder();
+        for (Task task : tasks) {
+            listMessage.append("• ").append(task).append("\n");
+        }
+        return listMessage.toString();
+    }
+
+    /**
+     * Takes in the {@link CommandTypeMetrics} of each command type run this session and returns
+     * a new {@link UiResponse} showing the count and error rate of each command type, and the
+     * p50, p99 and max time spent in each {@link Phase} of handling it.
+     *
+     * @param commandTypeMetrics {@link Map} of command types to their {@link CommandTypeMetrics}.
+     */
+    public UiResponse showStats(Map<String, CommandTypeMetrics> commandTypeMetrics) {
+        StringBuilder stats = new StringBuilder(MESSAGE_STATS_INTRO);
+        commandTypeMetrics.forEach((commandType, metrics) -> {
+            stats.append(String.format(Locale.ROOT, "%s: %d run(s), %d error(s) (%.1f%%)\n",
+                    commandType, metrics.getCount(), metrics.getErrorCount(), metrics.getErrorRate() * 100));
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram latency = metrics.getLatency(phase);
+                if (latency.getCount() > 0) {
+                    String phaseName = phase.name().toLowerCase(Locale.ROOT);
+                    stats.append(String.format(Locale.ROOT, "  %s: p50 %s, p99 %s, max %s\n", phaseName,
+                            formatNanos(latency.getValueAtPercentile(50)),
+                            formatNanos(latency.getValueAtPercentile(99)),
+                            formatNanos(latency.getMax())));
+                }
+            }
+        });
+        return new UiResponse(stats.toString());
+    }
+
+    /**
+     * Takes in the most recent {@link SlowCommandSample}s and the threshold in nanoseconds they
+     * took longer than, and returns a new {@link UiResponse} showing the input, command type,
+     * tasklist size and time spent in each {@link Phase} of each of them.
+     *
+     * @param samples        {@link SlowCommandSample}s to show, newest first.
+     * @param thresholdNanos Threshold in nanoseconds the {@link SlowCommandSample}s took longer than.
+     */
+    public UiResponse showSlowCommands(List<SlowCommandSample> samples, long thresholdNanos) {
+        if (samples.isEmpty()) {
+            return new UiResponse(MESSAGE_NO_SLOW_COMMANDS + formatNanos(thresholdNanos)
+                    + MESSAGE_NO_SLOW_COMMANDS_OUTRO);
+        }
+        StringBuilder slowCommands = new StringBuilder(MESSAGE_SLOW_COMMANDS_INTRO)
+                .append(formatNanos(thresholdNanos)).append(":\n");
+        for (SlowCommandSample sample : samples) {
+            slowCommands.append(String.format(Locale.ROOT, "[%s] '%s' (%s, %d tasks): %s\n ",
+                    sample.getTakenAt().format(DateTimeFormatter.ofPattern("MMM d HH:mm:ss")), sample.getInput(),
+                    sample.getCommandType(), sample.getTasklistSize(), formatNanos(sample.getTotalNanos())));
+            for (Phase phase : Phase.values()) {
+                slowCommands.append(' ').append(phase.name().toLowerCase(Locale.ROOT)).append(' ')
+                        .append(formatNanos(sample.getPhaseNanos(phase)));
+            }
+            slowCommands.append('\n');
+        }
+        return new UiResponse(slowCommands.toString());
+    }
+
+    /**
+     * Takes in a duration in nanoseconds and returns it in the largest unit it fills.
+     *
+     * @param nanos Duration in nanoseconds.
+     * @return {@link String} form of the duration, such as {@code "12.3µs"}.
+     */
+    private static String formatNanos(long nanos) {
+        if (nanos < 1_000) {
+            return nanos + "ns";
+        } else if (nanos < 1_000_000) {
+            return String.format(Locale.ROOT, "%.1fµs", nanos / 1e3);
+        } else if (nanos < 1_000_000_000) {
+            return String.format(Locale.ROOT, "%.1fms", nanos / 1e6);
+        }
+        return String.format(Locale.ROOT, "%.2fs", nanos / 1e9);
+    }
+
     /**
      * Takes in an unknown {@link String} command keyword entered by the user
      * and returns a new {@link UiResponse} telling the user that the command is unrecognized.
@@ -1,17 +1,25 @@
 package hypebot.ui.cli;
 
+import java.util.function.Supplier;
+
+import hypebot.command.Command;
 import hypebot.ui.gui.UiGuiMainWindow;
 
 /**
  * Represents the {@code UiResponse} with a message shown to user interface
  * at {@link UiGuiMainWindow}.
+ * <p>The message may be rendered lazily, the first time it is shown, so that the cost of
+ * rendering long messages is kept apart from the cost of executing a {@link Command}.</p>
  *
  * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
  * @see UiErrorResponse
  */
 public class UiResponse {
-    /** {@link String} message shown to user interface. */
-    private final String message;
+    /** Renders the {@link String} message; {@code null} once the message is rendered. */
+    private Supplier<String> messageRenderer;
+
+    /** {@link String} message shown to user interface; {@code null} until rendered. */
+    private String message;
 
     /**
      * Takes in a {@link String} message shown to user interface
@@ -24,9 +32,24 @@ public class UiResponse {
     }
 
     /**
-     * Returns the {@link String} message contained in the {@code UiResponse}.
+     * Takes in a {@link Supplier} rendering the {@link String} message shown to user interface
+     * and creates a new {@code UiResponse} that renders the message the first time it is shown.
+     *
+     * @param messageRenderer {@link Supplier} rendering the message shown to user interface.
+     */
+    public UiResponse(Supplier<String> messageRenderer) {
+        this.messageRenderer = messageRenderer;
+    }
+
+    /**
+     * Returns the {@link String} message contained in the {@code UiResponse},
+     * rendering it first if it has not been rendered yet.
      */
     public String show() {
+        if (messageRenderer != null) {
+            message = messageRenderer.get();
+            messageRenderer = null;
+        }
         return message;
     }
 }
@@ -1,14 +1,10 @@
 package hypebot.ui.gui;
 
-import java.io.IOException;
-import java.util.Collections;
+import java.util.Objects;
 
 import hypebot.command.Command;
 import hypebot.main.HypeBot;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
+import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.control.Control;
@@ -16,21 +12,44 @@ import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
 
 /**
  * Represents a {@code UiGuiDialogBox} representing a dialog box on the GUI.
  * <p>A child of {@link HBox}.</p>
+ * <p>Built directly in code rather than loaded from FXML, as a dialog box is created for
+ * every message shown; styling still comes from {@code ui-gui-dialog-box.css}.</p>
  *
  * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
  */
 public class UiGuiDialogBox extends HBox {
+    /** CSS label every {@code dialog} carries before any styling by command type. */
+    private static final String BASE_STYLE_CLASS = "label";
+
+    /** Stylesheet of every {@code UiGuiDialogBox}, resolved once rather than per dialog box. */
+    private static final String STYLESHEET = Objects.requireNonNull(
+            UiGuiDialogBox.class.getResource("/css/ui-gui-dialog-box.css")).toExternalForm();
+
+    /** Padding around the contents of a {@code UiGuiDialogBox}. */
+    private static final Insets DIALOG_BOX_PADDING = new Insets(15.0, 5.0, 15.0, 5.0);
+
+    /** Margin around the {@code dialog} within a {@code UiGuiDialogBox}. */
+    private static final Insets DIALOG_MARGIN = new Insets(0.0, 7.0, 0.0, 7.0);
+
+    /** Padding around the text within the {@code dialog}. */
+    private static final Insets DIALOG_PADDING = new Insets(6.0);
+
+    /** Width and height of the {@code displayPicture}. */
+    private static final double DISPLAY_PICTURE_SIZE = 99.0;
+
+    /** Preferred width of a {@code UiGuiDialogBox}. */
+    private static final double DIALOG_BOX_PREF_WIDTH = 400.0;
+
     /** A {@link Control} for the text being shown. */
-    @FXML
-    private Label dialog;
+    private final Label dialog = new Label();
 
     /** A {@link Node} for the profile picture shown. */
-    @FXML
-    private ImageView displayPicture;
+    private final ImageView displayPicture = new ImageView();
 
     /**
      * Takes in a {@link String} text and an {@link Image} to be set as text shown
@@ -41,116 +60,79 @@ public class UiGuiDialogBox extends HBox {
      * @param image {@link Image} image to be shown in the profile picture icon of the dialog box.
      */
     public UiGuiDialogBox(String text, Image image) {
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(
-                    UiGuiMainWindow.class.getResource("/view/UiGuiDialogBox.fxml"));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        getStylesheets().add(STYLESHEET);
+        setAlignment(Pos.TOP_RIGHT);
+        setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+        setPrefWidth(DIALOG_BOX_PREF_WIDTH);
+        setPadding(DIALOG_BOX_PADDING);
+
+        dialog.setMinHeight(Region.USE_PREF_SIZE);
+        dialog.setWrapText(true);
+        dialog.setPadding(DIALOG_PADDING);
+        HBox.setMargin(dialog, DIALOG_MARGIN);
+
+        displayPicture.setId("displayPicture");
+        displayPicture.setFitHeight(DISPLAY_PICTURE_SIZE);
+        displayPicture.setFitWidth(DISPLAY_PICTURE_SIZE);
+        displayPicture.setPickOnBounds(true);
+        displayPicture.setPreserveRatio(true);
+
+        getChildren().setAll(dialog, displayPicture);
 
         dialog.setText(text);
         displayPicture.setImage(image);
     }
 
     /**
-     * Flips the direction of elements in the {@code UiGuiDialogBox} when
-     * it is a dialog box representing {@link HypeBot}'s responses to user input.
-     */
-    private void flip() {
-        ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
-        Collections.reverse(tmp);
-        getChildren().setAll(tmp);
-        setAlignment(Pos.TOP_LEFT);
-        dialog.getStyleClass().add("reply-label");
-    }
-
-    /**
-     * Takes in the class name of the {@link Command} executed and triggers the
-     * changing of the dialog box's background color accordingly using CSS labels.
+     * Takes in the class name of the {@link Command} executed and returns the CSS label
+     * used to change the dialog box's background color accordingly.
      *
      * @param commandType Class name of the {@link Command} executed in {@link String} form.
+     * @return CSS label corresponding to the {@link Command} executed.
      */
-    private void changeDialogStyle(String commandType) {
-        switch (commandType) {
-        case "AddCommand":
-            dialog.getStyleClass().add("add-label");
-            break;
-        case "DeleteAllCommand", "DeleteCommand":
-            dialog.getStyleClass().add("delete-label");
-            break;
-        case "FindCommand", "HappeningCommand":
-            dialog.getStyleClass().add("search-label");
-            break;
-        case "HelpCommand":
-            dialog.getStyleClass().add("help-label");
-            break;
-        case "MarkCommand":
-            dialog.getStyleClass().add("mark-label");
-            break;
-        case "UnmarkCommand":
-            dialog.getStyleClass().add("unmark-label");
-            break;
-        case "UnknownCommand":
-            dialog.getStyleClass().add("unknown-label");
-            break;
-        case "Error":
-            dialog.getStyleClass().add("error-label");
-            break;
-        default:
-            dialog.getStyleClass().add("general-label");
-        }
-    }
-
-    /**
-     * Takes in a {@link String} text and an {@link Image} to be set as text shown
-     * as user input and image shown for the user profile pic of the user dialog box,
-     * and creates a new {@code UiGuiDialogBox} for user input.
-     *
-     * @param s {@link String} user input.
-     * @param i User's profile picture.
-     * @return A new {@code UiGuiDialogBox} with the text and image above.
-     */
-    public static UiGuiDialogBox getUserDialog(String s, Image i) {
-        return new UiGuiDialogBox(s, i);
+    private static String getDialogStyle(String commandType) {
+        return switch (commandType) {
+        case "AddCommand" -> "add-label";
+        case "DeleteAllCommand", "DeleteCommand" -> "delete-label";
+        case "FindCommand", "HappeningCommand" -> "search-label";
+        case "HelpCommand" -> "help-label";
+        case "MarkCommand" -> "mark-label";
+        case "UnmarkCommand" -> "unmark-label";
+        case "UnknownCommand" -> "unknown-label";
+        case "Error" -> "error-label";
+        default -> "general-label";
+        };
     }
 
     /**
-     * Takes in a {@link String} text and an {@link Image} to be set as text shown
-     * as {@link HypeBot} response and image shown for {@link HypeBot}'s profile pic
-     * for the {@link HypeBot} dialog box, and creates a new {@code UiGuiDialogBox}
-     * for {@link HypeBot} response to user input.
+     * Takes in a {@link String} text and an {@link Image} and re-uses this {@code UiGuiDialogBox}
+     * to show them as a user dialog box, with the text on the left of the profile picture.
      *
-     * @param s {@link String} text response to user input.
-     * @param i {@link HypeBot}'s profile picture.
-     * @return A new {@code UiGuiDialogBox} with the text and image above.
+     * @param text  {@link String} user input.
+     * @param image User's profile picture.
      */
-    public static UiGuiDialogBox getHypeBotDialog(String s, Image i) {
-        var db = new UiGuiDialogBox(s, i);
-        db.flip();
-        return db;
+    void showUserDialog(String text, Image image) {
+        dialog.setText(text);
+        displayPicture.setImage(image);
+        dialog.getStyleClass().setAll(BASE_STYLE_CLASS);
+        getChildren().setAll(dialog, displayPicture);
+        setAlignment(Pos.TOP_RIGHT);
     }
 
     /**
-     * Takes in a {@link String} text and an {@link Image} to be set as text shown
-     * as {@link HypeBot} response, an image shown for {@link HypeBot}'s profile pic,
-     * and the {@link String} class name of the {@link Command} executed to format the
-     * {@link HypeBot} dialog box, and creates a new {@code UiGuiDialogBox}
-     * for {@link HypeBot} response to user input.
+     * Takes in a {@link String} text, an {@link Image} and the class name of the {@link Command}
+     * executed, and re-uses this {@code UiGuiDialogBox} to show them as a {@link HypeBot} dialog box,
+     * with the profile picture on the left of the text.
      *
-     * @param s           {@link String} text response to user input.
-     * @param i           {@link HypeBot}'s profile picture.
-     * @param commandType {@link String} class name of the {@link Command} executed to
-     *                    change the background color of the dialog box
-     * @return A new {@code UiGuiDialogBox} with the text, image, and format specified by the
-     *         command type.
+     * @param text        {@link String} text response to user input.
+     * @param image       {@link HypeBot}'s profile picture.
+     * @param commandType {@link String} class name of the {@link Command} executed.
      */
-    public static UiGuiDialogBox getHypeBotDialog(String s, Image i, String commandType) {
-        var db = new UiGuiDialogBox(s, i);
-        db.flip();
-        db.changeDialogStyle(commandType);
-        return db;
+    void showHypeBotDialog(String text, Image image, String commandType) {
+        dialog.setText(text);
+        displayPicture.setImage(image);
+        dialog.getStyleClass().setAll(BASE_STYLE_CLASS, "reply-label", getDialogStyle(commandType));
+        getChildren().setAll(displayPicture, dialog);
+        setAlignment(Pos.TOP_LEFT);
     }
 }
@@ -0,0 +1,64 @@
+package hypebot.ui.gui;
+
+import hypebot.main.HypeBot;
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.image.Image;
+
+/**
+ * Represents a {@code UiGuiDialogCell} rendering a single {@link UiGuiMessage} of the chat
+ * transcript in the {@link ListView} of the {@link UiGuiMainWindow}.
+ * <p>A child of {@link ListCell}.</p>
+ * <p>Each cell owns one {@link UiGuiDialogBox} which is re-used for whichever
+ * {@link UiGuiMessage} the cell is currently showing, so only visible messages have live nodes.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see UiGuiMessage
+ */
+public class UiGuiDialogCell extends ListCell<UiGuiMessage> {
+    /** Horizontal space kept free for the vertical scroll bar of the {@link ListView}. */
+    private static final double SCROLL_BAR_ALLOWANCE = 18.0;
+
+    /** User profile pic. */
+    private final Image userImage;
+
+    /** HypeBot profile pic. */
+    private final Image hypeBotImage;
+
+    /** {@link UiGuiDialogBox} re-used for every {@link UiGuiMessage} shown by this cell. */
+    private final UiGuiDialogBox dialogBox;
+
+    /**
+     * Takes in the {@link ListView} this cell belongs to along with the profile pictures of the
+     * user and {@link HypeBot}, and creates a new {@code UiGuiDialogCell}.
+     *
+     * @param listView     {@link ListView} showing the chat transcript.
+     * @param userImage    User profile pic.
+     * @param hypeBotImage HypeBot profile pic.
+     */
+    public UiGuiDialogCell(ListView<UiGuiMessage> listView, Image userImage, Image hypeBotImage) {
+        this.userImage = userImage;
+        this.hypeBotImage = hypeBotImage;
+        dialogBox = new UiGuiDialogBox("", userImage);
+        dialogBox.prefWidthProperty().bind(listView.widthProperty().subtract(SCROLL_BAR_ALLOWANCE));
+        dialogBox.maxWidthProperty().bind(dialogBox.prefWidthProperty());
+        setPrefWidth(0);
+        setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+    }
+
+    @Override
+    protected void updateItem(UiGuiMessage message, boolean isEmpty) {
+        super.updateItem(message, isEmpty);
+        if (isEmpty || message == null) {
+            setGraphic(null);
+            return;
+        }
+        if (message.isFromHypeBot()) {
+            dialogBox.showHypeBotDialog(message.getText(), hypeBotImage, message.getCommandType());
+        } else {
+            dialogBox.showUserDialog(message.getText(), userImage);
+        }
+        setGraphic(dialogBox);
+    }
+}
@@ -1,6 +1,9 @@
 package hypebot.ui.gui;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
 
 import hypebot.main.HypeBot;
 import javafx.application.Application;
@@ -8,16 +11,55 @@ import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.scene.layout.AnchorPane;
 import javafx.stage.Stage;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
 
 /**
  * Represents a JavaFX {@link Application} for HypeBot to start.
+ * <p>Launching with {@code --jfr} records a JDK Flight Recorder {@link Recording} of the session,
+ * including HypeBot's own command and storage events, to {@code ./hypebot.jfr};
+ * {@code --jfr=<file>} records to the given file instead.</p>
  *
  * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
  */
 public class UiGuiMain extends Application {
+    /** File path of the chat history older GUI messages are spilled to. */
+    private static final String CHAT_HISTORY_FILE_PATH = "./src/main/data/chat-history.txt";
+
+    /** File path the JDK Flight Recorder {@link Recording} is written to when no other is given. */
+    private static final String DEFAULT_RECORDING_FILE_PATH = "./hypebot.jfr";
+
+    /** JDK Flight Recorder {@link Recording} of the session, if launched with {@code --jfr}. */
+    private Recording recording;
+
     /** The {@link HypeBot} instance being run by the app. */
     private HypeBot hypeBot = new HypeBot("./src/main/data/tasks.txt");
 
+    /**
+     * Starts a JDK Flight Recorder {@link Recording} of the session with the default settings
+     * if the app was launched with {@code --jfr} or {@code --jfr=<file>}.
+     */
+    @Override
+    public void init() {
+        String recordingFilePath = getParameters().getNamed().get("jfr");
+        if (recordingFilePath == null && getParameters().getRaw().contains("--jfr")) {
+            recordingFilePath = DEFAULT_RECORDING_FILE_PATH;
+        }
+        if (recordingFilePath == null) {
+            return;
+        }
+        try {
+            recording = new Recording(Configuration.getConfiguration("default"));
+            recording.setName("HypeBot");
+            recording.setToDisk(true);
+            recording.setDestination(Path.of(recordingFilePath));
+            recording.start();
+        } catch (IOException | ParseException e) {
+            e.printStackTrace();
+            recording = null;
+        }
+    }
+
     @Override
     public void start(Stage stage) {
         try {
@@ -28,11 +70,26 @@ public class UiGuiMain extends Application {
             stage.setMinHeight(220);
             stage.setMinWidth(417);
             stage.setMaxWidth(417);
-            fxmlLoader.<UiGuiMainWindow>getController().setHypeBot(hypeBot);
+            UiGuiMainWindow mainWindow = fxmlLoader.getController();
+            mainWindow.setTranscript(new UiGuiTranscript(
+                    new UiGuiTranscriptHistory(new File(CHAT_HISTORY_FILE_PATH)), UiGuiTranscript.DEFAULT_CAPACITY));
+            mainWindow.setHypeBot(hypeBot);
             stage.setTitle("HypeBot");
             stage.show();
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
+
+    /**
+     * Stops the JDK Flight Recorder {@link Recording} of the session, if any,
+     * which writes it to its file.
+     */
+    @Override
+    public void stop() {
+        if (recording != null) {
+            recording.stop();
+            recording.close();
+        }
+    }
 }
@@ -1,6 +1,10 @@
 package hypebot.ui.gui;
 
+import static hypebot.common.Messages.ERROR_LOADING_FAILED;
+
+import java.util.ArrayDeque;
 import java.util.Objects;
+import java.util.Queue;
 
 import hypebot.command.ByeCommand;
 import hypebot.main.HypeBot;
@@ -8,13 +12,16 @@ import hypebot.ui.cli.UiCli;
 import javafx.animation.PauseTransition;
 import javafx.application.Application;
 import javafx.application.Platform;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.IndexedCell;
+import javafx.scene.control.ListView;
 import javafx.scene.control.TextField;
+import javafx.scene.control.skin.VirtualFlow;
 import javafx.scene.image.Image;
+import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
 import javafx.util.Duration;
 
 /**
@@ -31,37 +38,166 @@ public class UiGuiMainWindow extends AnchorPane {
     /** HypeBot profile pic. */
     private final Image hypeBotImage = new Image(Objects.requireNonNull(
             this.getClass().getResourceAsStream("/images/hypebot.png")));
+
+    /** Chat transcript, kept as lightweight {@link UiGuiMessage}s rather than nodes. */
+    private UiGuiTranscript transcript;
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ListView<UiGuiMessage> dialogList;
     @FXML
     private TextField userInput;
     @FXML
     private Button sendButton;
     private HypeBot hypeBot;
 
+    /** Loading message shown while the {@link HypeBot}'s tasks load, updated with progress. */
+    private UiGuiMessage loadingMessage;
+
+    /** User input entered before the {@link HypeBot}'s tasks finished loading, oldest first. */
+    private final Queue<String> pendingInputs = new ArrayDeque<>();
+
+    /**
+     * Whether {@code finishLoading()} has told the user the tasks loaded and responded to every
+     * pending user input; only read and written on the JavaFX application thread.
+     */
+    private boolean isLoadingFinished = false;
+
+    /**
+     * Backs the chat transcript with a {@link ListView} whose cells are {@link UiGuiDialogCell}s,
+     * so only visible messages have live {@link UiGuiDialogBox} nodes, and pages older messages
+     * back in whenever the oldest message in memory comes into view, however the user scrolled
+     * there, or when the user scrolls up on a transcript too short to scroll.
+     */
     @FXML
     public void initialize() {
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
+        dialogList.setCellFactory(listView -> new UiGuiDialogCell(listView, userImage, hypeBotImage));
+        dialogList.skinProperty().addListener((observable, oldSkin, newSkin) -> {
+            if (dialogList.lookup(".virtual-flow") instanceof VirtualFlow<?> flow) {
+                flow.positionProperty().addListener((positionObservable, oldPosition, newPosition) ->
+                        Platform.runLater(this::pageInOlderMessagesIfVisible));
+            }
+        });
+        dialogList.addEventFilter(ScrollEvent.SCROLL, event -> {
+            if (event.getDeltaY() > 0) {
+                pageInOlderMessagesIfVisible();
+            }
+        });
+    }
+
+    /** Injects the chat transcript shown in this window. */
+    public void setTranscript(UiGuiTranscript transcript) {
+        this.transcript = transcript;
+        dialogList.setItems(transcript.getMessages());
     }
 
-    /** Injects the HypeBot instance */
+    /**
+     * Returns whether the oldest {@link UiGuiMessage} held in memory is currently shown.
+     *
+     * @return Whether the oldest {@link UiGuiMessage} held in memory is currently shown.
+     */
+    private boolean isOldestMessageVisible() {
+        if (!(dialogList.lookup(".virtual-flow") instanceof VirtualFlow<?> flow)) {
+            return false;
+        }
+        IndexedCell<?> firstVisibleCell = flow.getFirstVisibleCell();
+        return firstVisibleCell != null && firstVisibleCell.getIndex() == 0;
+    }
+
+    /**
+     * Pages older {@link UiGuiMessage}s back in from the chat history if the oldest message held in
+     * memory is shown, keeping the previously oldest message in view.
+     */
+    private void pageInOlderMessagesIfVisible() {
+        if (!isOldestMessageVisible()) {
+            return;
+        }
+        int pagedInCount = transcript.pageIn();
+        if (pagedInCount > 0) {
+            dialogList.scrollTo(pagedInCount);
+        }
+    }
+
+    /**
+     * Takes in {@link UiGuiMessage}s, appends them to the chat transcript and
+     * scrolls the transcript down to the latest message.
+     *
+     * @param newMessages {@link UiGuiMessage}s to append to the chat transcript.
+     */
+    private void addMessages(UiGuiMessage... newMessages) {
+        transcript.add(newMessages);
+        dialogList.scrollTo(transcript.getMessages().size() - 1);
+    }
+
+    /**
+     * Injects the HypeBot instance, greets the user and starts loading the
+     * {@link HypeBot}'s tasks on a background thread, so the window is usable immediately.
+     */
     public void setHypeBot(HypeBot hypeBot) {
         this.hypeBot = hypeBot;
-        dialogContainer.getChildren().addAll(
-                UiGuiDialogBox.getHypeBotDialog(hypeBot.getUiCli().showGreeting().show(), hypeBotImage),
-                UiGuiDialogBox.getHypeBotDialog(hypeBot.getUiCli().showLoadingTasks().show(), hypeBotImage)
-        );
+        loadingMessage = UiGuiMessage.fromHypeBot(hypeBot.getUiCli().showLoadingTasks().show());
+        addMessages(UiGuiMessage.fromHypeBot(hypeBot.getUiCli().showGreeting().show()), loadingMessage);
+
+        Task<Void> loadTasks = new Task<>() {
+            @Override
+            protected Void call() {
+                hypeBot.loadTasks(progress -> updateProgress(progress, 1));
+                return null;
+            }
+        };
+        loadTasks.progressProperty().addListener((observable, oldProgress, newProgress) ->
+                showLoadingProgress(newProgress.doubleValue()));
+        loadTasks.setOnSucceeded(event -> finishLoading());
+        loadTasks.setOnFailed(event -> failLoading(loadTasks.getException()));
+        Thread loadingThread = new Thread(loadTasks, "HypeBot-task-loader");
+        loadingThread.setDaemon(true);
+        loadingThread.start();
+    }
+
+    /**
+     * Takes in the fraction of the {@link HypeBot}'s tasks loaded so far and
+     * updates the loading message with it.
+     *
+     * @param progress Fraction of tasks loaded so far, from 0 to 1.
+     */
+    private void showLoadingProgress(double progress) {
+        if (progress < 0) {
+            return;
+        }
+        UiGuiMessage progressMessage = UiGuiMessage.fromHypeBot(hypeBot.getUiCli().showLoadingTasks(progress).show());
+        transcript.replace(loadingMessage, progressMessage);
+        loadingMessage = progressMessage;
+    }
+
+    /**
+     * Tells the user the {@link HypeBot}'s tasks have loaded, or why they could not be, starts
+     * the {@link HypeBot}'s background work on them, posting reminders to the chat transcript,
+     * then responds to any user input entered while loading, in order.
+     */
+    private void finishLoading() {
         if (hypeBot.hasBootingError()) {
-            dialogContainer.getChildren().add(
-                    UiGuiDialogBox.getHypeBotDialog(hypeBot.getBootingErrorMessage(), hypeBotImage)
-            );
+            addMessages(UiGuiMessage.fromHypeBot(hypeBot.getBootingErrorMessage()));
         } else {
-            dialogContainer.getChildren().add(
-                    UiGuiDialogBox.getHypeBotDialog("DONEZO! Let's CRUSH THOSE TASKS TOGETHER!", hypeBotImage)
-            );
+            addMessages(UiGuiMessage.fromHypeBot(hypeBot.getUiCli().showLoadedTasks().show()));
+        }
+        hypeBot.startBackgroundTasks(reminder -> addMessages(UiGuiMessage.fromHypeBot(reminder)), Platform::runLater);
+        while (!pendingInputs.isEmpty() && !userInput.isDisabled()) {
+            respondTo(pendingInputs.poll());
         }
+        isLoadingFinished = true;
+    }
+
+    /**
+     * Takes in the {@link Throwable} the {@link HypeBot}'s tasks could not be loaded with, tells the
+     * user, drops any user input entered while loading and disables user input, since there is no
+     * {@link hypebot.tasklist.Tasklist} to respond with.
+     *
+     * @param exception {@link Throwable} thrown while loading.
+     */
+    private void failLoading(Throwable exception) {
+        addMessages(UiGuiMessage.fromHypeBot(
+                hypeBot.getUiCli().showError(ERROR_LOADING_FAILED + exception).show()));
+        pendingInputs.clear();
+        userInput.setDisable(true);
+        sendButton.setDisable(true);
     }
 
     /**
@@ -69,9 +205,8 @@ public class UiGuiMainWindow extends AnchorPane {
      * then quits the application after 3 seconds.
      */
     private void exit() {
-        dialogContainer.getChildren().addAll(
-                UiGuiDialogBox.getHypeBotDialog(hypeBot.getUiCli().showExit().show(), hypeBotImage)
-        );
+        addMessages(UiGuiMessage.fromHypeBot(hypeBot.getUiCli().showExit().show()));
+        hypeBot.stopBackgroundTasks();
         userInput.setDisable(true);
         PauseTransition delay = new PauseTransition(Duration.seconds(3));
         delay.setOnFinished(event -> Platform.exit());
@@ -79,24 +214,47 @@ public class UiGuiMainWindow extends AnchorPane {
     }
 
     /**
-     * Creates two {@link UiGuiDialogBox}es, one echoing user input and the other
+     * Creates two {@link UiGuiMessage}s, one echoing user input and the other
      * containing HypeBot's reply and then appends them to
-     * the dialog container. Clears the user input after processing.
-     * <p>When the {@link ByeCommand} is parsed and executed, triggers {@code exit()}.</p>
+     * the chat transcript. Clears the user input after processing.
+     * <p>Until {@code finishLoading()} is done, only echoes the user input and queues it to be
+     * responded to after the user input queued before it.</p>
      */
     @FXML
     private void handleUserInput() {
         String input = userInput.getText();
+        userInput.clear();
+        if (isLoadingFinished) {
+            addMessages(UiGuiMessage.fromUser(input));
+            respondTo(input);
+        } else if (!input.isEmpty()) {
+            addMessages(UiGuiMessage.fromUser(input));
+            pendingInputs.add(input);
+        }
+    }
+
+    /**
+     * Takes in user input, appends HypeBot's reply to it to the chat transcript.
+     * <p>When the {@link ByeCommand} is parsed and executed, triggers {@code exit()}.</p>
+     *
+     * @param input Full user input from user interface.
+     */
+    private void respondTo(String input) {
         String response = hypeBot.getResponse(input);
         if (response.isEmpty()) {
             return;
         }
         String commandType = hypeBot.getCommandType();
-        dialogContainer.getChildren().addAll(
-                UiGuiDialogBox.getUserDialog(input, userImage),
-                UiGuiDialogBox.getHypeBotDialog(response, hypeBotImage, commandType)
-        );
-        userInput.clear();
+        boolean isSamplingDisplayTime = hypeBot.isSamplingDisplayTime();
+        long displayStart = System.nanoTime();
+        addMessages(UiGuiMessage.fromHypeBot(response, commandType));
+        if (isSamplingDisplayTime) {
+            // Lay the transcript out now rather than on the next pulse, so that creating and
+            // updating the dialog box nodes of the response is part of the time measured.
+            dialogList.applyCss();
+            dialogList.layout();
+            hypeBot.recordDisplayTime(System.nanoTime() - displayStart);
+        }
         if (commandType.equals("ByeCommand")) {
             exit();
         }
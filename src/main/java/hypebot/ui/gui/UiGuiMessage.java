@@ -0,0 +1,116 @@
+package hypebot.ui.gui;
+
+import hypebot.command.Command;
+import hypebot.main.HypeBot;
+
+/**
+ * Represents a {@code UiGuiMessage}, a single entry of the chat transcript shown on the GUI.
+ * <p>Holds only the text, the sender, and the command type of a message so that the full
+ * message history stays lightweight; {@link UiGuiDialogBox} nodes are only created for
+ * messages currently visible in the {@link UiGuiMainWindow}.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see UiGuiDialogCell
+ */
+public class UiGuiMessage {
+    /** Command type used for {@link HypeBot} messages not tied to any executed {@link Command}. */
+    private static final String GENERAL_COMMAND_TYPE = "General";
+
+    /** Who a {@code UiGuiMessage} was sent by. */
+    public enum Sender {
+        USER,
+        HYPEBOT
+    }
+
+    /** {@code Sender} of this {@code UiGuiMessage}. */
+    private final Sender sender;
+
+    /** {@link String} text shown in the dialog box of this {@code UiGuiMessage}. */
+    private final String text;
+
+    /** Class name of the {@link Command} this {@code UiGuiMessage} is a response to. */
+    private final String commandType;
+
+    /**
+     * Takes in the {@code Sender}, {@link String} text and command type of a message
+     * and creates a new {@code UiGuiMessage}.
+     *
+     * @param sender      {@code Sender} of the message.
+     * @param text        {@link String} text of the message.
+     * @param commandType Class name of the {@link Command} the message responds to.
+     */
+    public UiGuiMessage(Sender sender, String text, String commandType) {
+        this.sender = sender;
+        this.text = text;
+        this.commandType = commandType;
+    }
+
+    /**
+     * Takes in {@link String} user input and returns a new {@code UiGuiMessage} sent by the user.
+     *
+     * @param text {@link String} user input.
+     * @return New {@code UiGuiMessage} sent by the user.
+     */
+    public static UiGuiMessage fromUser(String text) {
+        return new UiGuiMessage(Sender.USER, text, GENERAL_COMMAND_TYPE);
+    }
+
+    /**
+     * Takes in a {@link String} response and returns a new {@code UiGuiMessage} sent
+     * by {@link HypeBot} that is not tied to any executed {@link Command}.
+     *
+     * @param text {@link String} response of {@link HypeBot}.
+     * @return New {@code UiGuiMessage} sent by {@link HypeBot}.
+     */
+    public static UiGuiMessage fromHypeBot(String text) {
+        return new UiGuiMessage(Sender.HYPEBOT, text, GENERAL_COMMAND_TYPE);
+    }
+
+    /**
+     * Takes in a {@link String} response and the class name of the {@link Command} executed,
+     * and returns a new {@code UiGuiMessage} sent by {@link HypeBot}.
+     *
+     * @param text        {@link String} response of {@link HypeBot}.
+     * @param commandType Class name of the {@link Command} executed.
+     * @return New {@code UiGuiMessage} sent by {@link HypeBot}.
+     */
+    public static UiGuiMessage fromHypeBot(String text, String commandType) {
+        return new UiGuiMessage(Sender.HYPEBOT, text, commandType);
+    }
+
+    /**
+     * Returns who this {@code UiGuiMessage} was sent by.
+     *
+     * @return {@code Sender} of this {@code UiGuiMessage}.
+     */
+    public Sender getSender() {
+        return sender;
+    }
+
+    /**
+     * Returns the text shown in the dialog box of this {@code UiGuiMessage}.
+     *
+     * @return {@link String} text of this {@code UiGuiMessage}.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the class name of the {@link Command} this {@code UiGuiMessage} is a response to.
+     *
+     * @return {@link String} class name of the {@link Command} responded to.
+     */
+    public String getCommandType() {
+        return commandType;
+    }
+
+    /**
+     * Returns whether this {@code UiGuiMessage} was sent by {@link HypeBot}.
+     *
+     * @return Whether this {@code UiGuiMessage} was sent by {@link HypeBot}.
+     */
+    public boolean isFromHypeBot() {
+        return sender == Sender.HYPEBOT;
+    }
+}
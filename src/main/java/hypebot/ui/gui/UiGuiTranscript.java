@@ -0,0 +1,129 @@
+package hypebot.ui.gui;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * Represents the {@code UiGuiTranscript}, the chat transcript shown in the {@link UiGuiMainWindow}.
+ * <p>Holds at most {@code capacity} {@link UiGuiMessage}s in memory. Older messages are spilled
+ * to a {@link UiGuiTranscriptHistory} and paged back in lazily when the user scrolls up past
+ * the oldest message in memory, so memory use stays flat however long a session runs.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see UiGuiMessage
+ * @see UiGuiTranscriptHistory
+ */
+public class UiGuiTranscript {
+    /** Default number of {@link UiGuiMessage}s kept in memory. */
+    public static final int DEFAULT_CAPACITY = 200;
+
+    /** Number of {@link UiGuiMessage}s paged back in from history at a time. */
+    private static final int PAGE_SIZE = 50;
+
+    /** {@link UiGuiMessage}s currently held in memory, oldest first. */
+    private final ObservableList<UiGuiMessage> messages = FXCollections.observableArrayList();
+
+    /** Rolling history {@link UiGuiMessage}s are spilled to. */
+    private final UiGuiTranscriptHistory history;
+
+    /** Number of {@link UiGuiMessage}s kept in memory once no older messages are being viewed. */
+    private final int capacity;
+
+    /** Number of {@link UiGuiMessage}s at the front of {@code messages} paged back in from history. */
+    private int pagedInCount = 0;
+
+    /**
+     * Takes in the {@link UiGuiTranscriptHistory} to spill messages to and the number of
+     * {@link UiGuiMessage}s to keep in memory, and creates a new {@code UiGuiTranscript}.
+     *
+     * @param history  {@link UiGuiTranscriptHistory} to spill messages to.
+     * @param capacity Number of {@link UiGuiMessage}s to keep in memory.
+     */
+    public UiGuiTranscript(UiGuiTranscriptHistory history, int capacity) {
+        this.history = history;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the {@link UiGuiMessage}s currently held in memory, to be shown by the GUI.
+     *
+     * @return {@link ObservableList} of {@link UiGuiMessage}s held in memory, oldest first.
+     */
+    public ObservableList<UiGuiMessage> getMessages() {
+        return messages;
+    }
+
+    /**
+     * Takes in new {@link UiGuiMessage}s, appends them to the transcript and spills
+     * the oldest messages to history if more than {@code capacity} are now held in memory.
+     *
+     * @param newMessages {@link UiGuiMessage}s to append.
+     */
+    public void add(UiGuiMessage... newMessages) {
+        messages.addAll(newMessages);
+        spillOverflow();
+    }
+
+    /**
+     * Takes in a {@link UiGuiMessage} held in memory and a {@link UiGuiMessage} to show in its place,
+     * and replaces the former with the latter.
+     * <p>Does nothing if the former has already been spilled out of memory.</p>
+     *
+     * @param oldMessage {@link UiGuiMessage} to replace.
+     * @param newMessage {@link UiGuiMessage} to show in its place.
+     */
+    public void replace(UiGuiMessage oldMessage, UiGuiMessage newMessage) {
+        int index = messages.indexOf(oldMessage);
+        if (index >= 0) {
+            messages.set(index, newMessage);
+        }
+    }
+
+    /**
+     * Spills the oldest {@link UiGuiMessage}s beyond {@code capacity} out of memory.
+     * <p>Messages that were paged in from history are already stored there and are simply
+     * dropped; all other messages are appended to history. If history cannot be written to,
+     * the messages stay in memory rather than being lost.</p>
+     */
+    private void spillOverflow() {
+        int overflow = messages.size() - capacity;
+        if (overflow <= 0) {
+            return;
+        }
+        int alreadyStored = Math.min(overflow, pagedInCount);
+        List<UiGuiMessage> spilled = new ArrayList<>(messages.subList(0, overflow));
+        try {
+            history.skip(spilled.subList(0, alreadyStored));
+            pagedInCount -= alreadyStored;
+            history.append(spilled.subList(alreadyStored, overflow));
+        } catch (IOException e) {
+            e.printStackTrace();
+            messages.remove(0, alreadyStored);
+            return;
+        }
+        messages.remove(0, overflow);
+    }
+
+    /**
+     * Pages up to one page of {@link UiGuiMessage}s older than the oldest one held in memory
+     * back in from history, and returns how many were paged in.
+     * <p>Paged-in messages are dropped again as new messages push them past {@code capacity}.</p>
+     *
+     * @return Number of {@link UiGuiMessage}s paged in; 0 if there is no older history.
+     */
+    public int pageIn() {
+        try {
+            List<UiGuiMessage> olderMessages = history.readBefore(PAGE_SIZE);
+            messages.addAll(0, olderMessages);
+            pagedInCount += olderMessages.size();
+            return olderMessages.size();
+        } catch (IOException e) {
+            e.printStackTrace();
+            return 0;
+        }
+    }
+}
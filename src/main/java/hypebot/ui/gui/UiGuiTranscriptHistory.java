@@ -0,0 +1,252 @@
+package hypebot.ui.gui;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the {@code UiGuiTranscriptHistory}, a rolling append-only {@link File} holding
+ * {@link UiGuiMessage}s spilled out of the in-memory chat transcript of a {@link UiGuiTranscript}.
+ * <p>Each {@link UiGuiMessage} is stored as one line. A read cursor marks the oldest message
+ * currently held in memory, so older messages can be paged back in by reading backwards from it
+ * without loading the whole {@link File}.</p>
+ * <p>Once the {@link File} grows past its size limit, it is rolled over to a single backup
+ * {@link File} with a {@code .1} suffix and a fresh {@link File} is started. Paging carries on
+ * into the backup {@link File} once the fresh one has been read back to its start.</p>
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ * @see UiGuiTranscript
+ */
+public class UiGuiTranscriptHistory {
+    /** Default size in bytes the history {@link File} may grow to before being rolled over. */
+    private static final long DEFAULT_MAX_FILE_BYTES = 16L * 1024 * 1024;
+
+    /** Number of bytes read at a time when scanning the history {@link File} backwards. */
+    private static final int READ_CHUNK_BYTES = 8192;
+
+    /** Separator between the fields of a stored {@link UiGuiMessage}. */
+    private static final char FIELD_SEPARATOR = '|';
+
+    /** {@link File} messages are appended to. */
+    private final File historyFile;
+
+    /** Backup {@code historyFile} is rolled over to. */
+    private final File backupFile;
+
+    /** Size in bytes {@code historyFile} may grow to before being rolled over. */
+    private final long maxFileBytes;
+
+    /** Whether the read cursor is in {@code backupFile} rather than {@code historyFile}. */
+    private boolean isReadingBackup = false;
+
+    /** Offset in the {@link File} read of the oldest message currently held in memory. */
+    private long cursor;
+
+    /**
+     * Takes in the {@link File} to store spilled messages in and creates a new
+     * {@code UiGuiTranscriptHistory} with the default size limit.
+     *
+     * @param historyFile {@link File} to store spilled messages in.
+     */
+    public UiGuiTranscriptHistory(File historyFile) {
+        this(historyFile, DEFAULT_MAX_FILE_BYTES);
+    }
+
+    /**
+     * Takes in the {@link File} to store spilled messages in and the size in bytes it may
+     * grow to before being rolled over, and creates a new {@code UiGuiTranscriptHistory}.
+     * <p>Messages already in the {@link File} from earlier sessions can be paged back in.</p>
+     *
+     * @param historyFile  {@link File} to store spilled messages in.
+     * @param maxFileBytes Size in bytes {@code historyFile} may grow to before being rolled over.
+     */
+    public UiGuiTranscriptHistory(File historyFile, long maxFileBytes) {
+        this.historyFile = historyFile;
+        this.backupFile = new File(historyFile.getPath() + ".1");
+        this.maxFileBytes = maxFileBytes;
+        this.cursor = historyFile.length();
+    }
+
+    /**
+     * Takes in a {@link UiGuiMessage} and returns it encoded as a single line.
+     *
+     * @param message {@link UiGuiMessage} to encode.
+     * @return Encoded bytes of the {@link UiGuiMessage}, ending with a line break.
+     */
+    private static byte[] encode(UiGuiMessage message) {
+        StringBuilder line = new StringBuilder();
+        line.append(message.getSender()).append(FIELD_SEPARATOR)
+                .append(message.getCommandType()).append(FIELD_SEPARATOR);
+        for (int i = 0; i < message.getText().length(); i++) {
+            char c = message.getText().charAt(i);
+            switch (c) {
+            case '\\' -> line.append("\\\\");
+            case '\n' -> line.append("\\n");
+            case '\r' -> line.append("\\r");
+            default -> line.append(c);
+            }
+        }
+        return line.append('\n').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Takes in a line encoded by {@code encode()} without its line break and
+     * returns the {@link UiGuiMessage} it represents.
+     *
+     * @param line Encoded {@link UiGuiMessage}.
+     * @return Decoded {@link UiGuiMessage}.
+     */
+    private static UiGuiMessage decode(String line) {
+        int senderEnd = line.indexOf(FIELD_SEPARATOR);
+        int commandTypeEnd = line.indexOf(FIELD_SEPARATOR, senderEnd + 1);
+        UiGuiMessage.Sender sender = UiGuiMessage.Sender.valueOf(line.substring(0, senderEnd));
+        String commandType = line.substring(senderEnd + 1, commandTypeEnd);
+        StringBuilder text = new StringBuilder();
+        for (int i = commandTypeEnd + 1; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\\' && i + 1 < line.length()) {
+                char escaped = line.charAt(++i);
+                text.append(escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+            } else {
+                text.append(c);
+            }
+        }
+        return new UiGuiMessage(sender, text.toString(), commandType);
+    }
+
+    /**
+     * Rolls {@code historyFile} over to its {@code .1} backup once it has grown past its size
+     * limit, so that the history never takes up more than twice the size limit on disk.
+     *
+     * @throws IOException If the backup {@link File} could not be replaced.
+     */
+    private void rollOverIfFull() throws IOException {
+        if (historyFile.length() < maxFileBytes) {
+            return;
+        }
+        if (backupFile.exists() && !backupFile.delete()) {
+            throw new IOException("Could not remove old chat history " + backupFile.getAbsolutePath());
+        }
+        if (!historyFile.renameTo(backupFile)) {
+            throw new IOException("Could not roll over chat history " + historyFile.getAbsolutePath());
+        }
+        cursor = 0;
+    }
+
+    /**
+     * Takes in {@link UiGuiMessage}s that were spilled out of memory and appends them to
+     * {@code historyFile}.
+     * <p>Must only be called once every paged-in message has been skipped over again.</p>
+     *
+     * @param messages {@link UiGuiMessage}s to append, oldest first.
+     * @throws IOException If {@code historyFile} could not be written to.
+     */
+    public void append(List<UiGuiMessage> messages) throws IOException {
+        if (messages.isEmpty()) {
+            return;
+        }
+        rollOverIfFull();
+        File parent = historyFile.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        try (OutputStream out = new FileOutputStream(historyFile, true)) {
+            for (UiGuiMessage message : messages) {
+                out.write(encode(message));
+            }
+        }
+        isReadingBackup = false;
+        cursor = historyFile.length();
+    }
+
+    /**
+     * Takes in paged-in {@link UiGuiMessage}s being dropped from memory again and moves the
+     * read cursor past them, as they are already stored in {@code historyFile}.
+     *
+     * @param messages Paged-in {@link UiGuiMessage}s being dropped from memory, oldest first.
+     */
+    public void skip(List<UiGuiMessage> messages) {
+        for (UiGuiMessage message : messages) {
+            if (isReadingBackup && cursor >= backupFile.length()) {
+                isReadingBackup = false;
+                cursor = 0;
+            }
+            cursor += encode(message).length;
+        }
+    }
+
+    /**
+     * Takes in a number of messages and returns up to that many {@link UiGuiMessage}s stored
+     * just before the read cursor, moving the read cursor back past them and on into
+     * {@code backupFile} once {@code historyFile} has been read back to its start.
+     *
+     * @param count Maximum number of {@link UiGuiMessage}s to read.
+     * @return {@link UiGuiMessage}s read, oldest first; empty if there is no older history.
+     * @throws IOException If {@code historyFile} or {@code backupFile} could not be read.
+     */
+    public List<UiGuiMessage> readBefore(int count) throws IOException {
+        List<UiGuiMessage> messages = new ArrayList<>();
+        while (messages.size() < count) {
+            if (cursor == 0) {
+                if (isReadingBackup || !backupFile.exists()) {
+                    break;
+                }
+                isReadingBackup = true;
+                cursor = backupFile.length();
+                continue;
+            }
+            messages.addAll(0, readBefore(isReadingBackup ? backupFile : historyFile, count - messages.size()));
+        }
+        return messages;
+    }
+
+    /**
+     * Takes in the {@link File} the read cursor is in and a number of messages, and returns up to
+     * that many {@link UiGuiMessage}s stored in it just before the read cursor, moving the read
+     * cursor back past them.
+     *
+     * @param readFile {@link File} the read cursor is in.
+     * @param count    Maximum number of {@link UiGuiMessage}s to read.
+     * @return {@link UiGuiMessage}s read, oldest first.
+     * @throws IOException If {@code readFile} could not be read.
+     */
+    private List<UiGuiMessage> readBefore(File readFile, int count) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(readFile, "r")) {
+            long start = 0;
+            int recordsFound = 0;
+            byte[] chunk = new byte[READ_CHUNK_BYTES];
+            // The byte at cursor - 1 is the line break ending the newest record to read.
+            long scanEnd = cursor - 1;
+            scan:
+            while (scanEnd > 0) {
+                int length = (int) Math.min(READ_CHUNK_BYTES, scanEnd);
+                long chunkStart = scanEnd - length;
+                file.seek(chunkStart);
+                file.readFully(chunk, 0, length);
+                for (int i = length - 1; i >= 0; i--) {
+                    if (chunk[i] == '\n' && ++recordsFound == count) {
+                        start = chunkStart + i + 1;
+                        break scan;
+                    }
+                }
+                scanEnd = chunkStart;
+            }
+
+            byte[] records = new byte[(int) (cursor - start)];
+            file.seek(start);
+            file.readFully(records);
+            cursor = start;
+
+            List<UiGuiMessage> messages = new ArrayList<>(count);
+            for (String line : new String(records, StandardCharsets.UTF_8).split("\n")) {
+                messages.add(decode(line));
+            }
+            return messages;
+        }
+    }
+}
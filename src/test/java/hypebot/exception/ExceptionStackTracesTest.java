@@ -0,0 +1,27 @@
+package hypebot.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.Test;
+
+import hypebot.exception.datetime.DueDateParseException;
+import hypebot.exception.illegal.DatePassedException;
+import hypebot.exception.illegal.IllegalTaskIndexException;
+import hypebot.exception.missing.MissingTaskNameException;
+
+/**
+ * Represents tests for {@link ExceptionStackTraces}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+public class ExceptionStackTracesTest {
+    @Test
+    public void userErrorExceptionsByDefaultNoStackTrace() {
+        assertFalse(ExceptionStackTraces.isCaptured());
+        assertEquals(0, new MissingTaskNameException().getStackTrace().length);
+        assertEquals(0, new DatePassedException("passed").getStackTrace().length);
+        assertEquals(0, new DueDateParseException("2099", 4).getStackTrace().length);
+        assertEquals(0, new IllegalTaskIndexException("index").getStackTrace().length);
+    }
+}
@@ -0,0 +1,55 @@
+package hypebot.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents tests for {@link LatencyHistogram}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+public class LatencyHistogramTest {
+    @Test
+    public void getValueAtPercentileEmptySuccess() {
+        // nothing recorded reads back as 0
+        assertEquals(0, new LatencyHistogram().getValueAtPercentile(99));
+    }
+
+    @Test
+    public void getValueAtPercentileSmallValuesExactSuccess() {
+        // values below 32ns each get their own bucket
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 20; i++) {
+            histogram.record(i);
+        }
+        assertEquals(10, histogram.getValueAtPercentile(50));
+        assertEquals(20, histogram.getValueAtPercentile(100));
+        assertEquals(20, histogram.getCount());
+    }
+
+    @Test
+    public void getValueAtPercentileLargeValuesWithinPrecisionSuccess() {
+        // large values read back within the 1/16 relative precision of their bucket
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_000);
+        }
+        long p50 = histogram.getValueAtPercentile(50);
+        long p99 = histogram.getValueAtPercentile(99);
+        assertTrue(p50 >= 500_000_000 && p50 <= 500_000_000L * 17 / 16, "p50 was " + p50);
+        assertTrue(p99 >= 990_000_000 && p99 <= 1_000_000_000, "p99 was " + p99);
+        assertEquals(1_000_000_000, histogram.getMax());
+    }
+
+    @Test
+    public void recordNegativeAndMaxLongSuccess() {
+        // extreme durations are clamped into the histogram rather than failing
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+    }
+}
@@ -0,0 +1,46 @@
+package hypebot.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents tests for {@link CommandLine}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+public class CommandLineTest {
+    @Test
+    public void commandLineWithFieldsSplitIntoHeadWordsAndFields() {
+        CommandLine commandLine = new CommandLine("Event  team dinner /2099-01-01 1800 /2099-01-01 2100");
+        assertEquals("event", commandLine.getCommandWord());
+        assertEquals(3, commandLine.getWordCount());
+        assertEquals("team dinner", commandLine.getArgument());
+        assertEquals(2, commandLine.getFieldCount());
+        assertEquals("2099-01-01 1800", commandLine.getField(0));
+        assertEquals("2099-01-01 2100", commandLine.getField(1));
+    }
+
+    @Test
+    public void commandLineFieldsMatchStringSplit() {
+        String[] lines = {"", "list", "  todo  read   book  ", "deadline x /tmw", "hp /", "ev a / /b /c /",
+            "dl a /b/c /", " /x", "find a /  /"};
+        for (String line : lines) {
+            String[] expected = line.split(" /");
+            CommandLine commandLine = new CommandLine(line);
+            assertEquals(Math.max(expected.length - 1, 0), commandLine.getFieldCount(), line);
+            for (int i = 0; i < commandLine.getFieldCount(); i++) {
+                assertEquals(expected[i + 1], commandLine.getField(i), line);
+            }
+        }
+    }
+
+    @Test
+    public void commandLineWithoutArgumentEmptyArgument() {
+        CommandLine commandLine = new CommandLine("todo  /2099-01-01");
+        assertEquals("todo", commandLine.getCommandWord());
+        assertEquals(1, commandLine.getWordCount());
+        assertEquals("", commandLine.getArgument());
+        assertEquals(1, commandLine.getFieldCount());
+    }
+}
@@ -0,0 +1,37 @@
+package hypebot.parser.command;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import hypebot.command.RedoCommand;
+import hypebot.command.UndoCommand;
+import hypebot.command.UnknownCommand;
+import hypebot.exception.illegal.IllegalUndoRedoArgumentException;
+
+/**
+ * Represents tests for {@link CommandParser}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+public class CommandParserTest {
+    private final CommandParser commandParser = new CommandParser();
+
+    @Test
+    public void parseUndoAndRedoWithoutArgumentsUndoAndRedoCommands() {
+        assertInstanceOf(UndoCommand.class, commandParser.parse("undo"));
+        assertInstanceOf(RedoCommand.class, commandParser.parse("redo"));
+    }
+
+    @Test
+    public void parsePrefixSharedByUndoAndUnmarkUnknownCommand() {
+        assertInstanceOf(UnknownCommand.class, commandParser.parse("un 3"));
+    }
+
+    @Test
+    public void parseUndoOrRedoWithArgumentsIllegalUndoRedoArgumentExceptionThrown() {
+        assertThrows(IllegalUndoRedoArgumentException.class, () -> commandParser.parse("undo 3"));
+        assertThrows(IllegalUndoRedoArgumentException.class, () -> commandParser.parse("redo /all"));
+    }
+}
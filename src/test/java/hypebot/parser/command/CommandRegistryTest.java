@@ -0,0 +1,73 @@
+package hypebot.parser.command;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import hypebot.command.ByeCommand;
+import hypebot.command.ListCommand;
+
+/**
+ * Represents tests for {@link CommandRegistry}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+public class CommandRegistryTest {
+    private final CommandFactory deleteFactory = commandLine -> new ListCommand();
+    private final CommandFactory deleteAllFactory = commandLine -> new ListCommand();
+    private final CommandFactory deadlineFactory = commandLine -> new ByeCommand();
+
+    private CommandRegistry createRegistry() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(deleteFactory, "d", "delete");
+        registry.register(deleteAllFactory, "da", "deleteall");
+        registry.register(deadlineFactory, "dl", "Deadline");
+        return registry;
+    }
+
+    @Test
+    public void resolveExactAliasBeforePrefix() {
+        CommandRegistry registry = createRegistry();
+        assertSame(deleteFactory, registry.resolve("d"));
+        assertSame(deleteFactory, registry.resolve("delete"));
+        assertSame(deleteAllFactory, registry.resolve("da"));
+        assertSame(deadlineFactory, registry.resolve("deadline"));
+    }
+
+    @Test
+    public void resolveUnambiguousPrefix() {
+        CommandRegistry registry = createRegistry();
+        assertSame(deadlineFactory, registry.resolve("dea"));
+        assertSame(deleteAllFactory, registry.resolve("deletea"));
+    }
+
+    @Test
+    public void resolveAmbiguousOrUnknownNull() {
+        CommandRegistry registry = createRegistry();
+        assertNull(registry.resolve(""));
+        assertNull(registry.resolve("de"));
+        assertNull(registry.resolve("del"));
+        assertNull(registry.resolve("deletes"));
+        assertNull(registry.resolve("x"));
+    }
+
+    @Test
+    public void registerDuplicateAliasThrows() {
+        CommandRegistry registry = createRegistry();
+        assertThrows(IllegalArgumentException.class, () -> registry.register(deadlineFactory, "DL"));
+        assertThrows(IllegalArgumentException.class, () -> registry.register(deadlineFactory, ""));
+    }
+
+    @Test
+    public void registerRejectedLeavesPrefixesUnchanged() {
+        CommandRegistry registry = createRegistry();
+        CommandFactory eventFactory = commandLine -> new ByeCommand();
+        assertThrows(IllegalArgumentException.class, () -> registry.register(eventFactory, "dead", "d"));
+        assertThrows(IllegalArgumentException.class, () -> registry.register(eventFactory, "ev", "EV"));
+        assertSame(deadlineFactory, registry.resolve("dea"));
+        assertSame(deadlineFactory, registry.resolve("dead"));
+        assertNull(registry.resolve("ev"));
+    }
+}
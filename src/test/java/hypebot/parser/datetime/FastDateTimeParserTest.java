@@ -0,0 +1,63 @@
+package hypebot.parser.datetime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents tests for {@link FastDateTimeParser}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+public class FastDateTimeParserTest {
+    private final DateTimeFormatter formatterDueDate = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private final DateTimeFormatter formatterTime = DateTimeFormatter.ofPattern("HHmm");
+
+    @Test
+    public void parseDateEveryDayOfLeapAndCommonYearsMatchesFormatter() {
+        for (int year : new int[] {2023, 2024, 2100}) {
+            for (int month = 1; month <= 12; month++) {
+                for (int day = 1; day <= 31; day++) {
+                    String date = "%04d-%02d-%02d".formatted(year, month, day);
+                    LocalDate parsedDate = FastDateTimeParser.parseDate(date);
+                    if (parsedDate != null) {
+                        assertEquals(LocalDate.parse(date, formatterDueDate), parsedDate, date);
+                    } else {
+                        assertTrue(day > LocalDate.of(year, month, 1).lengthOfMonth(), date);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void parseTimeEveryMinuteMatchesFormatter() {
+        for (int hour = 0; hour < 24; hour++) {
+            for (int minute = 0; minute < 60; minute++) {
+                String time = "%02d%02d".formatted(hour, minute);
+                assertEquals(LocalTime.parse(time, formatterTime), FastDateTimeParser.parseTime(time), time);
+            }
+        }
+    }
+
+    @Test
+    public void malformedDatesAndTimesNull() {
+        for (String date : new String[] {"", "2024-1-01", "2024/01/01", "2024-13-01", "2024-00-10",
+            "2024-01-00", "0000-01-01", "2024-01-0a", "+024-01-01", "20240-01-01"}) {
+            assertNull(FastDateTimeParser.parseDate(date), date);
+        }
+        for (String time : new String[] {"", "2400", "1260", "930", "09:30", "-100"}) {
+            assertNull(FastDateTimeParser.parseTime(time), time);
+        }
+        assertNull(FastDateTimeParser.parseDateTime("2024-01-01T1200"));
+        assertNull(FastDateTimeParser.parseDateTime("2024-01-01 2400"));
+        assertEquals(LocalDateTime.of(2024, 2, 29, 23, 59), FastDateTimeParser.parseDateTime("2024-02-29 2359"));
+    }
+}
@@ -0,0 +1,147 @@
+package hypebot.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import hypebot.task.Deadline;
+import hypebot.task.Event;
+import hypebot.task.Recurrence;
+import hypebot.task.Task;
+import hypebot.task.ToDo;
+import hypebot.tasklist.Tasklist;
+
+/**
+ * Represents tests for {@link ReminderScheduler}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+public class ReminderSchedulerTest {
+    private static final LocalDateTime START = LocalDateTime.of(2099, 1, 1, 9, 0);
+
+    private final MutableClock clock = new MutableClock();
+    private final List<Task> reminded = new ArrayList<>();
+    private final ReminderScheduler scheduler = new ReminderScheduler(clock, reminded::add);
+
+    private static class MutableClock extends Clock {
+        private LocalDateTime now = START;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.toInstant(ZoneOffset.UTC);
+        }
+    }
+
+    private Tasklist createTasklist(Task... tasks) {
+        Tasklist tasklist = new Tasklist();
+        for (Task task : tasks) {
+            tasklist.add(task);
+        }
+        scheduler.scheduleAll(tasklist);
+        tasklist.addListener(scheduler);
+        return tasklist;
+    }
+
+    @Test
+    public void tickRemindsEachDueTaskOnceInDueOrder() {
+        Event lunch = new Event("lunch", START.plusHours(3), START.plusHours(4));
+        Event standup = new Event("standup", START.plusHours(1), START.plusHours(2));
+        Deadline essay = new Deadline("essay", LocalDate.of(2099, 1, 2));
+        createTasklist(new ToDo("read"), lunch, essay, standup);
+        assertEquals(3, scheduler.getScheduledCount());
+
+        scheduler.tick();
+        assertEquals(List.of(), reminded);
+        clock.now = START.plusHours(3);
+        scheduler.tick();
+        scheduler.tick();
+        assertEquals(List.of(standup, lunch), reminded);
+        clock.now = START.plusDays(1);
+        scheduler.tick();
+        assertEquals(List.of(standup, lunch, essay), reminded);
+        assertEquals(0, scheduler.getScheduledCount());
+    }
+
+    @Test
+    public void deadlineDueTodayRemindedAtNextTick() {
+        Deadline report = new Deadline("report", START.toLocalDate());
+        createTasklist(report, new Deadline("memo", START.toLocalDate().minusDays(1)));
+        scheduler.tick();
+        assertEquals(List.of(report), reminded);
+    }
+
+    @Test
+    public void tasklistChangesKeepRemindersUpToDate() {
+        Event standup = new Event("standup", START.plusHours(1), START.plusHours(2));
+        Event lunch = new Event("lunch", START.plusHours(3), START.plusHours(4));
+        Tasklist tasklist = createTasklist(standup, lunch);
+        Event review = new Event("review", START.plusHours(2), START.plusHours(3));
+        tasklist.add(review);
+        tasklist.mark(0);
+        tasklist.remove(1);
+        clock.now = START.plusHours(5);
+        scheduler.tick();
+        assertEquals(List.of(review), reminded);
+
+        reminded.clear();
+        clock.now = START;
+        tasklist.unmark(0);
+        tasklist.clear();
+        clock.now = START.plusHours(5);
+        scheduler.tick();
+        assertEquals(List.of(), reminded);
+    }
+
+    @Test
+    public void manyCancelledRemindersSweptOut() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            tasks.add(new Event("event " + i, START.plusMinutes(i + 1), START.plusMinutes(i + 2)));
+        }
+        Tasklist tasklist = createTasklist(tasks.toArray(new Task[0]));
+        while (tasklist.size() > 1) {
+            tasklist.remove(0);
+        }
+        assertEquals(1, scheduler.getScheduledCount());
+        clock.now = START.plusDays(1);
+        scheduler.tick();
+        assertEquals(List.of(tasks.get(999)), reminded);
+    }
+
+    @Test
+    public void recurringTasksRemindedOnEachOccurrence() {
+        Event standup = new Event("standup", START.plusHours(1), START.plusHours(2), Recurrence.DAILY);
+        Deadline report = new Deadline("report", START.toLocalDate().plusDays(1), Recurrence.WEEKLY);
+        createTasklist(standup, report);
+        clock.now = START.plusHours(1);
+        scheduler.tick();
+        scheduler.tick();
+        assertEquals(List.of(standup), reminded);
+        clock.now = START.plusDays(1).plusHours(1);
+        scheduler.tick();
+        assertEquals(List.of(standup, report, standup), reminded);
+        clock.now = START.plusDays(8);
+        scheduler.tick();
+        assertEquals(List.of(standup, report, standup, standup, report), reminded);
+        assertEquals(2, scheduler.getScheduledCount());
+    }
+}
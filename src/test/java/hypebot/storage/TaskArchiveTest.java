@@ -0,0 +1,70 @@
+package hypebot.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import hypebot.task.Deadline;
+import hypebot.task.Task;
+import hypebot.task.ToDo;
+
+/**
+ * Represents tests for {@link TaskArchive}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+public class TaskArchiveTest {
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void searchNothingArchivedNoTasks() throws IOException {
+        TaskArchive archive = new TaskArchive(tempDir.resolve("archived-tasks.gz").toFile());
+        assertEquals(List.of(), archive.search(Pattern.compile("essay")));
+    }
+
+    @Test
+    public void searchAcrossSeveralAppendsMatchingTasksOldestFirst() throws IOException {
+        TaskArchive archive = new TaskArchive(tempDir.resolve("archived-tasks.gz").toFile());
+        Task essay = new Deadline("write essay", LocalDate.of(2099, 1, 9));
+        Task read = new ToDo("read book");
+        Task essayDraft = new ToDo("essay draft");
+        archive.append(List.of(essay, read));
+        archive.append(List.of());
+        archive.append(List.of(essayDraft));
+
+        List<Task> matchingTasks = archive.search(Pattern.compile("essay"));
+        assertEquals(List.of(essay, essayDraft), matchingTasks);
+        assertEquals(essay.toString(), matchingTasks.get(0).toString());
+        assertEquals(List.of(read), archive.search(Pattern.compile("book")));
+    }
+
+    @Test
+    public void searchArchiveWithMalformedLinesOtherMatchingTasksFound() throws IOException {
+        Path archiveFile = tempDir.resolve("archived-tasks.gz");
+        TaskArchive archive = new TaskArchive(archiveFile.toFile());
+        Task essay = new ToDo("write essay");
+        Task essayDraft = new ToDo("essay draft");
+        archive.append(List.of(essay));
+        try (Writer archiveWriter = new OutputStreamWriter(new GZIPOutputStream(
+                Files.newOutputStream(archiveFile, StandardOpenOption.APPEND)), StandardCharsets.UTF_8)) {
+            archiveWriter.write("T , 0\nX , 0 , essay plan\n");
+        }
+        archive.append(List.of(essayDraft));
+
+        assertEquals(List.of(essay, essayDraft), archive.search(Pattern.compile("essay")));
+    }
+}
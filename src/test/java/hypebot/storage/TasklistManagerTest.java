@@ -0,0 +1,94 @@
+package hypebot.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import hypebot.task.ToDo;
+import hypebot.tasklist.Tasklist;
+
+/**
+ * Represents tests for {@link TasklistManager}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+public class TasklistManagerTest {
+    @TempDir
+    private Path tempDir;
+
+    private TasklistManager createManager(int maxLoadedTasklists, long maxLoadedTasks) {
+        return new TasklistManager(tempDir.resolve("tasks.txt").toString(), maxLoadedTasklists, maxLoadedTasks);
+    }
+
+    @Test
+    public void useRecentlyUsedTasklistSameTasklistWithoutReloading() throws IOException {
+        TasklistManager tasklistManager = createManager(3, Long.MAX_VALUE);
+        Tasklist defaultTasks = tasklistManager.use("tasks");
+        Tasklist workTasks = tasklistManager.use("work");
+        workTasks.add(new ToDo("write report"));
+
+        assertSame(defaultTasks, tasklistManager.use("tasks"));
+        assertSame(workTasks, tasklistManager.use("work"));
+        assertEquals("work", tasklistManager.getCurrentName());
+        assertEquals(1, tasklistManager.getTasklistSizes().get("work"));
+    }
+
+    @Test
+    public void useOverTasklistBudgetLeastRecentlyUsedSavedAndEvicted() throws IOException {
+        TasklistManager tasklistManager = createManager(2, Long.MAX_VALUE);
+        Tasklist workTasks = tasklistManager.use("work");
+        workTasks.add(new ToDo("write report"));
+        tasklistManager.use("home");
+        tasklistManager.use("tasks");
+
+        Map<String, Integer> expectedSizes = new HashMap<>();
+        expectedSizes.put("home", 0);
+        expectedSizes.put("tasks", 0);
+        expectedSizes.put("work", null);
+        assertEquals(expectedSizes, tasklistManager.getTasklistSizes());
+
+        Tasklist reloadedWorkTasks = tasklistManager.use("work");
+        assertNotSame(workTasks, reloadedWorkTasks);
+        assertEquals(List.of(new ToDo("write report")), reloadedWorkTasks);
+    }
+
+    @Test
+    public void useOverTaskBudgetEvictsUntilWithinBudgetButKeepsCurrent() throws IOException {
+        TasklistManager tasklistManager = createManager(10, 3);
+        tasklistManager.use("work").addAll(Arrays.asList(new ToDo("a"), new ToDo("b")));
+        tasklistManager.use("home").addAll(Arrays.asList(new ToDo("c"), new ToDo("d")));
+        tasklistManager.use("tasks");
+        assertNull(tasklistManager.getTasklistSizes().get("work"));
+        assertEquals(2, tasklistManager.getTasklistSizes().get("home"));
+
+        Tasklist bigTasks = tasklistManager.use("big");
+        bigTasks.addAll(Arrays.asList(new ToDo("e"), new ToDo("f"), new ToDo("g"), new ToDo("h")));
+        assertSame(bigTasks, tasklistManager.use("big"));
+        assertNull(tasklistManager.getTasklistSizes().get("home"));
+        assertEquals(4, tasklistManager.getTasklistSizes().get("big"));
+        assertEquals(List.of(new ToDo("c"), new ToDo("d")), tasklistManager.use("home"));
+    }
+
+    @Test
+    public void saveAll_changedTasklists_savedToOwnFiles() throws IOException {
+        TasklistManager tasklistManager = createManager(8, Long.MAX_VALUE);
+        tasklistManager.use("work").add(new ToDo("write report"));
+        tasklistManager.use("tasks").add(new ToDo("read book"));
+        tasklistManager.saveAll();
+
+        TasklistManager reopenedManager = createManager(8, Long.MAX_VALUE);
+        assertEquals(List.of(new ToDo("read book")), reopenedManager.use("tasks"));
+        assertEquals(List.of(new ToDo("write report")), reopenedManager.use("work"));
+    }
+}
@@ -0,0 +1,160 @@
+package hypebot.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import hypebot.task.Deadline;
+import hypebot.task.Event;
+import hypebot.task.Task;
+import hypebot.task.ToDo;
+import hypebot.tasklist.Tasklist;
+
+/**
+ * Represents tests for {@link TasklistShards}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+public class TasklistShardsTest {
+    @TempDir
+    private Path tempDir;
+
+    private Tasklist createTasks() {
+        Tasklist tasks = new Tasklist();
+        tasks.add(new Deadline("submit essay", LocalDate.of(2026, 3, 14)));
+        tasks.add(new ToDo("read book"));
+        tasks.add(new Event("career fair", LocalDateTime.of(2026, 4, 2, 10, 0), LocalDateTime.of(2026, 4, 2, 16, 0)));
+        tasks.add(new Deadline("pay rent", LocalDate.of(2026, 3, 1)));
+        return tasks;
+    }
+
+    private Path getShardFile(String shardName) throws IOException {
+        try (Stream<Path> shardFiles = Files.list(tempDir.resolve("tasks-shards"))) {
+            return shardFiles.filter(shardFile -> shardFile.getFileName().toString().startsWith(shardName + "."))
+                    .findFirst().orElseThrow();
+        }
+    }
+
+    @Test
+    public void loadSavedShardsTasksInSavedOrder() throws IOException {
+        File tasklistFile = tempDir.resolve("tasks.txt").toFile();
+        Tasklist tasks = createTasks();
+        new TasklistShards(tasklistFile).save(tasks);
+
+        TasklistShards reopenedShards = new TasklistShards(tasklistFile);
+        assertTrue(TasklistShards.isManifest(tasklistFile));
+        assertEquals(tasks, reopenedShards.load(progress -> {}));
+        assertEquals(List.of("todos", "2026-03", "2026-04"), reopenedShards.getShardNames());
+    }
+
+    @Test
+    public void saveTaskMarkedAndInsertedOnlyTouchedShardsRewritten() throws IOException {
+        File tasklistFile = tempDir.resolve("tasks.txt").toFile();
+        TasklistShards tasklistShards = new TasklistShards(tasklistFile);
+        tasklistShards.save(createTasks());
+        Tasklist tasks = tasklistShards.load(progress -> {});
+        Path aprilShardFile = getShardFile("2026-04");
+        Path marchShardFile = getShardFile("2026-03");
+
+        tasks.mark(0);
+        tasks.add(1, new Deadline("book flight", LocalDate.of(2026, 3, 20)));
+        tasklistShards.save(tasks);
+
+        assertEquals(aprilShardFile, getShardFile("2026-04"));
+        assertNotEquals(marchShardFile, getShardFile("2026-03"));
+        assertFalse(Files.exists(marchShardFile));
+        Tasklist reloadedTasks = new TasklistShards(tasklistFile).load(progress -> {});
+        assertEquals(tasks, reloadedTasks);
+        assertTrue(reloadedTasks.get(0).isComplete());
+    }
+
+    @Test
+    public void saveEmptiedShardShardRemoved() throws IOException {
+        File tasklistFile = tempDir.resolve("tasks.txt").toFile();
+        TasklistShards tasklistShards = new TasklistShards(tasklistFile);
+        Tasklist tasks = createTasks();
+        tasklistShards.save(tasks);
+
+        tasks.remove(1);
+        tasklistShards.save(tasks);
+
+        try (Stream<Path> shardFiles = Files.list(tempDir.resolve("tasks-shards"))) {
+            assertEquals(2, shardFiles.count());
+        }
+        assertEquals(List.of("2026-03", "2026-04"), tasklistShards.getShardNames());
+        assertEquals(tasks, new TasklistShards(tasklistFile).load(progress -> {}));
+    }
+
+    @Test
+    public void loadUnshardedTasklistFileShardedOnNextSave() throws IOException {
+        String filePath = tempDir.resolve("tasks.txt").toString();
+        Tasklist tasks = createTasks();
+        Files.createFile(Path.of(filePath));
+        new TasklistEncoder(new File(filePath), tasks).encode();
+
+        StorageManager storageManager = new StorageManager(filePath);
+        Tasklist loadedTasks = storageManager.load();
+        assertEquals(tasks, loadedTasks);
+        storageManager.save(loadedTasks);
+
+        assertTrue(TasklistShards.isManifest(new File(filePath)));
+        List<Task> reloadedTasks = new StorageManager(filePath).load();
+        assertEquals(tasks, reloadedTasks);
+    }
+
+    @Test
+    public void loadUnshardedTasklistFileEmptiedBeforeSaveNoTasksReloaded() throws IOException {
+        String filePath = tempDir.resolve("tasks.txt").toString();
+        Tasklist tasks = new Tasklist();
+        tasks.add(new ToDo("read book"));
+        Files.createFile(Path.of(filePath));
+        new TasklistEncoder(new File(filePath), tasks).encode();
+
+        StorageManager storageManager = new StorageManager(filePath);
+        Tasklist loadedTasks = storageManager.load();
+        loadedTasks.remove(0);
+        storageManager.save(loadedTasks);
+
+        assertTrue(TasklistShards.isManifest(new File(filePath)));
+        assertTrue(new StorageManager(filePath).load().isEmpty());
+    }
+
+    @Test
+    public void loadAfterSaveCutShortLastSaveLoaded() throws IOException {
+        File tasklistFile = tempDir.resolve("tasks.txt").toFile();
+        TasklistShards tasklistShards = new TasklistShards(tasklistFile);
+        Tasklist tasks = createTasks();
+        tasklistShards.save(tasks);
+        Path leftoverShardFile = tempDir.resolve("tasks-shards").resolve("2026-03.99.txt");
+        Files.writeString(leftoverShardFile, "1 , D , 0 , half-written , 2026-03-02\n");
+
+        assertEquals(tasks, new TasklistShards(tasklistFile).load(progress -> {}));
+        tasks.mark(0);
+        tasklistShards.save(tasks);
+        assertFalse(Files.exists(leftoverShardFile));
+        assertEquals(tasks, new TasklistShards(tasklistFile).load(progress -> {}));
+    }
+
+    @Test
+    public void loadShardLineWithoutOrdinalIllegalArgumentExceptionThrown() throws IOException {
+        File tasklistFile = tempDir.resolve("tasks.txt").toFile();
+        new TasklistShards(tasklistFile).save(createTasks());
+        Files.writeString(getShardFile("todos"), "T|0|read book\n");
+
+        assertThrows(IllegalArgumentException.class, () -> new TasklistShards(tasklistFile).load(progress -> {}));
+    }
+}
@@ -1,13 +1,18 @@
 package hypebot.task;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import hypebot.exception.datetime.DueDateParseException;
-import hypebot.exception.illegal.DatePassedException;
 import hypebot.parser.datetime.FileDateTimeParser;
+import hypebot.parser.task.FileTaskParser;
 
 /**
  * Represents tests for {@link Deadline}.
@@ -29,12 +34,43 @@ public class DeadlineTest {
     }
 
     @Test
-    public void deadlineDueDatePassedDatePassedExceptionThrown() {
-        try {
-            Deadline temp1 = new Deadline("temp1", fileDateTimeParser.parseDueDate("2019-09-15"));
-            fail();
-        } catch (Exception e) {
-            assertEquals(e.getClass(), DatePassedException.class);
-        }
+    public void deadlineFromFileDueDatePassedLoaded() {
+        Deadline temp1 = new Deadline("temp1", fileDateTimeParser.parseDueDate("2019-09-15"));
+        assertEquals(LocalDate.of(2019, 9, 15), temp1.getDueDate());
+    }
+
+    @Test
+    public void monthlyDeadlineHappeningOnEachMonthEnd() {
+        Deadline rent = new Deadline("rent", LocalDate.of(2099, 1, 31), Recurrence.MONTHLY);
+        assertTrue(rent.isHappeningOn(LocalDate.of(2099, 2, 28)));
+        assertTrue(rent.isHappeningOn(LocalDate.of(2105, 3, 31)));
+        assertFalse(rent.isHappeningOn(LocalDate.of(2105, 3, 30)));
+        assertFalse(rent.isHappeningOn(LocalDate.of(2098, 12, 31)));
+        assertTrue(rent.isHappeningBetween(LocalDate.of(2105, 4, 1), LocalDate.of(2105, 4, 30)));
+        assertFalse(rent.isHappeningBetween(LocalDate.of(2105, 4, 1), LocalDate.of(2105, 4, 29)));
+    }
+
+    @Test
+    public void recurringDeadlineSavedAndLoadedWithRule() {
+        Deadline rent = new Deadline("rent", LocalDate.of(2099, 1, 31), Recurrence.MONTHLY);
+        assertEquals("D , 0 , rent , 2099-01-31 , month\n", rent.toFileString());
+        assertEquals("[D][ ] rent (by: Jan 31 2099, every month)", rent.toString());
+        assertEquals(rent, new FileTaskParser().parse(rent.toFileString().stripTrailing()));
+        assertFalse(rent.equals(new Deadline("rent", LocalDate.of(2099, 1, 31))));
+    }
+
+    @Test
+    public void renderedStringsRenderedAgainOnlyAfterMarkingOrUnmarking() {
+        Deadline essay = new Deadline("essay", LocalDate.of(2099, 1, 5), Recurrence.WEEKLY);
+        String incompleteString = essay.toString();
+        assertSame(incompleteString, essay.toString());
+        assertSame(essay.toFileString(), essay.toFileString());
+
+        essay.mark();
+        assertEquals("[D][X] essay (by: Jan 5 2099, every week)", essay.toString());
+        assertEquals("D , 1 , essay , 2099-01-05 , week\n", essay.toFileString());
+        essay.unmark();
+        assertEquals(incompleteString, essay.toString());
+        assertEquals("D , 0 , essay , 2099-01-05 , week\n", essay.toFileString());
     }
 }
@@ -1,14 +1,19 @@
 package hypebot.task;
 
 import static hypebot.common.Messages.ERROR_EVENT_TIMES_INORDERED;
-import static hypebot.common.Messages.MESSAGE_DELETING_PAST_EVENT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.Test;
 
 import hypebot.exception.datetime.EventDateTimeParseException;
 import hypebot.parser.datetime.FileDateTimeParser;
+import hypebot.parser.task.FileTaskParser;
 
 /**
  * Represents tests for {@link Event}.
@@ -33,15 +38,10 @@ public class EventTest {
     }
 
     @Test
-    public void eventFromFileTimesPassedByDatePassedExceptionThrownWithDeletingMessage() {
-        try {
-            Event temp1 = new Event(
-                    "temp1",
-                    fileDateTimeParser.parseEventTimes("2019-09-15 1800/2021-09-15 1800")[0],
-                    fileDateTimeParser.parseEventTimes("2019-09-15 1800/2021-09-15 1800")[1]);
-        } catch (Exception e) {
-            assertEquals(MESSAGE_DELETING_PAST_EVENT, e.getMessage());
-        }
+    public void eventFromFileTimesPassedByLoaded() {
+        LocalDateTime[] eventTimes = fileDateTimeParser.parseEventTimes("2019-09-15 1800/2021-09-15 1800");
+        Event temp1 = new Event("temp1", eventTimes[0], eventTimes[1]);
+        assertEquals(LocalDateTime.of(2021, 9, 15, 18, 0), temp1.getEndTime());
     }
 
     @Test
@@ -55,4 +55,35 @@ public class EventTest {
             assertEquals(ERROR_EVENT_TIMES_INORDERED, e.getMessage());
         }
     }
+
+    @Test
+    public void weeklyOvernightEventHappeningOnBothDaysOfEachWeek() {
+        Event shift = new Event("night shift", LocalDateTime.of(2099, 1, 2, 22, 0),
+                LocalDateTime.of(2099, 1, 3, 6, 0), Recurrence.WEEKLY);
+        assertTrue(shift.isHappeningOn(LocalDate.of(2099, 1, 2)));
+        assertTrue(shift.isHappeningOn(LocalDate.of(2100, 1, 1)));
+        assertTrue(shift.isHappeningOn(LocalDate.of(2100, 1, 2)));
+        assertFalse(shift.isHappeningOn(LocalDate.of(2100, 1, 3)));
+        assertFalse(shift.isHappeningOn(LocalDate.of(2099, 1, 1)));
+        assertTrue(shift.isHappeningBetween(LocalDate.of(2100, 1, 3), LocalDate.of(2100, 1, 8)));
+        assertFalse(shift.isHappeningBetween(LocalDate.of(2100, 1, 3), LocalDate.of(2100, 1, 7)));
+    }
+
+    @Test
+    public void weeklyEventNextStartTime() {
+        Event standup = new Event("standup", LocalDateTime.of(2099, 1, 1, 9, 0),
+                LocalDateTime.of(2099, 1, 1, 9, 15), Recurrence.WEEKLY);
+        assertEquals(LocalDateTime.of(2099, 1, 1, 9, 0), standup.getNextStartTime(LocalDateTime.of(2098, 6, 1, 0, 0)));
+        assertEquals(LocalDateTime.of(2099, 1, 8, 9, 0), standup.getNextStartTime(LocalDateTime.of(2099, 1, 1, 9, 1)));
+        assertEquals(LocalDateTime.of(2099, 1, 8, 9, 0), standup.getNextStartTime(LocalDateTime.of(2099, 1, 8, 9, 0)));
+    }
+
+    @Test
+    public void recurringEventSavedAndLoadedWithRule() {
+        Event standup = new Event("standup", LocalDateTime.of(2099, 1, 1, 9, 0),
+                LocalDateTime.of(2099, 1, 1, 9, 15), Recurrence.WEEKLY);
+        assertEquals("E , 0 , standup , 2099-01-01 0900 , 2099-01-01 0915 , week\n", standup.toFileString());
+        assertEquals("[E][ ] standup (from: Jan 1 2099 09:00 to: Jan 1 2099 09:15, every week)", standup.toString());
+        assertEquals(standup, new FileTaskParser().parse(standup.toFileString().stripTrailing()));
+    }
 }
@@ -0,0 +1,108 @@
+package hypebot.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import hypebot.task.Deadline;
+import hypebot.task.Event;
+import hypebot.task.Recurrence;
+import hypebot.task.Task;
+import hypebot.task.ToDo;
+
+/**
+ * Represents tests for {@link ExpiredTaskSweeper}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+public class ExpiredTaskSweeperTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2099, 1, 10, 12, 0);
+
+    private final Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    private final Tasklist tasks = new Tasklist();
+    private final List<Task> archived = new ArrayList<>();
+    private final List<Runnable> pendingRetires = new ArrayList<>();
+    private final ExpiredTaskSweeper sweeper = new ExpiredTaskSweeper(clock, tasks, pendingRetires::add,
+            archived::addAll);
+
+    private void startSweeping(Task... tasksToAdd) {
+        for (Task task : tasksToAdd) {
+            tasks.add(task);
+        }
+        sweeper.scheduleAll(tasks);
+        tasks.addListener(sweeper);
+    }
+
+    private void runPendingRetires() {
+        List<Runnable> retires = new ArrayList<>(pendingRetires);
+        pendingRetires.clear();
+        retires.forEach(Runnable::run);
+    }
+
+    @Test
+    public void tickRetiresOnlyExpiredTasks() {
+        ToDo read = new ToDo("read");
+        Deadline essay = new Deadline("essay", LocalDate.of(2099, 1, 9));
+        Deadline report = new Deadline("report", LocalDate.of(2099, 1, 10));
+        Event concert = new Event("concert", NOW.minusDays(2), NOW.minusDays(1));
+        Event conference = new Event("conference", NOW.minusDays(1), NOW.plusDays(1));
+        startSweeping(read, essay, report, concert, conference);
+
+        sweeper.tick();
+        runPendingRetires();
+        assertEquals(List.of(essay, concert), archived);
+        assertEquals(List.of(read, report, conference), tasks);
+        assertEquals(2, sweeper.getScheduledCount());
+    }
+
+    @Test
+    public void manyExpiredTasksRetiredAFewPerTick() {
+        for (int i = 0; i < 200; i++) {
+            tasks.add(new Event("event " + i, NOW.minusDays(2).plusMinutes(i), NOW.minusDays(1)));
+        }
+        startSweeping(new ToDo("read"));
+
+        sweeper.tick();
+        sweeper.tick();
+        assertEquals(1, pendingRetires.size());
+        runPendingRetires();
+        assertEquals(137, tasks.size());
+        while (tasks.size() > 1) {
+            sweeper.tick();
+            runPendingRetires();
+        }
+        assertEquals(200, archived.size());
+    }
+
+    @Test
+    public void taskDeletedBeforeRetiringNotArchived() {
+        Deadline essay = new Deadline("essay", LocalDate.of(2099, 1, 9));
+        startSweeping(essay, new ToDo("read"));
+        sweeper.tick();
+        tasks.remove(0);
+        runPendingRetires();
+        assertEquals(List.of(), archived);
+
+        tasks.add(essay);
+        sweeper.tick();
+        runPendingRetires();
+        assertEquals(List.of(essay), archived);
+    }
+
+    @Test
+    public void recurringTasksNeverRetired() {
+        Deadline rent = new Deadline("rent", LocalDate.of(2098, 1, 31), Recurrence.MONTHLY);
+        Event standup = new Event("standup", NOW.minusDays(7), NOW.minusDays(7).plusMinutes(15), Recurrence.WEEKLY);
+        startSweeping(rent, standup);
+        assertEquals(0, sweeper.getScheduledCount());
+        sweeper.tick();
+        assertEquals(List.of(), pendingRetires);
+    }
+}
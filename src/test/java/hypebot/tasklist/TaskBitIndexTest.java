@@ -0,0 +1,91 @@
+package hypebot.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import hypebot.task.Deadline;
+import hypebot.task.Event;
+import hypebot.task.Task;
+import hypebot.task.ToDo;
+
+/**
+ * Represents tests for {@link TaskBitIndex} and {@link TaskBitset}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+public class TaskBitIndexTest {
+    private static final LocalDate MONDAY = LocalDate.of(2099, 1, 5);
+
+    private final Tasklist tasks = new Tasklist();
+
+    @Test
+    public void bitsetInsertsAndRemovesAcrossWords() {
+        Random random = new Random(46);
+        TaskBitset bits = new TaskBitset();
+        List<Boolean> expectedBits = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (expectedBits.isEmpty() || random.nextInt(3) > 0) {
+                int position = random.nextInt(expectedBits.size() + 1);
+                boolean value = random.nextBoolean();
+                bits.insert(position, value);
+                expectedBits.add(position, value);
+            } else {
+                int position = random.nextInt(expectedBits.size());
+                bits.remove(position);
+                expectedBits.remove(position);
+            }
+        }
+        assertEquals(expectedBits.size(), bits.size());
+        for (int i = 0; i < expectedBits.size(); i++) {
+            assertEquals(expectedBits.get(i), bits.get(i), "bit " + i);
+        }
+        assertEquals(expectedBits.stream().filter(bit -> bit).count(), bits.cardinality());
+        assertEquals(130, TaskBitset.allSet(130).cardinality());
+    }
+
+    @Test
+    public void filtersAndCountsMatchCheckingEachTask() {
+        Random random = new Random(46);
+        for (int i = 0; i < 600; i++) {
+            int roll = random.nextInt(10);
+            if (roll < 5 || tasks.isEmpty()) {
+                String name = "task " + i;
+                Task task = switch (random.nextInt(3)) {
+                case 0 -> new ToDo(name);
+                case 1 -> new Deadline(name, MONDAY.plusDays(i));
+                default -> new Event(name, MONDAY.atTime(9, 0).plusDays(i), MONDAY.atTime(10, 0).plusDays(i));
+                };
+                tasks.add(random.nextInt(tasks.size() + 1), task);
+            } else if (roll < 7) {
+                tasks.mark(random.nextInt(tasks.size()));
+            } else if (roll < 8) {
+                tasks.unmark(random.nextInt(tasks.size()));
+            } else {
+                tasks.remove(random.nextInt(tasks.size()));
+            }
+        }
+        assertEquals(tasks.stream().filter(task -> !task.isComplete()).count(), tasks.getIncompleteCount());
+        for (TaskKind kind : TaskKind.values()) {
+            assertEquals(tasks.stream().filter(task -> TaskKind.of(task) == kind).count(), tasks.getCount(kind));
+        }
+        List<TaskFilter> filters = List.of(TaskFilter.ALL, new TaskFilter(false, Set.of(TaskKind.DEADLINE)),
+                new TaskFilter(true, EnumSet.noneOf(TaskKind.class)),
+                new TaskFilter(null, Set.of(TaskKind.EVENT, TaskKind.TODO)));
+        for (TaskFilter filter : filters) {
+            TaskBitset selectedTasks = tasks.select(filter);
+            for (int i = 0; i < tasks.size(); i++) {
+                assertEquals(filter.matches(tasks.get(i)), selectedTasks.get(i), filter + " at " + i);
+            }
+        }
+        tasks.removeCompleted();
+        assertEquals(tasks.size(), tasks.getIncompleteCount());
+    }
+}
@@ -0,0 +1,84 @@
+package hypebot.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+
+import org.junit.jupiter.api.Test;
+
+import hypebot.task.Deadline;
+import hypebot.task.Event;
+import hypebot.task.Recurrence;
+import hypebot.task.Task;
+import hypebot.task.ToDo;
+
+/**
+ * Represents tests for {@link TaskDateIndex}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+public class TaskDateIndexTest {
+    private static final LocalDate MONDAY = LocalDate.of(2099, 1, 5);
+
+    private final Tasklist tasks = new Tasklist();
+
+    @Test
+    public void agendaGroupsTasksByDaySkippingEmptyDays() {
+        Event trip = new Event("trip", MONDAY.minusDays(2).atTime(8, 0), MONDAY.plusDays(1).atTime(20, 0));
+        Deadline essay = new Deadline("essay", MONDAY);
+        Event standup = new Event("standup", MONDAY.atTime(9, 0), MONDAY.atTime(9, 15), Recurrence.WEEKLY);
+        tasks.add(new ToDo("read"));
+        tasks.add(trip);
+        tasks.add(standup);
+        tasks.add(essay);
+        tasks.add(new Deadline("memo", MONDAY.plusDays(30)));
+
+        NavigableMap<LocalDate, List<Task>> agenda = tasks.getAgenda(MONDAY, MONDAY.plusDays(13));
+        assertEquals(List.of(MONDAY, MONDAY.plusDays(1), MONDAY.plusDays(7)), new ArrayList<>(agenda.keySet()));
+        assertEquals(List.of(essay, trip, standup), agenda.get(MONDAY));
+        assertEquals(List.of(trip), agenda.get(MONDAY.plusDays(1)));
+        assertEquals(List.of(standup), agenda.get(MONDAY.plusDays(7)));
+    }
+
+    @Test
+    public void agendaKeptUpToDateWithTasklist() {
+        Deadline essay = new Deadline("essay", MONDAY);
+        tasks.add(essay);
+        assertEquals(List.of(essay), tasks.getAgenda(MONDAY, MONDAY).get(MONDAY));
+
+        Deadline rent = new Deadline("rent", MONDAY, Recurrence.MONTHLY);
+        tasks.add(rent);
+        tasks.remove(0);
+        assertEquals(List.of(rent), tasks.getAgenda(MONDAY, MONDAY).get(MONDAY));
+        tasks.clear();
+        tasks.add(essay);
+        assertEquals(List.of(essay), tasks.getAgenda(MONDAY, MONDAY).get(MONDAY));
+    }
+
+    @Test
+    public void agendaMatchesHappeningOnEachDay() {
+        LocalDateTime start = MONDAY.atTime(10, 0);
+        for (int i = 0; i < 40; i++) {
+            Recurrence recurrence = i % 5 == 0 ? null : Recurrence.values()[i % Recurrence.values().length];
+            tasks.add(new Event("event " + i, start.plusDays(3L * i), start.plusDays(3L * i + i % 4), recurrence));
+            tasks.add(new Deadline("deadline " + i, MONDAY.plusDays(5L * i), recurrence));
+        }
+        LocalDate fromDate = MONDAY.plusDays(20);
+        LocalDate toDate = MONDAY.plusDays(120);
+        NavigableMap<LocalDate, List<Task>> agenda = tasks.getAgenda(fromDate, toDate);
+        for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
+            LocalDate day = date;
+            long happeningCount = tasks.stream().filter(task -> task.isHappeningOn(day)).count();
+            assertEquals(happeningCount, agenda.getOrDefault(day, List.of()).size(), day.toString());
+        }
+        for (Map.Entry<LocalDate, List<Task>> day : agenda.entrySet()) {
+            day.getValue().forEach(task -> assertTrue(task.isHappeningOn(day.getKey())));
+        }
+    }
+}
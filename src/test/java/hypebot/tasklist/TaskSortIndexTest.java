@@ -0,0 +1,89 @@
+package hypebot.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import hypebot.command.ListCommand;
+import hypebot.task.Deadline;
+import hypebot.task.Event;
+import hypebot.task.Task;
+import hypebot.task.ToDo;
+import hypebot.ui.cli.UiCli;
+
+/**
+ * Represents tests for {@link TaskSortIndex}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+public class TaskSortIndexTest {
+    private static final LocalDate MONDAY = LocalDate.of(2099, 1, 5);
+
+    private final Tasklist tasks = new Tasklist();
+
+    @Test
+    public void sortedViewsFollowAddsMarksAndDeletes() {
+        Task read = new ToDo("read");
+        Deadline essay = new Deadline("Essay", MONDAY.plusDays(2));
+        Event trip = new Event("trip", MONDAY.atTime(8, 0), MONDAY.atTime(20, 0));
+        Deadline memo = new Deadline("memo", MONDAY);
+        tasks.add(read);
+        tasks.add(essay);
+        assertEquals(List.of(essay, read), new ArrayList<>(tasks.getSorted(TaskOrder.DUE)));
+        assertEquals(List.of(read, essay), new ArrayList<>(tasks.getSorted(TaskOrder.STATUS)));
+
+        tasks.add(trip);
+        tasks.add(memo);
+        tasks.mark(0);
+        assertEquals(List.of(memo, trip, essay, read), new ArrayList<>(tasks.getSorted(TaskOrder.DUE)));
+        assertEquals(List.of(essay, memo, read, trip), new ArrayList<>(tasks.getSorted(TaskOrder.NAME)));
+        assertEquals(List.of(essay, trip, memo, read), new ArrayList<>(tasks.getSorted(TaskOrder.STATUS)));
+
+        tasks.unmark(0);
+        tasks.remove(1);
+        assertEquals(List.of(read, trip, memo), new ArrayList<>(tasks.getSorted(TaskOrder.STATUS)));
+        tasks.clear();
+        assertEquals(List.of(), new ArrayList<>(tasks.getSorted(TaskOrder.DUE)));
+    }
+
+    @Test
+    public void sortedListingNumbersTasksByPlaceInTasklist() {
+        tasks.add(new ToDo("write"));
+        tasks.add(new ToDo("read"));
+        tasks.add(new ToDo("cook"));
+        String listing = new ListCommand(TaskOrder.NAME, TaskFilter.ALL, ListCommand.WHOLE_LIST)
+                .execute(tasks, new UiCli(), null).show();
+        assertTrue(listing.endsWith("3. [T][ ] cook\n2. [T][ ] read\n1. [T][ ] write"));
+    }
+
+    @Test
+    public void sortedViewsMatchSortingTasklist() {
+        Random random = new Random(45);
+        tasks.getSorted(TaskOrder.NAME);
+        for (int i = 0; i < 500; i++) {
+            int roll = random.nextInt(10);
+            if (roll < 6 || tasks.isEmpty()) {
+                String name = "task " + random.nextInt(1000) + " #" + i;
+                tasks.add(roll % 2 == 0 ? new ToDo(name) : new Deadline(name, MONDAY.plusDays(random.nextInt(60))));
+            } else if (roll < 8) {
+                tasks.mark(random.nextInt(tasks.size()));
+            } else if (roll < 9) {
+                tasks.unmark(random.nextInt(tasks.size()));
+            } else {
+                tasks.remove(random.nextInt(tasks.size()));
+            }
+        }
+        Comparator<Task> byName = Comparator.comparing(task -> task.getName().toLowerCase(Locale.ROOT));
+        assertEquals(tasks.stream().sorted(byName).toList(), new ArrayList<>(tasks.getSorted(TaskOrder.NAME)));
+        assertEquals(tasks.stream().sorted(Comparator.comparing(Task::isComplete)).toList(),
+                new ArrayList<>(tasks.getSorted(TaskOrder.STATUS)));
+    }
+}
@@ -0,0 +1,133 @@
+package hypebot.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import com.sun.jdi.request.DuplicateRequestException;
+
+import hypebot.command.AddCommand;
+import hypebot.command.DeleteAllCommand;
+import hypebot.command.DeleteCommand;
+import hypebot.command.MarkCommand;
+import hypebot.command.RedoCommand;
+import hypebot.command.UndoCommand;
+import hypebot.task.Task;
+import hypebot.task.ToDo;
+import hypebot.ui.cli.UiCli;
+
+/**
+ * Represents tests for {@link TasklistHistory}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+public class TasklistHistoryTest {
+    private final Tasklist tasks = new Tasklist();
+    private final UiCli uiCli = new UiCli();
+
+    @Test
+    public void undoAndRedoStepThroughEveryKindOfEdit() {
+        Task read = new ToDo("read");
+        Task write = new ToDo("write");
+        Task run = new ToDo("run");
+        new AddCommand(read).execute(tasks, uiCli, null);
+        new AddCommand(write).execute(tasks, uiCli, null);
+        new AddCommand(run).execute(tasks, uiCli, null);
+        new MarkCommand(1).execute(tasks, uiCli, null);
+        new DeleteCommand(0).execute(tasks, uiCli, null);
+        new DeleteAllCommand().execute(tasks, uiCli, null);
+        List<List<Task>> states = List.of(List.of(), List.of(write, run), List.of(read, write, run));
+
+        UndoCommand undo = new UndoCommand();
+        RedoCommand redo = new RedoCommand();
+        undo.execute(tasks, uiCli, null);
+        assertEquals(states.get(1), tasks);
+        undo.execute(tasks, uiCli, null);
+        assertEquals(states.get(2), tasks);
+        assertTrue(write.isComplete());
+        undo.execute(tasks, uiCli, null);
+        assertFalse(write.isComplete());
+        redo.execute(tasks, uiCli, null);
+        assertTrue(write.isComplete());
+        redo.execute(tasks, uiCli, null);
+        redo.execute(tasks, uiCli, null);
+        assertEquals(states.get(0), tasks);
+        assertThrows(NoSuchElementException.class, () -> redo.execute(tasks, uiCli, null));
+
+        for (int i = 0; i < 6; i++) {
+            undo.execute(tasks, uiCli, null);
+        }
+        assertTrue(tasks.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> undo.execute(tasks, uiCli, null));
+    }
+
+    @Test
+    public void newEditForgetsEditsUndone() {
+        new AddCommand(new ToDo("read")).execute(tasks, uiCli, null);
+        new UndoCommand().execute(tasks, uiCli, null);
+        new AddCommand(new ToDo("write")).execute(tasks, uiCli, null);
+        assertThrows(NoSuchElementException.class, () -> new RedoCommand().execute(tasks, uiCli, null));
+    }
+
+    @Test
+    public void historyKeepsOnlyMostRecentEdits() {
+        List<Task> added = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            Task task = new ToDo("task " + i);
+            added.add(task);
+            new AddCommand(task).execute(tasks, uiCli, null);
+        }
+        UndoCommand undo = new UndoCommand();
+        for (int i = 0; i < 100; i++) {
+            undo.execute(tasks, uiCli, null);
+        }
+        assertEquals(added.subList(0, 50), tasks);
+        assertThrows(NoSuchElementException.class, () -> undo.execute(tasks, uiCli, null));
+    }
+
+    @Test
+    public void undoOfDeletionClashingWithTaskAddedSinceIsDroppedFromHistory() {
+        Task write = new ToDo("write");
+        new AddCommand(new ToDo("read")).execute(tasks, uiCli, null);
+        new AddCommand(write).execute(tasks, uiCli, null);
+        new DeleteCommand(0).execute(tasks, uiCli, null);
+        tasks.add(new ToDo("read"));
+
+        UndoCommand undo = new UndoCommand();
+        assertThrows(DuplicateRequestException.class, () -> undo.execute(tasks, uiCli, null));
+        assertEquals(List.of(write, new ToDo("read")), tasks);
+        undo.execute(tasks, uiCli, null);
+        assertEquals(List.of(new ToDo("read")), tasks);
+    }
+
+    @Test
+    public void undoAndRedoOfTaskRemovedOutsideHistoryThrowAndAreDropped() {
+        Task read = new ToDo("read");
+        Task write = new ToDo("write");
+        new AddCommand(read).execute(tasks, uiCli, null);
+        new MarkCommand(0).execute(tasks, uiCli, null);
+        tasks.removeCompleted();
+
+        UndoCommand undo = new UndoCommand();
+        assertThrows(IllegalStateException.class, () -> undo.execute(tasks, uiCli, null));
+        assertThrows(IllegalStateException.class, () -> undo.execute(tasks, uiCli, null));
+        assertTrue(tasks.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> undo.execute(tasks, uiCli, null));
+
+        new AddCommand(write).execute(tasks, uiCli, null);
+        new DeleteCommand(0).execute(tasks, uiCli, null);
+        undo.execute(tasks, uiCli, null);
+        tasks.removeTasks(List.of(write));
+        RedoCommand redo = new RedoCommand();
+        assertThrows(IllegalStateException.class, () -> redo.execute(tasks, uiCli, null));
+        assertTrue(tasks.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> redo.execute(tasks, uiCli, null));
+    }
+}
@@ -0,0 +1,85 @@
+package hypebot.ui.gui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Represents tests for {@link UiGuiTranscriptHistory}.
+ *
+ * @author Youngseo Park (<a href="https://github.com/youngseopark05">@youngseopark05</a>)
+ */
+public class UiGuiTranscriptHistoryTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void readBeforeMultiLineMessagesSuccess() throws Exception {
+        // spilled messages containing line breaks and backslashes are paged back in unchanged
+        UiGuiTranscriptHistory history = new UiGuiTranscriptHistory(tempDir.resolve("history.txt").toFile());
+        history.append(List.of(
+                UiGuiMessage.fromUser("todo read \\ write"),
+                UiGuiMessage.fromHypeBot("Added:\n  [T][ ] read \\ write\r\n", "ToDoCommand")
+        ));
+        List<UiGuiMessage> messages = history.readBefore(5);
+        assertEquals(2, messages.size());
+        assertEquals("todo read \\ write", messages.get(0).getText());
+        assertEquals("Added:\n  [T][ ] read \\ write\r\n", messages.get(1).getText());
+        assertEquals("ToDoCommand", messages.get(1).getCommandType());
+        assertTrue(history.readBefore(5).isEmpty());
+    }
+
+    @Test
+    public void readBeforePagesOldestLastSuccess() throws Exception {
+        // pages are read newest first, each page in chronological order
+        UiGuiTranscriptHistory history = new UiGuiTranscriptHistory(tempDir.resolve("history.txt").toFile());
+        history.append(List.of(UiGuiMessage.fromUser("1"), UiGuiMessage.fromUser("2"), UiGuiMessage.fromUser("3")));
+        List<UiGuiMessage> newer = history.readBefore(2);
+        assertEquals("2", newer.get(0).getText());
+        assertEquals("3", newer.get(1).getText());
+        List<UiGuiMessage> older = history.readBefore(2);
+        assertEquals(1, older.size());
+        assertEquals("1", older.get(0).getText());
+    }
+
+    @Test
+    public void appendPastSizeLimitRollsOverSuccess() throws Exception {
+        // a full history file is rolled over to its .1 backup before appending
+        File historyFile = tempDir.resolve("history.txt").toFile();
+        UiGuiTranscriptHistory history = new UiGuiTranscriptHistory(historyFile, 1);
+        history.append(List.of(UiGuiMessage.fromUser("first")));
+        history.append(List.of(UiGuiMessage.fromUser("second")));
+        assertTrue(new File(historyFile.getPath() + ".1").exists());
+        List<UiGuiMessage> messages = history.readBefore(5);
+        assertEquals(2, messages.size());
+        assertEquals("first", messages.get(0).getText());
+        assertEquals("second", messages.get(1).getText());
+    }
+
+    @Test
+    public void readBeforeIntoRolledOverBackupThenSkipSuccess() throws Exception {
+        // paging carries on into the .1 backup, and skipping paged-in messages returns to the fresh file
+        File historyFile = tempDir.resolve("history.txt").toFile();
+        UiGuiTranscriptHistory history = new UiGuiTranscriptHistory(historyFile, 1);
+        history.append(List.of(UiGuiMessage.fromUser("1"), UiGuiMessage.fromUser("2")));
+        history.append(List.of(UiGuiMessage.fromUser("3")));
+        List<UiGuiMessage> newer = history.readBefore(2);
+        assertEquals("2", newer.get(0).getText());
+        assertEquals("3", newer.get(1).getText());
+        List<UiGuiMessage> older = history.readBefore(2);
+        assertEquals(1, older.size());
+        assertEquals("1", older.get(0).getText());
+
+        history.skip(older);
+        history.skip(newer);
+        history.append(List.of(UiGuiMessage.fromUser("4")));
+        assertEquals("4", history.readBefore(1).get(0).getText());
+        assertEquals("3", history.readBefore(1).get(0).getText());
+    }
+}